@@ -0,0 +1,113 @@
+package de.jonas.gannotations.benchmark;
+
+import de.jonas.gannotations.benchmark.bean.GetterBean5;
+import de.jonas.gannotations.benchmark.bean.GetterBean5Accessors;
+import org.jetbrains.annotations.NotNull;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.lang.reflect.Method;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Mithilfe dieses Benchmarks wird gemessen, wie schnell ein Serialisierer alle Eigenschaften einer Bean auslesen kann.
+ * Es wird die Zugriffs-Tabelle, welche durch den {@link de.jonas.gannotations.annotation.Getter} generiert wird, mit dem
+ * Auslesen über Reflection verglichen, wobei die {@link Method Methoden} für Reflection bereits vorher ermittelt werden.
+ */
+@NotNull
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class AccessorBenchmark {
+
+    //<editor-fold desc="LOCAL FIELDS">
+    /** Die Bean, deren Eigenschaften ausgelesen werden. */
+    private GetterBean5 bean;
+    /** Die Getter aller Eigenschaften, welche über Reflection aufgerufen werden. */
+    private Method[] getters;
+    //</editor-fold>
+
+
+    /**
+     * Bereitet die Bean und die Getter für Reflection vor.
+     *
+     * @throws NoSuchMethodException Wenn ein Getter nicht generiert wurde.
+     */
+    @Setup
+    public void prepare() throws NoSuchMethodException {
+        this.bean = new GetterBean5(1, 2L, 3D, "four", 5);
+        this.getters = new Method[GetterBean5Accessors.PROPERTY_NAMES.size()];
+
+        for (int i = 0; i < this.getters.length; i++) {
+            final String propertyName = GetterBean5Accessors.PROPERTY_NAMES.get(i);
+
+            this.getters[i] = GetterBean5.class.getMethod(
+                "get" + Character.toUpperCase(propertyName.charAt(0)) + propertyName.substring(1)
+            );
+        }
+    }
+
+    /**
+     * Liest alle Eigenschaften über Reflection aus.
+     *
+     * @param blackhole Das {@link Blackhole}, welches die ausgelesenen Werte konsumiert.
+     *
+     * @throws ReflectiveOperationException Wenn ein Getter nicht aufgerufen werden kann.
+     */
+    @Benchmark
+    public void reflection(@NotNull final Blackhole blackhole) throws ReflectiveOperationException {
+        for (@NotNull final Method getter : this.getters) {
+            blackhole.consume(getter.invoke(this.bean));
+        }
+    }
+
+    /**
+     * Liest alle Eigenschaften anhand ihres Namens über die generierte Zugriffs-Tabelle aus.
+     *
+     * @param blackhole Das {@link Blackhole}, welches die ausgelesenen Werte konsumiert.
+     */
+    @Benchmark
+    public void generatedByName(@NotNull final Blackhole blackhole) {
+        for (@NotNull final String propertyName : GetterBean5Accessors.PROPERTY_NAMES) {
+            blackhole.consume(GetterBean5Accessors.get(this.bean, propertyName));
+        }
+    }
+
+    /**
+     * Liest alle Eigenschaften nacheinander über die generierte Zugriffs-Tabelle aus.
+     *
+     * @param blackhole Das {@link Blackhole}, welches die ausgelesenen Werte konsumiert.
+     */
+    @Benchmark
+    public void generatedForEach(@NotNull final Blackhole blackhole) {
+        GetterBean5Accessors.forEach(this.bean, (propertyName, value) -> blackhole.consume(value));
+    }
+
+    /**
+     * Liest alle Eigenschaften über die typisierten Methoden der generierten Zugriffs-Tabelle aus, wodurch primitive
+     * Werte nicht geboxt werden.
+     *
+     * @param blackhole Das {@link Blackhole}, welches die ausgelesenen Werte konsumiert.
+     */
+    @Benchmark
+    public void generatedTyped(@NotNull final Blackhole blackhole) {
+        blackhole.consume(GetterBean5Accessors.getIntValue0(this.bean));
+        blackhole.consume(GetterBean5Accessors.getLongValue1(this.bean));
+        blackhole.consume(GetterBean5Accessors.getDoubleValue2(this.bean));
+        blackhole.consume(GetterBean5Accessors.getStringValue3(this.bean));
+        blackhole.consume(GetterBean5Accessors.getIntValue4(this.bean));
+    }
+
+}
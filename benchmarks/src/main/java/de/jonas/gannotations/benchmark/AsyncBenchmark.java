@@ -0,0 +1,145 @@
+package de.jonas.gannotations.benchmark;
+
+import de.jonas.gannotations.benchmark.bean.AccountStore;
+import de.jonas.gannotations.benchmark.bean.AccountStoreAsync;
+import org.jetbrains.annotations.NotNull;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Mithilfe dieses Benchmarks wird gemessen, wie viel Zeit eine Anfrage benötigt, welche die Kontostände vieler Konten
+ * abfragt. Die Abfragen werden nacheinander, gleichzeitig über den Wrapper der {@link
+ * de.jonas.gannotations.annotation.Async}, mit zusammengefassten Aufrufen und in Stapeln ausgeführt. Da mehrere Abfragen
+ * dasselbe Konto betreffen, müssen beim Zusammenfassen weniger Zugriffe auf den Speicher ausgeführt werden.
+ */
+@NotNull
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class AsyncBenchmark {
+
+    //<editor-fold desc="CONSTANTS">
+    /** Die Anzahl an Abfragen pro Anfrage. */
+    private static final int REQUESTS = 64;
+    /** Die Anzahl an unterschiedlichen Konten, welche abgefragt werden. */
+    private static final int ACCOUNTS = 16;
+    //</editor-fold>
+
+
+    //<editor-fold desc="LOCAL FIELDS">
+    /** Der Speicher, dessen Methoden direkt aufgerufen werden. */
+    private AccountStore store;
+    /** Der Wrapper, welcher die Methoden des Speichers asynchron aufruft. */
+    private AccountStoreAsync async;
+    //</editor-fold>
+
+
+    /**
+     * Bereitet den Speicher und den Wrapper vor.
+     */
+    @Setup(Level.Trial)
+    public void prepare() {
+        this.store = new AccountStore();
+        this.async = new AccountStoreAsync(this.store);
+    }
+
+    /**
+     * Fragt alle Konten nacheinander direkt ab.
+     *
+     * @return Die Summe aller Kontostände.
+     */
+    @Benchmark
+    public long sequential() {
+        long sum = 0;
+
+        for (int i = 0; i < REQUESTS; i++) {
+            sum += this.store.balance(i % ACCOUNTS);
+        }
+
+        return sum;
+    }
+
+    /**
+     * Fragt alle Konten gleichzeitig über den Wrapper ab.
+     *
+     * @return Die Summe aller Kontostände.
+     */
+    @Benchmark
+    public long async() {
+        @SuppressWarnings("unchecked")
+        final CompletableFuture<Long>[] futures = new CompletableFuture[REQUESTS];
+
+        for (int i = 0; i < REQUESTS; i++) {
+            futures[i] = this.async.balance(i % ACCOUNTS);
+        }
+
+        return sum(futures);
+    }
+
+    /**
+     * Fragt alle Konten gleichzeitig über den Wrapper ab, wobei Abfragen desselben Kontos zusammengefasst werden.
+     *
+     * @return Die Summe aller Kontostände.
+     */
+    @Benchmark
+    public long coalesced() {
+        @SuppressWarnings("unchecked")
+        final CompletableFuture<Long>[] futures = new CompletableFuture[REQUESTS];
+
+        for (int i = 0; i < REQUESTS; i++) {
+            futures[i] = this.async.sharedBalance(i % ACCOUNTS);
+        }
+
+        return sum(futures);
+    }
+
+    /**
+     * Fragt alle Konten über den Wrapper in einem einzigen Stapel ab.
+     *
+     * @return Die Summe aller Kontostände.
+     */
+    @Benchmark
+    public long batched() {
+        @SuppressWarnings("unchecked")
+        final CompletableFuture<Long>[] futures = new CompletableFuture[REQUESTS];
+
+        for (int i = 0; i < REQUESTS; i++) {
+            futures[i] = this.async.batchedBalance(i % ACCOUNTS);
+        }
+
+        return sum(futures);
+    }
+
+    /**
+     * Wartet auf alle Ergebnisse und bildet deren Summe.
+     *
+     * @param futures Die Ergebnisse aller Abfragen.
+     *
+     * @return Die Summe aller Kontostände.
+     */
+    private static long sum(@NotNull final CompletableFuture<Long>[] futures) {
+        long sum = 0;
+
+        for (@NotNull final CompletableFuture<Long> future : futures) {
+            sum += future.join();
+        }
+
+        return sum;
+    }
+
+}
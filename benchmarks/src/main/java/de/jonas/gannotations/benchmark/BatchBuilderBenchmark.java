@@ -0,0 +1,109 @@
+package de.jonas.gannotations.benchmark;
+
+import de.jonas.gannotations.benchmark.bean.BatchRow;
+import de.jonas.gannotations.benchmark.bean.BatchRowBatchBuilder;
+import de.jonas.gannotations.benchmark.bean.BatchRowBuilder;
+import org.jetbrains.annotations.NotNull;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Mithilfe dieses Benchmarks wird gemessen, wie schnell viele Zeilen aus ihren Spalten erzeugt werden. Verglichen wird
+ * der Builder, welcher durch die {@link de.jonas.gannotations.annotation.BatchBuilder} generiert wurde, mit einem
+ * eigenen Builder für jede Zeile, so wie es ohne generierten Builder für viele Objekte üblich wäre. Ab 100.000 Zeilen
+ * erzeugt der {@link BatchRowBatchBuilder} die Zeilen parallel.
+ */
+@NotNull
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class BatchBuilderBenchmark {
+
+    //<editor-fold desc="LOCAL FIELDS">
+    /** Die Anzahl an Zeilen, welche in einem Durchlauf erzeugt werden. */
+    @Param({"1024", "1000000"})
+    public int rows;
+
+    /** Die Spalte aller IDs. */
+    private long[] ids;
+    /** Die Spalte aller Symbole. */
+    private String[] symbols;
+    /** Die Spalte aller Anzahlen. */
+    private int[] quantities;
+    /** Die Spalte aller Preise. */
+    private double[] prices;
+    //</editor-fold>
+
+
+    /**
+     * Erzeugt alle Spalten, aus denen die Zeilen erzeugt werden.
+     */
+    @Setup
+    public void prepare() {
+        final Random random = new Random(42);
+
+        this.ids = new long[this.rows];
+        this.symbols = new String[this.rows];
+        this.quantities = new int[this.rows];
+        this.prices = new double[this.rows];
+
+        for (int i = 0; i < this.rows; i++) {
+            this.ids[i] = 1_000_000L + i;
+            this.symbols[i] = "SYM" + random.nextInt(100);
+            this.quantities[i] = random.nextInt(1000);
+            this.prices[i] = random.nextDouble() * 100;
+        }
+    }
+
+    /**
+     * Erzeugt alle Zeilen mit einem eigenen Builder für jede Zeile.
+     *
+     * @return Alle erzeugten Zeilen.
+     */
+    @Benchmark
+    public BatchRow[] rowBuilder() {
+        final BatchRow[] objects = new BatchRow[this.rows];
+
+        for (int i = 0; i < this.rows; i++) {
+            objects[i] = new BatchRowBuilder()
+                .setId(this.ids[i])
+                .setSymbol(this.symbols[i])
+                .setQuantity(this.quantities[i])
+                .setPrice(this.prices[i])
+                .build();
+        }
+
+        return objects;
+    }
+
+    /**
+     * Erzeugt alle Zeilen mit dem generierten {@link BatchRowBatchBuilder}.
+     *
+     * @return Alle erzeugten Zeilen.
+     */
+    @Benchmark
+    public BatchRow[] batchBuilder() {
+        return new BatchRowBatchBuilder(this.rows)
+            .setId(this.ids)
+            .setSymbol(this.symbols)
+            .setQuantity(this.quantities)
+            .setPrice(this.prices)
+            .buildAll();
+    }
+
+}
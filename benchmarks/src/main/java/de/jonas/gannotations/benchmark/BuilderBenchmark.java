@@ -0,0 +1,524 @@
+package de.jonas.gannotations.benchmark;
+
+import de.jonas.gannotations.benchmark.bean.Bean100;
+import de.jonas.gannotations.benchmark.bean.Bean100Builder;
+import de.jonas.gannotations.benchmark.bean.Bean20;
+import de.jonas.gannotations.benchmark.bean.Bean20Builder;
+import de.jonas.gannotations.benchmark.bean.Bean5;
+import de.jonas.gannotations.benchmark.bean.Bean5Builder;
+import org.jetbrains.annotations.NotNull;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Mithilfe dieses Benchmarks wird verglichen, wie schnell sich eine Bean mithilfe des generierten Builders erzeugen
+ * lässt, im Vergleich zu einem direkten Aufruf des Konstruktors oder der Setter. Die Beans mit 5, 20 und 100
+ * Eigenschaften werden beim Kompilieren dieses Moduls von dem {@link de.jonas.gannotations.processor.GemueseProcessor}
+ * verarbeitet, sodass immer der aktuelle Stand des Generators gemessen wird. Die Allokationsraten lassen sich mithilfe
+ * des Profilers {@code -prof gc} aufzeichnen.
+ */
+@NotNull
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class BuilderBenchmark {
+
+    //<editor-fold desc="LOCAL FIELDS">
+    /** Der Wert, mit dem alle Eigenschaften vom Typ int gesetzt werden. */
+    private int intValue = 42;
+    /** Der Wert, mit dem alle Eigenschaften vom Typ long gesetzt werden. */
+    private long longValue = 42L;
+    /** Der Wert, mit dem alle Eigenschaften vom Typ double gesetzt werden. */
+    private double doubleValue = 42.0;
+    /** Der Wert, mit dem alle Eigenschaften vom Typ String gesetzt werden. */
+    private String stringValue = "value";
+    //</editor-fold>
+
+
+    /**
+     * Erzeugt eine {@link Bean5} mithilfe des generierten {@link Bean5Builder}.
+     *
+     * @return Die erzeugte {@link Bean5}.
+     */
+    @Benchmark
+    public Bean5 builder5() {
+        return new Bean5Builder()
+            .setIntValue0(this.intValue)
+            .setLongValue1(this.longValue)
+            .setDoubleValue2(this.doubleValue)
+            .setStringValue3(this.stringValue)
+            .setIntValue4(this.intValue)
+            .build();
+    }
+
+    /**
+     * Erzeugt eine {@link Bean5} mithilfe ihres Konstruktors.
+     *
+     * @return Die erzeugte {@link Bean5}.
+     */
+    @Benchmark
+    public Bean5 constructor5() {
+        return new Bean5(
+            this.intValue,
+            this.longValue,
+            this.doubleValue,
+            this.stringValue,
+            this.intValue
+        );
+    }
+
+    /**
+     * Erzeugt eine {@link Bean5} mithilfe ihrer Setter.
+     *
+     * @return Die erzeugte {@link Bean5}.
+     */
+    @Benchmark
+    public Bean5 setters5() {
+        final Bean5 bean = new Bean5();
+        bean.setIntValue0(this.intValue);
+        bean.setLongValue1(this.longValue);
+        bean.setDoubleValue2(this.doubleValue);
+        bean.setStringValue3(this.stringValue);
+        bean.setIntValue4(this.intValue);
+        return bean;
+    }
+
+    /**
+     * Erzeugt eine {@link Bean20} mithilfe des generierten {@link Bean20Builder}.
+     *
+     * @return Die erzeugte {@link Bean20}.
+     */
+    @Benchmark
+    public Bean20 builder20() {
+        return new Bean20Builder()
+            .setIntValue0(this.intValue)
+            .setLongValue1(this.longValue)
+            .setDoubleValue2(this.doubleValue)
+            .setStringValue3(this.stringValue)
+            .setIntValue4(this.intValue)
+            .setLongValue5(this.longValue)
+            .setDoubleValue6(this.doubleValue)
+            .setStringValue7(this.stringValue)
+            .setIntValue8(this.intValue)
+            .setLongValue9(this.longValue)
+            .setDoubleValue10(this.doubleValue)
+            .setStringValue11(this.stringValue)
+            .setIntValue12(this.intValue)
+            .setLongValue13(this.longValue)
+            .setDoubleValue14(this.doubleValue)
+            .setStringValue15(this.stringValue)
+            .setIntValue16(this.intValue)
+            .setLongValue17(this.longValue)
+            .setDoubleValue18(this.doubleValue)
+            .setStringValue19(this.stringValue)
+            .build();
+    }
+
+    /**
+     * Erzeugt eine {@link Bean20} mithilfe ihres Konstruktors.
+     *
+     * @return Die erzeugte {@link Bean20}.
+     */
+    @Benchmark
+    public Bean20 constructor20() {
+        return new Bean20(
+            this.intValue,
+            this.longValue,
+            this.doubleValue,
+            this.stringValue,
+            this.intValue,
+            this.longValue,
+            this.doubleValue,
+            this.stringValue,
+            this.intValue,
+            this.longValue,
+            this.doubleValue,
+            this.stringValue,
+            this.intValue,
+            this.longValue,
+            this.doubleValue,
+            this.stringValue,
+            this.intValue,
+            this.longValue,
+            this.doubleValue,
+            this.stringValue
+        );
+    }
+
+    /**
+     * Erzeugt eine {@link Bean20} mithilfe ihrer Setter.
+     *
+     * @return Die erzeugte {@link Bean20}.
+     */
+    @Benchmark
+    public Bean20 setters20() {
+        final Bean20 bean = new Bean20();
+        bean.setIntValue0(this.intValue);
+        bean.setLongValue1(this.longValue);
+        bean.setDoubleValue2(this.doubleValue);
+        bean.setStringValue3(this.stringValue);
+        bean.setIntValue4(this.intValue);
+        bean.setLongValue5(this.longValue);
+        bean.setDoubleValue6(this.doubleValue);
+        bean.setStringValue7(this.stringValue);
+        bean.setIntValue8(this.intValue);
+        bean.setLongValue9(this.longValue);
+        bean.setDoubleValue10(this.doubleValue);
+        bean.setStringValue11(this.stringValue);
+        bean.setIntValue12(this.intValue);
+        bean.setLongValue13(this.longValue);
+        bean.setDoubleValue14(this.doubleValue);
+        bean.setStringValue15(this.stringValue);
+        bean.setIntValue16(this.intValue);
+        bean.setLongValue17(this.longValue);
+        bean.setDoubleValue18(this.doubleValue);
+        bean.setStringValue19(this.stringValue);
+        return bean;
+    }
+
+    /**
+     * Erzeugt eine {@link Bean100} mithilfe des generierten {@link Bean100Builder}.
+     *
+     * @return Die erzeugte {@link Bean100}.
+     */
+    @Benchmark
+    public Bean100 builder100() {
+        return new Bean100Builder()
+            .setIntValue0(this.intValue)
+            .setLongValue1(this.longValue)
+            .setDoubleValue2(this.doubleValue)
+            .setStringValue3(this.stringValue)
+            .setIntValue4(this.intValue)
+            .setLongValue5(this.longValue)
+            .setDoubleValue6(this.doubleValue)
+            .setStringValue7(this.stringValue)
+            .setIntValue8(this.intValue)
+            .setLongValue9(this.longValue)
+            .setDoubleValue10(this.doubleValue)
+            .setStringValue11(this.stringValue)
+            .setIntValue12(this.intValue)
+            .setLongValue13(this.longValue)
+            .setDoubleValue14(this.doubleValue)
+            .setStringValue15(this.stringValue)
+            .setIntValue16(this.intValue)
+            .setLongValue17(this.longValue)
+            .setDoubleValue18(this.doubleValue)
+            .setStringValue19(this.stringValue)
+            .setIntValue20(this.intValue)
+            .setLongValue21(this.longValue)
+            .setDoubleValue22(this.doubleValue)
+            .setStringValue23(this.stringValue)
+            .setIntValue24(this.intValue)
+            .setLongValue25(this.longValue)
+            .setDoubleValue26(this.doubleValue)
+            .setStringValue27(this.stringValue)
+            .setIntValue28(this.intValue)
+            .setLongValue29(this.longValue)
+            .setDoubleValue30(this.doubleValue)
+            .setStringValue31(this.stringValue)
+            .setIntValue32(this.intValue)
+            .setLongValue33(this.longValue)
+            .setDoubleValue34(this.doubleValue)
+            .setStringValue35(this.stringValue)
+            .setIntValue36(this.intValue)
+            .setLongValue37(this.longValue)
+            .setDoubleValue38(this.doubleValue)
+            .setStringValue39(this.stringValue)
+            .setIntValue40(this.intValue)
+            .setLongValue41(this.longValue)
+            .setDoubleValue42(this.doubleValue)
+            .setStringValue43(this.stringValue)
+            .setIntValue44(this.intValue)
+            .setLongValue45(this.longValue)
+            .setDoubleValue46(this.doubleValue)
+            .setStringValue47(this.stringValue)
+            .setIntValue48(this.intValue)
+            .setLongValue49(this.longValue)
+            .setDoubleValue50(this.doubleValue)
+            .setStringValue51(this.stringValue)
+            .setIntValue52(this.intValue)
+            .setLongValue53(this.longValue)
+            .setDoubleValue54(this.doubleValue)
+            .setStringValue55(this.stringValue)
+            .setIntValue56(this.intValue)
+            .setLongValue57(this.longValue)
+            .setDoubleValue58(this.doubleValue)
+            .setStringValue59(this.stringValue)
+            .setIntValue60(this.intValue)
+            .setLongValue61(this.longValue)
+            .setDoubleValue62(this.doubleValue)
+            .setStringValue63(this.stringValue)
+            .setIntValue64(this.intValue)
+            .setLongValue65(this.longValue)
+            .setDoubleValue66(this.doubleValue)
+            .setStringValue67(this.stringValue)
+            .setIntValue68(this.intValue)
+            .setLongValue69(this.longValue)
+            .setDoubleValue70(this.doubleValue)
+            .setStringValue71(this.stringValue)
+            .setIntValue72(this.intValue)
+            .setLongValue73(this.longValue)
+            .setDoubleValue74(this.doubleValue)
+            .setStringValue75(this.stringValue)
+            .setIntValue76(this.intValue)
+            .setLongValue77(this.longValue)
+            .setDoubleValue78(this.doubleValue)
+            .setStringValue79(this.stringValue)
+            .setIntValue80(this.intValue)
+            .setLongValue81(this.longValue)
+            .setDoubleValue82(this.doubleValue)
+            .setStringValue83(this.stringValue)
+            .setIntValue84(this.intValue)
+            .setLongValue85(this.longValue)
+            .setDoubleValue86(this.doubleValue)
+            .setStringValue87(this.stringValue)
+            .setIntValue88(this.intValue)
+            .setLongValue89(this.longValue)
+            .setDoubleValue90(this.doubleValue)
+            .setStringValue91(this.stringValue)
+            .setIntValue92(this.intValue)
+            .setLongValue93(this.longValue)
+            .setDoubleValue94(this.doubleValue)
+            .setStringValue95(this.stringValue)
+            .setIntValue96(this.intValue)
+            .setLongValue97(this.longValue)
+            .setDoubleValue98(this.doubleValue)
+            .setStringValue99(this.stringValue)
+            .build();
+    }
+
+    /**
+     * Erzeugt eine {@link Bean100} mithilfe ihres Konstruktors.
+     *
+     * @return Die erzeugte {@link Bean100}.
+     */
+    @Benchmark
+    public Bean100 constructor100() {
+        return new Bean100(
+            this.intValue,
+            this.longValue,
+            this.doubleValue,
+            this.stringValue,
+            this.intValue,
+            this.longValue,
+            this.doubleValue,
+            this.stringValue,
+            this.intValue,
+            this.longValue,
+            this.doubleValue,
+            this.stringValue,
+            this.intValue,
+            this.longValue,
+            this.doubleValue,
+            this.stringValue,
+            this.intValue,
+            this.longValue,
+            this.doubleValue,
+            this.stringValue,
+            this.intValue,
+            this.longValue,
+            this.doubleValue,
+            this.stringValue,
+            this.intValue,
+            this.longValue,
+            this.doubleValue,
+            this.stringValue,
+            this.intValue,
+            this.longValue,
+            this.doubleValue,
+            this.stringValue,
+            this.intValue,
+            this.longValue,
+            this.doubleValue,
+            this.stringValue,
+            this.intValue,
+            this.longValue,
+            this.doubleValue,
+            this.stringValue,
+            this.intValue,
+            this.longValue,
+            this.doubleValue,
+            this.stringValue,
+            this.intValue,
+            this.longValue,
+            this.doubleValue,
+            this.stringValue,
+            this.intValue,
+            this.longValue,
+            this.doubleValue,
+            this.stringValue,
+            this.intValue,
+            this.longValue,
+            this.doubleValue,
+            this.stringValue,
+            this.intValue,
+            this.longValue,
+            this.doubleValue,
+            this.stringValue,
+            this.intValue,
+            this.longValue,
+            this.doubleValue,
+            this.stringValue,
+            this.intValue,
+            this.longValue,
+            this.doubleValue,
+            this.stringValue,
+            this.intValue,
+            this.longValue,
+            this.doubleValue,
+            this.stringValue,
+            this.intValue,
+            this.longValue,
+            this.doubleValue,
+            this.stringValue,
+            this.intValue,
+            this.longValue,
+            this.doubleValue,
+            this.stringValue,
+            this.intValue,
+            this.longValue,
+            this.doubleValue,
+            this.stringValue,
+            this.intValue,
+            this.longValue,
+            this.doubleValue,
+            this.stringValue,
+            this.intValue,
+            this.longValue,
+            this.doubleValue,
+            this.stringValue,
+            this.intValue,
+            this.longValue,
+            this.doubleValue,
+            this.stringValue,
+            this.intValue,
+            this.longValue,
+            this.doubleValue,
+            this.stringValue
+        );
+    }
+
+    /**
+     * Erzeugt eine {@link Bean100} mithilfe ihrer Setter.
+     *
+     * @return Die erzeugte {@link Bean100}.
+     */
+    @Benchmark
+    public Bean100 setters100() {
+        final Bean100 bean = new Bean100();
+        bean.setIntValue0(this.intValue);
+        bean.setLongValue1(this.longValue);
+        bean.setDoubleValue2(this.doubleValue);
+        bean.setStringValue3(this.stringValue);
+        bean.setIntValue4(this.intValue);
+        bean.setLongValue5(this.longValue);
+        bean.setDoubleValue6(this.doubleValue);
+        bean.setStringValue7(this.stringValue);
+        bean.setIntValue8(this.intValue);
+        bean.setLongValue9(this.longValue);
+        bean.setDoubleValue10(this.doubleValue);
+        bean.setStringValue11(this.stringValue);
+        bean.setIntValue12(this.intValue);
+        bean.setLongValue13(this.longValue);
+        bean.setDoubleValue14(this.doubleValue);
+        bean.setStringValue15(this.stringValue);
+        bean.setIntValue16(this.intValue);
+        bean.setLongValue17(this.longValue);
+        bean.setDoubleValue18(this.doubleValue);
+        bean.setStringValue19(this.stringValue);
+        bean.setIntValue20(this.intValue);
+        bean.setLongValue21(this.longValue);
+        bean.setDoubleValue22(this.doubleValue);
+        bean.setStringValue23(this.stringValue);
+        bean.setIntValue24(this.intValue);
+        bean.setLongValue25(this.longValue);
+        bean.setDoubleValue26(this.doubleValue);
+        bean.setStringValue27(this.stringValue);
+        bean.setIntValue28(this.intValue);
+        bean.setLongValue29(this.longValue);
+        bean.setDoubleValue30(this.doubleValue);
+        bean.setStringValue31(this.stringValue);
+        bean.setIntValue32(this.intValue);
+        bean.setLongValue33(this.longValue);
+        bean.setDoubleValue34(this.doubleValue);
+        bean.setStringValue35(this.stringValue);
+        bean.setIntValue36(this.intValue);
+        bean.setLongValue37(this.longValue);
+        bean.setDoubleValue38(this.doubleValue);
+        bean.setStringValue39(this.stringValue);
+        bean.setIntValue40(this.intValue);
+        bean.setLongValue41(this.longValue);
+        bean.setDoubleValue42(this.doubleValue);
+        bean.setStringValue43(this.stringValue);
+        bean.setIntValue44(this.intValue);
+        bean.setLongValue45(this.longValue);
+        bean.setDoubleValue46(this.doubleValue);
+        bean.setStringValue47(this.stringValue);
+        bean.setIntValue48(this.intValue);
+        bean.setLongValue49(this.longValue);
+        bean.setDoubleValue50(this.doubleValue);
+        bean.setStringValue51(this.stringValue);
+        bean.setIntValue52(this.intValue);
+        bean.setLongValue53(this.longValue);
+        bean.setDoubleValue54(this.doubleValue);
+        bean.setStringValue55(this.stringValue);
+        bean.setIntValue56(this.intValue);
+        bean.setLongValue57(this.longValue);
+        bean.setDoubleValue58(this.doubleValue);
+        bean.setStringValue59(this.stringValue);
+        bean.setIntValue60(this.intValue);
+        bean.setLongValue61(this.longValue);
+        bean.setDoubleValue62(this.doubleValue);
+        bean.setStringValue63(this.stringValue);
+        bean.setIntValue64(this.intValue);
+        bean.setLongValue65(this.longValue);
+        bean.setDoubleValue66(this.doubleValue);
+        bean.setStringValue67(this.stringValue);
+        bean.setIntValue68(this.intValue);
+        bean.setLongValue69(this.longValue);
+        bean.setDoubleValue70(this.doubleValue);
+        bean.setStringValue71(this.stringValue);
+        bean.setIntValue72(this.intValue);
+        bean.setLongValue73(this.longValue);
+        bean.setDoubleValue74(this.doubleValue);
+        bean.setStringValue75(this.stringValue);
+        bean.setIntValue76(this.intValue);
+        bean.setLongValue77(this.longValue);
+        bean.setDoubleValue78(this.doubleValue);
+        bean.setStringValue79(this.stringValue);
+        bean.setIntValue80(this.intValue);
+        bean.setLongValue81(this.longValue);
+        bean.setDoubleValue82(this.doubleValue);
+        bean.setStringValue83(this.stringValue);
+        bean.setIntValue84(this.intValue);
+        bean.setLongValue85(this.longValue);
+        bean.setDoubleValue86(this.doubleValue);
+        bean.setStringValue87(this.stringValue);
+        bean.setIntValue88(this.intValue);
+        bean.setLongValue89(this.longValue);
+        bean.setDoubleValue90(this.doubleValue);
+        bean.setStringValue91(this.stringValue);
+        bean.setIntValue92(this.intValue);
+        bean.setLongValue93(this.longValue);
+        bean.setDoubleValue94(this.doubleValue);
+        bean.setStringValue95(this.stringValue);
+        bean.setIntValue96(this.intValue);
+        bean.setLongValue97(this.longValue);
+        bean.setDoubleValue98(this.doubleValue);
+        bean.setStringValue99(this.stringValue);
+        return bean;
+    }
+
+}
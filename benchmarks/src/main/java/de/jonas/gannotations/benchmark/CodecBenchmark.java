@@ -0,0 +1,178 @@
+package de.jonas.gannotations.benchmark;
+
+import de.jonas.gannotations.benchmark.bean.CodecOrder;
+import de.jonas.gannotations.benchmark.bean.CodecOrderBuilder;
+import de.jonas.gannotations.benchmark.bean.CodecOrderCodec;
+import org.jetbrains.annotations.NotNull;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Mithilfe dieses Benchmarks wird gemessen, wie schnell Orders mit dem Codec geschrieben und gelesen werden, welcher
+ * durch die {@link de.jonas.gannotations.annotation.BinaryCodec} generiert wurde. Zum Vergleich werden dieselben Orders
+ * mit einem {@link DataOutputStream} geschrieben und einem {@link DataInputStream} gelesen, so wie es ohne generierten
+ * Codec üblich wäre. Die Anzahl an geschriebenen Bytes lässt sich an der Größe der Puffer ablesen.
+ */
+@NotNull
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class CodecBenchmark {
+
+    //<editor-fold desc="CONSTANTS">
+    /** Die Anzahl an Orders, die in einem Durchlauf geschrieben oder gelesen werden. */
+    private static final int ORDERS = 1024;
+    //</editor-fold>
+
+
+    //<editor-fold desc="LOCAL FIELDS">
+    /** Alle Orders, die geschrieben werden. */
+    private CodecOrder[] orders;
+    /** Der Puffer, in den die Orders mit dem Codec geschrieben werden. */
+    private ByteBuffer buffer;
+    /** Alle Orders, welche mit dem Codec geschrieben wurden. */
+    private ByteBuffer encoded;
+    /** Alle Orders, welche mit einem {@link DataOutputStream} geschrieben wurden. */
+    private byte[] streamed;
+    /** Der Builder, mit dem alle gelesenen Orders erzeugt werden. */
+    private CodecOrderBuilder builder;
+    //</editor-fold>
+
+
+    /**
+     * Erzeugt alle Orders und schreibt sie einmalig, damit sie gelesen werden können.
+     *
+     * @throws IOException Wenn die Orders nicht geschrieben werden können.
+     */
+    @Setup
+    public void prepare() throws IOException {
+        final Random random = new Random(42);
+
+        this.orders = new CodecOrder[ORDERS];
+        this.builder = new CodecOrderBuilder();
+
+        for (int i = 0; i < ORDERS; i++) {
+            this.orders[i] = new CodecOrderBuilder()
+                .setId(1_000_000L + i)
+                .setSymbol("SYM" + random.nextInt(100))
+                .setQuantity(random.nextInt(1000))
+                .setPrice(random.nextDouble() * 100)
+                .setBuy(random.nextBoolean())
+                .build();
+        }
+
+        this.buffer = ByteBuffer.allocate(ORDERS * 64);
+        encodeCodec();
+        this.encoded = this.buffer.duplicate();
+        this.encoded.flip();
+        this.streamed = encodeStream();
+    }
+
+    /**
+     * Schreibt alle Orders mit dem generierten Codec.
+     *
+     * @return Die Anzahl an geschriebenen Bytes.
+     */
+    @Benchmark
+    @OperationsPerInvocation(ORDERS)
+    public int encodeCodec() {
+        this.buffer.clear();
+
+        for (@NotNull final CodecOrder order : this.orders) {
+            CodecOrderCodec.write(order, this.buffer);
+        }
+
+        return this.buffer.position();
+    }
+
+    /**
+     * Schreibt alle Orders mit einem {@link DataOutputStream}.
+     *
+     * @return Alle geschriebenen Bytes.
+     *
+     * @throws IOException Wenn die Orders nicht geschrieben werden können.
+     */
+    @Benchmark
+    @OperationsPerInvocation(ORDERS)
+    public byte[] encodeStream() throws IOException {
+        final ByteArrayOutputStream bytes = new ByteArrayOutputStream(ORDERS * 64);
+        final DataOutputStream output = new DataOutputStream(bytes);
+
+        for (@NotNull final CodecOrder order : this.orders) {
+            output.writeLong(order.getId());
+            output.writeUTF(order.getSymbol());
+            output.writeInt(order.getQuantity());
+            output.writeDouble(order.getPrice());
+            output.writeBoolean(order.isBuy());
+        }
+
+        return bytes.toByteArray();
+    }
+
+    /**
+     * Liest alle Orders mit dem generierten Codec.
+     *
+     * @return Die Summe aller Anzahlen, damit das Lesen nicht wegoptimiert wird.
+     */
+    @Benchmark
+    @OperationsPerInvocation(ORDERS)
+    public long decodeCodec() {
+        final ByteBuffer input = this.encoded.duplicate();
+        long sum = 0;
+
+        while (input.hasRemaining()) {
+            sum += CodecOrderCodec.read(input, this.builder).build().getQuantity();
+        }
+
+        return sum;
+    }
+
+    /**
+     * Liest alle Orders mit einem {@link DataInputStream}.
+     *
+     * @return Die Summe aller Anzahlen, damit das Lesen nicht wegoptimiert wird.
+     *
+     * @throws IOException Wenn die Orders nicht gelesen werden können.
+     */
+    @Benchmark
+    @OperationsPerInvocation(ORDERS)
+    public long decodeStream() throws IOException {
+        final DataInputStream input = new DataInputStream(new ByteArrayInputStream(this.streamed));
+        long sum = 0;
+
+        for (int i = 0; i < ORDERS; i++) {
+            sum += this.builder
+                .setId(input.readLong())
+                .setSymbol(input.readUTF())
+                .setQuantity(input.readInt())
+                .setPrice(input.readDouble())
+                .setBuy(input.readBoolean())
+                .build()
+                .getQuantity();
+        }
+
+        return sum;
+    }
+
+}
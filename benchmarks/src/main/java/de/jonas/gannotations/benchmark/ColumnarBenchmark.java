@@ -0,0 +1,129 @@
+package de.jonas.gannotations.benchmark;
+
+import de.jonas.gannotations.benchmark.bean.ColumnarTrade;
+import de.jonas.gannotations.benchmark.bean.ColumnarTradeColumns;
+import org.jetbrains.annotations.NotNull;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Mithilfe dieses Benchmarks wird gemessen, wie schnell eine einzelne Eigenschaft vieler Objekte aufsummiert werden
+ * kann. Verglichen werden eine Liste von Objekten, deren Reihenfolge im Speicher durch das Mischen der Liste zufällig
+ * ist, und die spaltenweise Sammlung, welche durch die {@link de.jonas.gannotations.annotation.Columnar} generiert
+ * wurde. Die Sammlung wird sowohl über das Array der Spalte als auch über den Cursor durchlaufen.
+ */
+@NotNull
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = "-Xmx2g")
+public class ColumnarBenchmark {
+
+    //<editor-fold desc="LOCAL FIELDS">
+    /** Die Anzahl an Handeln, die aufsummiert werden. */
+    @Param({"100000", "1000000"})
+    public int trades;
+
+    /** Alle Handel als Liste von Objekten. */
+    private List<ColumnarTrade> list;
+    /** Alle Handel als spaltenweise Sammlung. */
+    private ColumnarTradeColumns columns;
+    //</editor-fold>
+
+
+    /**
+     * Erzeugt alle Handel, welche aufsummiert werden.
+     */
+    @Setup
+    public void prepare() {
+        final Random random = new Random(42);
+
+        this.list = new ArrayList<>(this.trades);
+        this.columns = new ColumnarTradeColumns(this.trades);
+
+        for (int i = 0; i < this.trades; i++) {
+            final ColumnarTrade trade = new ColumnarTrade().fill(
+                i,
+                1_700_000_000_000L + i,
+                random.nextDouble() * 100,
+                random.nextInt(1000),
+                random.nextBoolean()
+            );
+
+            this.list.add(trade);
+            this.columns.add(trade);
+        }
+
+        // objects of a long lived list are rarely allocated in order, so they are spread over the heap
+        Collections.shuffle(this.list, random);
+    }
+
+    /**
+     * Summiert die Preise aller Objekte der Liste auf.
+     *
+     * @return Die Summe aller Preise.
+     */
+    @Benchmark
+    public double sumList() {
+        double sum = 0;
+
+        for (@NotNull final ColumnarTrade trade : this.list) {
+            sum += trade.getPrice();
+        }
+
+        return sum;
+    }
+
+    /**
+     * Summiert die Preise über das Array der Spalte auf.
+     *
+     * @return Die Summe aller Preise.
+     */
+    @Benchmark
+    public double sumColumn() {
+        final double[] prices = this.columns.getPriceColumn();
+        final int size = this.columns.size();
+        double sum = 0;
+
+        for (int i = 0; i < size; i++) {
+            sum += prices[i];
+        }
+
+        return sum;
+    }
+
+    /**
+     * Summiert die Preise über den Cursor der Sammlung auf.
+     *
+     * @return Die Summe aller Preise.
+     */
+    @Benchmark
+    public double sumCursor() {
+        final ColumnarTradeColumns.Cursor cursor = this.columns.cursor();
+        double sum = 0;
+
+        while (cursor.next()) {
+            sum += cursor.getPrice();
+        }
+
+        return sum;
+    }
+
+}
@@ -0,0 +1,139 @@
+package de.jonas.gannotations.benchmark;
+
+import de.jonas.gannotations.benchmark.bean.ReusableBean5;
+import de.jonas.gannotations.benchmark.bean.ReusableBean5Builder;
+import org.jetbrains.annotations.NotNull;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.CompilerControl;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Mithilfe dieses Benchmarks wird eine Schleife gemessen, welche Nachrichten dekodiert und für jede Nachricht ein
+ * Objekt mithilfe eines Builders erzeugt. Es wird verglichen, ob für jede Nachricht ein neuer Builder erzeugt wird, oder
+ * ob ein Builder, welcher durch den {@link de.jonas.gannotations.annotation.ReusableBuilder} wiederverwendet werden
+ * kann, für alle Nachrichten genutzt wird. Der Dekodierer wird nicht inline kompiliert, wie es bei einem realen
+ * Dekodierer üblich ist, sodass der Builder nicht durch die Escape-Analyse wegoptimiert werden kann. Die Allokationen pro
+ * Objekt lassen sich mithilfe des Profilers {@code -prof gc} aufzeichnen.
+ */
+@NotNull
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class DecodeBenchmark {
+
+    //<editor-fold desc="CONSTANTS">
+    /** Die Anzahl an Nachrichten, die in einem Durchlauf dekodiert werden. */
+    private static final int MESSAGES = 1024;
+    //</editor-fold>
+
+
+    //<editor-fold desc="LOCAL FIELDS">
+    /** Die Nachrichten, welche dekodiert werden. */
+    private long[] messages;
+    /** Die dekodierten Objekte. */
+    private ReusableBean5[] decoded;
+    /** Der Builder, welcher für alle Nachrichten wiederverwendet wird. */
+    private ReusableBean5Builder reusedBuilder;
+    /** Die Builder, welche pro Thread wiederverwendet werden. */
+    private ThreadLocal<ReusableBean5Builder> threadLocalBuilder;
+    //</editor-fold>
+
+
+    /**
+     * Bereitet die Nachrichten vor, welche dekodiert werden.
+     */
+    @Setup
+    public void prepare() {
+        this.messages = new long[MESSAGES];
+        this.decoded = new ReusableBean5[MESSAGES];
+        this.reusedBuilder = new ReusableBean5Builder();
+        this.threadLocalBuilder = ThreadLocal.withInitial(ReusableBean5Builder::new);
+
+        for (int i = 0; i < MESSAGES; i++) {
+            this.messages[i] = i * 31L;
+        }
+    }
+
+    /**
+     * Dekodiert alle Nachrichten mit jeweils einem neuen Builder.
+     *
+     * @return Die dekodierten Objekte.
+     */
+    @Benchmark
+    @OperationsPerInvocation(MESSAGES)
+    public ReusableBean5[] freshBuilder() {
+        for (int i = 0; i < MESSAGES; i++) {
+            this.decoded[i] = decode(new ReusableBean5Builder(), this.messages[i]);
+        }
+
+        return this.decoded;
+    }
+
+    /**
+     * Dekodiert alle Nachrichten mit demselben Builder.
+     *
+     * @return Die dekodierten Objekte.
+     */
+    @Benchmark
+    @OperationsPerInvocation(MESSAGES)
+    public ReusableBean5[] reusedBuilder() {
+        for (int i = 0; i < MESSAGES; i++) {
+            this.decoded[i] = decode(this.reusedBuilder, this.messages[i]);
+        }
+
+        return this.decoded;
+    }
+
+    /**
+     * Dekodiert alle Nachrichten mit dem Builder, welcher im {@link ThreadLocal} des aktuellen Threads liegt.
+     *
+     * @return Die dekodierten Objekte.
+     */
+    @Benchmark
+    @OperationsPerInvocation(MESSAGES)
+    public ReusableBean5[] threadLocalBuilder() {
+        for (int i = 0; i < MESSAGES; i++) {
+            this.decoded[i] = decode(this.threadLocalBuilder.get(), this.messages[i]);
+        }
+
+        return this.decoded;
+    }
+
+    /**
+     * Dekodiert eine einzelne Nachricht mithilfe eines Builders.
+     *
+     * @param builder Der Builder, mit dem das Objekt erzeugt wird.
+     * @param message Die Nachricht, die dekodiert wird.
+     *
+     * @return Das dekodierte Objekt.
+     */
+    @NotNull
+    @CompilerControl(CompilerControl.Mode.DONT_INLINE)
+    private static ReusableBean5 decode(
+        @NotNull final ReusableBean5Builder builder,
+        final long message
+    ) {
+        return builder
+            .setIntValue0((int) message)
+            .setLongValue1(message)
+            .setDoubleValue2(message)
+            .setStringValue3(null)
+            .setIntValue4((int) (message >>> 32))
+            .build();
+    }
+
+}
@@ -0,0 +1,121 @@
+package de.jonas.gannotations.benchmark;
+
+import de.jonas.gannotations.benchmark.bean.InternedSymbol;
+import de.jonas.gannotations.benchmark.bean.InternedSymbolBuilder;
+import de.jonas.gannotations.benchmark.bean.InternedSymbolInterner;
+import org.jetbrains.annotations.NotNull;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Mithilfe dieses Benchmarks wird gemessen, wie teuer der Vergleich zweier gleicher Objekte ist, welche durch die
+ * {@link de.jonas.gannotations.annotation.Interned} kanonisiert wurden. Verglichen werden der Vergleich über die
+ * generierte Methode {@code equals} und der Vergleich über die Identität der kanonischen Instanzen. Zusätzlich wird
+ * gemessen, wie lange das Nachschlagen der kanonischen Instanz eines neu erzeugten Objekts dauert.
+ */
+@NotNull
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class InternBenchmark {
+
+    //<editor-fold desc="LOCAL FIELDS">
+    /** Ein Symbol, welches nicht kanonisiert wurde. */
+    private InternedSymbol plain;
+    /** Ein weiteres Symbol, welches gleich zum ersten Symbol ist, aber nicht kanonisiert wurde. */
+    private InternedSymbol plainCopy;
+    /** Die kanonische Instanz des Symbols. */
+    private InternedSymbol canonical;
+    /** Die kanonische Instanz eines gleichen Symbols, welche identisch zur ersten kanonischen Instanz ist. */
+    private InternedSymbol canonicalCopy;
+    //</editor-fold>
+
+
+    /**
+     * Erzeugt die Symbole, welche miteinander verglichen werden.
+     */
+    @Setup
+    public void prepare() {
+        this.plain = createPlain();
+        this.plainCopy = createPlain();
+        this.canonical = createCanonical();
+        this.canonicalCopy = createCanonical();
+    }
+
+    /**
+     * Vergleicht zwei gleiche Symbole über die Methode {@code equals}.
+     *
+     * @return Ob die Symbole gleich sind.
+     */
+    @Benchmark
+    public boolean compareEquals() {
+        return this.plain.equals(this.plainCopy);
+    }
+
+    /**
+     * Vergleicht zwei kanonische Instanzen über ihre Identität.
+     *
+     * @return Ob die Symbole identisch sind.
+     */
+    @Benchmark
+    public boolean compareIdentity() {
+        return this.canonical == this.canonicalCopy;
+    }
+
+    /**
+     * Erzeugt ein neues Symbol und schlägt seine kanonische Instanz nach.
+     *
+     * @return Die kanonische Instanz des neuen Symbols.
+     */
+    @Benchmark
+    public InternedSymbol intern() {
+        return InternedSymbolInterner.intern(createPlain());
+    }
+
+    /**
+     * Erzeugt ein neues Symbol, ohne dass es kanonisiert wird.
+     *
+     * @return Das neue Symbol.
+     */
+    @NotNull
+    private static InternedSymbol createPlain() {
+        final InternedSymbol symbol = new InternedSymbol();
+
+        symbol.setExchange("XETRA");
+        symbol.setTicker("SAP");
+        symbol.setCurrency("EUR");
+        symbol.setTickSize(0.01);
+        symbol.setScale(2);
+        return symbol;
+    }
+
+    /**
+     * Erzeugt ein neues Symbol mithilfe des Builders, welcher die kanonische Instanz zurückgibt.
+     *
+     * @return Die kanonische Instanz des Symbols.
+     */
+    @NotNull
+    private static InternedSymbol createCanonical() {
+        return new InternedSymbolBuilder()
+            .setExchange("XETRA")
+            .setTicker("SAP")
+            .setCurrency("EUR")
+            .setTickSize(0.01)
+            .setScale(2)
+            .build();
+    }
+
+}
@@ -0,0 +1,118 @@
+package de.jonas.gannotations.benchmark;
+
+import de.jonas.gannotations.processor.JavaGenerator;
+import de.jonas.gannotations.processor.JavaParameter;
+import de.jonas.gannotations.processor.SourceWriter;
+import org.jetbrains.annotations.NotNull;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import javax.lang.model.type.TypeKind;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Mithilfe dieses Benchmarks wird gemessen, wie viele Klassen der {@link JavaGenerator} pro Sekunde erzeugen kann. Die
+ * erzeugten Klassen entsprechen in ihrem Aufbau den Buildern, welche für die {@link
+ * de.jonas.gannotations.annotation.BuilderProperty} generiert werden. Es wird sowohl ein neuer als auch ein
+ * wiederverwendeter {@link SourceWriter} gemessen.
+ */
+@NotNull
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class JavaGeneratorBenchmark {
+
+    //<editor-fold desc="LOCAL FIELDS">
+    /** Die Anzahl an Settern, die jede erzeugte Klasse enthält. */
+    @Param({"5", "20", "100"})
+    public int properties;
+
+    /** Die Parameter aller Setter. */
+    private List<JavaParameter> parameters;
+    /** Die Namen aller Setter. */
+    private String[] setterNames;
+    /** Der {@link SourceWriter}, welcher für alle erzeugten Klassen wiederverwendet wird. */
+    private SourceWriter sourceWriter;
+    //</editor-fold>
+
+
+    /**
+     * Bereitet die Daten vor, aus denen die Klassen erzeugt werden.
+     */
+    @Setup
+    public void prepare() {
+        this.parameters = Collections.singletonList(
+            new JavaParameter("value", "java.lang.String", TypeKind.DECLARED)
+        );
+        this.setterNames = new String[this.properties];
+        this.sourceWriter = new SourceWriter();
+
+        for (int i = 0; i < this.properties; i++) {
+            this.setterNames[i] = "setValue" + i;
+        }
+    }
+
+    /**
+     * Erzeugt eine Klasse mit einem neuen {@link SourceWriter}.
+     *
+     * @return Der erzeugte Quellcode.
+     */
+    @Benchmark
+    public String generateWithNewWriter() {
+        return generate(new JavaGenerator("bench.Bean", "bench.BeanBuilder"));
+    }
+
+    /**
+     * Erzeugt eine Klasse mit einem wiederverwendeten {@link SourceWriter}.
+     *
+     * @return Der erzeugte Quellcode.
+     */
+    @Benchmark
+    public String generateWithReusedWriter() {
+        return generate(new JavaGenerator("bench.Bean", "bench.BeanBuilder", this.sourceWriter));
+    }
+
+    /**
+     * Erzeugt mithilfe eines {@link JavaGenerator} eine Klasse, welche wie ein Builder aufgebaut ist.
+     *
+     * @param generator Der {@link JavaGenerator}, mit dem die Klasse erzeugt wird.
+     *
+     * @return Der erzeugte Quellcode.
+     */
+    @NotNull
+    private String generate(@NotNull final JavaGenerator generator) {
+        generator.addField("private final", "bench.Bean", "object", "new bench.Bean()");
+        generator.addMethod("build", "bench.Bean", Collections.emptyList(), new String[]{"return object;"});
+
+        for (@NotNull final String setterName : this.setterNames) {
+            generator.addMethod(
+                setterName,
+                generator.getNewClassName(),
+                this.parameters,
+                new String[]{
+                    "object." + setterName + "(value);",
+                    "return this;"
+                }
+            );
+        }
+
+        generator.finish();
+        return generator.getSource();
+    }
+
+}
@@ -0,0 +1,102 @@
+package de.jonas.gannotations.benchmark;
+
+import de.jonas.gannotations.benchmark.bean.LazyService;
+import org.jetbrains.annotations.NotNull;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Mithilfe dieses Benchmarks wird gemessen, wie viel die {@link de.jonas.gannotations.annotation.Lazy} beim Erzeugen
+ * eines Service einspart, dessen Abhängigkeiten nicht sofort benötigt werden, und wie viel ein Zugriff auf ein bereits
+ * initialisiertes Feld mit den einzelnen Strategien kostet. Zum Vergleich wird ein Feld gelesen, welches bereits beim
+ * Erzeugen des Service initialisiert wurde.
+ */
+@NotNull
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class LazyBenchmark {
+
+    //<editor-fold desc="LOCAL FIELDS">
+    /** Der Service, dessen Felder bereits alle initialisiert wurden. */
+    private LazyService service;
+    //</editor-fold>
+
+
+    /**
+     * Erzeugt den Service und initialisiert alle seine Felder durch einen ersten Zugriff.
+     */
+    @Setup
+    public void prepare() {
+        this.service = new LazyService(true);
+        this.service.getDoubleChecked();
+        LazyService.getHolder();
+    }
+
+    /**
+     * Erzeugt einen Service, dessen Abhängigkeit sofort erzeugt wird.
+     *
+     * @return Der neue Service.
+     */
+    @Benchmark
+    @OutputTimeUnit(TimeUnit.MICROSECONDS)
+    public LazyService createEager() {
+        return new LazyService(true);
+    }
+
+    /**
+     * Erzeugt einen Service, dessen Abhängigkeiten erst beim ersten Zugriff erzeugt werden.
+     *
+     * @return Der neue Service.
+     */
+    @Benchmark
+    @OutputTimeUnit(TimeUnit.MICROSECONDS)
+    public LazyService createLazy() {
+        return new LazyService(false);
+    }
+
+    /**
+     * Liest ein Feld, welches bereits beim Erzeugen initialisiert wurde.
+     *
+     * @return Der Wert des Feldes.
+     */
+    @Benchmark
+    public Map<Integer, String> readEager() {
+        return this.service.getEager();
+    }
+
+    /**
+     * Liest ein Feld, welches mit der Strategie DOUBLE_CHECKED initialisiert wurde.
+     *
+     * @return Der Wert des Feldes.
+     */
+    @Benchmark
+    public Map<Integer, String> readDoubleChecked() {
+        return this.service.getDoubleChecked();
+    }
+
+    /**
+     * Liest ein statisches Feld, welches mit der Strategie HOLDER initialisiert wurde.
+     *
+     * @return Der Wert des Feldes.
+     */
+    @Benchmark
+    public Map<Integer, String> readHolder() {
+        return LazyService.getHolder();
+    }
+
+}
@@ -0,0 +1,87 @@
+package de.jonas.gannotations.benchmark;
+
+import de.jonas.gannotations.benchmark.bean.PriceCalculator;
+import de.jonas.gannotations.benchmark.bean.PriceCalculatorMemoized;
+import org.jetbrains.annotations.NotNull;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Mithilfe dieses Benchmarks wird gemessen, wie viel Zeit ein Aufruf einer Methode benötigt, deren Ergebnisse durch die
+ * {@link de.jonas.gannotations.annotation.Memoize} zwischengespeichert werden. Alle Threads teilen sich denselben
+ * Wrapper, sodass auch die Verteilung der Zugriffe auf die Segmente des Caches gemessen wird.
+ */
+@NotNull
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Threads(4)
+@Fork(1)
+public class MemoizeBenchmark {
+
+    //<editor-fold desc="CONSTANTS">
+    /** Die Anzahl an unterschiedlichen Artikeln, deren Preise abgefragt werden. */
+    private static final int ARTICLES = 1024;
+    //</editor-fold>
+
+
+    //<editor-fold desc="LOCAL FIELDS">
+    /** Die Artikelnummern aller Artikel. */
+    private String[] skus;
+    /** Der Rechner, dessen Methode direkt aufgerufen wird. */
+    private PriceCalculator calculator;
+    /** Der Wrapper, welcher die Ergebnisse des Rechners zwischenspeichert. */
+    private PriceCalculatorMemoized memoized;
+    //</editor-fold>
+
+
+    /**
+     * Bereitet die Artikelnummern, den Rechner und den Wrapper vor.
+     */
+    @Setup(Level.Trial)
+    public void prepare() {
+        this.skus = new String[ARTICLES];
+        this.calculator = new PriceCalculator();
+        this.memoized = new PriceCalculatorMemoized(this.calculator);
+
+        for (int i = 0; i < ARTICLES; i++) {
+            this.skus[i] = "SKU-" + i;
+        }
+    }
+
+    /**
+     * Berechnet den Preis eines zufälligen Artikels direkt.
+     *
+     * @return Der Preis des Artikels.
+     */
+    @Benchmark
+    public double direct() {
+        return this.calculator.price(this.skus[ThreadLocalRandom.current().nextInt(ARTICLES)], 3);
+    }
+
+    /**
+     * Ermittelt den Preis eines zufälligen Artikels über den Wrapper, welcher die Ergebnisse zwischenspeichert.
+     *
+     * @return Der Preis des Artikels.
+     */
+    @Benchmark
+    public double memoized() {
+        return this.memoized.price(this.skus[ThreadLocalRandom.current().nextInt(ARTICLES)], 3);
+    }
+
+}
@@ -0,0 +1,128 @@
+package de.jonas.gannotations.benchmark;
+
+import de.jonas.gannotations.benchmark.bean.OffHeapTick;
+import de.jonas.gannotations.benchmark.bean.OffHeapTickOffHeapArray;
+import org.jetbrains.annotations.NotNull;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Mithilfe dieses Benchmarks wird gemessen, wie schnell eine einzelne Eigenschaft vieler Datensätze aufsummiert werden
+ * kann, welche sich außerhalb des Heaps in dem Array befinden, das durch die {@link
+ * de.jonas.gannotations.annotation.OffHeap} generiert wurde. Zum Vergleich wird eine Liste von Objekten im Heap
+ * durchlaufen, deren Reihenfolge im Speicher durch das Mischen der Liste zufällig ist.
+ */
+@NotNull
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = "-Xmx2g")
+public class OffHeapBenchmark {
+
+    //<editor-fold desc="LOCAL FIELDS">
+    /** Die Anzahl an Kursen, die aufsummiert werden. */
+    @Param({"1000000"})
+    public int ticks;
+
+    /** Alle Kurse als Liste von Objekten im Heap. */
+    private List<OffHeapTick> list;
+    /** Alle Kurse außerhalb des Heaps. */
+    private OffHeapTickOffHeapArray array;
+    //</editor-fold>
+
+
+    /**
+     * Erzeugt alle Kurse, welche aufsummiert werden.
+     */
+    @Setup
+    public void prepare() {
+        final Random random = new Random(42);
+
+        this.list = new ArrayList<>(this.ticks);
+        this.array = OffHeapTickOffHeapArray.allocate(this.ticks);
+
+        for (int i = 0; i < this.ticks; i++) {
+            final OffHeapTick tick = new OffHeapTick().fill(
+                1_700_000_000_000L + i,
+                random.nextDouble() * 100,
+                random.nextInt(1000),
+                (short) random.nextInt(16),
+                random.nextBoolean()
+            );
+
+            this.list.add(tick);
+            this.array.set(i, tick);
+        }
+
+        // objects of a long lived list are rarely allocated in order, so they are spread over the heap
+        Collections.shuffle(this.list, random);
+    }
+
+    /**
+     * Summiert die Preise aller Objekte der Liste auf.
+     *
+     * @return Die Summe aller Preise.
+     */
+    @Benchmark
+    public double sumHeap() {
+        double sum = 0;
+
+        for (@NotNull final OffHeapTick tick : this.list) {
+            sum += tick.getPrice();
+        }
+
+        return sum;
+    }
+
+    /**
+     * Summiert die Preise über den Index des Arrays auf.
+     *
+     * @return Die Summe aller Preise.
+     */
+    @Benchmark
+    public double sumIndexed() {
+        final long capacity = this.array.capacity();
+        double sum = 0;
+
+        for (long i = 0; i < capacity; i++) {
+            sum += this.array.getPrice(i);
+        }
+
+        return sum;
+    }
+
+    /**
+     * Summiert die Preise über die wiederverwendbare Ansicht des Arrays auf.
+     *
+     * @return Die Summe aller Preise.
+     */
+    @Benchmark
+    public double sumView() {
+        final OffHeapTickOffHeapArray.View view = this.array.view();
+        double sum = 0;
+
+        while (view.next()) {
+            sum += view.getPrice();
+        }
+
+        return sum;
+    }
+
+}
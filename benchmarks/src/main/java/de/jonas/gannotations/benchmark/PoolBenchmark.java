@@ -0,0 +1,140 @@
+package de.jonas.gannotations.benchmark;
+
+import de.jonas.gannotations.benchmark.bean.PooledRequest;
+import de.jonas.gannotations.benchmark.bean.PooledRequestPool;
+import org.jetbrains.annotations.NotNull;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Mithilfe dieses Benchmarks wird verglichen, ob Objekte, welche sehr häufig erzeugt und wieder verworfen werden, neu
+ * erzeugt oder aus einem Pool wiederverwendet werden, welcher durch die {@link de.jonas.gannotations.annotation.Pooled}
+ * generiert wurde. Jede Variante wird mit 1, 4 und 16 Threads gemessen, welche sich denselben Pool teilen. Die
+ * Allokationen pro Objekt lassen sich mithilfe des Profilers {@code -prof gc} aufzeichnen.
+ */
+@NotNull
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class PoolBenchmark {
+
+    //<editor-fold desc="CONSTANTS">
+    /** Der Pfad aller Anfragen. */
+    @NotNull
+    private static final String PATH = "/api/v1/orders";
+    //</editor-fold>
+
+
+    //<editor-fold desc="LOCAL FIELDS">
+    /** Der Pool, welcher von allen Threads geteilt wird. */
+    private final PooledRequestPool pool = new PooledRequestPool();
+    //</editor-fold>
+
+
+    /**
+     * Erzeugt mit einem Thread für jede Anfrage ein neues Objekt.
+     *
+     * @param blackhole Das {@link Blackhole}, welches die Anfrage konsumiert.
+     */
+    @Benchmark
+    @Threads(1)
+    public void fresh1(@NotNull final Blackhole blackhole) {
+        fresh(blackhole);
+    }
+
+    /**
+     * Nutzt mit einem Thread für jede Anfrage ein Objekt aus dem Pool.
+     *
+     * @param blackhole Das {@link Blackhole}, welches die Anfrage konsumiert.
+     */
+    @Benchmark
+    @Threads(1)
+    public void pooled1(@NotNull final Blackhole blackhole) {
+        pooled(blackhole);
+    }
+
+    /**
+     * Erzeugt mit vier Threads für jede Anfrage ein neues Objekt.
+     *
+     * @param blackhole Das {@link Blackhole}, welches die Anfrage konsumiert.
+     */
+    @Benchmark
+    @Threads(4)
+    public void fresh4(@NotNull final Blackhole blackhole) {
+        fresh(blackhole);
+    }
+
+    /**
+     * Nutzt mit vier Threads für jede Anfrage ein Objekt aus dem Pool.
+     *
+     * @param blackhole Das {@link Blackhole}, welches die Anfrage konsumiert.
+     */
+    @Benchmark
+    @Threads(4)
+    public void pooled4(@NotNull final Blackhole blackhole) {
+        pooled(blackhole);
+    }
+
+    /**
+     * Erzeugt mit 16 Threads für jede Anfrage ein neues Objekt.
+     *
+     * @param blackhole Das {@link Blackhole}, welches die Anfrage konsumiert.
+     */
+    @Benchmark
+    @Threads(16)
+    public void fresh16(@NotNull final Blackhole blackhole) {
+        fresh(blackhole);
+    }
+
+    /**
+     * Nutzt mit 16 Threads für jede Anfrage ein Objekt aus dem Pool.
+     *
+     * @param blackhole Das {@link Blackhole}, welches die Anfrage konsumiert.
+     */
+    @Benchmark
+    @Threads(16)
+    public void pooled16(@NotNull final Blackhole blackhole) {
+        pooled(blackhole);
+    }
+
+    /**
+     * Erzeugt eine neue Anfrage, befüllt sie und übergibt sie an das {@link Blackhole}.
+     *
+     * @param blackhole Das {@link Blackhole}, welches die Anfrage konsumiert.
+     */
+    private static void fresh(@NotNull final Blackhole blackhole) {
+        final PooledRequest request = new PooledRequest().fill(42L, PATH, 1_000L, 512);
+
+        blackhole.consume(request.checksum());
+        blackhole.consume(request);
+    }
+
+    /**
+     * Fordert eine Anfrage aus dem Pool an, befüllt sie, übergibt sie an das {@link Blackhole} und gibt sie wieder an
+     * den Pool zurück.
+     *
+     * @param blackhole Das {@link Blackhole}, welches die Anfrage konsumiert.
+     */
+    private void pooled(@NotNull final Blackhole blackhole) {
+        final PooledRequest request = this.pool.acquire().fill(42L, PATH, 1_000L, 512);
+
+        blackhole.consume(request.checksum());
+        blackhole.consume(request);
+        this.pool.release(request);
+    }
+
+}
@@ -0,0 +1,215 @@
+package de.jonas.gannotations.benchmark;
+
+import de.jonas.gannotations.processor.GemueseProcessor;
+import org.jetbrains.annotations.NotNull;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import javax.tools.JavaCompiler;
+import javax.tools.JavaFileObject;
+import javax.tools.StandardJavaFileManager;
+import javax.tools.ToolProvider;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+/**
+ * Mithilfe dieses Benchmarks wird gemessen, wie lange ein Kompilierungs-Durchlauf mit dem {@link GemueseProcessor} für
+ * einen synthetischen Quellcode-Baum benötigt. Der Quellcode-Baum besteht aus Klassen, deren Setter alle mit der
+ * {@link de.jonas.gannotations.annotation.BuilderProperty} angemerkt sind, sodass die Laufzeit des Prozessors mit der
+ * Anzahl der angemerkten Methoden verglichen werden kann. Zudem wird der sequentielle mit dem parallelen Modus des
+ * Prozessors verglichen und gemessen, wie viel Zeit das Erfassen der Statistik des Prozessors zusätzlich benötigt und
+ * wie viel Zeit durch das Wiederverwenden der generierten Klassen aus dem Cache des Prozessors eingespart wird.
+ */
+@NotNull
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2)
+@Measurement(iterations = 5)
+@Fork(value = 1, jvmArgsAppend = {
+    "-XX:+IgnoreUnrecognizedVMOptions",
+    "--add-exports=jdk.compiler/com.sun.tools.javac.processing=ALL-UNNAMED",
+    "--add-exports=jdk.compiler/com.sun.tools.javac.tree=ALL-UNNAMED",
+    "--add-exports=jdk.compiler/com.sun.tools.javac.util=ALL-UNNAMED",
+    "--add-exports=jdk.compiler/com.sun.tools.javac.parser=ALL-UNNAMED",
+})
+public class ProcessorBenchmark {
+
+    //<editor-fold desc="CONSTANTS">
+    /** Die Anzahl an angemerkten Settern, die sich in einer synthetischen Klasse befinden. */
+    private static final int METHODS_PER_CLASS = 100;
+    //</editor-fold>
+
+
+    //<editor-fold desc="LOCAL FIELDS">
+    /** Die Anzahl an angemerkten Methoden, die der synthetische Quellcode-Baum insgesamt enthält. */
+    @Param({"1000", "10000", "100000"})
+    public int annotatedMethods;
+    /** Ob der Prozessor im parallelen Modus ausgeführt wird. */
+    @Param({"false", "true"})
+    public boolean parallel;
+    /** Ob der Prozessor eine Statistik über seine eigene Laufzeit erzeugt. */
+    @Param({"false", "true"})
+    public boolean stats;
+    /** Ob der Prozessor den Quellcode der generierten Klassen aus seinem Cache wiederverwendet. */
+    @Param({"false", "true"})
+    public boolean cache;
+
+    /** Der Ordner, in dem sich der synthetische Quellcode-Baum befindet. */
+    private Path sourceDirectory;
+    /** Der Ordner, in den der Prozessor die generierten Dateien schreibt. */
+    private Path generatedDirectory;
+    /** Der Ordner, in dem der Prozessor den Quellcode der generierten Klassen zwischen den Durchläufen ablegt. */
+    private Path cacheDirectory;
+    /** Alle Dateien des synthetischen Quellcode-Baums. */
+    private List<Path> sourceFiles;
+    /** Der Java-Compiler, mit dem der Prozessor ausgeführt wird. */
+    private JavaCompiler compiler;
+    //</editor-fold>
+
+
+    /**
+     * Erzeugt den synthetischen Quellcode-Baum, welcher in jedem Durchlauf kompiliert wird.
+     *
+     * @throws IOException Wenn der Quellcode-Baum nicht geschrieben werden konnte.
+     */
+    @Setup(Level.Trial)
+    public void createSourceTree() throws IOException {
+        this.compiler = ToolProvider.getSystemJavaCompiler();
+        this.sourceDirectory = Files.createTempDirectory("gannotations-sources");
+        this.cacheDirectory = Files.createTempDirectory("gannotations-cache");
+        this.sourceFiles = new ArrayList<>();
+
+        final Path packageDirectory = Files.createDirectories(this.sourceDirectory.resolve("synthetic"));
+        final int classCount = Math.max(1, this.annotatedMethods / METHODS_PER_CLASS);
+
+        for (int classIndex = 0; classIndex < classCount; classIndex++) {
+            final String className = "Bean" + classIndex;
+            final StringBuilder source = new StringBuilder(METHODS_PER_CLASS * 128);
+
+            source.append("package synthetic;\n\n");
+            source.append("import de.jonas.gannotations.annotation.BuilderProperty;\n\n");
+            source.append("public class ").append(className).append(" {\n");
+
+            for (int methodIndex = 0; methodIndex < METHODS_PER_CLASS; methodIndex++) {
+                source.append("    private int value").append(methodIndex).append(";\n");
+                source.append("    @BuilderProperty\n");
+                source.append("    public void setValue").append(methodIndex).append("(final int value) {\n");
+                source.append("        this.value").append(methodIndex).append(" = value;\n");
+                source.append("    }\n");
+            }
+
+            source.append("}\n");
+
+            final Path sourceFile = packageDirectory.resolve(className + ".java");
+            Files.write(sourceFile, source.toString().getBytes(StandardCharsets.UTF_8));
+            this.sourceFiles.add(sourceFile);
+        }
+    }
+
+    /**
+     * Legt vor jedem Durchlauf einen neuen Ordner für die generierten Dateien an.
+     *
+     * @throws IOException Wenn der Ordner nicht angelegt werden konnte.
+     */
+    @Setup(Level.Invocation)
+    public void createGeneratedDirectory() throws IOException {
+        this.generatedDirectory = Files.createTempDirectory("gannotations-generated");
+    }
+
+    /**
+     * Löscht nach jedem Durchlauf den Ordner, in dem sich die generierten Dateien befinden.
+     *
+     * @throws IOException Wenn der Ordner nicht gelöscht werden konnte.
+     */
+    @TearDown(Level.Invocation)
+    public void deleteGeneratedDirectory() throws IOException {
+        deleteRecursively(this.generatedDirectory);
+    }
+
+    /**
+     * Löscht den synthetischen Quellcode-Baum und den Cache des Prozessors.
+     *
+     * @throws IOException Wenn der Quellcode-Baum nicht gelöscht werden konnte.
+     */
+    @TearDown(Level.Trial)
+    public void deleteSourceTree() throws IOException {
+        deleteRecursively(this.sourceDirectory);
+        deleteRecursively(this.cacheDirectory);
+    }
+
+    /**
+     * Führt den {@link GemueseProcessor} einmal über den gesamten synthetischen Quellcode-Baum aus.
+     *
+     * @return Ob die Kompilierung erfolgreich war.
+     *
+     * @throws IOException Wenn der Datei-Manager nicht geschlossen werden konnte.
+     */
+    @Benchmark
+    public boolean process() throws IOException {
+        try (final StandardJavaFileManager fileManager = this.compiler.getStandardFileManager(
+            null,
+            null,
+            StandardCharsets.UTF_8
+        )) {
+            final Iterable<? extends JavaFileObject> compilationUnits = fileManager.getJavaFileObjectsFromFiles(
+                this.sourceFiles.stream().map(Path::toFile)::iterator
+            );
+
+            final List<String> options = new ArrayList<>(Arrays.asList(
+                "-proc:only",
+                "-classpath", System.getProperty("java.class.path"),
+                "-processorpath", System.getProperty("java.class.path"),
+                "-processor", GemueseProcessor.class.getName(),
+                "-A" + GemueseProcessor.PARALLEL_OPTION + "=" + this.parallel,
+                "-s", this.generatedDirectory.toString()
+            ));
+
+            if (this.stats) {
+                options.add("-A" + GemueseProcessor.STATS_OPTION + "=" + this.generatedDirectory.resolve("stats.json"));
+            }
+
+            if (this.cache) {
+                options.add("-A" + GemueseProcessor.CACHE_OPTION + "=" + this.cacheDirectory);
+            }
+
+            return this.compiler.getTask(null, fileManager, null, options, null, compilationUnits).call();
+        }
+    }
+
+    /**
+     * Löscht einen Ordner mitsamt seinem gesamten Inhalt.
+     *
+     * @param directory Der Ordner, der gelöscht werden soll.
+     *
+     * @throws IOException Wenn der Ordner nicht gelöscht werden konnte.
+     */
+    private static void deleteRecursively(@NotNull final Path directory) throws IOException {
+        try (final Stream<Path> paths = Files.walk(directory)) {
+            for (@NotNull final Path path : (Iterable<Path>) paths.sorted(Comparator.reverseOrder())::iterator) {
+                Files.delete(path);
+            }
+        }
+    }
+
+}
@@ -0,0 +1,80 @@
+package de.jonas.gannotations.benchmark;
+
+import de.jonas.gannotations.benchmark.bean.Checksum;
+import org.jetbrains.annotations.NotNull;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Mithilfe dieses Benchmarks wird der Aufwand gemessen, welcher durch die Zeitmessung des {@link
+ * de.jonas.gannotations.annotation.Timed} entsteht. Alle Threads zeichnen ihre Messungen in demselben Histogramm auf,
+ * sodass auch die Verteilung der Zähler auf die Streifen des Histogramms gemessen wird.
+ */
+@NotNull
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Threads(4)
+@Fork(1)
+public class TimedBenchmark {
+
+    //<editor-fold desc="LOCAL FIELDS">
+    /** Die Länge des Arrays, dessen Prüfsumme berechnet wird. */
+    @Param({"16", "1024"})
+    public int length;
+
+    /** Das Array, dessen Prüfsumme berechnet wird. */
+    private long[] data;
+    /** Die Klasse, welche die Prüfsumme berechnet. */
+    private Checksum checksum;
+    //</editor-fold>
+
+
+    /**
+     * Bereitet das Array vor, dessen Prüfsumme berechnet wird.
+     */
+    @Setup
+    public void prepare() {
+        this.data = new long[this.length];
+        this.checksum = new Checksum();
+
+        for (int i = 0; i < this.length; i++) {
+            this.data[i] = i * 7L;
+        }
+    }
+
+    /**
+     * Berechnet die Prüfsumme ohne Zeitmessung.
+     *
+     * @return Die Prüfsumme.
+     */
+    @Benchmark
+    public long plain() {
+        return this.checksum.plain(this.data);
+    }
+
+    /**
+     * Berechnet die Prüfsumme mit Zeitmessung.
+     *
+     * @return Die Prüfsumme.
+     */
+    @Benchmark
+    public long timed() {
+        return this.checksum.timed(this.data);
+    }
+
+}
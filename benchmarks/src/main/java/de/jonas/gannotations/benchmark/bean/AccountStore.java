@@ -0,0 +1,81 @@
+package de.jonas.gannotations.benchmark.bean;
+
+import de.jonas.gannotations.annotation.Async;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Ein Speicher für Konten, dessen blockierende Methoden mithilfe der {@link Async} asynchron aufgerufen werden. Jeder
+ * Zugriff auf den Speicher wartet eine feste Zeit, um die Latenz einer entfernten Datenbank nachzubilden. Dieselbe
+ * Abfrage ist einmal einzeln, einmal mit zusammengefassten Aufrufen und einmal in Stapeln annotiert.
+ */
+@NotNull
+public final class AccountStore {
+
+    //<editor-fold desc="CONSTANTS">
+    /** Die Zeit in Nanosekunden, die jeder Zugriff auf den Speicher wartet. */
+    private static final long LATENCY_NANOS = TimeUnit.MICROSECONDS.toNanos(200);
+    //</editor-fold>
+
+
+    /**
+     * Fragt den Kontostand eines Kontos ab.
+     *
+     * @param id Die ID des Kontos.
+     *
+     * @return Der Kontostand des Kontos.
+     */
+    @Async
+    public long balance(final int id) {
+        LockSupport.parkNanos(LATENCY_NANOS);
+        return id * 100L;
+    }
+
+    /**
+     * Fragt den Kontostand eines Kontos ab, wobei gleichzeitige Abfragen desselben Kontos zusammengefasst werden.
+     *
+     * @param id Die ID des Kontos.
+     *
+     * @return Der Kontostand des Kontos.
+     */
+    @Async(coalesce = true)
+    public long sharedBalance(final int id) {
+        return balance(id);
+    }
+
+    /**
+     * Fragt den Kontostand eines Kontos ab, wobei die Abfragen in Stapeln an {@link #balances(List)} übergeben werden.
+     *
+     * @param id Die ID des Kontos.
+     *
+     * @return Der Kontostand des Kontos.
+     */
+    @Async(batchMethod = "balances", maxBatchSize = 64)
+    public long batchedBalance(final int id) {
+        return balance(id);
+    }
+
+    /**
+     * Fragt die Kontostände mehrerer Konten mit einem einzigen Zugriff auf den Speicher ab.
+     *
+     * @param ids Die IDs aller Konten.
+     *
+     * @return Die Kontostände in derselben Reihenfolge wie die IDs.
+     */
+    @NotNull
+    public List<Long> balances(@NotNull final List<Integer> ids) {
+        final List<Long> balances = new ArrayList<>(ids.size());
+        LockSupport.parkNanos(LATENCY_NANOS);
+
+        for (final int id : ids) {
+            balances.add(id * 100L);
+        }
+
+        return balances;
+    }
+
+}
@@ -0,0 +1,103 @@
+package de.jonas.gannotations.benchmark.bean;
+
+import de.jonas.gannotations.annotation.BatchBuilder;
+import de.jonas.gannotations.annotation.BuilderProperty;
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * Eine Zeile, wie sie beim Einlesen großer Dateien (Bsp: CSV) entsteht. Neben dem normalen Builder wird mithilfe des
+ * {@link BatchBuilder} ein Builder erzeugt, welcher alle Zeilen eines Abschnitts aus ihren Spalten auf einmal erzeugt.
+ */
+@NotNull
+@BatchBuilder
+public final class BatchRow {
+
+    //<editor-fold desc="LOCAL FIELDS">
+    /** Die eindeutige ID der Zeile. */
+    private long id;
+    /** Das Symbol der Zeile. */
+    private String symbol;
+    /** Die Anzahl der Zeile. */
+    private int quantity;
+    /** Der Preis der Zeile. */
+    private double price;
+    //</editor-fold>
+
+
+    /**
+     * Gibt die eindeutige ID der Zeile zurück.
+     *
+     * @return Die eindeutige ID der Zeile.
+     */
+    public long getId() {
+        return this.id;
+    }
+
+    /**
+     * Setzt die eindeutige ID der Zeile.
+     *
+     * @param id Die eindeutige ID der Zeile.
+     */
+    @BuilderProperty
+    public void setId(final long id) {
+        this.id = id;
+    }
+
+    /**
+     * Gibt das Symbol der Zeile zurück.
+     *
+     * @return Das Symbol der Zeile.
+     */
+    public String getSymbol() {
+        return this.symbol;
+    }
+
+    /**
+     * Setzt das Symbol der Zeile.
+     *
+     * @param symbol Das Symbol der Zeile.
+     */
+    @BuilderProperty
+    public void setSymbol(final String symbol) {
+        this.symbol = symbol;
+    }
+
+    /**
+     * Gibt die Anzahl der Zeile zurück.
+     *
+     * @return Die Anzahl der Zeile.
+     */
+    public int getQuantity() {
+        return this.quantity;
+    }
+
+    /**
+     * Setzt die Anzahl der Zeile.
+     *
+     * @param quantity Die Anzahl der Zeile.
+     */
+    @BuilderProperty
+    public void setQuantity(final int quantity) {
+        this.quantity = quantity;
+    }
+
+    /**
+     * Gibt den Preis der Zeile zurück.
+     *
+     * @return Der Preis der Zeile.
+     */
+    public double getPrice() {
+        return this.price;
+    }
+
+    /**
+     * Setzt den Preis der Zeile.
+     *
+     * @param price Der Preis der Zeile.
+     */
+    @BuilderProperty
+    public void setPrice(final double price) {
+        this.price = price;
+    }
+
+}
@@ -0,0 +1,1535 @@
+package de.jonas.gannotations.benchmark.bean;
+
+import de.jonas.gannotations.annotation.BuilderProperty;
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * Eine Bean mit 100 Eigenschaften, für die mithilfe der {@link BuilderProperty} ein Builder generiert wird. Die
+ * Bean lässt sich zum Vergleich auch direkt über ihren Konstruktor oder ihre Setter erzeugen.
+ */
+@NotNull
+public final class Bean100 {
+
+    //<editor-fold desc="LOCAL FIELDS">
+    /** Die Eigenschaft intValue0. */
+    private int intValue0;
+    /** Die Eigenschaft longValue1. */
+    private long longValue1;
+    /** Die Eigenschaft doubleValue2. */
+    private double doubleValue2;
+    /** Die Eigenschaft stringValue3. */
+    private String stringValue3;
+    /** Die Eigenschaft intValue4. */
+    private int intValue4;
+    /** Die Eigenschaft longValue5. */
+    private long longValue5;
+    /** Die Eigenschaft doubleValue6. */
+    private double doubleValue6;
+    /** Die Eigenschaft stringValue7. */
+    private String stringValue7;
+    /** Die Eigenschaft intValue8. */
+    private int intValue8;
+    /** Die Eigenschaft longValue9. */
+    private long longValue9;
+    /** Die Eigenschaft doubleValue10. */
+    private double doubleValue10;
+    /** Die Eigenschaft stringValue11. */
+    private String stringValue11;
+    /** Die Eigenschaft intValue12. */
+    private int intValue12;
+    /** Die Eigenschaft longValue13. */
+    private long longValue13;
+    /** Die Eigenschaft doubleValue14. */
+    private double doubleValue14;
+    /** Die Eigenschaft stringValue15. */
+    private String stringValue15;
+    /** Die Eigenschaft intValue16. */
+    private int intValue16;
+    /** Die Eigenschaft longValue17. */
+    private long longValue17;
+    /** Die Eigenschaft doubleValue18. */
+    private double doubleValue18;
+    /** Die Eigenschaft stringValue19. */
+    private String stringValue19;
+    /** Die Eigenschaft intValue20. */
+    private int intValue20;
+    /** Die Eigenschaft longValue21. */
+    private long longValue21;
+    /** Die Eigenschaft doubleValue22. */
+    private double doubleValue22;
+    /** Die Eigenschaft stringValue23. */
+    private String stringValue23;
+    /** Die Eigenschaft intValue24. */
+    private int intValue24;
+    /** Die Eigenschaft longValue25. */
+    private long longValue25;
+    /** Die Eigenschaft doubleValue26. */
+    private double doubleValue26;
+    /** Die Eigenschaft stringValue27. */
+    private String stringValue27;
+    /** Die Eigenschaft intValue28. */
+    private int intValue28;
+    /** Die Eigenschaft longValue29. */
+    private long longValue29;
+    /** Die Eigenschaft doubleValue30. */
+    private double doubleValue30;
+    /** Die Eigenschaft stringValue31. */
+    private String stringValue31;
+    /** Die Eigenschaft intValue32. */
+    private int intValue32;
+    /** Die Eigenschaft longValue33. */
+    private long longValue33;
+    /** Die Eigenschaft doubleValue34. */
+    private double doubleValue34;
+    /** Die Eigenschaft stringValue35. */
+    private String stringValue35;
+    /** Die Eigenschaft intValue36. */
+    private int intValue36;
+    /** Die Eigenschaft longValue37. */
+    private long longValue37;
+    /** Die Eigenschaft doubleValue38. */
+    private double doubleValue38;
+    /** Die Eigenschaft stringValue39. */
+    private String stringValue39;
+    /** Die Eigenschaft intValue40. */
+    private int intValue40;
+    /** Die Eigenschaft longValue41. */
+    private long longValue41;
+    /** Die Eigenschaft doubleValue42. */
+    private double doubleValue42;
+    /** Die Eigenschaft stringValue43. */
+    private String stringValue43;
+    /** Die Eigenschaft intValue44. */
+    private int intValue44;
+    /** Die Eigenschaft longValue45. */
+    private long longValue45;
+    /** Die Eigenschaft doubleValue46. */
+    private double doubleValue46;
+    /** Die Eigenschaft stringValue47. */
+    private String stringValue47;
+    /** Die Eigenschaft intValue48. */
+    private int intValue48;
+    /** Die Eigenschaft longValue49. */
+    private long longValue49;
+    /** Die Eigenschaft doubleValue50. */
+    private double doubleValue50;
+    /** Die Eigenschaft stringValue51. */
+    private String stringValue51;
+    /** Die Eigenschaft intValue52. */
+    private int intValue52;
+    /** Die Eigenschaft longValue53. */
+    private long longValue53;
+    /** Die Eigenschaft doubleValue54. */
+    private double doubleValue54;
+    /** Die Eigenschaft stringValue55. */
+    private String stringValue55;
+    /** Die Eigenschaft intValue56. */
+    private int intValue56;
+    /** Die Eigenschaft longValue57. */
+    private long longValue57;
+    /** Die Eigenschaft doubleValue58. */
+    private double doubleValue58;
+    /** Die Eigenschaft stringValue59. */
+    private String stringValue59;
+    /** Die Eigenschaft intValue60. */
+    private int intValue60;
+    /** Die Eigenschaft longValue61. */
+    private long longValue61;
+    /** Die Eigenschaft doubleValue62. */
+    private double doubleValue62;
+    /** Die Eigenschaft stringValue63. */
+    private String stringValue63;
+    /** Die Eigenschaft intValue64. */
+    private int intValue64;
+    /** Die Eigenschaft longValue65. */
+    private long longValue65;
+    /** Die Eigenschaft doubleValue66. */
+    private double doubleValue66;
+    /** Die Eigenschaft stringValue67. */
+    private String stringValue67;
+    /** Die Eigenschaft intValue68. */
+    private int intValue68;
+    /** Die Eigenschaft longValue69. */
+    private long longValue69;
+    /** Die Eigenschaft doubleValue70. */
+    private double doubleValue70;
+    /** Die Eigenschaft stringValue71. */
+    private String stringValue71;
+    /** Die Eigenschaft intValue72. */
+    private int intValue72;
+    /** Die Eigenschaft longValue73. */
+    private long longValue73;
+    /** Die Eigenschaft doubleValue74. */
+    private double doubleValue74;
+    /** Die Eigenschaft stringValue75. */
+    private String stringValue75;
+    /** Die Eigenschaft intValue76. */
+    private int intValue76;
+    /** Die Eigenschaft longValue77. */
+    private long longValue77;
+    /** Die Eigenschaft doubleValue78. */
+    private double doubleValue78;
+    /** Die Eigenschaft stringValue79. */
+    private String stringValue79;
+    /** Die Eigenschaft intValue80. */
+    private int intValue80;
+    /** Die Eigenschaft longValue81. */
+    private long longValue81;
+    /** Die Eigenschaft doubleValue82. */
+    private double doubleValue82;
+    /** Die Eigenschaft stringValue83. */
+    private String stringValue83;
+    /** Die Eigenschaft intValue84. */
+    private int intValue84;
+    /** Die Eigenschaft longValue85. */
+    private long longValue85;
+    /** Die Eigenschaft doubleValue86. */
+    private double doubleValue86;
+    /** Die Eigenschaft stringValue87. */
+    private String stringValue87;
+    /** Die Eigenschaft intValue88. */
+    private int intValue88;
+    /** Die Eigenschaft longValue89. */
+    private long longValue89;
+    /** Die Eigenschaft doubleValue90. */
+    private double doubleValue90;
+    /** Die Eigenschaft stringValue91. */
+    private String stringValue91;
+    /** Die Eigenschaft intValue92. */
+    private int intValue92;
+    /** Die Eigenschaft longValue93. */
+    private long longValue93;
+    /** Die Eigenschaft doubleValue94. */
+    private double doubleValue94;
+    /** Die Eigenschaft stringValue95. */
+    private String stringValue95;
+    /** Die Eigenschaft intValue96. */
+    private int intValue96;
+    /** Die Eigenschaft longValue97. */
+    private long longValue97;
+    /** Die Eigenschaft doubleValue98. */
+    private double doubleValue98;
+    /** Die Eigenschaft stringValue99. */
+    private String stringValue99;
+    //</editor-fold>
+
+
+    //<editor-fold desc="CONSTRUCTORS">
+
+    /**
+     * Erzeugt eine neue und leere Instanz einer {@link Bean100}. Dieser Konstruktor wird vom Builder genutzt.
+     */
+    public Bean100() {
+    }
+
+    /**
+     * Erzeugt eine neue Instanz einer {@link Bean100}, deren Eigenschaften alle direkt gesetzt werden.
+     *
+     * @param intValue0     Die Eigenschaft intValue0.
+     * @param longValue1    Die Eigenschaft longValue1.
+     * @param doubleValue2  Die Eigenschaft doubleValue2.
+     * @param stringValue3  Die Eigenschaft stringValue3.
+     * @param intValue4     Die Eigenschaft intValue4.
+     * @param longValue5    Die Eigenschaft longValue5.
+     * @param doubleValue6  Die Eigenschaft doubleValue6.
+     * @param stringValue7  Die Eigenschaft stringValue7.
+     * @param intValue8     Die Eigenschaft intValue8.
+     * @param longValue9    Die Eigenschaft longValue9.
+     * @param doubleValue10 Die Eigenschaft doubleValue10.
+     * @param stringValue11 Die Eigenschaft stringValue11.
+     * @param intValue12    Die Eigenschaft intValue12.
+     * @param longValue13   Die Eigenschaft longValue13.
+     * @param doubleValue14 Die Eigenschaft doubleValue14.
+     * @param stringValue15 Die Eigenschaft stringValue15.
+     * @param intValue16    Die Eigenschaft intValue16.
+     * @param longValue17   Die Eigenschaft longValue17.
+     * @param doubleValue18 Die Eigenschaft doubleValue18.
+     * @param stringValue19 Die Eigenschaft stringValue19.
+     * @param intValue20    Die Eigenschaft intValue20.
+     * @param longValue21   Die Eigenschaft longValue21.
+     * @param doubleValue22 Die Eigenschaft doubleValue22.
+     * @param stringValue23 Die Eigenschaft stringValue23.
+     * @param intValue24    Die Eigenschaft intValue24.
+     * @param longValue25   Die Eigenschaft longValue25.
+     * @param doubleValue26 Die Eigenschaft doubleValue26.
+     * @param stringValue27 Die Eigenschaft stringValue27.
+     * @param intValue28    Die Eigenschaft intValue28.
+     * @param longValue29   Die Eigenschaft longValue29.
+     * @param doubleValue30 Die Eigenschaft doubleValue30.
+     * @param stringValue31 Die Eigenschaft stringValue31.
+     * @param intValue32    Die Eigenschaft intValue32.
+     * @param longValue33   Die Eigenschaft longValue33.
+     * @param doubleValue34 Die Eigenschaft doubleValue34.
+     * @param stringValue35 Die Eigenschaft stringValue35.
+     * @param intValue36    Die Eigenschaft intValue36.
+     * @param longValue37   Die Eigenschaft longValue37.
+     * @param doubleValue38 Die Eigenschaft doubleValue38.
+     * @param stringValue39 Die Eigenschaft stringValue39.
+     * @param intValue40    Die Eigenschaft intValue40.
+     * @param longValue41   Die Eigenschaft longValue41.
+     * @param doubleValue42 Die Eigenschaft doubleValue42.
+     * @param stringValue43 Die Eigenschaft stringValue43.
+     * @param intValue44    Die Eigenschaft intValue44.
+     * @param longValue45   Die Eigenschaft longValue45.
+     * @param doubleValue46 Die Eigenschaft doubleValue46.
+     * @param stringValue47 Die Eigenschaft stringValue47.
+     * @param intValue48    Die Eigenschaft intValue48.
+     * @param longValue49   Die Eigenschaft longValue49.
+     * @param doubleValue50 Die Eigenschaft doubleValue50.
+     * @param stringValue51 Die Eigenschaft stringValue51.
+     * @param intValue52    Die Eigenschaft intValue52.
+     * @param longValue53   Die Eigenschaft longValue53.
+     * @param doubleValue54 Die Eigenschaft doubleValue54.
+     * @param stringValue55 Die Eigenschaft stringValue55.
+     * @param intValue56    Die Eigenschaft intValue56.
+     * @param longValue57   Die Eigenschaft longValue57.
+     * @param doubleValue58 Die Eigenschaft doubleValue58.
+     * @param stringValue59 Die Eigenschaft stringValue59.
+     * @param intValue60    Die Eigenschaft intValue60.
+     * @param longValue61   Die Eigenschaft longValue61.
+     * @param doubleValue62 Die Eigenschaft doubleValue62.
+     * @param stringValue63 Die Eigenschaft stringValue63.
+     * @param intValue64    Die Eigenschaft intValue64.
+     * @param longValue65   Die Eigenschaft longValue65.
+     * @param doubleValue66 Die Eigenschaft doubleValue66.
+     * @param stringValue67 Die Eigenschaft stringValue67.
+     * @param intValue68    Die Eigenschaft intValue68.
+     * @param longValue69   Die Eigenschaft longValue69.
+     * @param doubleValue70 Die Eigenschaft doubleValue70.
+     * @param stringValue71 Die Eigenschaft stringValue71.
+     * @param intValue72    Die Eigenschaft intValue72.
+     * @param longValue73   Die Eigenschaft longValue73.
+     * @param doubleValue74 Die Eigenschaft doubleValue74.
+     * @param stringValue75 Die Eigenschaft stringValue75.
+     * @param intValue76    Die Eigenschaft intValue76.
+     * @param longValue77   Die Eigenschaft longValue77.
+     * @param doubleValue78 Die Eigenschaft doubleValue78.
+     * @param stringValue79 Die Eigenschaft stringValue79.
+     * @param intValue80    Die Eigenschaft intValue80.
+     * @param longValue81   Die Eigenschaft longValue81.
+     * @param doubleValue82 Die Eigenschaft doubleValue82.
+     * @param stringValue83 Die Eigenschaft stringValue83.
+     * @param intValue84    Die Eigenschaft intValue84.
+     * @param longValue85   Die Eigenschaft longValue85.
+     * @param doubleValue86 Die Eigenschaft doubleValue86.
+     * @param stringValue87 Die Eigenschaft stringValue87.
+     * @param intValue88    Die Eigenschaft intValue88.
+     * @param longValue89   Die Eigenschaft longValue89.
+     * @param doubleValue90 Die Eigenschaft doubleValue90.
+     * @param stringValue91 Die Eigenschaft stringValue91.
+     * @param intValue92    Die Eigenschaft intValue92.
+     * @param longValue93   Die Eigenschaft longValue93.
+     * @param doubleValue94 Die Eigenschaft doubleValue94.
+     * @param stringValue95 Die Eigenschaft stringValue95.
+     * @param intValue96    Die Eigenschaft intValue96.
+     * @param longValue97   Die Eigenschaft longValue97.
+     * @param doubleValue98 Die Eigenschaft doubleValue98.
+     * @param stringValue99 Die Eigenschaft stringValue99.
+     */
+    public Bean100(
+        final int intValue0,
+        final long longValue1,
+        final double doubleValue2,
+        final String stringValue3,
+        final int intValue4,
+        final long longValue5,
+        final double doubleValue6,
+        final String stringValue7,
+        final int intValue8,
+        final long longValue9,
+        final double doubleValue10,
+        final String stringValue11,
+        final int intValue12,
+        final long longValue13,
+        final double doubleValue14,
+        final String stringValue15,
+        final int intValue16,
+        final long longValue17,
+        final double doubleValue18,
+        final String stringValue19,
+        final int intValue20,
+        final long longValue21,
+        final double doubleValue22,
+        final String stringValue23,
+        final int intValue24,
+        final long longValue25,
+        final double doubleValue26,
+        final String stringValue27,
+        final int intValue28,
+        final long longValue29,
+        final double doubleValue30,
+        final String stringValue31,
+        final int intValue32,
+        final long longValue33,
+        final double doubleValue34,
+        final String stringValue35,
+        final int intValue36,
+        final long longValue37,
+        final double doubleValue38,
+        final String stringValue39,
+        final int intValue40,
+        final long longValue41,
+        final double doubleValue42,
+        final String stringValue43,
+        final int intValue44,
+        final long longValue45,
+        final double doubleValue46,
+        final String stringValue47,
+        final int intValue48,
+        final long longValue49,
+        final double doubleValue50,
+        final String stringValue51,
+        final int intValue52,
+        final long longValue53,
+        final double doubleValue54,
+        final String stringValue55,
+        final int intValue56,
+        final long longValue57,
+        final double doubleValue58,
+        final String stringValue59,
+        final int intValue60,
+        final long longValue61,
+        final double doubleValue62,
+        final String stringValue63,
+        final int intValue64,
+        final long longValue65,
+        final double doubleValue66,
+        final String stringValue67,
+        final int intValue68,
+        final long longValue69,
+        final double doubleValue70,
+        final String stringValue71,
+        final int intValue72,
+        final long longValue73,
+        final double doubleValue74,
+        final String stringValue75,
+        final int intValue76,
+        final long longValue77,
+        final double doubleValue78,
+        final String stringValue79,
+        final int intValue80,
+        final long longValue81,
+        final double doubleValue82,
+        final String stringValue83,
+        final int intValue84,
+        final long longValue85,
+        final double doubleValue86,
+        final String stringValue87,
+        final int intValue88,
+        final long longValue89,
+        final double doubleValue90,
+        final String stringValue91,
+        final int intValue92,
+        final long longValue93,
+        final double doubleValue94,
+        final String stringValue95,
+        final int intValue96,
+        final long longValue97,
+        final double doubleValue98,
+        final String stringValue99
+    ) {
+        this.intValue0 = intValue0;
+        this.longValue1 = longValue1;
+        this.doubleValue2 = doubleValue2;
+        this.stringValue3 = stringValue3;
+        this.intValue4 = intValue4;
+        this.longValue5 = longValue5;
+        this.doubleValue6 = doubleValue6;
+        this.stringValue7 = stringValue7;
+        this.intValue8 = intValue8;
+        this.longValue9 = longValue9;
+        this.doubleValue10 = doubleValue10;
+        this.stringValue11 = stringValue11;
+        this.intValue12 = intValue12;
+        this.longValue13 = longValue13;
+        this.doubleValue14 = doubleValue14;
+        this.stringValue15 = stringValue15;
+        this.intValue16 = intValue16;
+        this.longValue17 = longValue17;
+        this.doubleValue18 = doubleValue18;
+        this.stringValue19 = stringValue19;
+        this.intValue20 = intValue20;
+        this.longValue21 = longValue21;
+        this.doubleValue22 = doubleValue22;
+        this.stringValue23 = stringValue23;
+        this.intValue24 = intValue24;
+        this.longValue25 = longValue25;
+        this.doubleValue26 = doubleValue26;
+        this.stringValue27 = stringValue27;
+        this.intValue28 = intValue28;
+        this.longValue29 = longValue29;
+        this.doubleValue30 = doubleValue30;
+        this.stringValue31 = stringValue31;
+        this.intValue32 = intValue32;
+        this.longValue33 = longValue33;
+        this.doubleValue34 = doubleValue34;
+        this.stringValue35 = stringValue35;
+        this.intValue36 = intValue36;
+        this.longValue37 = longValue37;
+        this.doubleValue38 = doubleValue38;
+        this.stringValue39 = stringValue39;
+        this.intValue40 = intValue40;
+        this.longValue41 = longValue41;
+        this.doubleValue42 = doubleValue42;
+        this.stringValue43 = stringValue43;
+        this.intValue44 = intValue44;
+        this.longValue45 = longValue45;
+        this.doubleValue46 = doubleValue46;
+        this.stringValue47 = stringValue47;
+        this.intValue48 = intValue48;
+        this.longValue49 = longValue49;
+        this.doubleValue50 = doubleValue50;
+        this.stringValue51 = stringValue51;
+        this.intValue52 = intValue52;
+        this.longValue53 = longValue53;
+        this.doubleValue54 = doubleValue54;
+        this.stringValue55 = stringValue55;
+        this.intValue56 = intValue56;
+        this.longValue57 = longValue57;
+        this.doubleValue58 = doubleValue58;
+        this.stringValue59 = stringValue59;
+        this.intValue60 = intValue60;
+        this.longValue61 = longValue61;
+        this.doubleValue62 = doubleValue62;
+        this.stringValue63 = stringValue63;
+        this.intValue64 = intValue64;
+        this.longValue65 = longValue65;
+        this.doubleValue66 = doubleValue66;
+        this.stringValue67 = stringValue67;
+        this.intValue68 = intValue68;
+        this.longValue69 = longValue69;
+        this.doubleValue70 = doubleValue70;
+        this.stringValue71 = stringValue71;
+        this.intValue72 = intValue72;
+        this.longValue73 = longValue73;
+        this.doubleValue74 = doubleValue74;
+        this.stringValue75 = stringValue75;
+        this.intValue76 = intValue76;
+        this.longValue77 = longValue77;
+        this.doubleValue78 = doubleValue78;
+        this.stringValue79 = stringValue79;
+        this.intValue80 = intValue80;
+        this.longValue81 = longValue81;
+        this.doubleValue82 = doubleValue82;
+        this.stringValue83 = stringValue83;
+        this.intValue84 = intValue84;
+        this.longValue85 = longValue85;
+        this.doubleValue86 = doubleValue86;
+        this.stringValue87 = stringValue87;
+        this.intValue88 = intValue88;
+        this.longValue89 = longValue89;
+        this.doubleValue90 = doubleValue90;
+        this.stringValue91 = stringValue91;
+        this.intValue92 = intValue92;
+        this.longValue93 = longValue93;
+        this.doubleValue94 = doubleValue94;
+        this.stringValue95 = stringValue95;
+        this.intValue96 = intValue96;
+        this.longValue97 = longValue97;
+        this.doubleValue98 = doubleValue98;
+        this.stringValue99 = stringValue99;
+    }
+    //</editor-fold>
+
+
+    /**
+     * Setzt die Eigenschaft intValue0.
+     *
+     * @param intValue0 Die Eigenschaft intValue0.
+     */
+    @BuilderProperty
+    public void setIntValue0(final int intValue0) {
+        this.intValue0 = intValue0;
+    }
+
+    /**
+     * Setzt die Eigenschaft longValue1.
+     *
+     * @param longValue1 Die Eigenschaft longValue1.
+     */
+    @BuilderProperty
+    public void setLongValue1(final long longValue1) {
+        this.longValue1 = longValue1;
+    }
+
+    /**
+     * Setzt die Eigenschaft doubleValue2.
+     *
+     * @param doubleValue2 Die Eigenschaft doubleValue2.
+     */
+    @BuilderProperty
+    public void setDoubleValue2(final double doubleValue2) {
+        this.doubleValue2 = doubleValue2;
+    }
+
+    /**
+     * Setzt die Eigenschaft stringValue3.
+     *
+     * @param stringValue3 Die Eigenschaft stringValue3.
+     */
+    @BuilderProperty
+    public void setStringValue3(final String stringValue3) {
+        this.stringValue3 = stringValue3;
+    }
+
+    /**
+     * Setzt die Eigenschaft intValue4.
+     *
+     * @param intValue4 Die Eigenschaft intValue4.
+     */
+    @BuilderProperty
+    public void setIntValue4(final int intValue4) {
+        this.intValue4 = intValue4;
+    }
+
+    /**
+     * Setzt die Eigenschaft longValue5.
+     *
+     * @param longValue5 Die Eigenschaft longValue5.
+     */
+    @BuilderProperty
+    public void setLongValue5(final long longValue5) {
+        this.longValue5 = longValue5;
+    }
+
+    /**
+     * Setzt die Eigenschaft doubleValue6.
+     *
+     * @param doubleValue6 Die Eigenschaft doubleValue6.
+     */
+    @BuilderProperty
+    public void setDoubleValue6(final double doubleValue6) {
+        this.doubleValue6 = doubleValue6;
+    }
+
+    /**
+     * Setzt die Eigenschaft stringValue7.
+     *
+     * @param stringValue7 Die Eigenschaft stringValue7.
+     */
+    @BuilderProperty
+    public void setStringValue7(final String stringValue7) {
+        this.stringValue7 = stringValue7;
+    }
+
+    /**
+     * Setzt die Eigenschaft intValue8.
+     *
+     * @param intValue8 Die Eigenschaft intValue8.
+     */
+    @BuilderProperty
+    public void setIntValue8(final int intValue8) {
+        this.intValue8 = intValue8;
+    }
+
+    /**
+     * Setzt die Eigenschaft longValue9.
+     *
+     * @param longValue9 Die Eigenschaft longValue9.
+     */
+    @BuilderProperty
+    public void setLongValue9(final long longValue9) {
+        this.longValue9 = longValue9;
+    }
+
+    /**
+     * Setzt die Eigenschaft doubleValue10.
+     *
+     * @param doubleValue10 Die Eigenschaft doubleValue10.
+     */
+    @BuilderProperty
+    public void setDoubleValue10(final double doubleValue10) {
+        this.doubleValue10 = doubleValue10;
+    }
+
+    /**
+     * Setzt die Eigenschaft stringValue11.
+     *
+     * @param stringValue11 Die Eigenschaft stringValue11.
+     */
+    @BuilderProperty
+    public void setStringValue11(final String stringValue11) {
+        this.stringValue11 = stringValue11;
+    }
+
+    /**
+     * Setzt die Eigenschaft intValue12.
+     *
+     * @param intValue12 Die Eigenschaft intValue12.
+     */
+    @BuilderProperty
+    public void setIntValue12(final int intValue12) {
+        this.intValue12 = intValue12;
+    }
+
+    /**
+     * Setzt die Eigenschaft longValue13.
+     *
+     * @param longValue13 Die Eigenschaft longValue13.
+     */
+    @BuilderProperty
+    public void setLongValue13(final long longValue13) {
+        this.longValue13 = longValue13;
+    }
+
+    /**
+     * Setzt die Eigenschaft doubleValue14.
+     *
+     * @param doubleValue14 Die Eigenschaft doubleValue14.
+     */
+    @BuilderProperty
+    public void setDoubleValue14(final double doubleValue14) {
+        this.doubleValue14 = doubleValue14;
+    }
+
+    /**
+     * Setzt die Eigenschaft stringValue15.
+     *
+     * @param stringValue15 Die Eigenschaft stringValue15.
+     */
+    @BuilderProperty
+    public void setStringValue15(final String stringValue15) {
+        this.stringValue15 = stringValue15;
+    }
+
+    /**
+     * Setzt die Eigenschaft intValue16.
+     *
+     * @param intValue16 Die Eigenschaft intValue16.
+     */
+    @BuilderProperty
+    public void setIntValue16(final int intValue16) {
+        this.intValue16 = intValue16;
+    }
+
+    /**
+     * Setzt die Eigenschaft longValue17.
+     *
+     * @param longValue17 Die Eigenschaft longValue17.
+     */
+    @BuilderProperty
+    public void setLongValue17(final long longValue17) {
+        this.longValue17 = longValue17;
+    }
+
+    /**
+     * Setzt die Eigenschaft doubleValue18.
+     *
+     * @param doubleValue18 Die Eigenschaft doubleValue18.
+     */
+    @BuilderProperty
+    public void setDoubleValue18(final double doubleValue18) {
+        this.doubleValue18 = doubleValue18;
+    }
+
+    /**
+     * Setzt die Eigenschaft stringValue19.
+     *
+     * @param stringValue19 Die Eigenschaft stringValue19.
+     */
+    @BuilderProperty
+    public void setStringValue19(final String stringValue19) {
+        this.stringValue19 = stringValue19;
+    }
+
+    /**
+     * Setzt die Eigenschaft intValue20.
+     *
+     * @param intValue20 Die Eigenschaft intValue20.
+     */
+    @BuilderProperty
+    public void setIntValue20(final int intValue20) {
+        this.intValue20 = intValue20;
+    }
+
+    /**
+     * Setzt die Eigenschaft longValue21.
+     *
+     * @param longValue21 Die Eigenschaft longValue21.
+     */
+    @BuilderProperty
+    public void setLongValue21(final long longValue21) {
+        this.longValue21 = longValue21;
+    }
+
+    /**
+     * Setzt die Eigenschaft doubleValue22.
+     *
+     * @param doubleValue22 Die Eigenschaft doubleValue22.
+     */
+    @BuilderProperty
+    public void setDoubleValue22(final double doubleValue22) {
+        this.doubleValue22 = doubleValue22;
+    }
+
+    /**
+     * Setzt die Eigenschaft stringValue23.
+     *
+     * @param stringValue23 Die Eigenschaft stringValue23.
+     */
+    @BuilderProperty
+    public void setStringValue23(final String stringValue23) {
+        this.stringValue23 = stringValue23;
+    }
+
+    /**
+     * Setzt die Eigenschaft intValue24.
+     *
+     * @param intValue24 Die Eigenschaft intValue24.
+     */
+    @BuilderProperty
+    public void setIntValue24(final int intValue24) {
+        this.intValue24 = intValue24;
+    }
+
+    /**
+     * Setzt die Eigenschaft longValue25.
+     *
+     * @param longValue25 Die Eigenschaft longValue25.
+     */
+    @BuilderProperty
+    public void setLongValue25(final long longValue25) {
+        this.longValue25 = longValue25;
+    }
+
+    /**
+     * Setzt die Eigenschaft doubleValue26.
+     *
+     * @param doubleValue26 Die Eigenschaft doubleValue26.
+     */
+    @BuilderProperty
+    public void setDoubleValue26(final double doubleValue26) {
+        this.doubleValue26 = doubleValue26;
+    }
+
+    /**
+     * Setzt die Eigenschaft stringValue27.
+     *
+     * @param stringValue27 Die Eigenschaft stringValue27.
+     */
+    @BuilderProperty
+    public void setStringValue27(final String stringValue27) {
+        this.stringValue27 = stringValue27;
+    }
+
+    /**
+     * Setzt die Eigenschaft intValue28.
+     *
+     * @param intValue28 Die Eigenschaft intValue28.
+     */
+    @BuilderProperty
+    public void setIntValue28(final int intValue28) {
+        this.intValue28 = intValue28;
+    }
+
+    /**
+     * Setzt die Eigenschaft longValue29.
+     *
+     * @param longValue29 Die Eigenschaft longValue29.
+     */
+    @BuilderProperty
+    public void setLongValue29(final long longValue29) {
+        this.longValue29 = longValue29;
+    }
+
+    /**
+     * Setzt die Eigenschaft doubleValue30.
+     *
+     * @param doubleValue30 Die Eigenschaft doubleValue30.
+     */
+    @BuilderProperty
+    public void setDoubleValue30(final double doubleValue30) {
+        this.doubleValue30 = doubleValue30;
+    }
+
+    /**
+     * Setzt die Eigenschaft stringValue31.
+     *
+     * @param stringValue31 Die Eigenschaft stringValue31.
+     */
+    @BuilderProperty
+    public void setStringValue31(final String stringValue31) {
+        this.stringValue31 = stringValue31;
+    }
+
+    /**
+     * Setzt die Eigenschaft intValue32.
+     *
+     * @param intValue32 Die Eigenschaft intValue32.
+     */
+    @BuilderProperty
+    public void setIntValue32(final int intValue32) {
+        this.intValue32 = intValue32;
+    }
+
+    /**
+     * Setzt die Eigenschaft longValue33.
+     *
+     * @param longValue33 Die Eigenschaft longValue33.
+     */
+    @BuilderProperty
+    public void setLongValue33(final long longValue33) {
+        this.longValue33 = longValue33;
+    }
+
+    /**
+     * Setzt die Eigenschaft doubleValue34.
+     *
+     * @param doubleValue34 Die Eigenschaft doubleValue34.
+     */
+    @BuilderProperty
+    public void setDoubleValue34(final double doubleValue34) {
+        this.doubleValue34 = doubleValue34;
+    }
+
+    /**
+     * Setzt die Eigenschaft stringValue35.
+     *
+     * @param stringValue35 Die Eigenschaft stringValue35.
+     */
+    @BuilderProperty
+    public void setStringValue35(final String stringValue35) {
+        this.stringValue35 = stringValue35;
+    }
+
+    /**
+     * Setzt die Eigenschaft intValue36.
+     *
+     * @param intValue36 Die Eigenschaft intValue36.
+     */
+    @BuilderProperty
+    public void setIntValue36(final int intValue36) {
+        this.intValue36 = intValue36;
+    }
+
+    /**
+     * Setzt die Eigenschaft longValue37.
+     *
+     * @param longValue37 Die Eigenschaft longValue37.
+     */
+    @BuilderProperty
+    public void setLongValue37(final long longValue37) {
+        this.longValue37 = longValue37;
+    }
+
+    /**
+     * Setzt die Eigenschaft doubleValue38.
+     *
+     * @param doubleValue38 Die Eigenschaft doubleValue38.
+     */
+    @BuilderProperty
+    public void setDoubleValue38(final double doubleValue38) {
+        this.doubleValue38 = doubleValue38;
+    }
+
+    /**
+     * Setzt die Eigenschaft stringValue39.
+     *
+     * @param stringValue39 Die Eigenschaft stringValue39.
+     */
+    @BuilderProperty
+    public void setStringValue39(final String stringValue39) {
+        this.stringValue39 = stringValue39;
+    }
+
+    /**
+     * Setzt die Eigenschaft intValue40.
+     *
+     * @param intValue40 Die Eigenschaft intValue40.
+     */
+    @BuilderProperty
+    public void setIntValue40(final int intValue40) {
+        this.intValue40 = intValue40;
+    }
+
+    /**
+     * Setzt die Eigenschaft longValue41.
+     *
+     * @param longValue41 Die Eigenschaft longValue41.
+     */
+    @BuilderProperty
+    public void setLongValue41(final long longValue41) {
+        this.longValue41 = longValue41;
+    }
+
+    /**
+     * Setzt die Eigenschaft doubleValue42.
+     *
+     * @param doubleValue42 Die Eigenschaft doubleValue42.
+     */
+    @BuilderProperty
+    public void setDoubleValue42(final double doubleValue42) {
+        this.doubleValue42 = doubleValue42;
+    }
+
+    /**
+     * Setzt die Eigenschaft stringValue43.
+     *
+     * @param stringValue43 Die Eigenschaft stringValue43.
+     */
+    @BuilderProperty
+    public void setStringValue43(final String stringValue43) {
+        this.stringValue43 = stringValue43;
+    }
+
+    /**
+     * Setzt die Eigenschaft intValue44.
+     *
+     * @param intValue44 Die Eigenschaft intValue44.
+     */
+    @BuilderProperty
+    public void setIntValue44(final int intValue44) {
+        this.intValue44 = intValue44;
+    }
+
+    /**
+     * Setzt die Eigenschaft longValue45.
+     *
+     * @param longValue45 Die Eigenschaft longValue45.
+     */
+    @BuilderProperty
+    public void setLongValue45(final long longValue45) {
+        this.longValue45 = longValue45;
+    }
+
+    /**
+     * Setzt die Eigenschaft doubleValue46.
+     *
+     * @param doubleValue46 Die Eigenschaft doubleValue46.
+     */
+    @BuilderProperty
+    public void setDoubleValue46(final double doubleValue46) {
+        this.doubleValue46 = doubleValue46;
+    }
+
+    /**
+     * Setzt die Eigenschaft stringValue47.
+     *
+     * @param stringValue47 Die Eigenschaft stringValue47.
+     */
+    @BuilderProperty
+    public void setStringValue47(final String stringValue47) {
+        this.stringValue47 = stringValue47;
+    }
+
+    /**
+     * Setzt die Eigenschaft intValue48.
+     *
+     * @param intValue48 Die Eigenschaft intValue48.
+     */
+    @BuilderProperty
+    public void setIntValue48(final int intValue48) {
+        this.intValue48 = intValue48;
+    }
+
+    /**
+     * Setzt die Eigenschaft longValue49.
+     *
+     * @param longValue49 Die Eigenschaft longValue49.
+     */
+    @BuilderProperty
+    public void setLongValue49(final long longValue49) {
+        this.longValue49 = longValue49;
+    }
+
+    /**
+     * Setzt die Eigenschaft doubleValue50.
+     *
+     * @param doubleValue50 Die Eigenschaft doubleValue50.
+     */
+    @BuilderProperty
+    public void setDoubleValue50(final double doubleValue50) {
+        this.doubleValue50 = doubleValue50;
+    }
+
+    /**
+     * Setzt die Eigenschaft stringValue51.
+     *
+     * @param stringValue51 Die Eigenschaft stringValue51.
+     */
+    @BuilderProperty
+    public void setStringValue51(final String stringValue51) {
+        this.stringValue51 = stringValue51;
+    }
+
+    /**
+     * Setzt die Eigenschaft intValue52.
+     *
+     * @param intValue52 Die Eigenschaft intValue52.
+     */
+    @BuilderProperty
+    public void setIntValue52(final int intValue52) {
+        this.intValue52 = intValue52;
+    }
+
+    /**
+     * Setzt die Eigenschaft longValue53.
+     *
+     * @param longValue53 Die Eigenschaft longValue53.
+     */
+    @BuilderProperty
+    public void setLongValue53(final long longValue53) {
+        this.longValue53 = longValue53;
+    }
+
+    /**
+     * Setzt die Eigenschaft doubleValue54.
+     *
+     * @param doubleValue54 Die Eigenschaft doubleValue54.
+     */
+    @BuilderProperty
+    public void setDoubleValue54(final double doubleValue54) {
+        this.doubleValue54 = doubleValue54;
+    }
+
+    /**
+     * Setzt die Eigenschaft stringValue55.
+     *
+     * @param stringValue55 Die Eigenschaft stringValue55.
+     */
+    @BuilderProperty
+    public void setStringValue55(final String stringValue55) {
+        this.stringValue55 = stringValue55;
+    }
+
+    /**
+     * Setzt die Eigenschaft intValue56.
+     *
+     * @param intValue56 Die Eigenschaft intValue56.
+     */
+    @BuilderProperty
+    public void setIntValue56(final int intValue56) {
+        this.intValue56 = intValue56;
+    }
+
+    /**
+     * Setzt die Eigenschaft longValue57.
+     *
+     * @param longValue57 Die Eigenschaft longValue57.
+     */
+    @BuilderProperty
+    public void setLongValue57(final long longValue57) {
+        this.longValue57 = longValue57;
+    }
+
+    /**
+     * Setzt die Eigenschaft doubleValue58.
+     *
+     * @param doubleValue58 Die Eigenschaft doubleValue58.
+     */
+    @BuilderProperty
+    public void setDoubleValue58(final double doubleValue58) {
+        this.doubleValue58 = doubleValue58;
+    }
+
+    /**
+     * Setzt die Eigenschaft stringValue59.
+     *
+     * @param stringValue59 Die Eigenschaft stringValue59.
+     */
+    @BuilderProperty
+    public void setStringValue59(final String stringValue59) {
+        this.stringValue59 = stringValue59;
+    }
+
+    /**
+     * Setzt die Eigenschaft intValue60.
+     *
+     * @param intValue60 Die Eigenschaft intValue60.
+     */
+    @BuilderProperty
+    public void setIntValue60(final int intValue60) {
+        this.intValue60 = intValue60;
+    }
+
+    /**
+     * Setzt die Eigenschaft longValue61.
+     *
+     * @param longValue61 Die Eigenschaft longValue61.
+     */
+    @BuilderProperty
+    public void setLongValue61(final long longValue61) {
+        this.longValue61 = longValue61;
+    }
+
+    /**
+     * Setzt die Eigenschaft doubleValue62.
+     *
+     * @param doubleValue62 Die Eigenschaft doubleValue62.
+     */
+    @BuilderProperty
+    public void setDoubleValue62(final double doubleValue62) {
+        this.doubleValue62 = doubleValue62;
+    }
+
+    /**
+     * Setzt die Eigenschaft stringValue63.
+     *
+     * @param stringValue63 Die Eigenschaft stringValue63.
+     */
+    @BuilderProperty
+    public void setStringValue63(final String stringValue63) {
+        this.stringValue63 = stringValue63;
+    }
+
+    /**
+     * Setzt die Eigenschaft intValue64.
+     *
+     * @param intValue64 Die Eigenschaft intValue64.
+     */
+    @BuilderProperty
+    public void setIntValue64(final int intValue64) {
+        this.intValue64 = intValue64;
+    }
+
+    /**
+     * Setzt die Eigenschaft longValue65.
+     *
+     * @param longValue65 Die Eigenschaft longValue65.
+     */
+    @BuilderProperty
+    public void setLongValue65(final long longValue65) {
+        this.longValue65 = longValue65;
+    }
+
+    /**
+     * Setzt die Eigenschaft doubleValue66.
+     *
+     * @param doubleValue66 Die Eigenschaft doubleValue66.
+     */
+    @BuilderProperty
+    public void setDoubleValue66(final double doubleValue66) {
+        this.doubleValue66 = doubleValue66;
+    }
+
+    /**
+     * Setzt die Eigenschaft stringValue67.
+     *
+     * @param stringValue67 Die Eigenschaft stringValue67.
+     */
+    @BuilderProperty
+    public void setStringValue67(final String stringValue67) {
+        this.stringValue67 = stringValue67;
+    }
+
+    /**
+     * Setzt die Eigenschaft intValue68.
+     *
+     * @param intValue68 Die Eigenschaft intValue68.
+     */
+    @BuilderProperty
+    public void setIntValue68(final int intValue68) {
+        this.intValue68 = intValue68;
+    }
+
+    /**
+     * Setzt die Eigenschaft longValue69.
+     *
+     * @param longValue69 Die Eigenschaft longValue69.
+     */
+    @BuilderProperty
+    public void setLongValue69(final long longValue69) {
+        this.longValue69 = longValue69;
+    }
+
+    /**
+     * Setzt die Eigenschaft doubleValue70.
+     *
+     * @param doubleValue70 Die Eigenschaft doubleValue70.
+     */
+    @BuilderProperty
+    public void setDoubleValue70(final double doubleValue70) {
+        this.doubleValue70 = doubleValue70;
+    }
+
+    /**
+     * Setzt die Eigenschaft stringValue71.
+     *
+     * @param stringValue71 Die Eigenschaft stringValue71.
+     */
+    @BuilderProperty
+    public void setStringValue71(final String stringValue71) {
+        this.stringValue71 = stringValue71;
+    }
+
+    /**
+     * Setzt die Eigenschaft intValue72.
+     *
+     * @param intValue72 Die Eigenschaft intValue72.
+     */
+    @BuilderProperty
+    public void setIntValue72(final int intValue72) {
+        this.intValue72 = intValue72;
+    }
+
+    /**
+     * Setzt die Eigenschaft longValue73.
+     *
+     * @param longValue73 Die Eigenschaft longValue73.
+     */
+    @BuilderProperty
+    public void setLongValue73(final long longValue73) {
+        this.longValue73 = longValue73;
+    }
+
+    /**
+     * Setzt die Eigenschaft doubleValue74.
+     *
+     * @param doubleValue74 Die Eigenschaft doubleValue74.
+     */
+    @BuilderProperty
+    public void setDoubleValue74(final double doubleValue74) {
+        this.doubleValue74 = doubleValue74;
+    }
+
+    /**
+     * Setzt die Eigenschaft stringValue75.
+     *
+     * @param stringValue75 Die Eigenschaft stringValue75.
+     */
+    @BuilderProperty
+    public void setStringValue75(final String stringValue75) {
+        this.stringValue75 = stringValue75;
+    }
+
+    /**
+     * Setzt die Eigenschaft intValue76.
+     *
+     * @param intValue76 Die Eigenschaft intValue76.
+     */
+    @BuilderProperty
+    public void setIntValue76(final int intValue76) {
+        this.intValue76 = intValue76;
+    }
+
+    /**
+     * Setzt die Eigenschaft longValue77.
+     *
+     * @param longValue77 Die Eigenschaft longValue77.
+     */
+    @BuilderProperty
+    public void setLongValue77(final long longValue77) {
+        this.longValue77 = longValue77;
+    }
+
+    /**
+     * Setzt die Eigenschaft doubleValue78.
+     *
+     * @param doubleValue78 Die Eigenschaft doubleValue78.
+     */
+    @BuilderProperty
+    public void setDoubleValue78(final double doubleValue78) {
+        this.doubleValue78 = doubleValue78;
+    }
+
+    /**
+     * Setzt die Eigenschaft stringValue79.
+     *
+     * @param stringValue79 Die Eigenschaft stringValue79.
+     */
+    @BuilderProperty
+    public void setStringValue79(final String stringValue79) {
+        this.stringValue79 = stringValue79;
+    }
+
+    /**
+     * Setzt die Eigenschaft intValue80.
+     *
+     * @param intValue80 Die Eigenschaft intValue80.
+     */
+    @BuilderProperty
+    public void setIntValue80(final int intValue80) {
+        this.intValue80 = intValue80;
+    }
+
+    /**
+     * Setzt die Eigenschaft longValue81.
+     *
+     * @param longValue81 Die Eigenschaft longValue81.
+     */
+    @BuilderProperty
+    public void setLongValue81(final long longValue81) {
+        this.longValue81 = longValue81;
+    }
+
+    /**
+     * Setzt die Eigenschaft doubleValue82.
+     *
+     * @param doubleValue82 Die Eigenschaft doubleValue82.
+     */
+    @BuilderProperty
+    public void setDoubleValue82(final double doubleValue82) {
+        this.doubleValue82 = doubleValue82;
+    }
+
+    /**
+     * Setzt die Eigenschaft stringValue83.
+     *
+     * @param stringValue83 Die Eigenschaft stringValue83.
+     */
+    @BuilderProperty
+    public void setStringValue83(final String stringValue83) {
+        this.stringValue83 = stringValue83;
+    }
+
+    /**
+     * Setzt die Eigenschaft intValue84.
+     *
+     * @param intValue84 Die Eigenschaft intValue84.
+     */
+    @BuilderProperty
+    public void setIntValue84(final int intValue84) {
+        this.intValue84 = intValue84;
+    }
+
+    /**
+     * Setzt die Eigenschaft longValue85.
+     *
+     * @param longValue85 Die Eigenschaft longValue85.
+     */
+    @BuilderProperty
+    public void setLongValue85(final long longValue85) {
+        this.longValue85 = longValue85;
+    }
+
+    /**
+     * Setzt die Eigenschaft doubleValue86.
+     *
+     * @param doubleValue86 Die Eigenschaft doubleValue86.
+     */
+    @BuilderProperty
+    public void setDoubleValue86(final double doubleValue86) {
+        this.doubleValue86 = doubleValue86;
+    }
+
+    /**
+     * Setzt die Eigenschaft stringValue87.
+     *
+     * @param stringValue87 Die Eigenschaft stringValue87.
+     */
+    @BuilderProperty
+    public void setStringValue87(final String stringValue87) {
+        this.stringValue87 = stringValue87;
+    }
+
+    /**
+     * Setzt die Eigenschaft intValue88.
+     *
+     * @param intValue88 Die Eigenschaft intValue88.
+     */
+    @BuilderProperty
+    public void setIntValue88(final int intValue88) {
+        this.intValue88 = intValue88;
+    }
+
+    /**
+     * Setzt die Eigenschaft longValue89.
+     *
+     * @param longValue89 Die Eigenschaft longValue89.
+     */
+    @BuilderProperty
+    public void setLongValue89(final long longValue89) {
+        this.longValue89 = longValue89;
+    }
+
+    /**
+     * Setzt die Eigenschaft doubleValue90.
+     *
+     * @param doubleValue90 Die Eigenschaft doubleValue90.
+     */
+    @BuilderProperty
+    public void setDoubleValue90(final double doubleValue90) {
+        this.doubleValue90 = doubleValue90;
+    }
+
+    /**
+     * Setzt die Eigenschaft stringValue91.
+     *
+     * @param stringValue91 Die Eigenschaft stringValue91.
+     */
+    @BuilderProperty
+    public void setStringValue91(final String stringValue91) {
+        this.stringValue91 = stringValue91;
+    }
+
+    /**
+     * Setzt die Eigenschaft intValue92.
+     *
+     * @param intValue92 Die Eigenschaft intValue92.
+     */
+    @BuilderProperty
+    public void setIntValue92(final int intValue92) {
+        this.intValue92 = intValue92;
+    }
+
+    /**
+     * Setzt die Eigenschaft longValue93.
+     *
+     * @param longValue93 Die Eigenschaft longValue93.
+     */
+    @BuilderProperty
+    public void setLongValue93(final long longValue93) {
+        this.longValue93 = longValue93;
+    }
+
+    /**
+     * Setzt die Eigenschaft doubleValue94.
+     *
+     * @param doubleValue94 Die Eigenschaft doubleValue94.
+     */
+    @BuilderProperty
+    public void setDoubleValue94(final double doubleValue94) {
+        this.doubleValue94 = doubleValue94;
+    }
+
+    /**
+     * Setzt die Eigenschaft stringValue95.
+     *
+     * @param stringValue95 Die Eigenschaft stringValue95.
+     */
+    @BuilderProperty
+    public void setStringValue95(final String stringValue95) {
+        this.stringValue95 = stringValue95;
+    }
+
+    /**
+     * Setzt die Eigenschaft intValue96.
+     *
+     * @param intValue96 Die Eigenschaft intValue96.
+     */
+    @BuilderProperty
+    public void setIntValue96(final int intValue96) {
+        this.intValue96 = intValue96;
+    }
+
+    /**
+     * Setzt die Eigenschaft longValue97.
+     *
+     * @param longValue97 Die Eigenschaft longValue97.
+     */
+    @BuilderProperty
+    public void setLongValue97(final long longValue97) {
+        this.longValue97 = longValue97;
+    }
+
+    /**
+     * Setzt die Eigenschaft doubleValue98.
+     *
+     * @param doubleValue98 Die Eigenschaft doubleValue98.
+     */
+    @BuilderProperty
+    public void setDoubleValue98(final double doubleValue98) {
+        this.doubleValue98 = doubleValue98;
+    }
+
+    /**
+     * Setzt die Eigenschaft stringValue99.
+     *
+     * @param stringValue99 Die Eigenschaft stringValue99.
+     */
+    @BuilderProperty
+    public void setStringValue99(final String stringValue99) {
+        this.stringValue99 = stringValue99;
+    }
+
+}
@@ -0,0 +1,335 @@
+package de.jonas.gannotations.benchmark.bean;
+
+import de.jonas.gannotations.annotation.BuilderProperty;
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * Eine Bean mit 20 Eigenschaften, für die mithilfe der {@link BuilderProperty} ein Builder generiert wird. Die
+ * Bean lässt sich zum Vergleich auch direkt über ihren Konstruktor oder ihre Setter erzeugen.
+ */
+@NotNull
+public final class Bean20 {
+
+    //<editor-fold desc="LOCAL FIELDS">
+    /** Die Eigenschaft intValue0. */
+    private int intValue0;
+    /** Die Eigenschaft longValue1. */
+    private long longValue1;
+    /** Die Eigenschaft doubleValue2. */
+    private double doubleValue2;
+    /** Die Eigenschaft stringValue3. */
+    private String stringValue3;
+    /** Die Eigenschaft intValue4. */
+    private int intValue4;
+    /** Die Eigenschaft longValue5. */
+    private long longValue5;
+    /** Die Eigenschaft doubleValue6. */
+    private double doubleValue6;
+    /** Die Eigenschaft stringValue7. */
+    private String stringValue7;
+    /** Die Eigenschaft intValue8. */
+    private int intValue8;
+    /** Die Eigenschaft longValue9. */
+    private long longValue9;
+    /** Die Eigenschaft doubleValue10. */
+    private double doubleValue10;
+    /** Die Eigenschaft stringValue11. */
+    private String stringValue11;
+    /** Die Eigenschaft intValue12. */
+    private int intValue12;
+    /** Die Eigenschaft longValue13. */
+    private long longValue13;
+    /** Die Eigenschaft doubleValue14. */
+    private double doubleValue14;
+    /** Die Eigenschaft stringValue15. */
+    private String stringValue15;
+    /** Die Eigenschaft intValue16. */
+    private int intValue16;
+    /** Die Eigenschaft longValue17. */
+    private long longValue17;
+    /** Die Eigenschaft doubleValue18. */
+    private double doubleValue18;
+    /** Die Eigenschaft stringValue19. */
+    private String stringValue19;
+    //</editor-fold>
+
+
+    //<editor-fold desc="CONSTRUCTORS">
+
+    /**
+     * Erzeugt eine neue und leere Instanz einer {@link Bean20}. Dieser Konstruktor wird vom Builder genutzt.
+     */
+    public Bean20() {
+    }
+
+    /**
+     * Erzeugt eine neue Instanz einer {@link Bean20}, deren Eigenschaften alle direkt gesetzt werden.
+     *
+     * @param intValue0     Die Eigenschaft intValue0.
+     * @param longValue1    Die Eigenschaft longValue1.
+     * @param doubleValue2  Die Eigenschaft doubleValue2.
+     * @param stringValue3  Die Eigenschaft stringValue3.
+     * @param intValue4     Die Eigenschaft intValue4.
+     * @param longValue5    Die Eigenschaft longValue5.
+     * @param doubleValue6  Die Eigenschaft doubleValue6.
+     * @param stringValue7  Die Eigenschaft stringValue7.
+     * @param intValue8     Die Eigenschaft intValue8.
+     * @param longValue9    Die Eigenschaft longValue9.
+     * @param doubleValue10 Die Eigenschaft doubleValue10.
+     * @param stringValue11 Die Eigenschaft stringValue11.
+     * @param intValue12    Die Eigenschaft intValue12.
+     * @param longValue13   Die Eigenschaft longValue13.
+     * @param doubleValue14 Die Eigenschaft doubleValue14.
+     * @param stringValue15 Die Eigenschaft stringValue15.
+     * @param intValue16    Die Eigenschaft intValue16.
+     * @param longValue17   Die Eigenschaft longValue17.
+     * @param doubleValue18 Die Eigenschaft doubleValue18.
+     * @param stringValue19 Die Eigenschaft stringValue19.
+     */
+    public Bean20(
+        final int intValue0,
+        final long longValue1,
+        final double doubleValue2,
+        final String stringValue3,
+        final int intValue4,
+        final long longValue5,
+        final double doubleValue6,
+        final String stringValue7,
+        final int intValue8,
+        final long longValue9,
+        final double doubleValue10,
+        final String stringValue11,
+        final int intValue12,
+        final long longValue13,
+        final double doubleValue14,
+        final String stringValue15,
+        final int intValue16,
+        final long longValue17,
+        final double doubleValue18,
+        final String stringValue19
+    ) {
+        this.intValue0 = intValue0;
+        this.longValue1 = longValue1;
+        this.doubleValue2 = doubleValue2;
+        this.stringValue3 = stringValue3;
+        this.intValue4 = intValue4;
+        this.longValue5 = longValue5;
+        this.doubleValue6 = doubleValue6;
+        this.stringValue7 = stringValue7;
+        this.intValue8 = intValue8;
+        this.longValue9 = longValue9;
+        this.doubleValue10 = doubleValue10;
+        this.stringValue11 = stringValue11;
+        this.intValue12 = intValue12;
+        this.longValue13 = longValue13;
+        this.doubleValue14 = doubleValue14;
+        this.stringValue15 = stringValue15;
+        this.intValue16 = intValue16;
+        this.longValue17 = longValue17;
+        this.doubleValue18 = doubleValue18;
+        this.stringValue19 = stringValue19;
+    }
+    //</editor-fold>
+
+
+    /**
+     * Setzt die Eigenschaft intValue0.
+     *
+     * @param intValue0 Die Eigenschaft intValue0.
+     */
+    @BuilderProperty
+    public void setIntValue0(final int intValue0) {
+        this.intValue0 = intValue0;
+    }
+
+    /**
+     * Setzt die Eigenschaft longValue1.
+     *
+     * @param longValue1 Die Eigenschaft longValue1.
+     */
+    @BuilderProperty
+    public void setLongValue1(final long longValue1) {
+        this.longValue1 = longValue1;
+    }
+
+    /**
+     * Setzt die Eigenschaft doubleValue2.
+     *
+     * @param doubleValue2 Die Eigenschaft doubleValue2.
+     */
+    @BuilderProperty
+    public void setDoubleValue2(final double doubleValue2) {
+        this.doubleValue2 = doubleValue2;
+    }
+
+    /**
+     * Setzt die Eigenschaft stringValue3.
+     *
+     * @param stringValue3 Die Eigenschaft stringValue3.
+     */
+    @BuilderProperty
+    public void setStringValue3(final String stringValue3) {
+        this.stringValue3 = stringValue3;
+    }
+
+    /**
+     * Setzt die Eigenschaft intValue4.
+     *
+     * @param intValue4 Die Eigenschaft intValue4.
+     */
+    @BuilderProperty
+    public void setIntValue4(final int intValue4) {
+        this.intValue4 = intValue4;
+    }
+
+    /**
+     * Setzt die Eigenschaft longValue5.
+     *
+     * @param longValue5 Die Eigenschaft longValue5.
+     */
+    @BuilderProperty
+    public void setLongValue5(final long longValue5) {
+        this.longValue5 = longValue5;
+    }
+
+    /**
+     * Setzt die Eigenschaft doubleValue6.
+     *
+     * @param doubleValue6 Die Eigenschaft doubleValue6.
+     */
+    @BuilderProperty
+    public void setDoubleValue6(final double doubleValue6) {
+        this.doubleValue6 = doubleValue6;
+    }
+
+    /**
+     * Setzt die Eigenschaft stringValue7.
+     *
+     * @param stringValue7 Die Eigenschaft stringValue7.
+     */
+    @BuilderProperty
+    public void setStringValue7(final String stringValue7) {
+        this.stringValue7 = stringValue7;
+    }
+
+    /**
+     * Setzt die Eigenschaft intValue8.
+     *
+     * @param intValue8 Die Eigenschaft intValue8.
+     */
+    @BuilderProperty
+    public void setIntValue8(final int intValue8) {
+        this.intValue8 = intValue8;
+    }
+
+    /**
+     * Setzt die Eigenschaft longValue9.
+     *
+     * @param longValue9 Die Eigenschaft longValue9.
+     */
+    @BuilderProperty
+    public void setLongValue9(final long longValue9) {
+        this.longValue9 = longValue9;
+    }
+
+    /**
+     * Setzt die Eigenschaft doubleValue10.
+     *
+     * @param doubleValue10 Die Eigenschaft doubleValue10.
+     */
+    @BuilderProperty
+    public void setDoubleValue10(final double doubleValue10) {
+        this.doubleValue10 = doubleValue10;
+    }
+
+    /**
+     * Setzt die Eigenschaft stringValue11.
+     *
+     * @param stringValue11 Die Eigenschaft stringValue11.
+     */
+    @BuilderProperty
+    public void setStringValue11(final String stringValue11) {
+        this.stringValue11 = stringValue11;
+    }
+
+    /**
+     * Setzt die Eigenschaft intValue12.
+     *
+     * @param intValue12 Die Eigenschaft intValue12.
+     */
+    @BuilderProperty
+    public void setIntValue12(final int intValue12) {
+        this.intValue12 = intValue12;
+    }
+
+    /**
+     * Setzt die Eigenschaft longValue13.
+     *
+     * @param longValue13 Die Eigenschaft longValue13.
+     */
+    @BuilderProperty
+    public void setLongValue13(final long longValue13) {
+        this.longValue13 = longValue13;
+    }
+
+    /**
+     * Setzt die Eigenschaft doubleValue14.
+     *
+     * @param doubleValue14 Die Eigenschaft doubleValue14.
+     */
+    @BuilderProperty
+    public void setDoubleValue14(final double doubleValue14) {
+        this.doubleValue14 = doubleValue14;
+    }
+
+    /**
+     * Setzt die Eigenschaft stringValue15.
+     *
+     * @param stringValue15 Die Eigenschaft stringValue15.
+     */
+    @BuilderProperty
+    public void setStringValue15(final String stringValue15) {
+        this.stringValue15 = stringValue15;
+    }
+
+    /**
+     * Setzt die Eigenschaft intValue16.
+     *
+     * @param intValue16 Die Eigenschaft intValue16.
+     */
+    @BuilderProperty
+    public void setIntValue16(final int intValue16) {
+        this.intValue16 = intValue16;
+    }
+
+    /**
+     * Setzt die Eigenschaft longValue17.
+     *
+     * @param longValue17 Die Eigenschaft longValue17.
+     */
+    @BuilderProperty
+    public void setLongValue17(final long longValue17) {
+        this.longValue17 = longValue17;
+    }
+
+    /**
+     * Setzt die Eigenschaft doubleValue18.
+     *
+     * @param doubleValue18 Die Eigenschaft doubleValue18.
+     */
+    @BuilderProperty
+    public void setDoubleValue18(final double doubleValue18) {
+        this.doubleValue18 = doubleValue18;
+    }
+
+    /**
+     * Setzt die Eigenschaft stringValue19.
+     *
+     * @param stringValue19 Die Eigenschaft stringValue19.
+     */
+    @BuilderProperty
+    public void setStringValue19(final String stringValue19) {
+        this.stringValue19 = stringValue19;
+    }
+
+}
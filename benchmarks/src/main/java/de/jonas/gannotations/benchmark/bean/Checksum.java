@@ -0,0 +1,48 @@
+package de.jonas.gannotations.benchmark.bean;
+
+import de.jonas.gannotations.annotation.Timed;
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * Eine kurze Berechnung, welche einmal mit und einmal ohne den {@link Timed} existiert, damit sich der Aufwand der
+ * Zeitmessung bestimmen lässt.
+ */
+@NotNull
+public final class Checksum {
+
+    /**
+     * Berechnet die Prüfsumme eines Arrays ohne Zeitmessung.
+     *
+     * @param data Das Array, dessen Prüfsumme berechnet wird.
+     *
+     * @return Die Prüfsumme des Arrays.
+     */
+    public long plain(@NotNull final long[] data) {
+        long checksum = 17;
+
+        for (final long value : data) {
+            checksum = checksum * 31 + value;
+        }
+
+        return checksum;
+    }
+
+    /**
+     * Berechnet die Prüfsumme eines Arrays mit Zeitmessung.
+     *
+     * @param data Das Array, dessen Prüfsumme berechnet wird.
+     *
+     * @return Die Prüfsumme des Arrays.
+     */
+    @Timed
+    public long timed(@NotNull final long[] data) {
+        long checksum = 17;
+
+        for (final long value : data) {
+            checksum = checksum * 31 + value;
+        }
+
+        return checksum;
+    }
+
+}
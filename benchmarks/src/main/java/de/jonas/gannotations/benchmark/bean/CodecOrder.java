@@ -0,0 +1,126 @@
+package de.jonas.gannotations.benchmark.bean;
+
+import de.jonas.gannotations.annotation.BinaryCodec;
+import de.jonas.gannotations.annotation.BuilderProperty;
+import de.jonas.gannotations.annotation.ReusableBuilder;
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * Eine Order, welche mithilfe der {@link BinaryCodec} binär geschrieben und gelesen wird. Die Eigenschaften werden
+ * über ihre Getter ausgelesen, da alle Felder privat sind.
+ */
+@NotNull
+@BinaryCodec
+@ReusableBuilder
+public final class CodecOrder {
+
+    //<editor-fold desc="LOCAL FIELDS">
+    /** Die eindeutige ID der Order. */
+    private long id;
+    /** Das Symbol, welches gehandelt wird. */
+    private String symbol;
+    /** Die Anzahl, welche gehandelt wird. */
+    private int quantity;
+    /** Der Preis, zu dem gehandelt wird. */
+    private double price;
+    /** Ob es sich um einen Kauf handelt. */
+    private boolean buy;
+    //</editor-fold>
+
+
+    /**
+     * Gibt die eindeutige ID der Order zurück.
+     *
+     * @return Die eindeutige ID der Order.
+     */
+    public long getId() {
+        return this.id;
+    }
+
+    /**
+     * Setzt die eindeutige ID der Order.
+     *
+     * @param id Die eindeutige ID der Order.
+     */
+    @BuilderProperty
+    public void setId(final long id) {
+        this.id = id;
+    }
+
+    /**
+     * Gibt das Symbol zurück, welches gehandelt wird.
+     *
+     * @return Das Symbol, welches gehandelt wird.
+     */
+    public String getSymbol() {
+        return this.symbol;
+    }
+
+    /**
+     * Setzt das Symbol, welches gehandelt wird.
+     *
+     * @param symbol Das Symbol, welches gehandelt wird.
+     */
+    @BuilderProperty
+    public void setSymbol(@NotNull final String symbol) {
+        this.symbol = symbol;
+    }
+
+    /**
+     * Gibt die Anzahl zurück, welche gehandelt wird.
+     *
+     * @return Die Anzahl, welche gehandelt wird.
+     */
+    public int getQuantity() {
+        return this.quantity;
+    }
+
+    /**
+     * Setzt die Anzahl, welche gehandelt wird.
+     *
+     * @param quantity Die Anzahl, welche gehandelt wird.
+     */
+    @BuilderProperty
+    public void setQuantity(final int quantity) {
+        this.quantity = quantity;
+    }
+
+    /**
+     * Gibt den Preis zurück, zu dem gehandelt wird.
+     *
+     * @return Der Preis, zu dem gehandelt wird.
+     */
+    public double getPrice() {
+        return this.price;
+    }
+
+    /**
+     * Setzt den Preis, zu dem gehandelt wird.
+     *
+     * @param price Der Preis, zu dem gehandelt wird.
+     */
+    @BuilderProperty
+    public void setPrice(final double price) {
+        this.price = price;
+    }
+
+    /**
+     * Gibt zurück, ob es sich um einen Kauf handelt.
+     *
+     * @return Ob es sich um einen Kauf handelt.
+     */
+    public boolean isBuy() {
+        return this.buy;
+    }
+
+    /**
+     * Setzt, ob es sich um einen Kauf handelt.
+     *
+     * @param buy Ob es sich um einen Kauf handelt.
+     */
+    @BuilderProperty
+    public void setBuy(final boolean buy) {
+        this.buy = buy;
+    }
+
+}
@@ -0,0 +1,64 @@
+package de.jonas.gannotations.benchmark.bean;
+
+import de.jonas.gannotations.annotation.Columnar;
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * Ein Handel, von dem sehr viele Objekte für Auswertungen gehalten werden und welcher deshalb mithilfe der {@link
+ * Columnar} auch spaltenweise gespeichert werden kann.
+ */
+@NotNull
+@Columnar(initialCapacity = 1024)
+public final class ColumnarTrade {
+
+    //<editor-fold desc="LOCAL FIELDS">
+    /** Die Kennung des Handels. */
+    long id;
+    /** Der Zeitpunkt des Handels. */
+    long timestamp;
+    /** Der Preis des Handels. */
+    double price;
+    /** Die gehandelte Menge. */
+    int quantity;
+    /** Ob es sich um einen Kauf handelt. */
+    boolean buy;
+    //</editor-fold>
+
+
+    /**
+     * Befüllt diesen Handel mit neuen Werten.
+     *
+     * @param id        Die Kennung des Handels.
+     * @param timestamp Der Zeitpunkt des Handels.
+     * @param price     Der Preis des Handels.
+     * @param quantity  Die gehandelte Menge.
+     * @param buy       Ob es sich um einen Kauf handelt.
+     *
+     * @return Dieser Handel.
+     */
+    @NotNull
+    public ColumnarTrade fill(
+        final long id,
+        final long timestamp,
+        final double price,
+        final int quantity,
+        final boolean buy
+    ) {
+        this.id = id;
+        this.timestamp = timestamp;
+        this.price = price;
+        this.quantity = quantity;
+        this.buy = buy;
+        return this;
+    }
+
+    /**
+     * Gibt den Preis des Handels zurück.
+     *
+     * @return Der Preis des Handels.
+     */
+    public double getPrice() {
+        return this.price;
+    }
+
+}
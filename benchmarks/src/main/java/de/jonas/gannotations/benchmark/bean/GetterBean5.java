@@ -0,0 +1,54 @@
+package de.jonas.gannotations.benchmark.bean;
+
+import de.jonas.gannotations.annotation.Getter;
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * Eine unveränderliche Bean mit 5 Eigenschaften, deren Getter durch den {@link Getter} erzeugt werden. Die Eigenschaften
+ * lassen sich zum Vergleich sowohl über die generierte Zugriffs-Tabelle als auch über Reflection auslesen.
+ */
+@NotNull
+@Getter
+public final class GetterBean5 {
+
+    //<editor-fold desc="LOCAL FIELDS">
+    /** Die Eigenschaft intValue0. */
+    private final int intValue0;
+    /** Die Eigenschaft longValue1. */
+    private final long longValue1;
+    /** Die Eigenschaft doubleValue2. */
+    private final double doubleValue2;
+    /** Die Eigenschaft stringValue3. */
+    private final String stringValue3;
+    /** Die Eigenschaft intValue4. */
+    private final int intValue4;
+    //</editor-fold>
+
+
+    //<editor-fold desc="CONSTRUCTORS">
+
+    /**
+     * Erzeugt eine neue Instanz einer {@link GetterBean5}, deren Eigenschaften alle direkt gesetzt werden.
+     *
+     * @param intValue0    Die Eigenschaft intValue0.
+     * @param longValue1   Die Eigenschaft longValue1.
+     * @param doubleValue2 Die Eigenschaft doubleValue2.
+     * @param stringValue3 Die Eigenschaft stringValue3.
+     * @param intValue4    Die Eigenschaft intValue4.
+     */
+    public GetterBean5(
+        final int intValue0,
+        final long longValue1,
+        final double doubleValue2,
+        final String stringValue3,
+        final int intValue4
+    ) {
+        this.intValue0 = intValue0;
+        this.longValue1 = longValue1;
+        this.doubleValue2 = doubleValue2;
+        this.stringValue3 = stringValue3;
+        this.intValue4 = intValue4;
+    }
+    //</editor-fold>
+
+}
@@ -0,0 +1,79 @@
+package de.jonas.gannotations.benchmark.bean;
+
+import de.jonas.gannotations.annotation.BuilderProperty;
+import de.jonas.gannotations.annotation.Interned;
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * Die Beschreibung eines Symbols, von dem sehr viele gleiche Instanzen existieren und welches deshalb mithilfe der
+ * {@link Interned} kanonisiert wird. Der Builder dieses Symbols gibt immer die kanonische Instanz zurück.
+ */
+@NotNull
+@Interned
+public final class InternedSymbol {
+
+    //<editor-fold desc="LOCAL FIELDS">
+    /** Die Börse, an der das Symbol gehandelt wird. */
+    private String exchange;
+    /** Der Name des Symbols. */
+    private String ticker;
+    /** Die Basiswährung des Symbols. */
+    private String currency;
+    /** Die kleinste Preisänderung des Symbols. */
+    private double tickSize;
+    /** Die Anzahl an Nachkommastellen des Symbols. */
+    private int scale;
+    //</editor-fold>
+
+
+    /**
+     * Setzt die Börse, an der das Symbol gehandelt wird.
+     *
+     * @param exchange Die Börse, an der das Symbol gehandelt wird.
+     */
+    @BuilderProperty
+    public void setExchange(@NotNull final String exchange) {
+        this.exchange = exchange;
+    }
+
+    /**
+     * Setzt den Namen des Symbols.
+     *
+     * @param ticker Der Name des Symbols.
+     */
+    @BuilderProperty
+    public void setTicker(@NotNull final String ticker) {
+        this.ticker = ticker;
+    }
+
+    /**
+     * Setzt die Basiswährung des Symbols.
+     *
+     * @param currency Die Basiswährung des Symbols.
+     */
+    @BuilderProperty
+    public void setCurrency(@NotNull final String currency) {
+        this.currency = currency;
+    }
+
+    /**
+     * Setzt die kleinste Preisänderung des Symbols.
+     *
+     * @param tickSize Die kleinste Preisänderung des Symbols.
+     */
+    @BuilderProperty
+    public void setTickSize(final double tickSize) {
+        this.tickSize = tickSize;
+    }
+
+    /**
+     * Setzt die Anzahl an Nachkommastellen des Symbols.
+     *
+     * @param scale Die Anzahl an Nachkommastellen des Symbols.
+     */
+    @BuilderProperty
+    public void setScale(final int scale) {
+        this.scale = scale;
+    }
+
+}
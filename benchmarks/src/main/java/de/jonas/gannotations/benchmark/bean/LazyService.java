@@ -0,0 +1,95 @@
+package de.jonas.gannotations.benchmark.bean;
+
+import de.jonas.gannotations.annotation.Lazy;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Ein Service, dessen teure Abhängigkeiten mithilfe der {@link Lazy} erst beim ersten Zugriff erzeugt werden. Für jede
+ * Strategie, welche mit Java 8 genutzt werden kann, existiert ein eigenes Feld, sodass sich die Kosten eines Zugriffs
+ * miteinander und mit einem bereits beim Erzeugen initialisierten Feld vergleichen lassen.
+ */
+@NotNull
+public final class LazyService {
+
+    //<editor-fold desc="CONSTANTS">
+    /** Die Anzahl an Einträgen, mit denen jede Abhängigkeit erzeugt wird. */
+    private static final int ENTRIES = 1024;
+    /** Eine Tabelle, welche erst beim ersten Zugriff in einer eigenen Klasse erzeugt wird. */
+    @Lazy
+    private static final Map<Integer, String> HOLDER = createTable();
+    //</editor-fold>
+
+
+    //<editor-fold desc="LOCAL FIELDS">
+    /** Eine Tabelle, welche bereits beim Erzeugen des Service erzeugt wird. */
+    @NotNull
+    private final Map<Integer, String> eager;
+    /** Eine Tabelle, welche beim ersten Zugriff unter einer Sperre erzeugt wird. */
+    @Lazy(strategy = Lazy.Strategy.DOUBLE_CHECKED)
+    private final Map<Integer, String> doubleChecked = createTable();
+    //</editor-fold>
+
+
+    //<editor-fold desc="CONSTRUCTORS">
+
+    /**
+     * Erzeugt einen neuen {@link LazyService}.
+     *
+     * @param eagerDependencies Ob die Tabelle, welche nicht die {@link Lazy} besitzt, sofort erzeugt werden soll.
+     */
+    public LazyService(final boolean eagerDependencies) {
+        this.eager = eagerDependencies ? createTable() : new HashMap<>();
+    }
+    //</editor-fold>
+
+
+    /**
+     * Gibt die Tabelle zurück, welche bereits beim Erzeugen des Service erzeugt wurde.
+     *
+     * @return Die Tabelle, welche bereits beim Erzeugen des Service erzeugt wurde.
+     */
+    @NotNull
+    public Map<Integer, String> getEager() {
+        return this.eager;
+    }
+
+    /**
+     * Gibt die Tabelle zurück, welche beim ersten Zugriff unter einer Sperre erzeugt wird.
+     *
+     * @return Die Tabelle, welche beim ersten Zugriff unter einer Sperre erzeugt wird.
+     */
+    @NotNull
+    public Map<Integer, String> getDoubleChecked() {
+        return this.doubleChecked;
+    }
+
+    /**
+     * Gibt die Tabelle zurück, welche beim ersten Zugriff in einer eigenen Klasse erzeugt wird.
+     *
+     * @return Die Tabelle, welche beim ersten Zugriff in einer eigenen Klasse erzeugt wird.
+     */
+    @NotNull
+    public static Map<Integer, String> getHolder() {
+        return HOLDER;
+    }
+
+    /**
+     * Erzeugt eine Tabelle, deren Erzeugung stellvertretend für eine teure Abhängigkeit steht.
+     *
+     * @return Die neue Tabelle.
+     */
+    @NotNull
+    private static Map<Integer, String> createTable() {
+        final Map<Integer, String> table = new HashMap<>();
+
+        for (int i = 0; i < ENTRIES; i++) {
+            table.put(i, Integer.toHexString(i));
+        }
+
+        return table;
+    }
+
+}
@@ -0,0 +1,64 @@
+package de.jonas.gannotations.benchmark.bean;
+
+import de.jonas.gannotations.annotation.OffHeap;
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * Ein Kurs, von dem sehr viele Datensätze gehalten werden und welcher deshalb mithilfe der {@link OffHeap} auch
+ * außerhalb des Heaps gespeichert werden kann.
+ */
+@NotNull
+@OffHeap
+public final class OffHeapTick {
+
+    //<editor-fold desc="LOCAL FIELDS">
+    /** Der Zeitpunkt des Kurses. */
+    long timestamp;
+    /** Der Preis des Kurses. */
+    double price;
+    /** Die gehandelte Menge. */
+    int quantity;
+    /** Die Kennung der Börse. */
+    short venue;
+    /** Ob es sich um einen Kauf handelt. */
+    boolean buy;
+    //</editor-fold>
+
+
+    /**
+     * Befüllt diesen Kurs mit neuen Werten.
+     *
+     * @param timestamp Der Zeitpunkt des Kurses.
+     * @param price     Der Preis des Kurses.
+     * @param quantity  Die gehandelte Menge.
+     * @param venue     Die Kennung der Börse.
+     * @param buy       Ob es sich um einen Kauf handelt.
+     *
+     * @return Dieser Kurs.
+     */
+    @NotNull
+    public OffHeapTick fill(
+        final long timestamp,
+        final double price,
+        final int quantity,
+        final short venue,
+        final boolean buy
+    ) {
+        this.timestamp = timestamp;
+        this.price = price;
+        this.quantity = quantity;
+        this.venue = venue;
+        this.buy = buy;
+        return this;
+    }
+
+    /**
+     * Gibt den Preis des Kurses zurück.
+     *
+     * @return Der Preis des Kurses.
+     */
+    public double getPrice() {
+        return this.price;
+    }
+
+}
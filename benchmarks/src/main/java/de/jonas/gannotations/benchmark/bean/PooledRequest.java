@@ -0,0 +1,62 @@
+package de.jonas.gannotations.benchmark.bean;
+
+import de.jonas.gannotations.annotation.Pooled;
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * Eine Anfrage, welche sehr häufig erzeugt und wieder verworfen wird und deshalb mithilfe der {@link Pooled}
+ * wiederverwendet werden kann. Die Anfrage lässt sich zum Vergleich auch direkt erzeugen.
+ */
+@NotNull
+@Pooled(size = 1024)
+public final class PooledRequest {
+
+    //<editor-fold desc="LOCAL FIELDS">
+    /** Die Kennung der Anfrage. */
+    private long id;
+    /** Der Pfad der Anfrage. */
+    private String path;
+    /** Der Zeitpunkt, an dem die Anfrage eingegangen ist. */
+    private long timestamp;
+    /** Die Größe des Inhalts der Anfrage. */
+    private int contentLength;
+    /** Die Kopfzeilen der Anfrage. */
+    private final long[] headers = new long[16];
+    //</editor-fold>
+
+
+    /**
+     * Befüllt diese Anfrage mit neuen Werten.
+     *
+     * @param id            Die Kennung der Anfrage.
+     * @param path          Der Pfad der Anfrage.
+     * @param timestamp     Der Zeitpunkt, an dem die Anfrage eingegangen ist.
+     * @param contentLength Die Größe des Inhalts der Anfrage.
+     *
+     * @return Diese Anfrage.
+     */
+    @NotNull
+    public PooledRequest fill(
+        final long id,
+        @NotNull final String path,
+        final long timestamp,
+        final int contentLength
+    ) {
+        this.id = id;
+        this.path = path;
+        this.timestamp = timestamp;
+        this.contentLength = contentLength;
+        this.headers[(int) id & 15] = timestamp;
+        return this;
+    }
+
+    /**
+     * Berechnet eine Prüfsumme über alle Werte dieser Anfrage.
+     *
+     * @return Die Prüfsumme dieser Anfrage.
+     */
+    public long checksum() {
+        return this.id ^ this.timestamp ^ this.contentLength ^ this.path.length() ^ this.headers[(int) this.id & 15];
+    }
+
+}
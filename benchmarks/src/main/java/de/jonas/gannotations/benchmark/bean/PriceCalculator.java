@@ -0,0 +1,36 @@
+package de.jonas.gannotations.benchmark.bean;
+
+import de.jonas.gannotations.annotation.Memoize;
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * Ein Rechner, dessen aufwändige und reine Methode mithilfe der {@link Memoize} zwischengespeichert wird. Die Methode
+ * lässt sich zum Vergleich auch direkt aufrufen.
+ */
+@NotNull
+public final class PriceCalculator {
+
+    /**
+     * Berechnet den Preis eines Artikels für eine bestimmte Menge. Die Berechnung ist absichtlich aufwändig, um eine
+     * reale Preisberechnung nachzubilden.
+     *
+     * @param sku      Die Artikelnummer.
+     * @param quantity Die Menge.
+     *
+     * @return Der Preis des Artikels.
+     */
+    @Memoize(maximumSize = 4096)
+    public double price(
+        @NotNull final String sku,
+        final int quantity
+    ) {
+        double price = sku.hashCode();
+
+        for (int i = 0; i < 1_000; i++) {
+            price = Math.sqrt(price * price + i) * 1.0001;
+        }
+
+        return price * quantity;
+    }
+
+}
@@ -0,0 +1,112 @@
+package de.jonas.gannotations.benchmark.bean;
+
+import de.jonas.gannotations.annotation.BuilderProperty;
+import de.jonas.gannotations.annotation.ReusableBuilder;
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * Eine Bean mit 5 Eigenschaften, für die mithilfe der {@link BuilderProperty} und des {@link ReusableBuilder} ein
+ * Builder generiert wird, welcher für beliebig viele Objekte wiederverwendet werden kann.
+ */
+@NotNull
+@ReusableBuilder
+public final class ReusableBean5 {
+
+    //<editor-fold desc="LOCAL FIELDS">
+    /** Die Eigenschaft intValue0. */
+    private int intValue0;
+    /** Die Eigenschaft longValue1. */
+    private long longValue1;
+    /** Die Eigenschaft doubleValue2. */
+    private double doubleValue2;
+    /** Die Eigenschaft stringValue3. */
+    private String stringValue3;
+    /** Die Eigenschaft intValue4. */
+    private int intValue4;
+    //</editor-fold>
+
+
+    //<editor-fold desc="CONSTRUCTORS">
+
+    /**
+     * Erzeugt eine neue und leere Instanz einer {@link ReusableBean5}. Dieser Konstruktor wird vom Builder genutzt.
+     */
+    public ReusableBean5() {
+    }
+
+    /**
+     * Erzeugt eine neue Instanz einer {@link ReusableBean5}, deren Eigenschaften alle direkt gesetzt werden.
+     *
+     * @param intValue0    Die Eigenschaft intValue0.
+     * @param longValue1   Die Eigenschaft longValue1.
+     * @param doubleValue2 Die Eigenschaft doubleValue2.
+     * @param stringValue3 Die Eigenschaft stringValue3.
+     * @param intValue4    Die Eigenschaft intValue4.
+     */
+    public ReusableBean5(
+        final int intValue0,
+        final long longValue1,
+        final double doubleValue2,
+        final String stringValue3,
+        final int intValue4
+    ) {
+        this.intValue0 = intValue0;
+        this.longValue1 = longValue1;
+        this.doubleValue2 = doubleValue2;
+        this.stringValue3 = stringValue3;
+        this.intValue4 = intValue4;
+    }
+    //</editor-fold>
+
+
+    /**
+     * Setzt die Eigenschaft intValue0.
+     *
+     * @param intValue0 Die Eigenschaft intValue0.
+     */
+    @BuilderProperty
+    public void setIntValue0(final int intValue0) {
+        this.intValue0 = intValue0;
+    }
+
+    /**
+     * Setzt die Eigenschaft longValue1.
+     *
+     * @param longValue1 Die Eigenschaft longValue1.
+     */
+    @BuilderProperty
+    public void setLongValue1(final long longValue1) {
+        this.longValue1 = longValue1;
+    }
+
+    /**
+     * Setzt die Eigenschaft doubleValue2.
+     *
+     * @param doubleValue2 Die Eigenschaft doubleValue2.
+     */
+    @BuilderProperty
+    public void setDoubleValue2(final double doubleValue2) {
+        this.doubleValue2 = doubleValue2;
+    }
+
+    /**
+     * Setzt die Eigenschaft stringValue3.
+     *
+     * @param stringValue3 Die Eigenschaft stringValue3.
+     */
+    @BuilderProperty
+    public void setStringValue3(final String stringValue3) {
+        this.stringValue3 = stringValue3;
+    }
+
+    /**
+     * Setzt die Eigenschaft intValue4.
+     *
+     * @param intValue4 Die Eigenschaft intValue4.
+     */
+    @BuilderProperty
+    public void setIntValue4(final int intValue4) {
+        this.intValue4 = intValue4;
+    }
+
+}
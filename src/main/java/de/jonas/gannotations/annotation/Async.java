@@ -0,0 +1,59 @@
+package de.jonas.gannotations.annotation;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Mithilfe der {@link Async} lassen sich blockierende Methoden asynchron aufrufen. Für jede Klasse, welche mindestens
+ * eine Methode mit dieser Annotation besitzt, wird ein Wrapper generiert (Bsp: 'UserServiceAsync'), welcher für jede
+ * dieser Methoden eine Methode mit denselben Parametern besitzt, die ein {@link java.util.concurrent.CompletableFuture}
+ * zurückgibt und den Aufruf auf einem {@link java.util.concurrent.Executor} an eine Instanz der Klasse weiterleitet.
+ * Wird dem Wrapper kein eigener Executor übergeben, wird für jeden Aufruf ein virtueller Thread erzeugt, sofern die
+ * Laufzeitumgebung virtuelle Threads unterstützt, und ansonsten ein gemeinsamer Pool genutzt (siehe {@link
+ * de.jonas.gannotations.runtime.AsyncExecutors}). Gleiche Aufrufe, welche gleichzeitig laufen, lassen sich
+ * zusammenfassen und Aufrufe mit einem einzigen Parameter lassen sich in Stapeln an eine Methode übergeben, welche alle
+ * Argumente auf einmal verarbeitet. Besitzt der Wrapper solche Methoden, erhält er zusätzlich die Methode 'flush()',
+ * weshalb eine gleichnamige Methode ohne Parameter dann nicht mit dieser Annotation angemerkt werden kann.
+ */
+@Target(ElementType.METHOD)
+@Retention(RetentionPolicy.SOURCE)
+public @interface Async {
+
+    /**
+     * Ob gleiche Aufrufe zusammengefasst werden, solange sie gleichzeitig laufen. Ein Aufruf mit denselben Argumenten
+     * wie ein laufender Aufruf erhält dann dasselbe Ergebnis, statt die Methode erneut auszuführen (siehe {@link
+     * de.jonas.gannotations.runtime.InFlightCalls}). Diese Option darf nur für Methoden ohne Seiteneffekte genutzt
+     * werden.
+     *
+     * @return Ob gleiche Aufrufe zusammengefasst werden.
+     */
+    boolean coalesce() default false;
+
+    /**
+     * Der Name der Methode derselben Klasse, an welche die Aufrufe in Stapeln übergeben werden. Diese Methode muss eine
+     * {@link java.util.List} mit den Argumenten aller Aufrufe entgegennehmen und eine {@link java.util.List} mit den
+     * Ergebnissen in derselben Reihenfolge zurückgeben (siehe {@link de.jonas.gannotations.runtime.AsyncBatcher}). Ist
+     * kein Name angegeben, wird jeder Aufruf einzeln ausgeführt. Stapel können nur für Methoden mit genau einem
+     * Parameter und einem Ergebnis genutzt werden.
+     *
+     * @return Der Name der Methode, an welche die Aufrufe in Stapeln übergeben werden.
+     */
+    String batchMethod() default "";
+
+    /**
+     * Die maximale Anzahl an Aufrufen in einem Stapel. Ein voller Stapel wird sofort ausgeführt.
+     *
+     * @return Die maximale Anzahl an Aufrufen in einem Stapel.
+     */
+    int maxBatchSize() default 64;
+
+    /**
+     * Die Zeit in Millisekunden, nach der ein Stapel spätestens ausgeführt wird, auch wenn er noch nicht voll ist.
+     *
+     * @return Die Zeit in Millisekunden, nach der ein Stapel spätestens ausgeführt wird.
+     */
+    long batchWindowMillis() default 1;
+
+}
@@ -0,0 +1,33 @@
+package de.jonas.gannotations.annotation;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Mithilfe des {@link BatchBuilder} lässt sich für eine Klasse zusätzlich zum Builder, welcher durch die {@link
+ * BuilderProperty} erzeugt wird, ein Builder generieren, der sehr viele Objekte auf einmal erzeugt (Bsp:
+ * 'TradeBatchBuilder'). Der Builder wird mit der Anzahl an Objekten erzeugt und erhält für jeden Setter ein Array mit
+ * den Werten aller Objekte (Bsp: 'setPrice(double[] values)'). Mit der Methode {@code buildAll} werden anschließend alle
+ * Objekte in einer einzigen Schleife erzeugt, ohne für jedes Objekt einen eigenen Builder anzulegen. Setter, für die
+ * kein Array übergeben wurde, werden nicht aufgerufen. Ab einer bestimmten Anzahl an Objekten wird die Schleife in
+ * Abschnitte aufgeteilt, welche parallel in einem {@link java.util.concurrent.ForkJoinPool} ausgeführt werden. Wird
+ * {@code buildAll} aus einer Aufgabe eines eigenen Pools aufgerufen, wird dieser Pool statt des gemeinsamen Pools
+ * genutzt. Besitzt die Klasse die {@link Interned} Annotation, werden die kanonischen Instanzen der Objekte
+ * zurückgegeben. Man kann diese Annotation ausschließlich an Klassen anmerken, die mindestens einen Setter mit der
+ * {@link BuilderProperty} und einen Konstruktor ohne Parameter besitzen.
+ */
+@Target(ElementType.TYPE)
+@Retention(RetentionPolicy.SOURCE)
+public @interface BatchBuilder {
+
+    /**
+     * Die Anzahl an Objekten, ab der die Objekte parallel erzeugt werden. Ist dieser Wert kleiner oder gleich 0,
+     * werden die Objekte immer auf dem aufrufenden Thread erzeugt.
+     *
+     * @return Die Anzahl an Objekten, ab der die Objekte parallel erzeugt werden.
+     */
+    int parallelThreshold() default 100_000;
+
+}
@@ -0,0 +1,22 @@
+package de.jonas.gannotations.annotation;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Mithilfe der {@link BinaryCodec} lässt sich für eine Klasse ein binärer Codec generieren (Bsp: 'TradeCodec'), welcher
+ * ohne Reflection auskommt. Der Codec nutzt dieselben Eigenschaften wie der Builder, welcher durch die {@link
+ * BuilderProperty} erzeugt wird: Objekte werden über die Getter (oder nicht privaten Felder) der Eigenschaften
+ * geschrieben und über den Builder wieder gelesen. Ganze Zahlen werden als Varint mit ZigZag gespeichert und jeder
+ * Datensatz beginnt mit seiner Länge, sodass sich viele Datensätze nacheinander aus einem Kanal lesen lassen. Ein Kanal
+ * beginnt mit einem Fingerabdruck des Schemas (inklusive der Konstanten aller Enums), welcher beim Lesen geprüft wird.
+ * Unterstützt werden alle primitiven Typen, {@link String}, Enums sowie Arrays der Typen byte, int, long und double.
+ * Die Puffer müssen die standardmäßige Byte-Reihenfolge (big endian) nutzen. Man kann diese Annotation ausschließlich
+ * an Klassen anmerken, die mindestens einen Setter mit der {@link BuilderProperty} besitzen.
+ */
+@Target(ElementType.TYPE)
+@Retention(RetentionPolicy.SOURCE)
+public @interface BinaryCodec {
+}
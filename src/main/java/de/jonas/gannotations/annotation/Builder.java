@@ -0,0 +1,19 @@
+package de.jonas.gannotations.annotation;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Mithilfe des {@link Builder} lässt sich sehr einfach ein Builder für ein unveränderliches Objekt erzeugen. Man kann
+ * diese Annotation an einen Konstruktor anmerken, oder an eine Klasse, welche genau einen Konstruktor besitzt. Der
+ * Builder speichert alle Werte zunächst in seinen eigenen Feldern und ruft den Konstruktor erst beim Aufruf von {@code
+ * build} einmalig auf. Dadurch können alle Felder des Objekts final sein. Für jeden Parameter des Konstruktors wird im
+ * Builder ein Setter erzeugt, welcher nach dem Parameter benannt ist (Bsp: 'name' wird zu 'setName'). Exceptions, die
+ * der Konstruktor deklariert, werden auch von {@code build} deklariert. Generische Klassen werden nicht unterstützt.
+ */
+@Target({ElementType.CONSTRUCTOR, ElementType.TYPE})
+@Retention(RetentionPolicy.SOURCE)
+public @interface Builder {
+}
@@ -7,7 +7,8 @@ import java.lang.annotation.Target;
 
 /**
  * Mithilfe der {@link BuilderProperty} lässt sich sehr einfach ein Builder für ein bestimmtes Objekt erzeugen. Man kann
- * diese Annotation ausschließlich an Setter anmerken. Diese Setter werden dann genutzt, um den Builder zu erzeugen.
+ * diese Annotation ausschließlich an Setter anmerken. Diese Setter werden dann genutzt, um den Builder zu erzeugen. Da
+ * jede Eigenschaft genau einen Setter besitzt, darf diese Annotation nicht an überladene Setter angemerkt werden.
  */
 @Target(ElementType.METHOD)
 @Retention(RetentionPolicy.SOURCE)
@@ -0,0 +1,31 @@
+package de.jonas.gannotations.annotation;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Mithilfe der {@link Columnar} lassen sich sehr viele Objekte einer Daten-Klasse spaltenweise speichern. Für die Klasse
+ * wird eine Sammlung generiert (Bsp: 'TradeColumns'), welche jedes nicht statische und nicht transiente Feld in einem
+ * eigenen Array ablegt, welches bei Bedarf wächst. Primitive Felder werden dabei in primitiven Arrays gespeichert,
+ * sodass weder Objekt-Header noch Boxing anfallen und die Werte einer Spalte direkt hintereinander im Speicher liegen.
+ * Die Sammlung bietet Zugriffe über den Index, einen wiederverwendbaren Cursor, welcher beim Durchlaufen keine Objekte
+ * erzeugt, und direkten Zugriff auf die Arrays der einzelnen Spalten. Die Felder werden über ihren Getter oder direkt
+ * ausgelesen, weshalb jedes private Feld einen Getter benötigt. Besitzt die Klasse einen Konstruktor ohne Parameter und
+ * lässt sich jedes Feld über einen Setter oder direkt schreiben, können auch wieder Objekte aus der Sammlung erzeugt
+ * werden. Ein nicht boolesches Feld 'index' wird abgelehnt, da sein Getter im Cursor mit der Methode 'getIndex()'
+ * kollidieren würde, welche die Position des Cursors liefert.
+ */
+@Target(ElementType.TYPE)
+@Retention(RetentionPolicy.SOURCE)
+public @interface Columnar {
+
+    /**
+     * Die Anzahl an Objekten, für welche die Arrays einer neuen Sammlung standardmäßig angelegt werden.
+     *
+     * @return Die Anzahl an Objekten, für welche die Arrays standardmäßig angelegt werden.
+     */
+    int initialCapacity() default 16;
+
+}
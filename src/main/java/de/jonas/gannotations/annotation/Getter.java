@@ -0,0 +1,18 @@
+package de.jonas.gannotations.annotation;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Mithilfe des {@link Getter} wird für ein Feld während der Kompilierung ein Getter erzeugt, welcher direkt in die
+ * Klasse eingefügt wird. Wird die Annotation an eine Klasse angemerkt, erhalten alle nicht statischen Felder dieser
+ * Klasse einen Getter. Existiert bereits eine Methode mit demselben Namen, wird kein Getter erzeugt. Zusätzlich wird für
+ * jede Klasse eine Zugriffs-Tabelle (Bsp: 'PersonAccessors') generiert, mit der sich alle Eigenschaften über direkte
+ * Methodenaufrufe statt über Reflection auslesen lassen.
+ */
+@Target({ElementType.FIELD, ElementType.TYPE})
+@Retention(RetentionPolicy.SOURCE)
+public @interface Getter {
+}
@@ -0,0 +1,34 @@
+package de.jonas.gannotations.annotation;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Mithilfe der {@link Interned} wird dafür gesorgt, dass von gleichen Werte-Objekten nur eine einzige (kanonische)
+ * Instanz im Speicher gehalten wird. Die Klasse erhält die Methoden {@code equals} und {@code hashCode}, welche alle
+ * nicht statischen und nicht transienten Felder vergleichen, wobei der Hash-Code nach der ersten Berechnung
+ * zwischengespeichert wird. Zusätzlich wird eine Klasse generiert (Bsp: 'CurrencyPairInterner'), deren statische
+ * Methode {@code intern} die kanonische Instanz eines Objekts zurückgibt. Builder, welche durch die {@link
+ * BuilderProperty} oder den {@link Builder} erzeugt werden, geben ebenfalls die kanonische Instanz zurück. Da der
+ * Hash-Code zwischengespeichert wird, dürfen die Objekte nicht mehr verändert werden, nachdem sie internalisiert
+ * wurden. Ein Builder der {@link BuilderProperty}, welcher nicht wiederverwendbar ist, kann deshalb nach dem Aufruf von
+ * {@code build} nicht weiter genutzt werden. Deklariert die Klasse selbst {@code equals} und {@code hashCode}, werden
+ * diese genutzt, wobei immer beide Methoden deklariert werden müssen.
+ */
+@Target(ElementType.TYPE)
+@Retention(RetentionPolicy.SOURCE)
+public @interface Interned {
+
+    /**
+     * Die maximale Anzahl an kanonischen Instanzen. Bei 0 werden die kanonischen Instanzen nur schwach referenziert und
+     * vom Garbage Collector entfernt, sobald sie nicht mehr genutzt werden. Ansonsten werden die kanonischen Instanzen
+     * stark referenziert und die am längsten nicht genutzten Instanzen entfernt, sobald die maximale Anzahl erreicht
+     * wurde.
+     *
+     * @return Die maximale Anzahl an kanonischen Instanzen.
+     */
+    int maximumSize() default 0;
+
+}
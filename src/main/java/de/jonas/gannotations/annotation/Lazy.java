@@ -0,0 +1,64 @@
+package de.jonas.gannotations.annotation;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Mithilfe der {@link Lazy} wird ein Feld erst beim ersten Zugriff initialisiert, statt bereits beim Erzeugen des
+ * Objekts bzw. beim Laden der Klasse. Der Initialisierer des Feldes wird in eine eigene Methode verschoben und alle
+ * Zugriffe innerhalb der Klasse werden direkt im AST tree durch den Aufruf einer generierten Zugriffs-Methode ersetzt,
+ * welche das Feld threadsicher initialisiert. Umgeschrieben werden der einfache Name des Feldes und die Zugriffe über
+ * {@code this}, {@code Klasse.this} und {@code Klasse}, sofern der Name nicht durch eine lokale Variable, einen
+ * Parameter oder ein Feld einer inneren Klasse verdeckt wird. Zugriffe über andere Instanzen (Bsp: 'other.field')
+ * werden nicht umgeschrieben und führen zu einem Fehler beim Kompilieren. Man kann diese Annotation ausschließlich an
+ * privaten, finalen Feldern mit einem Initialisierer anmerken, deren Typ kein primitiver Typ ist. Liefert der
+ * Initialisierer null, wird er bei den Strategien {@link Strategy#DOUBLE_CHECKED} und {@link Strategy#VAR_HANDLE} bei
+ * jedem Zugriff erneut ausgeführt, während {@link Strategy#HOLDER} auch den Wert null dauerhaft speichert.
+ */
+@Target(ElementType.FIELD)
+@Retention(RetentionPolicy.SOURCE)
+public @interface Lazy {
+
+    /**
+     * Die Strategie, mit der das Feld beim ersten Zugriff initialisiert wird.
+     *
+     * @return Die Strategie, mit der das Feld initialisiert wird.
+     */
+    Strategy strategy() default Strategy.AUTO;
+
+    /**
+     * Eine {@link Strategy} beschreibt, auf welche Weise ein Feld beim ersten Zugriff threadsicher initialisiert wird.
+     */
+    enum Strategy {
+
+        /**
+         * Statische Felder werden mit {@link #HOLDER} und alle anderen Felder mit {@link #DOUBLE_CHECKED}
+         * initialisiert.
+         */
+        AUTO,
+        /**
+         * Das Feld ist volatile und wird nur dann unter einer Sperre initialisiert, wenn es beim ersten, ungesperrten
+         * Lesen noch nicht initialisiert war. Gesperrt wird auf einem eigenen, privaten Objekt je Feld, sodass fremder
+         * Code, welcher auf der Instanz oder der Klasse sperrt, die Initialisierung nicht blockieren kann. Der
+         * Initialisierer wird genau einmal ausgeführt, sofern er nicht null liefert.
+         */
+        DOUBLE_CHECKED,
+        /**
+         * Der Wert wird in einer eigenen inneren Klasse abgelegt, welche die JVM erst beim ersten Zugriff lädt und
+         * dabei threadsicher initialisiert. Jeder weitere Zugriff ist ein einfaches Lesen einer Konstanten. Der
+         * Initialisierer wird genau einmal ausgeführt, auch wenn er null liefert, da die Konstante danach nicht mehr
+         * verändert werden kann. Diese Strategie kann nur für statische Felder genutzt werden.
+         */
+        HOLDER,
+        /**
+         * Das Feld wird mithilfe eines {@code java.lang.invoke.VarHandle} ohne Sperre gelesen und mit einem
+         * compare-and-set gesetzt. Greifen mehrere Threads gleichzeitig zum ersten Mal zu, kann der Initialisierer
+         * mehrfach ausgeführt werden, es wird aber immer derselbe Wert zurückgegeben. Diese Strategie kann nur für
+         * Felder einer Instanz und ab Java 9 genutzt werden.
+         */
+        VAR_HANDLE
+    }
+
+}
@@ -0,0 +1,43 @@
+package de.jonas.gannotations.annotation;
+
+import de.jonas.gannotations.runtime.Eviction;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Mithilfe der {@link Memoize} lassen sich die Ergebnisse einer Methode anhand ihrer Argumente zwischenspeichern. Für
+ * jede Klasse, welche mindestens eine Methode mit dieser Annotation besitzt, wird ein Wrapper generiert (Bsp:
+ * 'PriceServiceMemoized'), welcher die Aufrufe an eine Instanz der Klasse weiterleitet und die Ergebnisse in einem
+ * {@link de.jonas.gannotations.runtime.MemoizeCache} speichert. Die Annotation darf nur an Methoden angemerkt werden,
+ * deren Ergebnis ausschließlich von ihren Argumenten abhängt und die keine Seiteneffekte haben.
+ */
+@Target(ElementType.METHOD)
+@Retention(RetentionPolicy.SOURCE)
+public @interface Memoize {
+
+    /**
+     * Die maximale Anzahl an Ergebnissen, die für diese Methode gespeichert werden.
+     *
+     * @return Die maximale Anzahl an Ergebnissen.
+     */
+    int maximumSize() default 1024;
+
+    /**
+     * Die Strategie, nach der Ergebnisse entfernt werden, sobald die maximale Anzahl erreicht wurde.
+     *
+     * @return Die Strategie, nach der Ergebnisse entfernt werden.
+     */
+    Eviction eviction() default Eviction.LRU;
+
+    /**
+     * Die Zeit in Millisekunden, nach der ein gespeichertes Ergebnis abläuft und neu berechnet wird. Bei 0 laufen die
+     * Ergebnisse nicht ab.
+     *
+     * @return Die Zeit in Millisekunden, nach der ein Ergebnis abläuft.
+     */
+    long expireAfterWriteMillis() default 0;
+
+}
@@ -0,0 +1,24 @@
+package de.jonas.gannotations.annotation;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Mithilfe der {@link OffHeap} lassen sich sehr viele Datensätze einer Klasse außerhalb des Heaps speichern, sodass sie
+ * vom Garbage Collector nicht durchsucht werden müssen. Für die Klasse wird ein Array generiert (Bsp:
+ * 'QuoteOffHeapArray'), welches jeden Datensatz mit einem festen Layout in direktem Speicher oder in einer Datei
+ * ablegt, welche in den Speicher eingeblendet wird. Die Position jedes Feldes innerhalb eines Datensatzes wird bereits
+ * beim Kompilieren berechnet, wobei die Felder nach ihrer Größe sortiert werden, damit jedes Feld an seiner natürlichen
+ * Grenze ausgerichtet ist. Da das Layout ausschließlich von den Typen und der Reihenfolge der Felder abhängt, lässt
+ * sich eine Datei nach einem Neustart direkt wieder öffnen, solange die Felder nicht verändert wurden. Jede Datei
+ * beginnt dazu mit einem Kopf, welcher die Größe eines Datensatzes und einen Hash des Layouts enthält, sodass eine
+ * Datei mit einem anderen Layout beim Öffnen mit einer IOException abgelehnt wird. Alle nicht statischen und nicht
+ * transienten Felder müssen einen primitiven Typ haben und private Felder benötigen einen Getter. Ein nicht boolesches
+ * Feld 'index' wird abgelehnt, da sein Getter in der Ansicht mit der Methode 'getIndex()' kollidieren würde.
+ */
+@Target(ElementType.TYPE)
+@Retention(RetentionPolicy.SOURCE)
+public @interface OffHeap {
+}
@@ -0,0 +1,39 @@
+package de.jonas.gannotations.annotation;
+
+import de.jonas.gannotations.runtime.Overflow;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Mithilfe der {@link Pooled} lassen sich die Objekte einer Klasse, welche sehr häufig erzeugt und wieder verworfen
+ * werden, wiederverwenden. Für die Klasse wird ein Pool generiert (Bsp: 'RequestPool'), aus dem sich Objekte anfordern
+ * und an den sich Objekte wieder zurückgeben lassen. Bei der Rückgabe wird ein Objekt zurückgesetzt: Besitzt die Klasse
+ * bereits eine (auch geerbte) Methode {@code reset}, wird diese aufgerufen, besitzt sie Setter mit der {@link
+ * BuilderProperty}, werden diese mit den Standardwerten aufgerufen, ansonsten wird der Klasse eine Methode {@code
+ * reset} hinzugefügt, welche alle nicht finalen Felder zurücksetzt. Man kann diese Annotation ausschließlich an Klassen
+ * anmerken, die einen Konstruktor ohne Parameter besitzen. Eine bestehende Methode {@code reset} darf weder privat noch
+ * statisch sein und muss öffentlich sein, wenn sie aus einem anderen Paket geerbt wird.
+ */
+@Target(ElementType.TYPE)
+@Retention(RetentionPolicy.SOURCE)
+public @interface Pooled {
+
+    /**
+     * Die maximale Anzahl an freien Objekten, die im Pool gehalten werden, einschließlich der Zwischenspeicher der
+     * einzelnen Threads.
+     *
+     * @return Die maximale Anzahl an freien Objekten.
+     */
+    int size() default 256;
+
+    /**
+     * Das Verhalten des Pools, wenn ein Objekt angefordert wird, obwohl kein freies Objekt vorhanden ist.
+     *
+     * @return Das Verhalten des Pools, wenn kein freies Objekt vorhanden ist.
+     */
+    Overflow overflow() default Overflow.ALLOCATE;
+
+}
@@ -0,0 +1,19 @@
+package de.jonas.gannotations.annotation;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Mithilfe des {@link ReusableBuilder} lässt sich festlegen, dass der Builder, welcher durch die {@link
+ * BuilderProperty} für eine Klasse erzeugt wird, wiederverwendet werden kann. Das Objekt wird dann erst beim ersten
+ * Aufruf eines Setters erzeugt und nach jedem Aufruf von {@code build} wieder verworfen, sodass derselbe Builder (zum
+ * Beispiel in einem {@link ThreadLocal} oder in einer Schleife) für beliebig viele Objekte genutzt werden kann. Mit der
+ * Methode {@code reset} lässt sich ein angefangenes Objekt verwerfen. Man kann diese Annotation ausschließlich an
+ * Klassen anmerken, die mindestens einen Setter mit der {@link BuilderProperty} besitzen.
+ */
+@Target(ElementType.TYPE)
+@Retention(RetentionPolicy.SOURCE)
+public @interface ReusableBuilder {
+}
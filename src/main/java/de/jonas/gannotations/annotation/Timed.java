@@ -0,0 +1,28 @@
+package de.jonas.gannotations.annotation;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Mithilfe des {@link Timed} lässt sich die Laufzeit einer Methode messen, ohne dass dafür ein Agent oder ein Proxy
+ * benötigt wird. Der Inhalt der Methode wird während der Kompilierung mit zwei Aufrufen von {@link System#nanoTime()}
+ * umschlossen und die Laufzeit jedes Aufrufs in einem {@link de.jonas.gannotations.runtime.LatencyHistogram}
+ * gezählt. Für jede Klasse wird zusätzlich eine Klasse generiert (Bsp: 'PricingTimings'), welche die Histogramme aller
+ * Methoden enthält und deren Perzentile ausgeben kann. Man kann diese Annotation ausschließlich an Methoden anmerken,
+ * die einen Inhalt besitzen.
+ */
+@Target(ElementType.METHOD)
+@Retention(RetentionPolicy.SOURCE)
+public @interface Timed {
+
+    /**
+     * Der Name, unter dem das Histogramm der Methode registriert wird. Ist kein Name angegeben, wird der Name der Klasse
+     * und die Signatur der Methode genutzt.
+     *
+     * @return Der Name, unter dem das Histogramm der Methode registriert wird.
+     */
+    String value() default "";
+
+}
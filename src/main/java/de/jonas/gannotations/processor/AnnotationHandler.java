@@ -11,12 +11,13 @@ import java.lang.annotation.Annotation;
 import java.util.Set;
 
 /**
- * Mithilfe eines {@link AnnotationHandler} lässt sich durch das Implementieren und anschließende Registrieren im {@link
- * GemueseProcessor} eine Annotation im Prozessor dieser Bibliothek registrieren und durch die vollständige
- * Implementierung auch die Aktion deklarieren, welche durch Anmerken dieser Annotation, welche in der Methode {@code
- * getAnnotytionType} zurückgegeben werden muss, während des Kompilierungs-Prozesses ausgeführt werden soll. Dieser
- * Handler bzw die Klasse, die diesen Handler implementiert, wird nur einmal bei der Registrierung instanziiert, jedoch
- * wird dieser Handler für jede Klasse, in der sich eine Annotation dieser Art befindet, separat ausgeführt.
+ * Mithilfe eines {@link AnnotationHandler} lässt sich durch das Implementieren und anschließende Registrieren über
+ * einen {@link AnnotationHandlerProvider} eine Annotation im Prozessor dieser Bibliothek registrieren und durch die
+ * vollständige Implementierung auch die Aktion deklarieren, welche durch Anmerken dieser Annotation, welche in der
+ * Methode {@code getAnnotytionType} zurückgegeben werden muss, während des Kompilierungs-Prozesses ausgeführt werden
+ * soll. Dieser Handler bzw die Klasse, die diesen Handler implementiert, wird erst beim ersten Vorkommen seiner
+ * Annotation und nur einmal instanziiert, jedoch wird dieser Handler für jede Klasse, in der sich eine Annotation
+ * dieser Art befindet, separat ausgeführt.
  */
 @NotNull
 public interface AnnotationHandler {
@@ -30,12 +31,14 @@ public interface AnnotationHandler {
      *                              und die auch weiterhin bei der Implementierung genutzt werden kann.
      * @param trees                 Die AST trees, welche vom Prozessor übergeben werden.
      * @param treeMaker             Der Tree-Maker, mit dem ein Tree editiert werden kann.
+     * @param generationPipeline    Die {@link GenerationPipeline}, mit der alle neuen Java-Dateien generiert werden.
      */
     void processAnnotation(
         @NotNull final Set<? extends Element> annotatedElements,
         @NotNull final ProcessingEnvironment processingEnvironment,
         @NotNull final Trees trees,
-        @NotNull final TreeMaker treeMaker
+        @NotNull final TreeMaker treeMaker,
+        @NotNull final GenerationPipeline generationPipeline
     );
 
     /**
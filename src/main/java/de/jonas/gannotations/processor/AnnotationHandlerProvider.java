@@ -0,0 +1,28 @@
+package de.jonas.gannotations.processor;
+
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * Mithilfe eines {@link AnnotationHandlerProvider} lassen sich eigene {@link AnnotationHandler} in den Prozessoren
+ * dieser Bibliothek registrieren, ohne die Prozessoren selbst zu verändern. Handler, welche mit {@link
+ * Incrementality#NONE} registriert werden, ruft der {@link GemueseTreeProcessor} auf, alle anderen der {@link
+ * GemueseProcessor}. Alle Provider werden über den {@link
+ * java.util.ServiceLoader} gefunden und müssen dafür mit ihrem vollständigen Namen in einer Datei, welche sich als
+ * Ressource unter META-INF/services/de.jonas.gannotations.processor.AnnotationHandlerProvider befindet, eingetragen
+ * werden. Ein Provider muss einen öffentlichen Konstruktor ohne Parameter besitzen. Die Provider werden einmalig beim
+ * Initialisieren des Prozessors instanziiert, die Handler jedoch erst dann, wenn ihre Annotation zum ersten Mal in
+ * einer Runde vorkommt. Die Handler aller Provider werden nach den Handlern dieser Bibliothek aufgerufen.
+ */
+@NotNull
+public interface AnnotationHandlerProvider {
+
+    /**
+     * Registriert alle {@link AnnotationHandler} dieses Providers in der übergebenen {@link HandlerRegistry}. In dieser
+     * Methode sollen die Handler selbst noch nicht instanziiert werden, damit Projekte, welche die Annotations dieses
+     * Providers nicht nutzen, keine Zeit für deren Initialisierung benötigen.
+     *
+     * @param registry Die {@link HandlerRegistry}, in der alle Handler dieses Providers registriert werden.
+     */
+    void registerHandlers(@NotNull final HandlerRegistry registry);
+
+}
@@ -0,0 +1,60 @@
+package de.jonas.gannotations.processor;
+
+import de.jonas.gannotations.annotation.Async;
+import de.jonas.gannotations.annotation.BatchBuilder;
+import de.jonas.gannotations.annotation.BinaryCodec;
+import de.jonas.gannotations.annotation.Builder;
+import de.jonas.gannotations.annotation.BuilderProperty;
+import de.jonas.gannotations.annotation.Columnar;
+import de.jonas.gannotations.annotation.Getter;
+import de.jonas.gannotations.annotation.Interned;
+import de.jonas.gannotations.annotation.Lazy;
+import de.jonas.gannotations.annotation.Memoize;
+import de.jonas.gannotations.annotation.OffHeap;
+import de.jonas.gannotations.annotation.Pooled;
+import de.jonas.gannotations.annotation.ReusableBuilder;
+import de.jonas.gannotations.annotation.Timed;
+import de.jonas.gannotations.processor.annotation.AsyncAnnotation;
+import de.jonas.gannotations.processor.annotation.BinaryCodecAnnotation;
+import de.jonas.gannotations.processor.annotation.BuilderAnnotation;
+import de.jonas.gannotations.processor.annotation.BuilderPropertyAnnotation;
+import de.jonas.gannotations.processor.annotation.ColumnarAnnotation;
+import de.jonas.gannotations.processor.annotation.GetterAnnotation;
+import de.jonas.gannotations.processor.annotation.InternedAnnotation;
+import de.jonas.gannotations.processor.annotation.LazyAnnotation;
+import de.jonas.gannotations.processor.annotation.MemoizeAnnotation;
+import de.jonas.gannotations.processor.annotation.OffHeapAnnotation;
+import de.jonas.gannotations.processor.annotation.PooledAnnotation;
+import de.jonas.gannotations.processor.annotation.TimedAnnotation;
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * Der {@link DefaultHandlerProvider} registriert alle {@link AnnotationHandler}, welche zu dieser Bibliothek gehören.
+ * Er wird nicht über den {@link java.util.ServiceLoader} gefunden, sondern immer als erster Provider von beiden
+ * Prozessoren aufgerufen, damit die Handler dieser Bibliothek unabhängig vom Klassenpfad in derselben Reihenfolge
+ * aufgerufen werden.
+ */
+@NotNull
+final class DefaultHandlerProvider implements AnnotationHandlerProvider {
+
+    //<editor-fold desc="implementation">
+    @Override
+    public void registerHandlers(@NotNull final HandlerRegistry registry) {
+        registry.register(BuilderProperty.class.getName(), Incrementality.ISOLATING, BuilderPropertyAnnotation::new);
+        registry.register(Builder.class.getName(), Incrementality.ISOLATING, BuilderAnnotation::new);
+        registry.register(Getter.class.getName(), Incrementality.NONE, GetterAnnotation::new);
+        registry.register(Memoize.class.getName(), Incrementality.ISOLATING, MemoizeAnnotation::new);
+        registry.register(Timed.class.getName(), Incrementality.NONE, TimedAnnotation::new);
+        registry.register(Pooled.class.getName(), Incrementality.NONE, PooledAnnotation::new);
+        registry.register(Interned.class.getName(), Incrementality.NONE, InternedAnnotation::new);
+        registry.register(Columnar.class.getName(), Incrementality.ISOLATING, ColumnarAnnotation::new);
+        registry.register(OffHeap.class.getName(), Incrementality.ISOLATING, OffHeapAnnotation::new);
+        registry.register(BinaryCodec.class.getName(), Incrementality.ISOLATING, BinaryCodecAnnotation::new);
+        registry.register(Lazy.class.getName(), Incrementality.NONE, LazyAnnotation::new);
+        registry.register(Async.class.getName(), Incrementality.ISOLATING, AsyncAnnotation::new);
+        registry.registerMarker(ReusableBuilder.class.getName());
+        registry.registerMarker(BatchBuilder.class.getName());
+    }
+    //</editor-fold>
+
+}
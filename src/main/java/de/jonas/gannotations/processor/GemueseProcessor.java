@@ -1,135 +1,59 @@
 package de.jonas.gannotations.processor;
 
-import com.sun.source.util.Trees;
-import com.sun.tools.javac.processing.JavacProcessingEnvironment;
-import com.sun.tools.javac.tree.TreeMaker;
-import de.jonas.gannotations.processor.annotation.BuilderPropertyAnnotation;
 import org.jetbrains.annotations.NotNull;
 
-import javax.annotation.processing.AbstractProcessor;
-import javax.annotation.processing.ProcessingEnvironment;
-import javax.annotation.processing.RoundEnvironment;
-import javax.annotation.processing.SupportedAnnotationTypes;
 import javax.annotation.processing.SupportedSourceVersion;
 import javax.lang.model.SourceVersion;
-import javax.lang.model.element.Element;
-import javax.lang.model.element.TypeElement;
-
-import java.util.HashSet;
-import java.util.Set;
 
 /**
- * Mithilfe dieses {@link GemueseProcessor Prozessors} werden alle Aktionen ausgeführt, die benötigt werden, um alle
- * durch die {@link SupportedAnnotationTypes Anmerkung} unterstützten Annotations zu implementieren. In diesem Prozessor
- * werden auch alle {@link AnnotationHandler} initialisiert und nach und nach aufgerufen, da die Annotations erst nach
- * Klassen sortiert werden. Dieser Prozessor stellt die Schnittstelle zu dem Java-Compiler dar. Er selber wird mithilfe
+ * Mithilfe dieses {@link GemueseProcessor Prozessors} werden alle Aktionen ausgeführt, die benötigt werden, um die
+ * Annotations der registrierten {@link AnnotationHandler} zu implementieren, welche ausschließlich neue Dateien
+ * generieren (Bsp: {@link de.jonas.gannotations.annotation.Builder}). Die Handler dieser Bibliothek und alle Handler,
+ * welche über einen {@link AnnotationHandlerProvider} gefunden werden, werden beim Initialisieren in einer {@link
+ * HandlerRegistry} registriert, aus der sich auch die unterstützten Annotations ergeben. In diesem Prozessor werden die
+ * Handler nach und nach aufgerufen, da die Annotations erst nach Klassen sortiert werden. Jede generierte Datei wird
+ * mit der Klasse verknüpft, aus der sie erzeugt wurde, weshalb dieser Prozessor gegenüber Gradle als isolierend
+ * angegeben wird, solange kein Provider einen aggregierenden Handler registriert. Handler, welche die AST trees
+ * bestehender Klassen verändern, werden vom {@link GemueseTreeProcessor} aufgerufen. Beide Prozessoren werden mithilfe
  * einer Datei, welche sich als Ressource unter META-INF/services befindet registriert.
  */
 @NotNull
-@SupportedAnnotationTypes({
-    "de.jonas.gannotations.annotation.BuilderProperty",
-    "de.jonas.gannotations.annotation.Getter",
-})
 @SupportedSourceVersion(SourceVersion.RELEASE_8)
-public final class GemueseProcessor extends AbstractProcessor {
+public final class GemueseProcessor extends HandlerProcessor {
 
     //<editor-fold desc="CONSTANTS">
-    /** Alle {@link AnnotationHandler Handler}, welche die Aktionen der Annotations regeln. */
+    /**
+     * Die Option, mit der sich der parallele Modus der Prozessoren aktivieren lässt (-Agannotations.parallel=true). Im
+     * parallelen Modus wird der Quellcode aller generierten Klassen einer Runde gleichzeitig erzeugt.
+     */
     @NotNull
-    private static final AnnotationHandler[] ANNOTATION_HANDLER = new AnnotationHandler[]{
-        new BuilderPropertyAnnotation(),
-    };
-    //</editor-fold>
-
-
-    //<editor-fold desc="LOCAL FIELDS">
-    /** Die AST trees. */
-    private Trees trees;
-    /** Der Tree-Maker um einen Tree zu editieren. */
-    private TreeMaker treeMaker;
+    public static final String PARALLEL_OPTION = "gannotations.parallel";
+    /**
+     * Die Option, mit der sich die Statistik der Prozessoren aktivieren lässt (-Agannotations.stats=path.json). Ist die
+     * Option gesetzt, werden die Laufzeiten aller Runden, Handler und Klassen, sowie die Größe und die Schreibzeit
+     * aller generierten Dateien gemessen und nach der letzten Runde in die angegebene Datei geschrieben. Der {@link
+     * GemueseTreeProcessor} schreibt seine Statistik in eine zweite Datei (Bsp: 'path.trees.json').
+     */
+    @NotNull
+    public static final String STATS_OPTION = "gannotations.stats";
+    /**
+     * Die Option, mit der sich der Cache der Prozessoren aktivieren lässt (-Agannotations.cache=directory). Ist die
+     * Option gesetzt, wird der Quellcode generierter Klassen in dem angegebenen Ordner abgelegt und bei einem erneuten
+     * Aufruf des Compilers wiederverwendet, sofern sich das Modell der Klasse nicht verändert hat.
+     */
+    @NotNull
+    public static final String CACHE_OPTION = "gannotations.cache";
     //</editor-fold>
 
-    //<editor-fold desc="implementation">
-    @Override
-    public synchronized void init(@NotNull final ProcessingEnvironment processingEnv) {
-        super.init(processingEnv);
-
-        final JavacProcessingEnvironment javacProcessingEnvironment = (JavacProcessingEnvironment) processingEnv;
-
-        this.trees = Trees.instance(processingEnv);
-        this.treeMaker = TreeMaker.instance(javacProcessingEnvironment.getContext());
-    }
-
-    @Override
-    public boolean process(
-        @NotNull final Set<? extends TypeElement> annotations,
-        @NotNull final RoundEnvironment roundEnvironment
-    ) {
-        // iterate over all supported annotations by this processor
-        for (@NotNull final TypeElement annotation : annotations) {
-            // get all with current annotation annotated elements
-            final Set<? extends Element> annotatedElements = roundEnvironment.getElementsAnnotatedWith(annotation);
-            final Set<Element> alreadyUsedAnnotatedElements = new HashSet<>();
-
-            // iterate over all with current annotation annotated elements
-            for (@NotNull final Element element : annotatedElements) {
-                // separate the elements by their class
-                final Set<Element> specifiedAnnotatedElements = new HashSet<>();
-
-                // check if current element is already in use
-                if (alreadyUsedAnnotatedElements.contains(element)) continue;
-
-                // get the name of the class from current element
-                final String elementClassName = ((TypeElement) element.getEnclosingElement())
-                    .getQualifiedName()
-                    .toString();
-
-                // compare current element with all others elements
-                for (@NotNull final Element innerElement : annotatedElements) {
-                    // get the name of the class from the reference element
-                    final String innerElementClassName = ((TypeElement) innerElement.getEnclosingElement())
-                        .getQualifiedName()
-                        .toString();
-
-                    // check if the reference element is already in use
-                    if (alreadyUsedAnnotatedElements.contains(innerElement)) continue;
 
-                    // check if the reference element is in the same class
-                    if (!elementClassName.equals(innerElementClassName)) continue;
-
-                    // use element for current process
-                    specifiedAnnotatedElements.add(innerElement);
-                    alreadyUsedAnnotatedElements.add(innerElement);
-                }
-
-                // execute the process for the current class
-                processForClass(annotation, specifiedAnnotatedElements);
-            }
-        }
-
-        return true;
-    }
-    //</editor-fold>
+    //<editor-fold desc="CONSTRUCTORS">
 
     /**
-     * Führt den Prozess für einen bestimmten Typen einer Annotation in nur einer Klasse aus.
-     *
-     * @param annotation        Die Annotation, für die dieser Prozess ausgeführt wird.
-     * @param annotatedElements Alle Elemente in einer bestimmten Klasse, die diese Annotation erhalten haben.
+     * Erzeugt einen neuen {@link GemueseProcessor}. Dieser Konstruktor wird vom Compiler aufgerufen.
      */
-    private void processForClass(
-        @NotNull final TypeElement annotation,
-        @NotNull final Set<? extends Element> annotatedElements
-    ) {
-        // get matching handler
-        for (@NotNull final AnnotationHandler annotationHandler : ANNOTATION_HANDLER) {
-            if (!annotation.getQualifiedName().toString().equals(annotationHandler.getAnnotytionType().getName())) {
-                continue;
-            }
-
-            // execute the process for the current annotations in one class
-            annotationHandler.processAnnotation(annotatedElements, processingEnv, this.trees, this.treeMaker);
-        }
+    public GemueseProcessor() {
+        super(false);
     }
+    //</editor-fold>
 
 }
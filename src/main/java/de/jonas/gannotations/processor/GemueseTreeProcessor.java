@@ -0,0 +1,31 @@
+package de.jonas.gannotations.processor;
+
+import org.jetbrains.annotations.NotNull;
+
+import javax.annotation.processing.SupportedSourceVersion;
+import javax.lang.model.SourceVersion;
+
+/**
+ * Mithilfe dieses {@link GemueseTreeProcessor Prozessors} werden alle {@link AnnotationHandler} aufgerufen, welche die
+ * AST trees bestehender Klassen über die internen Schnittstellen des Compilers verändern (Bsp: {@link
+ * de.jonas.gannotations.annotation.Getter}). Solche Handler sind mit {@link Incrementality#NONE} registriert und dürfen
+ * von Build-Tools nicht inkrementell ausgeführt werden, weshalb dieser Prozessor im Gegensatz zum {@link
+ * GemueseProcessor} nicht als inkrementell angegeben wird. Projekte, welche keine dieser Annotations nutzen, können
+ * dadurch weiterhin inkrementell kompiliert werden. Die Handler werden in der Reihenfolge ihrer Registrierung
+ * aufgerufen, da einige Handler Elemente umschreiben, welche von vorherigen Handlern erzeugt wurden.
+ */
+@NotNull
+@SupportedSourceVersion(SourceVersion.RELEASE_8)
+public final class GemueseTreeProcessor extends HandlerProcessor {
+
+    //<editor-fold desc="CONSTRUCTORS">
+
+    /**
+     * Erzeugt einen neuen {@link GemueseTreeProcessor}. Dieser Konstruktor wird vom Compiler aufgerufen.
+     */
+    public GemueseTreeProcessor() {
+        super(true);
+    }
+    //</editor-fold>
+
+}
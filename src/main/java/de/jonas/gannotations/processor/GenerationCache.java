@@ -0,0 +1,200 @@
+package de.jonas.gannotations.processor;
+
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Mithilfe des {@link GenerationCache} wird der Quellcode generierter Klassen zwischen mehreren Aufrufen des Compilers
+ * auf der Festplatte abgelegt. Jede Klasse wird anhand eines Schlüssels abgelegt, welcher aus dem Namen der Klasse, der
+ * Signatur des Modells, aus dem sie erzeugt wird, und der {@link #GENERATOR_VERSION Version des Generators} berechnet
+ * wird. Stimmt der Schlüssel bei einem erneuten Aufruf überein, wird der abgelegte Quellcode wiederverwendet, statt ihn
+ * erneut mithilfe eines {@link JavaGenerator} zu erzeugen. Für jede generierte Klasse wird nur der zuletzt erzeugte
+ * Quellcode abgelegt. Der Cache wird nur dann genutzt, wenn er über die Option {@link GemueseProcessor#CACHE_OPTION}
+ * aktiviert wurde. Das Laden von Klassen ist thread-sicher, das Ablegen darf nur auf dem Thread des Compilers erfolgen.
+ */
+@NotNull
+final class GenerationCache {
+
+    //<editor-fold desc="CONSTANTS">
+    /**
+     * Die Version des Generators. Diese Version muss erhöht werden, sobald sich der Quellcode ändert, welcher von einem
+     * Handler aus demselben Modell erzeugt wird, damit kein veralteter Quellcode aus dem Cache wiederverwendet wird.
+     */
+    static final int GENERATOR_VERSION = 2;
+    /** Die Endung aller Dateien, in denen der Quellcode einer Klasse abgelegt wird. */
+    @NotNull
+    private static final String FILE_EXTENSION = ".cache";
+    /** Alle Zeichen, welche für die hexadezimale Darstellung eines Schlüssels genutzt werden. */
+    @NotNull
+    private static final char[] HEX_DIGITS = "0123456789abcdef".toCharArray();
+    //</editor-fold>
+
+
+    //<editor-fold desc="LOCAL FIELDS">
+    /** Der Ordner, in dem der Quellcode aller generierten Klassen abgelegt wird. */
+    @NotNull
+    private final Path directory;
+    /** Die Anzahl an Klassen, deren Quellcode aus dem Cache wiederverwendet wurde. */
+    @NotNull
+    private final AtomicInteger reused = new AtomicInteger();
+    /** Die Anzahl an Klassen, deren Quellcode erzeugt und neu im Cache abgelegt wurde. */
+    @NotNull
+    private final AtomicInteger stored = new AtomicInteger();
+    //</editor-fold>
+
+
+    //<editor-fold desc="CONSTRUCTORS">
+
+    /**
+     * Erzeugt einen neuen {@link GenerationCache}, welcher den Quellcode aller generierten Klassen in einem bestimmten
+     * Ordner ablegt.
+     *
+     * @param directory Der Ordner, in dem der Quellcode aller generierten Klassen abgelegt wird.
+     */
+    GenerationCache(@NotNull final Path directory) {
+        this.directory = directory;
+    }
+    //</editor-fold>
+
+
+    /**
+     * Berechnet den Schlüssel, unter dem der Quellcode einer generierten Klasse abgelegt wird. Der Schlüssel ist ein
+     * SHA-256 Hash aus der Version des Generators, dem Namen der Klasse und der Signatur ihres Modells.
+     *
+     * @param newClassName Der Name der generierten Klasse.
+     * @param signature    Die Signatur des Modells, aus dem die Klasse erzeugt wird.
+     *
+     * @return Der Schlüssel, unter dem der Quellcode der Klasse abgelegt wird.
+     */
+    @NotNull
+    static String createKey(
+        @NotNull final String newClassName,
+        @NotNull final String signature
+    ) {
+        final MessageDigest digest;
+
+        try {
+            digest = MessageDigest.getInstance("SHA-256");
+        } catch (@NotNull final NoSuchAlgorithmException e) {
+            // every implementation of the java platform is required to support SHA-256
+            throw new IllegalStateException(e);
+        }
+
+        final byte[] hash = digest.digest(
+            (GENERATOR_VERSION + "\n" + newClassName + "\n" + signature).getBytes(StandardCharsets.UTF_8)
+        );
+        final char[] key = new char[hash.length * 2];
+
+        for (int i = 0; i < hash.length; i++) {
+            key[i * 2] = HEX_DIGITS[(hash[i] >> 4) & 0xF];
+            key[i * 2 + 1] = HEX_DIGITS[hash[i] & 0xF];
+        }
+
+        return new String(key);
+    }
+
+    /**
+     * Lädt den abgelegten Quellcode einer generierten Klasse, sofern dieser unter demselben Schlüssel abgelegt wurde.
+     * Existiert die Datei nicht oder kann sie nicht gelesen werden, wird der Quellcode neu erzeugt.
+     *
+     * @param newClassName Der Name der generierten Klasse.
+     * @param key          Der Schlüssel, unter dem der Quellcode abgelegt sein muss.
+     *
+     * @return Der abgelegte Quellcode der Klasse oder null, wenn kein passender Quellcode abgelegt wurde.
+     */
+    @Nullable
+    String load(
+        @NotNull final String newClassName,
+        @NotNull final String key
+    ) {
+        final String content;
+
+        try {
+            content = new String(Files.readAllBytes(getFile(newClassName)), StandardCharsets.UTF_8);
+        } catch (@NotNull final IOException e) {
+            return null;
+        }
+
+        // the first line of every file contains the key, under which the source code was stored
+        if (content.length() <= key.length() || !content.startsWith(key) || content.charAt(key.length()) != '\n') {
+            return null;
+        }
+
+        this.reused.incrementAndGet();
+        return content.substring(key.length() + 1);
+    }
+
+    /**
+     * Legt den erzeugten Quellcode einer generierten Klasse unter einem bestimmten Schlüssel ab. Der Quellcode wird
+     * zuerst in eine temporäre Datei geschrieben und anschließend verschoben, damit parallel laufende Compiler niemals
+     * eine unvollständige Datei lesen.
+     *
+     * @param newClassName Der Name der generierten Klasse.
+     * @param key          Der Schlüssel, unter dem der Quellcode abgelegt wird.
+     * @param source       Der erzeugte Quellcode der Klasse.
+     *
+     * @throws IOException Wenn der Quellcode nicht abgelegt werden konnte.
+     */
+    void store(
+        @NotNull final String newClassName,
+        @NotNull final String key,
+        @NotNull final String source
+    ) throws IOException {
+        Files.createDirectories(this.directory);
+
+        final Path file = getFile(newClassName);
+        final Path temporaryFile = Files.createTempFile(this.directory, newClassName, FILE_EXTENSION);
+
+        try {
+            Files.write(temporaryFile, (key + "\n" + source).getBytes(StandardCharsets.UTF_8));
+            Files.move(temporaryFile, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } finally {
+            Files.deleteIfExists(temporaryFile);
+        }
+
+        this.stored.incrementAndGet();
+    }
+
+    /**
+     * Gibt zurück, ob bereits Quellcode aus diesem Cache wiederverwendet oder in diesem Cache abgelegt wurde.
+     *
+     * @return Ob dieser Cache bereits genutzt wurde.
+     */
+    boolean isUsed() {
+        return this.reused.get() + this.stored.get() > 0;
+    }
+
+    /**
+     * Gibt eine Zusammenfassung zurück, wie viele Klassen aus dem Cache wiederverwendet und wie viele neu erzeugt
+     * wurden.
+     *
+     * @return Die Zusammenfassung dieses Caches.
+     */
+    @NotNull
+    String getSummary() {
+        return "gannotations: reused " + this.reused.get() + " of " + (this.reused.get() + this.stored.get())
+            + " cacheable generated sources from " + this.directory;
+    }
+
+    /**
+     * Gibt die Datei zurück, in der der Quellcode einer generierten Klasse abgelegt wird.
+     *
+     * @param newClassName Der Name der generierten Klasse.
+     *
+     * @return Die Datei, in der der Quellcode der Klasse abgelegt wird.
+     */
+    @NotNull
+    private Path getFile(@NotNull final String newClassName) {
+        return this.directory.resolve(newClassName + FILE_EXTENSION);
+    }
+
+}
@@ -0,0 +1,366 @@
+package de.jonas.gannotations.processor;
+
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import javax.annotation.processing.ProcessingEnvironment;
+import javax.lang.model.element.Element;
+import javax.tools.Diagnostic;
+import javax.tools.JavaFileObject;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.Future;
+import java.util.function.Consumer;
+
+/**
+ * Mithilfe der {@link GenerationPipeline} werden alle Java-Dateien erzeugt, welche von den {@link AnnotationHandler}
+ * generiert werden sollen. Die Handler analysieren die Elemente auf dem Thread des Compilers und übergeben der Pipeline
+ * nur noch unveränderliche Daten, aus denen der Quellcode mithilfe eines {@link JavaGenerator} erzeugt wird. Im
+ * parallelen Modus wird der Quellcode aller Klassen einer Runde gleichzeitig in einem {@link ForkJoinPool} erzeugt.
+ * Das anschließende Schreiben der Dateien über den {@link javax.annotation.processing.Filer} findet immer nacheinander
+ * auf dem Thread des Compilers statt, da dieser nicht thread-sicher ist. Übergibt ein Handler die Signatur des Modells,
+ * aus dem eine Klasse erzeugt wird, kann ihr Quellcode aus einem {@link GenerationCache} wiederverwendet werden.
+ */
+@NotNull
+public final class GenerationPipeline {
+
+    //<editor-fold desc="LOCAL FIELDS">
+    /** Die {@link ProcessingEnvironment}, die vom Prozessor übergeben wird. */
+    @NotNull
+    private final ProcessingEnvironment processingEnvironment;
+    /** Ob der Quellcode der generierten Klassen parallel erzeugt werden soll. */
+    private final boolean parallel;
+    /** Die Statistik, in der alle generierten Dateien gezählt werden oder null, wenn keine Statistik erzeugt wird. */
+    @Nullable
+    private final ProcessorStats stats;
+    /** Der Cache, aus dem bereits erzeugter Quellcode wiederverwendet wird oder null, wenn kein Cache genutzt wird. */
+    @Nullable
+    private final GenerationCache cache;
+    /** Alle Klassen, welche in der aktuellen Runde generiert werden sollen, aber noch nicht erzeugt wurden. */
+    @NotNull
+    private final List<GenerationTask> pendingTasks = new ArrayList<>();
+    /**
+     * Die {@link SourceWriter} aller Threads, auf denen Quellcode erzeugt wird. Jeder Thread nutzt seinen Puffer für alle
+     * Klassen wieder, die er erzeugt.
+     */
+    @NotNull
+    private final ThreadLocal<SourceWriter> sourceWriter = ThreadLocal.withInitial(SourceWriter::new);
+    /** Der {@link ForkJoinPool}, in dem der Quellcode im parallelen Modus erzeugt wird. */
+    private ForkJoinPool forkJoinPool;
+    //</editor-fold>
+
+
+    //<editor-fold desc="CONSTRUCTORS">
+
+    /**
+     * Erzeugt eine neue und vollständig unabhängige Instanz einer {@link GenerationPipeline}. Mithilfe dieser Pipeline
+     * werden alle Java-Dateien erzeugt, welche von den {@link AnnotationHandler} generiert werden sollen.
+     *
+     * @param processingEnvironment Die {@link ProcessingEnvironment}, die vom Prozessor übergeben wird.
+     * @param parallel              Ob der Quellcode der generierten Klassen parallel erzeugt werden soll.
+     * @param stats                 Die Statistik, in der alle generierten Dateien gezählt werden oder null, wenn
+     *                              keine Statistik erzeugt wird.
+     * @param cache                 Der Cache, aus dem bereits erzeugter Quellcode wiederverwendet wird oder null, wenn
+     *                              kein Cache genutzt wird.
+     */
+    GenerationPipeline(
+        @NotNull final ProcessingEnvironment processingEnvironment,
+        final boolean parallel,
+        @Nullable final ProcessorStats stats,
+        @Nullable final GenerationCache cache
+    ) {
+        this.processingEnvironment = processingEnvironment;
+        this.parallel = parallel;
+        this.stats = stats;
+        this.cache = cache;
+    }
+    //</editor-fold>
+
+
+    /**
+     * Übergibt dieser Pipeline eine neue Klasse, welche generiert werden soll. Der übergebene Renderer wird im
+     * parallelen Modus nicht auf dem Thread des Compilers ausgeführt und darf deshalb ausschließlich auf unveränderliche
+     * Daten und nicht mehr auf die Elemente des Compilers zugreifen.
+     *
+     * @param className           Der Name der Klasse, aus der die neue Klasse generiert wird.
+     * @param newClassName        Der Name, den die neue Klasse erhalten soll.
+     * @param renderer            Der Renderer, welcher den Inhalt der neuen Klasse mithilfe eines {@link JavaGenerator}
+     *                            erzeugt.
+     * @param originatingElements Die Elemente, aus denen die neue Klasse generiert wird. Anhand dieser Elemente können
+     *                            Build-Tools erkennen, welche generierten Dateien nach einer Änderung neu erzeugt werden
+     *                            müssen.
+     */
+    public void submit(
+        @NotNull final String className,
+        @NotNull final String newClassName,
+        @NotNull final Consumer<JavaGenerator> renderer,
+        @NotNull final Element... originatingElements
+    ) {
+        submit(className, newClassName, null, renderer, originatingElements);
+    }
+
+    /**
+     * Übergibt dieser Pipeline eine neue Klasse, welche generiert werden soll und deren Quellcode aus dem Cache
+     * wiederverwendet werden kann. Die Signatur muss alle Daten beschreiben, die der Renderer verwendet, sodass aus
+     * derselben Signatur immer derselbe Quellcode erzeugt wird. Ist kein Cache aktiviert, wird die Signatur ignoriert.
+     *
+     * @param className           Der Name der Klasse, aus der die neue Klasse generiert wird.
+     * @param newClassName        Der Name, den die neue Klasse erhalten soll.
+     * @param signature           Die Signatur des Modells, aus dem die neue Klasse erzeugt wird oder null, wenn der
+     *                            Quellcode der Klasse nicht wiederverwendet werden darf.
+     * @param renderer            Der Renderer, welcher den Inhalt der neuen Klasse mithilfe eines {@link JavaGenerator}
+     *                            erzeugt.
+     * @param originatingElements Die Elemente, aus denen die neue Klasse generiert wird.
+     */
+    public void submit(
+        @NotNull final String className,
+        @NotNull final String newClassName,
+        @Nullable final String signature,
+        @NotNull final Consumer<JavaGenerator> renderer,
+        @NotNull final Element... originatingElements
+    ) {
+        final GenerationTask task = new GenerationTask(
+            className,
+            newClassName,
+            this.cache == null ? null : signature,
+            renderer,
+            originatingElements,
+            this.stats == null ? null : this.stats.getCurrentHandler()
+        );
+
+        if (!this.parallel) {
+            final String source;
+
+            // a failing renderer is reported like in parallel mode, instead of aborting the whole round
+            try {
+                source = task.call();
+            } catch (@NotNull final Throwable e) {
+                printError(task, e);
+                return;
+            }
+
+            commit(task, source);
+            return;
+        }
+
+        this.pendingTasks.add(task);
+    }
+
+    /**
+     * Erzeugt den Quellcode aller Klassen, die dieser Pipeline in der aktuellen Runde übergeben wurden und schreibt
+     * diese anschließend nacheinander in ihre Dateien.
+     */
+    void flush() {
+        if (this.pendingTasks.isEmpty()) return;
+
+        if (this.forkJoinPool == null) {
+            this.forkJoinPool = new ForkJoinPool();
+        }
+
+        final List<Future<String>> renderedSources = this.forkJoinPool.invokeAll(this.pendingTasks);
+
+        for (int i = 0; i < this.pendingTasks.size(); i++) {
+            final GenerationTask task = this.pendingTasks.get(i);
+
+            try {
+                commit(task, renderedSources.get(i).get());
+            } catch (@NotNull final InterruptedException e) {
+                Thread.currentThread().interrupt();
+                printError(task, e);
+            } catch (@NotNull final ExecutionException e) {
+                printError(task, e.getCause());
+            }
+        }
+
+        this.pendingTasks.clear();
+    }
+
+    /**
+     * Beendet diese Pipeline, nachdem die letzte Runde des Prozessors abgeschlossen wurde.
+     */
+    void close() {
+        flush();
+
+        if (this.forkJoinPool == null) return;
+
+        this.forkJoinPool.shutdown();
+        this.forkJoinPool = null;
+    }
+
+    /**
+     * Schreibt den erzeugten Quellcode einer Klasse über den {@link javax.annotation.processing.Filer} in einem
+     * einzigen Schreibvorgang in eine neue Datei.
+     *
+     * @param task   Die Klasse, deren Quellcode geschrieben werden soll.
+     * @param source Der erzeugte Quellcode der Klasse.
+     */
+    private void commit(
+        @NotNull final GenerationTask task,
+        @NotNull final String source
+    ) {
+        final long start = System.nanoTime();
+
+        try {
+            final JavaFileObject file = this.processingEnvironment.getFiler().createSourceFile(
+                task.newClassName,
+                task.originatingElements
+            );
+
+            try (final Writer writer = file.openWriter()) {
+                writer.write(source);
+            }
+        } catch (@NotNull final IOException e) {
+            printError(task, e);
+        }
+
+        if (this.cache != null && task.cacheKey != null && !task.reused) {
+            try {
+                this.cache.store(task.newClassName, task.cacheKey, source);
+            } catch (@NotNull final IOException e) {
+                this.processingEnvironment.getMessager().printMessage(
+                    Diagnostic.Kind.WARNING,
+                    "Could not cache " + task.newClassName + ": " + e
+                );
+            }
+        }
+
+        if (this.stats == null || task.handler == null) return;
+
+        this.stats.recordFile(
+            task.handler,
+            task.newClassName,
+            source.getBytes(StandardCharsets.UTF_8).length,
+            task.renderNanos,
+            System.nanoTime() - start
+        );
+    }
+
+    /**
+     * Gibt einen Fehler aus, welcher beim Erzeugen einer bestimmten Klasse aufgetreten ist.
+     *
+     * @param task  Die Klasse, bei deren Erzeugung der Fehler aufgetreten ist.
+     * @param cause Der Fehler, der aufgetreten ist.
+     */
+    private void printError(
+        @NotNull final GenerationTask task,
+        @NotNull final Throwable cause
+    ) {
+        this.processingEnvironment.getMessager().printMessage(
+            Diagnostic.Kind.ERROR,
+            "Could not generate " + task.newClassName + ": " + cause,
+            task.originatingElements.length == 0 ? null : task.originatingElements[0]
+        );
+    }
+
+    /**
+     * Eine {@link GenerationTask} beschreibt eine Klasse, die von dieser Pipeline generiert werden soll. Beim Ausführen
+     * dieser Aufgabe wird der Quellcode der Klasse erzeugt, jedoch noch nicht in eine Datei geschrieben.
+     */
+    private final class GenerationTask implements Callable<String> {
+
+        //<editor-fold desc="LOCAL FIELDS">
+        /** Der Name der Klasse, aus der die neue Klasse generiert wird. */
+        @NotNull
+        private final String className;
+        /** Der Name, den die neue Klasse erhalten soll. */
+        @NotNull
+        private final String newClassName;
+        /** Die Signatur des Modells der neuen Klasse oder null, wenn ihr Quellcode nicht wiederverwendet wird. */
+        @Nullable
+        private final String signature;
+        /** Der Renderer, welcher den Inhalt der neuen Klasse erzeugt. */
+        @NotNull
+        private final Consumer<JavaGenerator> renderer;
+        /** Die Elemente, aus denen die neue Klasse generiert wird. */
+        @NotNull
+        private final Element[] originatingElements;
+        /** Der Name des Handlers, welcher die Klasse generiert oder null, wenn keine Statistik erzeugt wird. */
+        @Nullable
+        private final String handler;
+        /** Die Zeit in Nanosekunden, in der der Quellcode der Klasse erzeugt wurde. */
+        private long renderNanos;
+        /** Der Schlüssel, unter dem der Quellcode im Cache abgelegt wird oder null, wenn kein Cache genutzt wird. */
+        @Nullable
+        private String cacheKey;
+        /** Ob der Quellcode der Klasse aus dem Cache wiederverwendet wurde. */
+        private boolean reused;
+        //</editor-fold>
+
+
+        //<editor-fold desc="CONSTRUCTORS">
+
+        /**
+         * Erzeugt eine neue {@link GenerationTask}, welche eine Klasse beschreibt, die generiert werden soll.
+         *
+         * @param className           Der Name der Klasse, aus der die neue Klasse generiert wird.
+         * @param newClassName        Der Name, den die neue Klasse erhalten soll.
+         * @param signature           Die Signatur des Modells der neuen Klasse oder null, wenn ihr Quellcode nicht
+         *                            wiederverwendet wird.
+         * @param renderer            Der Renderer, welcher den Inhalt der neuen Klasse erzeugt.
+         * @param originatingElements Die Elemente, aus denen die neue Klasse generiert wird.
+         * @param handler             Der Name des Handlers, welcher die Klasse generiert oder null, wenn keine
+         *                            Statistik erzeugt wird.
+         */
+        private GenerationTask(
+            @NotNull final String className,
+            @NotNull final String newClassName,
+            @Nullable final String signature,
+            @NotNull final Consumer<JavaGenerator> renderer,
+            @NotNull final Element[] originatingElements,
+            @Nullable final String handler
+        ) {
+            this.className = className;
+            this.newClassName = newClassName;
+            this.signature = signature;
+            this.renderer = renderer;
+            this.originatingElements = originatingElements;
+            this.handler = handler;
+        }
+        //</editor-fold>
+
+
+        //<editor-fold desc="implementation">
+        @NotNull
+        @Override
+        public String call() {
+            final long start = System.nanoTime();
+            final GenerationCache cache = GenerationPipeline.this.cache;
+
+            if (cache != null && this.signature != null) {
+                this.cacheKey = GenerationCache.createKey(this.newClassName, this.signature);
+
+                final String cachedSource = cache.load(this.newClassName, this.cacheKey);
+
+                if (cachedSource != null) {
+                    this.reused = true;
+                    this.renderNanos = System.nanoTime() - start;
+                    return cachedSource;
+                }
+            }
+
+            final JavaGenerator generator = new JavaGenerator(
+                this.className,
+                this.newClassName,
+                GenerationPipeline.this.sourceWriter.get()
+            );
+
+            this.renderer.accept(generator);
+            generator.finish();
+
+            final String source = generator.getSource();
+            // the duration is read on the thread of the compiler, after the future of this task has completed
+            this.renderNanos = System.nanoTime() - start;
+
+            return source;
+        }
+        //</editor-fold>
+    }
+
+}
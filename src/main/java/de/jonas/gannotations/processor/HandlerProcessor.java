@@ -0,0 +1,391 @@
+package de.jonas.gannotations.processor;
+
+import com.sun.source.util.Trees;
+import com.sun.tools.javac.processing.JavacProcessingEnvironment;
+import com.sun.tools.javac.tree.TreeMaker;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import javax.annotation.processing.AbstractProcessor;
+import javax.annotation.processing.ProcessingEnvironment;
+import javax.annotation.processing.RoundEnvironment;
+import javax.lang.model.element.Element;
+import javax.lang.model.element.TypeElement;
+import javax.tools.Diagnostic;
+
+import java.io.IOException;
+import java.lang.reflect.Field;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.ServiceConfigurationError;
+import java.util.ServiceLoader;
+import java.util.Set;
+
+/**
+ * Der {@link HandlerProcessor} enthält die gemeinsame Implementierung beider Prozessoren dieser Bibliothek. Die Handler
+ * dieser Bibliothek und alle Handler, welche über einen {@link AnnotationHandlerProvider} gefunden werden, werden beim
+ * Initialisieren in einer {@link HandlerRegistry} registriert. Jeder Prozessor ruft jedoch nur die Handler auf, für
+ * die er zuständig ist: Der {@link GemueseProcessor} ruft alle Handler auf, welche ausschließlich neue Dateien
+ * generieren, und der {@link GemueseTreeProcessor} alle Handler, welche die AST trees bestehender Klassen verändern.
+ * Dadurch kann der {@link GemueseProcessor} von Build-Tools inkrementell ausgeführt werden, auch wenn die Handler des
+ * anderen Prozessors dies verhindern.
+ */
+@NotNull
+abstract class HandlerProcessor extends AbstractProcessor {
+
+    //<editor-fold desc="LOCAL FIELDS">
+    /** Ob dieser Prozessor die Handler aufruft, welche die AST trees bestehender Klassen verändern. */
+    private final boolean treeRewriting;
+    /** Die {@link HandlerRegistry}, in der alle Handler des Prozessors registriert sind. */
+    private HandlerRegistry handlerRegistry;
+    /** Die AST trees. */
+    private Trees trees;
+    /** Der Tree-Maker um einen Tree zu editieren. */
+    private TreeMaker treeMaker;
+    /** Die {@link GenerationPipeline}, mit der alle neuen Java-Dateien generiert werden. */
+    private GenerationPipeline generationPipeline;
+    /** Die Statistik, in der die Laufzeiten des Prozessors gemessen werden oder null, wenn sie nicht aktiviert ist. */
+    @Nullable
+    private ProcessorStats stats;
+    /** Der Cache, aus dem bereits erzeugter Quellcode wiederverwendet wird oder null, wenn er nicht aktiviert ist. */
+    @Nullable
+    private GenerationCache cache;
+    //</editor-fold>
+
+
+    //<editor-fold desc="CONSTRUCTORS">
+
+    /**
+     * Erzeugt einen neuen {@link HandlerProcessor}, welcher entweder die Handler aufruft, die die AST trees bestehender
+     * Klassen verändern, oder die Handler, die ausschließlich neue Dateien generieren.
+     *
+     * @param treeRewriting Ob dieser Prozessor die Handler aufruft, welche die AST trees bestehender Klassen verändern.
+     */
+    HandlerProcessor(final boolean treeRewriting) {
+        this.treeRewriting = treeRewriting;
+    }
+    //</editor-fold>
+
+
+    //<editor-fold desc="implementation">
+    @Override
+    public synchronized void init(@NotNull final ProcessingEnvironment processingEnv) {
+        super.init(processingEnv);
+
+        // both processors load all providers, but only the processor for the generating handlers reports failures
+        this.handlerRegistry = createHandlerRegistry(processingEnv, !this.treeRewriting);
+
+        // build tools like gradle wrap the environment of the compiler, which is needed to edit the trees
+        final JavacProcessingEnvironment javacProcessingEnvironment = getJavacProcessingEnvironment(processingEnv);
+
+        if (javacProcessingEnvironment == null) {
+            processingEnv.getMessager().printMessage(
+                Diagnostic.Kind.ERROR,
+                getClass().getSimpleName() + " requires the javac compiler, but was run in "
+                    + processingEnv.getClass().getName()
+            );
+            return;
+        }
+
+        this.trees = Trees.instance(javacProcessingEnvironment);
+        this.treeMaker = TreeMaker.instance(javacProcessingEnvironment.getContext());
+
+        final String statsFile = processingEnv.getOptions().get(GemueseProcessor.STATS_OPTION);
+
+        if (statsFile != null && !statsFile.isEmpty()) {
+            this.stats = new ProcessorStats(getStatsFile(Paths.get(statsFile)));
+        }
+
+        final String cacheDirectory = processingEnv.getOptions().get(GemueseProcessor.CACHE_OPTION);
+
+        if (cacheDirectory != null && !cacheDirectory.isEmpty()) {
+            this.cache = new GenerationCache(Paths.get(cacheDirectory));
+        }
+
+        this.generationPipeline = new GenerationPipeline(
+            processingEnv,
+            Boolean.parseBoolean(processingEnv.getOptions().get(GemueseProcessor.PARALLEL_OPTION)),
+            this.stats,
+            this.cache
+        );
+    }
+
+    @NotNull
+    @Override
+    public Set<String> getSupportedAnnotationTypes() {
+        return this.handlerRegistry.getSupportedAnnotationTypes(this.treeRewriting);
+    }
+
+    @NotNull
+    @Override
+    public Set<String> getSupportedOptions() {
+        final Set<String> supportedOptions = new HashSet<>(Arrays.asList(
+            GemueseProcessor.PARALLEL_OPTION,
+            GemueseProcessor.STATS_OPTION,
+            GemueseProcessor.CACHE_OPTION
+        ));
+
+        final String gradleOption = this.handlerRegistry.getIncrementality().getGradleOption();
+
+        // the tree rewriting processor is not declared as incremental, so gradle never asks it for an option
+        if (!this.treeRewriting && gradleOption != null) {
+            supportedOptions.add(gradleOption);
+        }
+
+        return Collections.unmodifiableSet(supportedOptions);
+    }
+
+    @Override
+    public boolean process(
+        @NotNull final Set<? extends TypeElement> annotations,
+        @NotNull final RoundEnvironment roundEnvironment
+    ) {
+        // the processor could not be initialized outside of javac
+        if (this.generationPipeline == null) return false;
+
+        final long roundStart = System.nanoTime();
+
+        if (this.stats != null) {
+            this.stats.beginRound(roundEnvironment.getRootElements().size());
+        }
+
+        final Map<String, TypeElement> annotationsByName = new HashMap<>();
+
+        for (@NotNull final TypeElement annotation : annotations) {
+            annotationsByName.put(annotation.getQualifiedName().toString(), annotation);
+        }
+
+        // iterate over all handlers in the order of their registration, since some handlers rewrite members that
+        // previous handlers added to the trees
+        for (@NotNull final String annotationType : this.handlerRegistry.getAnnotationTypes(this.treeRewriting)) {
+            // get matching annotation
+            final TypeElement annotation = annotationsByName.get(annotationType);
+
+            if (annotation == null) continue;
+
+            // the handler is only created once its annotation occurs for the first time
+            final AnnotationHandler annotationHandler = this.handlerRegistry.getHandler(annotationType);
+
+            if (annotationHandler == null) continue;
+
+            final String handlerName = annotation.getSimpleName().toString();
+
+            if (this.stats != null) {
+                this.stats.setCurrentHandler(handlerName);
+            }
+
+            // separate all with current annotation annotated elements by their class in a single pass
+            final Map<TypeElement, Set<Element>> annotatedElementsByClass = new LinkedHashMap<>();
+
+            for (@NotNull final Element element : roundEnvironment.getElementsAnnotatedWith(annotation)) {
+                annotatedElementsByClass
+                    .computeIfAbsent(getEnclosingClass(element), enclosingClass -> new LinkedHashSet<>())
+                    .add(element);
+            }
+
+            // execute the process for each class
+            for (@NotNull final Map.Entry<TypeElement, Set<Element>> classEntry : annotatedElementsByClass.entrySet()) {
+                final Set<Element> specifiedAnnotatedElements = classEntry.getValue();
+                final long handlerStart = System.nanoTime();
+
+                annotationHandler.processAnnotation(
+                    specifiedAnnotatedElements,
+                    processingEnv,
+                    this.trees,
+                    this.treeMaker,
+                    this.generationPipeline
+                );
+
+                if (this.stats == null) continue;
+
+                this.stats.recordClass(
+                    handlerName,
+                    classEntry.getKey().getQualifiedName().toString(),
+                    specifiedAnnotatedElements.size(),
+                    System.nanoTime() - handlerStart
+                );
+            }
+        }
+
+        // generate all java files of this round
+        if (roundEnvironment.processingOver()) {
+            this.generationPipeline.close();
+        } else {
+            this.generationPipeline.flush();
+        }
+
+        // the tree rewriting handlers rarely cache anything, so their processor only reports a cache it has used
+        if (this.cache != null && roundEnvironment.processingOver() && (!this.treeRewriting || this.cache.isUsed())) {
+            processingEnv.getMessager().printMessage(Diagnostic.Kind.NOTE, this.cache.getSummary());
+        }
+
+        if (this.stats != null) {
+            this.stats.endRound(System.nanoTime() - roundStart);
+
+            if (roundEnvironment.processingOver()) {
+                writeStats(this.stats);
+            }
+        }
+
+        return true;
+    }
+    //</editor-fold>
+
+    /**
+     * Gibt die Datei zurück, in die dieser Prozessor seine Statistik schreibt. Der {@link GemueseTreeProcessor}
+     * schreibt seine Statistik in eine eigene Datei, deren Name vor der Dateiendung um '.trees' ergänzt wird (Bsp:
+     * 'stats.json' wird zu 'stats.trees.json'), damit sich die Statistiken beider Prozessoren nicht überschreiben.
+     *
+     * @param file Die Datei, welche über die Option {@link GemueseProcessor#STATS_OPTION} angegeben wurde.
+     *
+     * @return Die Datei, in die dieser Prozessor seine Statistik schreibt.
+     */
+    @NotNull
+    private Path getStatsFile(@NotNull final Path file) {
+        if (!this.treeRewriting) return file;
+
+        final String fileName = file.getFileName().toString();
+        final int extensionStart = fileName.lastIndexOf('.');
+        final String treesFileName = extensionStart <= 0
+            ? fileName + ".trees"
+            : fileName.substring(0, extensionStart) + ".trees" + fileName.substring(extensionStart);
+
+        return file.resolveSibling(treesFileName);
+    }
+
+    /**
+     * Schreibt die Statistik des Prozessors in ihre Datei und gibt eine Zusammenfassung als Hinweis des Compilers aus.
+     * Kann die Datei nicht geschrieben werden, wird lediglich eine Warnung ausgegeben, da die Statistik keinen Einfluss
+     * auf das Ergebnis der Kompilierung hat.
+     *
+     * @param stats Die Statistik, welche geschrieben werden soll.
+     */
+    private void writeStats(@NotNull final ProcessorStats stats) {
+        try {
+            stats.write();
+            processingEnv.getMessager().printMessage(Diagnostic.Kind.NOTE, stats.getSummary());
+        } catch (@NotNull final IOException e) {
+            processingEnv.getMessager().printMessage(
+                Diagnostic.Kind.WARNING,
+                "Could not write processor statistics to " + stats.getFile() + ": " + e
+            );
+        }
+    }
+
+    /**
+     * Gibt die {@link JavacProcessingEnvironment} des Compilers zurück, welche sich hinter einer übergebenen {@link
+     * ProcessingEnvironment} befindet. Build-Tools wie Gradle übergeben dem Prozessor eine eigene Umgebung, welche alle
+     * Aufrufe an die Umgebung des Compilers weiterleitet. Diese Umgebung wird anhand ihrer Felder so lange entpackt,
+     * bis die Umgebung des Compilers gefunden wurde.
+     *
+     * @param processingEnvironment Die {@link ProcessingEnvironment}, welche dem Prozessor übergeben wurde.
+     *
+     * @return Die Umgebung des Compilers oder null, wenn der Prozessor nicht von javac ausgeführt wird.
+     */
+    @Nullable
+    static JavacProcessingEnvironment getJavacProcessingEnvironment(
+        @NotNull final ProcessingEnvironment processingEnvironment
+    ) {
+        if (processingEnvironment instanceof JavacProcessingEnvironment) {
+            return (JavacProcessingEnvironment) processingEnvironment;
+        }
+
+        for (Class<?> type = processingEnvironment.getClass(); type != null; type = type.getSuperclass()) {
+            for (@NotNull final Field field : type.getDeclaredFields()) {
+                if (!ProcessingEnvironment.class.isAssignableFrom(field.getType())) continue;
+
+                final Object delegate;
+
+                try {
+                    field.setAccessible(true);
+                    delegate = field.get(processingEnvironment);
+                } catch (@NotNull final ReflectiveOperationException | RuntimeException e) {
+                    continue;
+                }
+
+                if (delegate == null || delegate == processingEnvironment) continue;
+
+                final JavacProcessingEnvironment javacProcessingEnvironment = getJavacProcessingEnvironment(
+                    (ProcessingEnvironment) delegate
+                );
+
+                if (javacProcessingEnvironment != null) {
+                    return javacProcessingEnvironment;
+                }
+            }
+        }
+
+        return null;
+    }
+
+    /**
+     * Gibt die Klasse zurück, zu der ein bestimmtes Element gehört. Handelt es sich bei dem Element selbst um eine
+     * Klasse, wird diese Klasse zurückgegeben.
+     *
+     * @param element Das Element, dessen Klasse ermittelt werden soll.
+     *
+     * @return Die Klasse, zu der das Element gehört.
+     */
+    @NotNull
+    private static TypeElement getEnclosingClass(@NotNull final Element element) {
+        Element enclosingElement = element;
+
+        while (!(enclosingElement instanceof TypeElement)) {
+            enclosingElement = enclosingElement.getEnclosingElement();
+        }
+
+        return (TypeElement) enclosingElement;
+    }
+
+    /**
+     * Erzeugt die {@link HandlerRegistry} dieses Prozessors. Zuerst werden alle Handler dieser Bibliothek und
+     * anschließend alle Handler, welche über einen {@link AnnotationHandlerProvider} im Klassenpfad des Prozessors
+     * gefunden werden, in der Reihenfolge ihres Fundes registriert. Kann ein Provider nicht geladen werden oder
+     * registriert einen Handler für eine bereits registrierte Annotation, wird ein Fehler ausgegeben und mit dem
+     * nächsten Provider fortgefahren.
+     *
+     * @param processingEnvironment Die {@link ProcessingEnvironment}, über die Fehler ausgegeben werden.
+     * @param reportErrors          Ob Fehler beim Laden der Provider ausgegeben werden sollen.
+     *
+     * @return Die {@link HandlerRegistry}, in der alle gefundenen Handler registriert sind.
+     */
+    @NotNull
+    private static HandlerRegistry createHandlerRegistry(
+        @NotNull final ProcessingEnvironment processingEnvironment,
+        final boolean reportErrors
+    ) {
+        final HandlerRegistry registry = new HandlerRegistry();
+        new DefaultHandlerProvider().registerHandlers(registry);
+
+        final Iterator<AnnotationHandlerProvider> providers = ServiceLoader.load(
+            AnnotationHandlerProvider.class,
+            HandlerProcessor.class.getClassLoader()
+        ).iterator();
+
+        while (true) {
+            try {
+                if (!providers.hasNext()) break;
+
+                providers.next().registerHandlers(registry);
+            } catch (@NotNull final ServiceConfigurationError | IllegalStateException e) {
+                if (!reportErrors) continue;
+
+                processingEnvironment.getMessager().printMessage(
+                    Diagnostic.Kind.ERROR,
+                    "Could not register annotation handler provider: " + e.getMessage()
+                );
+            }
+        }
+
+        return registry;
+    }
+
+}
@@ -0,0 +1,217 @@
+package de.jonas.gannotations.processor;
+
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Supplier;
+
+/**
+ * In der {@link HandlerRegistry} werden alle {@link AnnotationHandler} der Prozessoren dieser Bibliothek anhand des
+ * vollständigen Namens ihrer Annotation abgelegt. Zu jeder Annotation wird nur eine Fabrik registriert, welche den
+ * Handler erst beim ersten Vorkommen der Annotation erzeugt. Die Handler werden in der Reihenfolge aufgerufen, in der
+ * sie registriert wurden, da einige Handler Elemente umschreiben, welche von vorherigen Handlern erzeugt wurden.
+ */
+@NotNull
+public final class HandlerRegistry {
+
+    //<editor-fold desc="LOCAL FIELDS">
+    /** Alle registrierten Handler, welche anhand des vollständigen Namens ihrer Annotation abgelegt werden. */
+    @NotNull
+    private final Map<String, Registration> registrations = new LinkedHashMap<>();
+    /** Die vollständigen Namen aller Annotations, welche vom Prozessor unterstützt werden. */
+    @NotNull
+    private final Set<String> annotationTypes = new LinkedHashSet<>();
+    //</editor-fold>
+
+
+    //<editor-fold desc="CONSTRUCTORS">
+
+    /**
+     * Erzeugt eine neue und leere {@link HandlerRegistry}, in der alle Handler des Prozessors registriert werden.
+     */
+    HandlerRegistry() {
+    }
+    //</editor-fold>
+
+
+    /**
+     * Registriert einen neuen {@link AnnotationHandler} für eine bestimmte Annotation. Das Verhalten bei
+     * inkrementeller Kompilierung wird nur hier angegeben und nicht vom Handler selbst, da es bereits vor dem Erzeugen
+     * der Handler an Build-Tools übergeben wird.
+     *
+     * @param annotationType Der vollständige Name der Annotation, auf die sich der Handler bezieht.
+     * @param incrementality Das Verhalten des Handlers bei inkrementeller Kompilierung.
+     * @param factory        Die Fabrik, mit der der Handler beim ersten Vorkommen seiner Annotation erzeugt wird.
+     *
+     * @throws IllegalStateException Wenn für diese Annotation bereits ein Handler registriert wurde.
+     */
+    public void register(
+        @NotNull final String annotationType,
+        @NotNull final Incrementality incrementality,
+        @NotNull final Supplier<? extends AnnotationHandler> factory
+    ) {
+        if (this.registrations.containsKey(annotationType)) {
+            throw new IllegalStateException("A handler for " + annotationType + " is already registered.");
+        }
+
+        this.registrations.put(annotationType, new Registration(incrementality, factory));
+        this.annotationTypes.add(annotationType);
+    }
+
+    /**
+     * Registriert eine Annotation, für die es keinen eigenen {@link AnnotationHandler} gibt, welche jedoch von anderen
+     * Handlern gelesen wird (Bsp: {@link de.jonas.gannotations.annotation.ReusableBuilder}). Die Annotation wird
+     * dadurch ebenfalls vom Prozessor unterstützt, sodass der Compiler sie nicht als unbearbeitet meldet.
+     *
+     * @param annotationType Der vollständige Name der Annotation, welche von anderen Handlern gelesen wird.
+     */
+    public void registerMarker(@NotNull final String annotationType) {
+        this.annotationTypes.add(annotationType);
+    }
+
+    /**
+     * Gibt die vollständigen Namen aller Annotations zurück, welche von einem der beiden Prozessoren unterstützt
+     * werden. Der Prozessor für die generierenden Handler unterstützt zusätzlich alle Annotations, welche nur von
+     * anderen Handlern gelesen werden.
+     *
+     * @param treeRewriting Ob die Annotations des Prozessors für die Handler zurückgegeben werden sollen, welche die
+     *                      AST trees bestehender Klassen verändern.
+     *
+     * @return Die vollständigen Namen aller Annotations, welche von dem Prozessor unterstützt werden.
+     */
+    @NotNull
+    Set<String> getSupportedAnnotationTypes(final boolean treeRewriting) {
+        final Set<String> supportedAnnotationTypes = new LinkedHashSet<>(this.annotationTypes);
+
+        // the markers are claimed by the processor for the generating handlers, which read most of them
+        supportedAnnotationTypes.removeIf(annotationType -> {
+            final Registration registration = this.registrations.get(annotationType);
+
+            return registration == null ? treeRewriting : registration.isTreeRewriting() != treeRewriting;
+        });
+
+        return Collections.unmodifiableSet(supportedAnnotationTypes);
+    }
+
+    /**
+     * Gibt die vollständigen Namen aller Annotations zurück, für die ein Handler registriert wurde, welcher von einem
+     * der beiden Prozessoren aufgerufen wird. Die Namen werden in der Reihenfolge zurückgegeben, in der die Handler
+     * registriert wurden.
+     *
+     * @param treeRewriting Ob die Annotations der Handler zurückgegeben werden sollen, welche die AST trees bestehender
+     *                      Klassen verändern.
+     *
+     * @return Die vollständigen Namen aller Annotations, für die ein solcher Handler registriert wurde.
+     */
+    @NotNull
+    Set<String> getAnnotationTypes(final boolean treeRewriting) {
+        final Set<String> annotationTypes = new LinkedHashSet<>();
+
+        for (@NotNull final Map.Entry<String, Registration> entry : this.registrations.entrySet()) {
+            if (entry.getValue().isTreeRewriting() != treeRewriting) continue;
+
+            annotationTypes.add(entry.getKey());
+        }
+
+        return Collections.unmodifiableSet(annotationTypes);
+    }
+
+    /**
+     * Gibt den {@link AnnotationHandler} einer bestimmten Annotation zurück. Der Handler wird beim ersten Aufruf
+     * mithilfe seiner Fabrik erzeugt und anschließend wiederverwendet.
+     *
+     * @param annotationType Der vollständige Name der Annotation, dessen Handler zurückgegeben werden soll.
+     *
+     * @return Der Handler der Annotation oder null, wenn für diese Annotation kein Handler registriert wurde.
+     */
+    @Nullable
+    AnnotationHandler getHandler(@NotNull final String annotationType) {
+        final Registration registration = this.registrations.get(annotationType);
+
+        if (registration == null) return null;
+
+        if (registration.handler == null) {
+            registration.handler = registration.factory.get();
+        }
+
+        return registration.handler;
+    }
+
+    /**
+     * Ermittelt das Verhalten aller generierenden Handler bei inkrementeller Kompilierung. Die Handler sind nur dann
+     * {@link Incrementality#ISOLATING isolierend}, wenn jeder einzelne Handler isolierend ist. Handler, welche die AST
+     * trees bestehender Klassen verändern, werden von einem eigenen Prozessor aufgerufen und daher nicht beachtet.
+     *
+     * @return Das Verhalten aller generierenden Handler bei inkrementeller Kompilierung.
+     */
+    @NotNull
+    Incrementality getIncrementality() {
+        Incrementality incrementality = Incrementality.ISOLATING;
+
+        for (@NotNull final Registration registration : this.registrations.values()) {
+            if (registration.isTreeRewriting()) continue;
+
+            // the constants are declared from the most to the least incremental behaviour
+            if (registration.incrementality.compareTo(incrementality) > 0) {
+                incrementality = registration.incrementality;
+            }
+        }
+
+        return incrementality;
+    }
+
+    /**
+     * Eine {@link Registration} beschreibt einen registrierten {@link AnnotationHandler}, welcher erst bei seiner
+     * ersten Verwendung erzeugt wird.
+     */
+    private static final class Registration {
+
+        //<editor-fold desc="LOCAL FIELDS">
+        /** Das Verhalten des Handlers bei inkrementeller Kompilierung. */
+        @NotNull
+        private final Incrementality incrementality;
+        /** Die Fabrik, mit der der Handler erzeugt wird. */
+        @NotNull
+        private final Supplier<? extends AnnotationHandler> factory;
+        /** Der erzeugte Handler oder null, wenn der Handler noch nicht verwendet wurde. */
+        @Nullable
+        private AnnotationHandler handler;
+        //</editor-fold>
+
+
+        //<editor-fold desc="CONSTRUCTORS">
+
+        /**
+         * Erzeugt eine neue {@link Registration} für einen Handler, welcher erst bei seiner ersten Verwendung erzeugt
+         * wird.
+         *
+         * @param incrementality Das Verhalten des Handlers bei inkrementeller Kompilierung.
+         * @param factory        Die Fabrik, mit der der Handler erzeugt wird.
+         */
+        private Registration(
+            @NotNull final Incrementality incrementality,
+            @NotNull final Supplier<? extends AnnotationHandler> factory
+        ) {
+            this.incrementality = incrementality;
+            this.factory = factory;
+        }
+        //</editor-fold>
+
+
+        /**
+         * Gibt zurück, ob der Handler die AST trees bestehender Klassen verändert und daher vom {@link
+         * GemueseTreeProcessor} aufgerufen wird.
+         *
+         * @return Ob der Handler die AST trees bestehender Klassen verändert.
+         */
+        private boolean isTreeRewriting() {
+            return this.incrementality == Incrementality.NONE;
+        }
+    }
+
+}
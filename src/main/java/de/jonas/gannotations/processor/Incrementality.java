@@ -0,0 +1,63 @@
+package de.jonas.gannotations.processor;
+
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * Die {@link Incrementality} beschreibt, wie sich ein {@link AnnotationHandler} bei inkrementeller Kompilierung verhält.
+ * Anhand dieser Angabe können Build-Tools (wie Gradle) entscheiden, welche generierten Dateien nach der Änderung einer
+ * Klasse neu erzeugt werden müssen, ohne das gesamte Projekt neu zu kompilieren.
+ */
+@NotNull
+public enum Incrementality {
+
+    /**
+     * Jede generierte Datei hängt ausschließlich von genau einer Klasse ab, welche dem {@link JavaGenerator} als
+     * Ursprung übergeben wird.
+     */
+    ISOLATING("org.gradle.annotation.processing.isolating"),
+    /**
+     * Eine generierte Datei kann von mehreren Klassen abhängen, weshalb bei jeder Änderung alle angemerkten Klassen
+     * erneut verarbeitet werden müssen.
+     */
+    AGGREGATING("org.gradle.annotation.processing.aggregating"),
+    /**
+     * Der Handler verändert die AST trees bestehender Klassen über die internen Schnittstellen des Compilers. Solche
+     * Handler dürfen gegenüber Gradle weder isolierend noch aggregierend sein, weshalb sie vom {@link
+     * GemueseTreeProcessor} aufgerufen werden, welcher von Gradle nicht inkrementell ausgeführt wird.
+     */
+    NONE(null);
+
+    //<editor-fold desc="LOCAL FIELDS">
+    /** Die Option, mit der ein Prozessor dieses Verhalten gegenüber Gradle angibt oder null, wenn es keine gibt. */
+    @Nullable
+    private final String gradleOption;
+    //</editor-fold>
+
+
+    //<editor-fold desc="CONSTRUCTORS">
+
+    /**
+     * Erzeugt eine neue {@link Incrementality}, welche mithilfe einer bestimmten Option gegenüber Gradle angegeben wird.
+     *
+     * @param gradleOption Die Option, mit der ein Prozessor dieses Verhalten gegenüber Gradle angibt oder null, wenn
+     *                     es keine gibt.
+     */
+    Incrementality(@Nullable final String gradleOption) {
+        this.gradleOption = gradleOption;
+    }
+    //</editor-fold>
+
+
+    /**
+     * Gibt die Option zurück, mit der ein Prozessor dieses Verhalten gegenüber Gradle angibt.
+     *
+     * @return Die Option, mit der ein Prozessor dieses Verhalten gegenüber Gradle angibt oder null, wenn der Prozessor
+     *     nicht inkrementell ausgeführt werden kann.
+     */
+    @Nullable
+    public String getGradleOption() {
+        return this.gradleOption;
+    }
+
+}
@@ -3,13 +3,8 @@ package de.jonas.gannotations.processor;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
-import javax.annotation.processing.ProcessingEnvironment;
-import javax.tools.JavaFileObject;
-
-import java.io.IOException;
-import java.io.PrintWriter;
-import java.util.Map;
-import java.util.NavigableMap;
+import java.util.Collections;
+import java.util.List;
 
 /**
  * Mithilfe des {@link JavaGenerator} lässt sich eine Java-Datei einfach und sauber erzeugen. Man kann ausschließlich
@@ -22,8 +17,12 @@ public final class JavaGenerator {
     /** Der Name der Klasse, die neu erstellt werden soll. */
     @NotNull
     private final String newClassName;
-    /** Der {@link PrintWriter}, mit dem die gesamte Java-Datei geschrieben wird. */
-    private PrintWriter writer;
+    /** Der einfache Name (ohne Package) der Klasse, die neu erstellt werden soll. */
+    @NotNull
+    private final String simpleNewClassName;
+    /** Der {@link SourceWriter}, mit dem die gesamte Java-Datei geschrieben wird. */
+    @NotNull
+    private final SourceWriter writer;
     //</editor-fold>
 
 
@@ -34,48 +33,47 @@ public final class JavaGenerator {
      * JavaGenerator} lässt sich eine Java-Datei einfach und sauber erzeugen. Man kann ausschließlich eine neue Datei
      * erzeugen und keine bestehende Datei bearbeiten. Beim Erzeugen des Konstruktors wird der grundlegende Aufbau der
      * Java-Datei schonmal niedergeschrieben. Es wird nur die Schlussklammer ('}') noch nicht gesetzt. Diese wird durch
-     * die Methode {@code finish} gesetzt.
+     * die Methode {@code finish} gesetzt. Der Quellcode wird zunächst nur im Speicher erzeugt und erst von der {@link
+     * GenerationPipeline} in eine Datei geschrieben, weshalb eine Instanz dieses Generators auf einem beliebigen Thread
+     * genutzt werden kann.
+     *
+     * @param className    Der Name der aktuellen Klasse.
+     * @param newClassName Der Name, den die neue Klasse erhalten soll.
+     */
+    public JavaGenerator(
+        @NotNull final String className,
+        @NotNull final String newClassName
+    ) {
+        this(className, newClassName, new SourceWriter());
+    }
+
+    /**
+     * Erzeugt eine neue Instanz eines {@link JavaGenerator}, welcher den Quellcode in einen bereits bestehenden {@link
+     * SourceWriter} schreibt. Der Puffer des {@link SourceWriter} wird vorher geleert, sodass derselbe {@link
+     * SourceWriter} nacheinander für beliebig viele Java-Dateien wiederverwendet werden kann.
      *
-     * @param className     Der Name der aktuellen Klasse.
-     * @param newClassName  Der Name, den die neue Klasse erhalten soll.
-     * @param processingEnv Die {@link ProcessingEnvironment}, die vom Prozessor übergeben wird.
+     * @param className    Der Name der aktuellen Klasse.
+     * @param newClassName Der Name, den die neue Klasse erhalten soll.
+     * @param writer       Der {@link SourceWriter}, in den der Quellcode geschrieben wird.
      */
     public JavaGenerator(
         @NotNull final String className,
         @NotNull final String newClassName,
-        @NotNull final ProcessingEnvironment processingEnv
+        @NotNull final SourceWriter writer
     ) {
         this.newClassName = newClassName;
+        this.simpleNewClassName = newClassName.substring(newClassName.lastIndexOf('.') + 1);
+        this.writer = writer.reset();
 
-        String packageName = null;
         final int lastDot = className.lastIndexOf('.');
 
-        final String simpleNewClassName = newClassName.substring(lastDot + 1);
-
         if (lastDot > 0) {
-            packageName = className.substring(0, lastDot);
-        }
-
-        try {
-            final JavaFileObject file = processingEnv.getFiler().createSourceFile(newClassName);
-            this.writer = new PrintWriter(file.openWriter());
-        } catch (IOException e) {
-            e.printStackTrace();
-            return;
+            this.writer.print("package ").print(className.substring(0, lastDot)).println(";");
         }
 
-        if (packageName != null) {
-            this.writer.print("package ");
-            this.writer.print(packageName);
-            this.writer.print(";");
-            this.writer.println();
-        }
-
-        this.writer.println();
-        this.writer.print("public final class ");
-        this.writer.print(simpleNewClassName);
-        this.writer.print(" {");
         this.writer.println();
+        this.writer.print("public final class ").print(this.simpleNewClassName).println(" {");
+        this.writer.indent();
     }
     //</editor-fold>
 
@@ -95,16 +93,13 @@ public final class JavaGenerator {
         @Nullable final String initializing
     ) {
         this.writer.println();
-        this.writer.print("    " + modifier);
-        this.writer.print(" " + type);
-        this.writer.print(" " + name);
+        this.writer.print(modifier).print(' ').print(type).print(' ').print(name);
 
         if (initializing != null) {
-            this.writer.print(" = ");
-            this.writer.print(initializing);
+            this.writer.print(" = ").print(initializing);
         }
 
-        this.writer.print(";");
+        this.writer.println(";");
     }
 
     /**
@@ -114,23 +109,29 @@ public final class JavaGenerator {
      * @param body       Der Inhalt, der im Konstruktor stehen soll (ein Eintrag stellt eine Zeile dar).
      */
     public void addConstructor(
-        @NotNull final NavigableMap<String, String> parameters,
+        @NotNull final List<JavaParameter> parameters,
         @NotNull final String[] body
     ) {
-        this.writer.println();
-        this.writer.println();
-
-        this.writer.print("    public ");
-        this.writer.print(this.newClassName);
-
-        writeParameters(parameters);
+        addConstructor("public", parameters, body);
+    }
 
-        this.writer.print(" {");
+    /**
+     * Fügt der zu generierenden Klasse einen Konstruktor mit einem bestimmten Zugriffsmodifikator hinzu.
+     *
+     * @param modifier   Der Zugriffsmodifikator des Konstruktors (Bsp: 'private').
+     * @param parameters Die Parameter, die der Konstruktor bekommen soll.
+     * @param body       Der Inhalt, der im Konstruktor stehen soll (ein Eintrag stellt eine Zeile dar).
+     */
+    public void addConstructor(
+        @NotNull final String modifier,
+        @NotNull final List<JavaParameter> parameters,
+        @NotNull final String[] body
+    ) {
         this.writer.println();
+        this.writer.print(modifier).print(' ').print(this.simpleNewClassName);
 
+        writeParameters(parameters);
         printBody(body);
-
-        this.writer.println("    }");
     }
 
     /**
@@ -144,37 +145,104 @@ public final class JavaGenerator {
     public void addMethod(
         @NotNull final String name,
         @Nullable final String returnType,
-        @NotNull final NavigableMap<String, String> parameters,
+        @NotNull final List<JavaParameter> parameters,
         @NotNull final String[] body
     ) {
-        final String finalReturnType = (returnType == null) ? "void" : returnType;
+        addMethod("public", name, returnType, parameters, body);
+    }
 
-        this.writer.println();
-        this.writer.println();
+    /**
+     * Fügt der zu generierenden Klasse eine Methode mit bestimmten Modifikatoren hinzu.
+     *
+     * @param modifier   Die Modifikatoren der Methode (Bsp: 'public static').
+     * @param name       Der Name der Methode.
+     * @param returnType Der Return-Type der Methode.
+     * @param parameters Die Parameter, die die Methode bekommen soll.
+     * @param body       Der Inhalt, der in dieser Methode stehen soll (ein Eintrag stellt eine Zeile dar).
+     */
+    public void addMethod(
+        @NotNull final String modifier,
+        @NotNull final String name,
+        @Nullable final String returnType,
+        @NotNull final List<JavaParameter> parameters,
+        @NotNull final String[] body
+    ) {
+        addMethod(modifier, name, returnType, parameters, Collections.emptyList(), body);
+    }
 
-        this.writer.print("    public ");
-        this.writer.print(finalReturnType);
-        this.writer.print(" ");
-        this.writer.print(name);
+    /**
+     * Fügt der zu generierenden Klasse eine Methode mit bestimmten Modifikatoren hinzu, welche Exceptions deklariert.
+     *
+     * @param modifier    Die Modifikatoren der Methode (Bsp: 'public static').
+     * @param name        Der Name der Methode.
+     * @param returnType  Der Return-Type der Methode.
+     * @param parameters  Die Parameter, die die Methode bekommen soll.
+     * @param thrownTypes Die Exceptions, welche die Methode deklarieren soll.
+     * @param body        Der Inhalt, der in dieser Methode stehen soll (ein Eintrag stellt eine Zeile dar).
+     */
+    public void addMethod(
+        @NotNull final String modifier,
+        @NotNull final String name,
+        @Nullable final String returnType,
+        @NotNull final List<JavaParameter> parameters,
+        @NotNull final List<String> thrownTypes,
+        @NotNull final String[] body
+    ) {
+        this.writer.println();
+        this.writer.print(modifier).print(' ').print(returnType == null ? "void" : returnType).print(' ').print(name);
 
         writeParameters(parameters);
 
-        this.writer.print(" {");
-        this.writer.println();
+        for (int i = 0; i < thrownTypes.size(); i++) {
+            this.writer.print(i == 0 ? " throws " : ", ").print(thrownTypes.get(i));
+        }
 
         printBody(body);
+    }
 
-        this.writer.println("    }");
+    /**
+     * Beginnt eine innere Klasse, welcher alle folgenden Felder und Methoden hinzugefügt werden, bis die innere Klasse
+     * mit der Methode {@code endNestedClass} wieder geschlossen wird. Einer inneren Klasse lassen sich keine
+     * Konstruktoren hinzufügen, da diese den Namen der äußeren Klasse erhalten würden.
+     *
+     * @param modifier Die Modifikatoren der inneren Klasse (Bsp: 'public static final').
+     * @param name     Der einfache Name der inneren Klasse.
+     */
+    public void beginNestedClass(
+        @NotNull final String modifier,
+        @NotNull final String name
+    ) {
+        this.writer.println();
+        this.writer.print(modifier).print(" class ").print(name).println(" {");
+        this.writer.indent();
+    }
+
+    /**
+     * Schließt die innere Klasse, welche zuletzt mit der Methode {@code beginNestedClass} begonnen wurde.
+     */
+    public void endNestedClass() {
+        this.writer.unindent();
+        this.writer.println("}");
     }
 
     /**
      * Beendet die Bearbeitung dieses Generators und setzt die Schlussklammer ('}') der Klasse. Nachdem diese Methode
-     * aufgerufen wurde, kann keine weitere Änderung mithilfe dieses Generators mehr vorgenommen werden, da der {@link
-     * PrintWriter} geschlossen wird.
+     * aufgerufen wurde, sollte keine weitere Änderung mithilfe dieses Generators mehr vorgenommen werden.
      */
     public void finish() {
+        this.writer.unindent();
         this.writer.println("}");
-        this.writer.close();
+    }
+
+    /**
+     * Gibt den erzeugten Quellcode der gesamten Java-Datei zurück. Der Quellcode ist erst vollständig, nachdem die
+     * Methode {@code finish} aufgerufen wurde.
+     *
+     * @return Der erzeugte Quellcode der gesamten Java-Datei.
+     */
+    @NotNull
+    public String getSource() {
+        return this.writer.toString();
     }
 
     /**
@@ -188,41 +256,43 @@ public final class JavaGenerator {
     }
 
     /**
-     * Fügt an der Stelle, an der sich der {@link PrintWriter} momentan befindet Parameter, welche durch Klammern
+     * Fügt an der Stelle, an der sich der {@link SourceWriter} momentan befindet Parameter, welche durch Klammern
      * eingeschlossen sind hinzu.
      *
      * @param parameters Die Parameter, die niedergeschrieben werden sollen.
      */
-    private void writeParameters(@NotNull NavigableMap<String, String> parameters) {
-        this.writer.print("(");
-
-        for (@NotNull final Map.Entry<String, String> entry : parameters.entrySet()) {
-            final String paramObject = entry.getKey();
-            final String paramName = entry.getValue();
+    private void writeParameters(@NotNull final List<JavaParameter> parameters) {
+        this.writer.print('(');
 
-            this.writer.print("final ");
-            this.writer.print(paramObject);
-            this.writer.print(" ");
-            this.writer.print(paramName);
+        for (int i = 0; i < parameters.size(); i++) {
+            final JavaParameter parameter = parameters.get(i);
 
-            if (entry.equals(parameters.lastEntry())) continue;
+            if (i > 0) {
+                this.writer.print(", ");
+            }
 
-            this.writer.print(", ");
+            this.writer.print("final ").print(parameter.getType()).print(' ').print(parameter.getName());
         }
 
-        this.writer.print(")");
+        this.writer.print(')');
     }
 
     /**
-     * Erzeugt an der Stelle, an der sich der {@link PrintWriter} momentan befindet Code, welcher in einem Array
-     * abgespeichert ist, wo ein Eintrag eine Zeile darstellt.
+     * Erzeugt an der Stelle, an der sich der {@link SourceWriter} momentan befindet einen Block, welcher den Code
+     * enthält, der in einem Array abgespeichert ist, wo ein Eintrag eine Zeile darstellt.
      *
      * @param body Der Inhalt, welcher niedergeschrieben werden soll.
      */
     private void printBody(@NotNull final String[] body) {
+        this.writer.println(" {");
+        this.writer.indent();
+
         for (@NotNull final String line : body) {
-            this.writer.println("        " + line);
+            this.writer.println(line);
         }
+
+        this.writer.unindent();
+        this.writer.println("}");
     }
 
 }
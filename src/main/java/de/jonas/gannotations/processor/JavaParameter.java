@@ -0,0 +1,263 @@
+package de.jonas.gannotations.processor;
+
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import javax.lang.model.type.ArrayType;
+import javax.lang.model.type.TypeKind;
+import javax.lang.model.type.TypeMirror;
+
+/**
+ * Ein {@link JavaParameter} beschreibt einen Parameter (oder eine Eigenschaft), bestehend aus einem Namen und einem Typ.
+ * Der Typ wird anhand seiner {@link TypeKind} unterschieden, sodass primitive Typen bei der Generierung auch primitiv
+ * bleiben und nicht geboxt werden. Ein {@link JavaParameter} ist unveränderlich und greift nach seiner Erzeugung nicht
+ * mehr auf die Elemente des Compilers zu, weshalb er auch beim parallelen Erzeugen von Quellcode genutzt werden kann.
+ */
+@NotNull
+public final class JavaParameter {
+
+    //<editor-fold desc="LOCAL FIELDS">
+    /** Der Name dieses Parameters. */
+    @NotNull
+    private final String name;
+    /** Der vollständige Typ dieses Parameters, so wie er im Quellcode geschrieben wird. */
+    @NotNull
+    private final String type;
+    /** Die Art des Typs dieses Parameters. */
+    @NotNull
+    private final TypeKind kind;
+    /** Der Typ der Elemente, wenn es sich bei diesem Parameter um ein Array handelt, ansonsten null. */
+    @Nullable
+    private final String componentType;
+    /** Die Art des Typs der Elemente, wenn es sich bei diesem Parameter um ein Array handelt, ansonsten null. */
+    @Nullable
+    private final TypeKind componentKind;
+    //</editor-fold>
+
+
+    //<editor-fold desc="CONSTRUCTORS">
+
+    /**
+     * Erzeugt einen neuen {@link JavaParameter}, welcher kein Array ist.
+     *
+     * @param name Der Name des Parameters.
+     * @param type Der vollständige Typ des Parameters, so wie er im Quellcode geschrieben wird.
+     * @param kind Die Art des Typs des Parameters.
+     */
+    public JavaParameter(
+        @NotNull final String name,
+        @NotNull final String type,
+        @NotNull final TypeKind kind
+    ) {
+        this(name, type, kind, null, null);
+    }
+
+    /**
+     * Erzeugt einen neuen {@link JavaParameter}.
+     *
+     * @param name          Der Name des Parameters.
+     * @param type          Der vollständige Typ des Parameters, so wie er im Quellcode geschrieben wird.
+     * @param kind          Die Art des Typs des Parameters.
+     * @param componentType Der Typ der Elemente, wenn es sich bei dem Parameter um ein Array handelt, ansonsten null.
+     * @param componentKind Die Art des Typs der Elemente, wenn es sich bei dem Parameter um ein Array handelt,
+     *                      ansonsten null.
+     */
+    private JavaParameter(
+        @NotNull final String name,
+        @NotNull final String type,
+        @NotNull final TypeKind kind,
+        @Nullable final String componentType,
+        @Nullable final TypeKind componentKind
+    ) {
+        this.name = name;
+        this.type = type;
+        this.kind = kind;
+        this.componentType = componentType;
+        this.componentKind = componentKind;
+    }
+    //</editor-fold>
+
+
+    /**
+     * Erzeugt einen neuen {@link JavaParameter} anhand eines Typs des Compilers. Diese Methode muss auf dem Thread des
+     * Compilers aufgerufen werden.
+     *
+     * @param name Der Name des Parameters.
+     * @param type Der Typ des Parameters.
+     *
+     * @return Der neue {@link JavaParameter}.
+     */
+    @NotNull
+    public static JavaParameter of(
+        @NotNull final String name,
+        @NotNull final TypeMirror type
+    ) {
+        if (type.getKind() != TypeKind.ARRAY) {
+            return new JavaParameter(name, type.toString(), type.getKind());
+        }
+
+        final TypeMirror componentType = ((ArrayType) type).getComponentType();
+
+        return new JavaParameter(
+            name,
+            type.toString(),
+            type.getKind(),
+            componentType.toString(),
+            componentType.getKind()
+        );
+    }
+
+    /**
+     * Erzeugt einen neuen {@link JavaParameter} mit demselben Typ wie dieser Parameter, jedoch mit einem anderen Namen.
+     *
+     * @param newName Der Name des neuen Parameters.
+     *
+     * @return Der neue {@link JavaParameter}.
+     */
+    @NotNull
+    public JavaParameter withName(@NotNull final String newName) {
+        return new JavaParameter(newName, this.type, this.kind, this.componentType, this.componentKind);
+    }
+
+    /**
+     * Gibt den Namen dieses Parameters zurück.
+     *
+     * @return Der Name dieses Parameters.
+     */
+    @NotNull
+    public String getName() {
+        return this.name;
+    }
+
+    /**
+     * Gibt den vollständigen Typ dieses Parameters zurück, so wie er im Quellcode geschrieben wird.
+     *
+     * @return Der vollständige Typ dieses Parameters.
+     */
+    @NotNull
+    public String getType() {
+        return this.type;
+    }
+
+    /**
+     * Gibt die Art des Typs dieses Parameters zurück.
+     *
+     * @return Die Art des Typs dieses Parameters.
+     */
+    @NotNull
+    public TypeKind getKind() {
+        return this.kind;
+    }
+
+    /**
+     * Gibt den Typ der Elemente zurück, wenn es sich bei diesem Parameter um ein Array handelt.
+     *
+     * @return Der Typ der Elemente oder null, wenn es sich bei diesem Parameter um kein Array handelt.
+     */
+    @Nullable
+    public String getComponentType() {
+        return this.componentType;
+    }
+
+    /**
+     * Gibt die Art des Typs der Elemente zurück, wenn es sich bei diesem Parameter um ein Array handelt.
+     *
+     * @return Die Art des Typs der Elemente oder null, wenn es sich bei diesem Parameter um kein Array handelt.
+     */
+    @Nullable
+    public TypeKind getComponentKind() {
+        return this.componentKind;
+    }
+
+    /**
+     * Prüft, ob es sich bei dem Typ dieses Parameters um einen primitiven Typ handelt.
+     *
+     * @return Ob es sich bei dem Typ dieses Parameters um einen primitiven Typ handelt.
+     */
+    public boolean isPrimitive() {
+        return this.kind.isPrimitive();
+    }
+
+    /**
+     * Prüft, ob es sich bei diesem Parameter um ein Array handelt, dessen Elemente einen primitiven Typ haben.
+     *
+     * @return Ob es sich bei diesem Parameter um ein Array mit primitiven Elementen handelt.
+     */
+    public boolean isPrimitiveArray() {
+        return this.componentKind != null && this.componentKind.isPrimitive();
+    }
+
+    /**
+     * Gibt den Typ dieses Parameters zurück, wobei primitive Typen durch ihre Wrapper-Klasse ersetzt werden (Bsp:
+     * 'java.lang.Integer' für int). Diese Form wird für Typ-Argumente von generischen Klassen benötigt.
+     *
+     * @return Der Typ dieses Parameters, welcher niemals primitiv ist.
+     */
+    @NotNull
+    public String getBoxedType() {
+        switch (this.kind) {
+            case BOOLEAN:
+                return "java.lang.Boolean";
+            case CHAR:
+                return "java.lang.Character";
+            case LONG:
+                return "java.lang.Long";
+            case FLOAT:
+                return "java.lang.Float";
+            case DOUBLE:
+                return "java.lang.Double";
+            case BYTE:
+                return "java.lang.Byte";
+            case SHORT:
+                return "java.lang.Short";
+            case INT:
+                return "java.lang.Integer";
+            case VOID:
+                return "java.lang.Void";
+            default:
+                return this.type;
+        }
+    }
+
+    /**
+     * Gibt den Standardwert des Typs dieses Parameters zurück, so wie er im Quellcode geschrieben wird (Bsp: '0L' für
+     * long oder 'null' für alle Referenz-Typen).
+     *
+     * @return Der Standardwert des Typs dieses Parameters.
+     */
+    @NotNull
+    public String getDefaultValue() {
+        switch (this.kind) {
+            case BOOLEAN:
+                return "false";
+            case CHAR:
+                return "'\\0'";
+            case LONG:
+                return "0L";
+            case FLOAT:
+                return "0F";
+            case DOUBLE:
+                return "0D";
+            case BYTE:
+            case SHORT:
+                return "(" + this.type + ") 0";
+            case INT:
+                return "0";
+            default:
+                return "null";
+        }
+    }
+
+    /**
+     * Gibt diesen Parameter so zurück, wie er im Quellcode deklariert wird (Bsp: 'java.lang.String name'). Diese Form
+     * kann als Teil der Signatur eines Modells genutzt werden.
+     *
+     * @return Dieser Parameter, so wie er im Quellcode deklariert wird.
+     */
+    @NotNull
+    @Override
+    public String toString() {
+        return this.type + " " + this.name;
+    }
+
+}
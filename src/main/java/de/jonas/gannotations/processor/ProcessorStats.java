@@ -0,0 +1,552 @@
+package de.jonas.gannotations.processor;
+
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * Mithilfe der {@link ProcessorStats} wird gemessen, wie viel Zeit ein Prozessor dieser Bibliothek während des
+ * Kompilierens benötigt. Gezählt werden die Laufzeit und die Anzahl an Elementen jeder Runde, jedes {@link
+ * AnnotationHandler} und jeder Klasse, sowie die Größe jeder generierten Datei, die Zeit, in der ihr Quellcode durch
+ * einen {@link JavaGenerator} erzeugt wurde, und die Zeit, in der sie über den {@link
+ * javax.annotation.processing.Filer} geschrieben wurde. Nach der letzten Runde werden alle Messwerte als JSON-Datei
+ * geschrieben. Die Statistik wird nur dann erzeugt, wenn sie über die Option {@link GemueseProcessor#STATS_OPTION}
+ * aktiviert wurde, und darf nur auf dem Thread des Compilers genutzt werden.
+ */
+@NotNull
+final class ProcessorStats {
+
+    //<editor-fold desc="CONSTANTS">
+    /** Die Anzahl an Nanosekunden in einer Millisekunde. */
+    private static final double NANOS_PER_MILLI = 1_000_000D;
+    //</editor-fold>
+
+
+    //<editor-fold desc="LOCAL FIELDS">
+    /** Die Datei, in die alle Messwerte geschrieben werden. */
+    @NotNull
+    private final Path file;
+    /** Die Messwerte aller Runden. */
+    @NotNull
+    private final List<RoundStats> rounds = new ArrayList<>();
+    /** Die zusammengefassten Messwerte aller Handler, welche anhand ihres Namens abgelegt werden. */
+    @NotNull
+    private final Map<String, HandlerStats> handlers = new LinkedHashMap<>();
+    /** Die Messwerte aller Aufrufe eines Handlers für eine einzelne Klasse. */
+    @NotNull
+    private final List<ClassStats> classes = new ArrayList<>();
+    /** Die Messwerte aller generierten Dateien. */
+    @NotNull
+    private final List<FileStats> files = new ArrayList<>();
+    /** Der Name des Handlers, welcher gerade aufgerufen wird. */
+    @Nullable
+    private String currentHandler;
+    //</editor-fold>
+
+
+    //<editor-fold desc="CONSTRUCTORS">
+
+    /**
+     * Erzeugt eine neue {@link ProcessorStats}, deren Messwerte nach der letzten Runde in eine Datei geschrieben
+     * werden.
+     *
+     * @param file Die Datei, in die alle Messwerte geschrieben werden.
+     */
+    ProcessorStats(@NotNull final Path file) {
+        this.file = file;
+    }
+    //</editor-fold>
+
+
+    /**
+     * Beginnt eine neue Runde des Prozessors.
+     *
+     * @param rootElements Die Anzahl an Elementen, welche in dieser Runde vom Compiler übergeben wurden.
+     */
+    void beginRound(final int rootElements) {
+        this.rounds.add(new RoundStats(this.rounds.size() + 1, rootElements));
+    }
+
+    /**
+     * Beendet die aktuelle Runde des Prozessors.
+     *
+     * @param nanos Die gesamte Zeit in Nanosekunden, welche der Prozessor in dieser Runde benötigt hat.
+     */
+    void endRound(final long nanos) {
+        getCurrentRound().nanos = nanos;
+        this.currentHandler = null;
+    }
+
+    /**
+     * Legt den Handler fest, welcher gerade aufgerufen wird, damit ihm alle generierten Dateien zugeordnet werden
+     * können.
+     *
+     * @param handler Der Name des Handlers, welcher gerade aufgerufen wird.
+     */
+    void setCurrentHandler(@NotNull final String handler) {
+        this.currentHandler = handler;
+    }
+
+    /**
+     * Gibt den Namen des Handlers zurück, welcher gerade aufgerufen wird.
+     *
+     * @return Der Name des Handlers, welcher gerade aufgerufen wird oder "-", wenn gerade kein Handler aufgerufen wird.
+     */
+    @NotNull
+    String getCurrentHandler() {
+        return this.currentHandler == null ? "-" : this.currentHandler;
+    }
+
+    /**
+     * Zählt einen Aufruf eines Handlers für eine einzelne Klasse. Im sequentiellen Modus ist in dieser Zeit auch das
+     * Erzeugen und Schreiben der Dateien enthalten, welche der Handler generiert.
+     *
+     * @param handler   Der Name des Handlers.
+     * @param className Der Name der Klasse, für die der Handler aufgerufen wurde.
+     * @param elements  Die Anzahl an Elementen, welche dem Handler übergeben wurden.
+     * @param nanos     Die Zeit in Nanosekunden, welche der Handler benötigt hat.
+     */
+    void recordClass(
+        @NotNull final String handler,
+        @NotNull final String className,
+        final int elements,
+        final long nanos
+    ) {
+        final RoundStats round = getCurrentRound();
+        final HandlerStats handlerStats = getHandler(handler);
+
+        round.annotatedElements += elements;
+        round.handlerNanos += nanos;
+        handlerStats.classes++;
+        handlerStats.elements += elements;
+        handlerStats.nanos += nanos;
+        this.classes.add(new ClassStats(round.index, handler, className, elements, nanos));
+    }
+
+    /**
+     * Zählt eine generierte Datei.
+     *
+     * @param handler      Der Name des Handlers, welcher die Datei generiert hat.
+     * @param newClassName Der Name der generierten Klasse.
+     * @param bytes        Die Größe des Quellcodes in Bytes (UTF-8).
+     * @param renderNanos  Die Zeit in Nanosekunden, in der der Quellcode erzeugt wurde.
+     * @param filerNanos   Die Zeit in Nanosekunden, in der die Datei über den Filer geschrieben wurde.
+     */
+    void recordFile(
+        @NotNull final String handler,
+        @NotNull final String newClassName,
+        final int bytes,
+        final long renderNanos,
+        final long filerNanos
+    ) {
+        final RoundStats round = getCurrentRound();
+        final HandlerStats handlerStats = getHandler(handler);
+
+        round.files++;
+        handlerStats.files++;
+        handlerStats.bytes += bytes;
+        handlerStats.renderNanos += renderNanos;
+        handlerStats.filerNanos += filerNanos;
+        this.files.add(new FileStats(round.index, handler, newClassName, bytes, renderNanos, filerNanos));
+    }
+
+    /**
+     * Schreibt alle Messwerte als JSON-Datei. Nicht vorhandene Verzeichnisse werden dabei angelegt.
+     *
+     * @throws IOException Wenn die Datei nicht geschrieben werden kann.
+     */
+    void write() throws IOException {
+        final Path parent = this.file.toAbsolutePath().getParent();
+
+        if (parent != null) {
+            Files.createDirectories(parent);
+        }
+
+        try (final Writer writer = Files.newBufferedWriter(this.file, StandardCharsets.UTF_8)) {
+            writer.write(toJson());
+        }
+    }
+
+    /**
+     * Gibt die Datei zurück, in die alle Messwerte geschrieben werden.
+     *
+     * @return Die Datei, in die alle Messwerte geschrieben werden.
+     */
+    @NotNull
+    Path getFile() {
+        return this.file;
+    }
+
+    /**
+     * Erzeugt eine Zusammenfassung aller Messwerte, welche als Hinweis des Compilers ausgegeben werden kann. Die
+     * Handler werden nach ihrer Laufzeit absteigend sortiert.
+     *
+     * @return Die Zusammenfassung aller Messwerte.
+     */
+    @NotNull
+    String getSummary() {
+        long totalNanos = 0;
+        int totalFiles = 0;
+        long totalBytes = 0;
+        long renderNanos = 0;
+        long filerNanos = 0;
+
+        for (@NotNull final RoundStats round : this.rounds) {
+            totalNanos += round.nanos;
+        }
+
+        for (@NotNull final FileStats fileStats : this.files) {
+            totalFiles++;
+            totalBytes += fileStats.bytes;
+            renderNanos += fileStats.renderNanos;
+            filerNanos += fileStats.filerNanos;
+        }
+
+        final StringBuilder summary = new StringBuilder("gannotations: ")
+            .append(this.rounds.size()).append(" rounds, ")
+            .append(this.classes.size()).append(" classes, ")
+            .append(totalFiles).append(" files (").append(totalBytes).append(" bytes) in ")
+            .append(formatMillis(totalNanos)).append(" (rendering ").append(formatMillis(renderNanos))
+            .append(", filer ").append(formatMillis(filerNanos)).append(')');
+
+        final List<HandlerStats> sortedHandlers = new ArrayList<>(this.handlers.values());
+        sortedHandlers.sort((first, second) -> Long.compare(second.nanos, first.nanos));
+
+        for (@NotNull final HandlerStats handlerStats : sortedHandlers) {
+            summary.append(System.lineSeparator())
+                .append("  ").append(handlerStats.name).append(": ")
+                .append(formatMillis(handlerStats.nanos)).append(", ")
+                .append(handlerStats.classes).append(" classes, ")
+                .append(handlerStats.elements).append(" elements, ")
+                .append(handlerStats.files).append(" files");
+        }
+
+        return summary.append(System.lineSeparator()).append("  report: ").append(this.file).toString();
+    }
+
+    /**
+     * Wandelt alle Messwerte in JSON um.
+     *
+     * @return Alle Messwerte als JSON.
+     */
+    @NotNull
+    private String toJson() {
+        final StringBuilder json = new StringBuilder(1024).append("{\n  \"rounds\": [");
+
+        for (int i = 0; i < this.rounds.size(); i++) {
+            final RoundStats round = this.rounds.get(i);
+
+            json.append(i == 0 ? "\n" : ",\n")
+                .append("    {\"round\": ").append(round.index)
+                .append(", \"nanos\": ").append(round.nanos)
+                .append(", \"handlerNanos\": ").append(round.handlerNanos)
+                .append(", \"rootElements\": ").append(round.rootElements)
+                .append(", \"annotatedElements\": ").append(round.annotatedElements)
+                .append(", \"files\": ").append(round.files).append('}');
+        }
+
+        json.append("\n  ],\n  \"handlers\": [");
+
+        int handlerIndex = 0;
+
+        for (@NotNull final HandlerStats handlerStats : this.handlers.values()) {
+            json.append(handlerIndex++ == 0 ? "\n" : ",\n")
+                .append("    {\"handler\": ").append(quote(handlerStats.name))
+                .append(", \"nanos\": ").append(handlerStats.nanos)
+                .append(", \"classes\": ").append(handlerStats.classes)
+                .append(", \"elements\": ").append(handlerStats.elements)
+                .append(", \"files\": ").append(handlerStats.files)
+                .append(", \"bytes\": ").append(handlerStats.bytes)
+                .append(", \"renderNanos\": ").append(handlerStats.renderNanos)
+                .append(", \"filerNanos\": ").append(handlerStats.filerNanos).append('}');
+        }
+
+        json.append("\n  ],\n  \"classes\": [");
+
+        for (int i = 0; i < this.classes.size(); i++) {
+            final ClassStats classStats = this.classes.get(i);
+
+            json.append(i == 0 ? "\n" : ",\n")
+                .append("    {\"round\": ").append(classStats.round)
+                .append(", \"handler\": ").append(quote(classStats.handler))
+                .append(", \"class\": ").append(quote(classStats.className))
+                .append(", \"elements\": ").append(classStats.elements)
+                .append(", \"nanos\": ").append(classStats.nanos).append('}');
+        }
+
+        json.append("\n  ],\n  \"files\": [");
+
+        for (int i = 0; i < this.files.size(); i++) {
+            final FileStats fileStats = this.files.get(i);
+
+            json.append(i == 0 ? "\n" : ",\n")
+                .append("    {\"round\": ").append(fileStats.round)
+                .append(", \"handler\": ").append(quote(fileStats.handler))
+                .append(", \"file\": ").append(quote(fileStats.newClassName))
+                .append(", \"bytes\": ").append(fileStats.bytes)
+                .append(", \"renderNanos\": ").append(fileStats.renderNanos)
+                .append(", \"filerNanos\": ").append(fileStats.filerNanos).append('}');
+        }
+
+        return json.append("\n  ]\n}\n").toString();
+    }
+
+    /**
+     * Gibt die aktuelle Runde zurück. Wurde noch keine Runde begonnen, wird eine neue Runde ohne Elemente begonnen.
+     *
+     * @return Die aktuelle Runde.
+     */
+    @NotNull
+    private RoundStats getCurrentRound() {
+        if (this.rounds.isEmpty()) {
+            beginRound(0);
+        }
+
+        return this.rounds.get(this.rounds.size() - 1);
+    }
+
+    /**
+     * Gibt die zusammengefassten Messwerte eines Handlers zurück und legt diese an, falls sie noch nicht existieren.
+     *
+     * @param handler Der Name des Handlers.
+     *
+     * @return Die zusammengefassten Messwerte des Handlers.
+     */
+    @NotNull
+    private HandlerStats getHandler(@NotNull final String handler) {
+        return this.handlers.computeIfAbsent(handler, HandlerStats::new);
+    }
+
+    /**
+     * Formatiert eine Zeit in Nanosekunden als Millisekunden mit einer Nachkommastelle (Bsp: '12.3 ms').
+     *
+     * @param nanos Die Zeit in Nanosekunden.
+     *
+     * @return Die formatierte Zeit.
+     */
+    @NotNull
+    private static String formatMillis(final long nanos) {
+        return String.format(Locale.ROOT, "%.1f ms", nanos / NANOS_PER_MILLI);
+    }
+
+    /**
+     * Setzt eine Zeichenkette für JSON in Anführungszeichen und maskiert alle Zeichen, die nicht direkt in einer
+     * Zeichenkette stehen dürfen.
+     *
+     * @param value Die Zeichenkette.
+     *
+     * @return Die Zeichenkette in Anführungszeichen.
+     */
+    @NotNull
+    private static String quote(@NotNull final String value) {
+        final StringBuilder quoted = new StringBuilder(value.length() + 2).append('"');
+
+        for (int i = 0; i < value.length(); i++) {
+            final char character = value.charAt(i);
+
+            if (character == '"' || character == '\\') {
+                quoted.append('\\').append(character);
+            } else if (character < 0x20) {
+                quoted.append(String.format(Locale.ROOT, "\\u%04x", (int) character));
+            } else {
+                quoted.append(character);
+            }
+        }
+
+        return quoted.append('"').toString();
+    }
+
+    /**
+     * Die Messwerte einer einzelnen Runde des Prozessors.
+     */
+    private static final class RoundStats {
+
+        //<editor-fold desc="LOCAL FIELDS">
+        /** Die Nummer der Runde, beginnend bei 1. */
+        private final int index;
+        /** Die Anzahl an Elementen, welche in dieser Runde vom Compiler übergeben wurden. */
+        private final int rootElements;
+        /** Die gesamte Zeit in Nanosekunden, welche der Prozessor in dieser Runde benötigt hat. */
+        private long nanos;
+        /** Die Zeit in Nanosekunden, welche alle Handler in dieser Runde benötigt haben. */
+        private long handlerNanos;
+        /** Die Anzahl an Elementen, welche allen Handlern in dieser Runde übergeben wurden. */
+        private int annotatedElements;
+        /** Die Anzahl an Dateien, welche in dieser Runde generiert wurden. */
+        private int files;
+        //</editor-fold>
+
+
+        //<editor-fold desc="CONSTRUCTORS">
+
+        /**
+         * Erzeugt neue Messwerte einer Runde.
+         *
+         * @param index        Die Nummer der Runde, beginnend bei 1.
+         * @param rootElements Die Anzahl an Elementen, welche in dieser Runde vom Compiler übergeben wurden.
+         */
+        private RoundStats(
+            final int index,
+            final int rootElements
+        ) {
+            this.index = index;
+            this.rootElements = rootElements;
+        }
+        //</editor-fold>
+
+    }
+
+    /**
+     * Die zusammengefassten Messwerte eines Handlers über alle Runden.
+     */
+    private static final class HandlerStats {
+
+        //<editor-fold desc="LOCAL FIELDS">
+        /** Der Name des Handlers. */
+        @NotNull
+        private final String name;
+        /** Die Zeit in Nanosekunden, welche der Handler benötigt hat. */
+        private long nanos;
+        /** Die Anzahl an Klassen, für die der Handler aufgerufen wurde. */
+        private int classes;
+        /** Die Anzahl an Elementen, welche dem Handler übergeben wurden. */
+        private int elements;
+        /** Die Anzahl an Dateien, welche der Handler generiert hat. */
+        private int files;
+        /** Die Größe aller Dateien in Bytes, welche der Handler generiert hat. */
+        private long bytes;
+        /** Die Zeit in Nanosekunden, in der der Quellcode aller Dateien des Handlers erzeugt wurde. */
+        private long renderNanos;
+        /** Die Zeit in Nanosekunden, in der alle Dateien des Handlers über den Filer geschrieben wurden. */
+        private long filerNanos;
+        //</editor-fold>
+
+
+        //<editor-fold desc="CONSTRUCTORS">
+
+        /**
+         * Erzeugt neue Messwerte eines Handlers.
+         *
+         * @param name Der Name des Handlers.
+         */
+        private HandlerStats(@NotNull final String name) {
+            this.name = name;
+        }
+        //</editor-fold>
+
+    }
+
+    /**
+     * Die Messwerte eines einzelnen Aufrufs eines Handlers für eine Klasse.
+     */
+    private static final class ClassStats {
+
+        //<editor-fold desc="LOCAL FIELDS">
+        /** Die Nummer der Runde, in der der Handler aufgerufen wurde. */
+        private final int round;
+        /** Der Name des Handlers. */
+        @NotNull
+        private final String handler;
+        /** Der Name der Klasse, für die der Handler aufgerufen wurde. */
+        @NotNull
+        private final String className;
+        /** Die Anzahl an Elementen, welche dem Handler übergeben wurden. */
+        private final int elements;
+        /** Die Zeit in Nanosekunden, welche der Handler benötigt hat. */
+        private final long nanos;
+        //</editor-fold>
+
+
+        //<editor-fold desc="CONSTRUCTORS">
+
+        /**
+         * Erzeugt neue Messwerte eines Aufrufs.
+         *
+         * @param round     Die Nummer der Runde, in der der Handler aufgerufen wurde.
+         * @param handler   Der Name des Handlers.
+         * @param className Der Name der Klasse, für die der Handler aufgerufen wurde.
+         * @param elements  Die Anzahl an Elementen, welche dem Handler übergeben wurden.
+         * @param nanos     Die Zeit in Nanosekunden, welche der Handler benötigt hat.
+         */
+        private ClassStats(
+            final int round,
+            @NotNull final String handler,
+            @NotNull final String className,
+            final int elements,
+            final long nanos
+        ) {
+            this.round = round;
+            this.handler = handler;
+            this.className = className;
+            this.elements = elements;
+            this.nanos = nanos;
+        }
+        //</editor-fold>
+
+    }
+
+    /**
+     * Die Messwerte einer einzelnen generierten Datei.
+     */
+    private static final class FileStats {
+
+        //<editor-fold desc="LOCAL FIELDS">
+        /** Die Nummer der Runde, in der die Datei generiert wurde. */
+        private final int round;
+        /** Der Name des Handlers, welcher die Datei generiert hat. */
+        @NotNull
+        private final String handler;
+        /** Der Name der generierten Klasse. */
+        @NotNull
+        private final String newClassName;
+        /** Die Größe des Quellcodes in Bytes (UTF-8). */
+        private final int bytes;
+        /** Die Zeit in Nanosekunden, in der der Quellcode erzeugt wurde. */
+        private final long renderNanos;
+        /** Die Zeit in Nanosekunden, in der die Datei über den Filer geschrieben wurde. */
+        private final long filerNanos;
+        //</editor-fold>
+
+
+        //<editor-fold desc="CONSTRUCTORS">
+
+        /**
+         * Erzeugt neue Messwerte einer generierten Datei.
+         *
+         * @param round        Die Nummer der Runde, in der die Datei generiert wurde.
+         * @param handler      Der Name des Handlers, welcher die Datei generiert hat.
+         * @param newClassName Der Name der generierten Klasse.
+         * @param bytes        Die Größe des Quellcodes in Bytes (UTF-8).
+         * @param renderNanos  Die Zeit in Nanosekunden, in der der Quellcode erzeugt wurde.
+         * @param filerNanos   Die Zeit in Nanosekunden, in der die Datei über den Filer geschrieben wurde.
+         */
+        private FileStats(
+            final int round,
+            @NotNull final String handler,
+            @NotNull final String newClassName,
+            final int bytes,
+            final long renderNanos,
+            final long filerNanos
+        ) {
+            this.round = round;
+            this.handler = handler;
+            this.newClassName = newClassName;
+            this.bytes = bytes;
+            this.renderNanos = renderNanos;
+            this.filerNanos = filerNanos;
+        }
+        //</editor-fold>
+
+    }
+
+}
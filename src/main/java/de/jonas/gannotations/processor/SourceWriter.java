@@ -0,0 +1,185 @@
+package de.jonas.gannotations.processor;
+
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * Mithilfe eines {@link SourceWriter} wird der Quellcode einer Java-Datei vollständig im Speicher erzeugt. Der gesamte
+ * Quellcode wird in einem einzigen Puffer abgelegt, welcher nach dem Erzeugen einer Datei mithilfe der Methode {@code
+ * reset} für die nächste Datei wiederverwendet werden kann. Die Einrückung wird von diesem Writer selbst verwaltet und
+ * beim Beginn jeder Zeile automatisch gesetzt, sodass keine temporären Zeichenketten für eingerückte Zeilen erzeugt
+ * werden müssen. Ein {@link SourceWriter} ist nicht thread-sicher und darf immer nur von einem Thread gleichzeitig
+ * genutzt werden.
+ */
+@NotNull
+public final class SourceWriter {
+
+    //<editor-fold desc="CONSTANTS">
+    /** Die Größe, mit der der Puffer standardmäßig angelegt wird. */
+    public static final int DEFAULT_CAPACITY = 8192;
+    /** Die Zeichen, mit denen eine einzelne Ebene eingerückt wird. */
+    @NotNull
+    private static final String INDENT = "    ";
+    //</editor-fold>
+
+
+    //<editor-fold desc="LOCAL FIELDS">
+    /** Der Puffer, in dem der gesamte Quellcode erzeugt wird. */
+    @NotNull
+    private final StringBuilder buffer;
+    /** Die Ebene, mit der die aktuelle Zeile eingerückt wird. */
+    private int indentLevel;
+    /** Ob sich dieser Writer am Anfang einer neuen Zeile befindet. */
+    private boolean lineStart = true;
+    //</editor-fold>
+
+
+    //<editor-fold desc="CONSTRUCTORS">
+
+    /**
+     * Erzeugt einen neuen {@link SourceWriter}, dessen Puffer mit der {@link #DEFAULT_CAPACITY Standardgröße} angelegt
+     * wird.
+     */
+    public SourceWriter() {
+        this(DEFAULT_CAPACITY);
+    }
+
+    /**
+     * Erzeugt einen neuen {@link SourceWriter}, dessen Puffer mit einer bestimmten Größe angelegt wird.
+     *
+     * @param initialCapacity Die Größe, mit der der Puffer angelegt wird.
+     */
+    public SourceWriter(final int initialCapacity) {
+        this.buffer = new StringBuilder(initialCapacity);
+    }
+    //</editor-fold>
+
+
+    /**
+     * Fügt dem Quellcode eine Zeichenkette hinzu. Befindet sich dieser Writer am Anfang einer neuen Zeile, wird die
+     * Zeile vorher eingerückt.
+     *
+     * @param text Die Zeichenkette, die hinzugefügt werden soll.
+     *
+     * @return Dieser {@link SourceWriter}.
+     */
+    @NotNull
+    public SourceWriter print(@NotNull final CharSequence text) {
+        writeIndent();
+        this.buffer.append(text);
+        return this;
+    }
+
+    /**
+     * Fügt dem Quellcode ein einzelnes Zeichen hinzu. Befindet sich dieser Writer am Anfang einer neuen Zeile, wird die
+     * Zeile vorher eingerückt.
+     *
+     * @param character Das Zeichen, das hinzugefügt werden soll.
+     *
+     * @return Dieser {@link SourceWriter}.
+     */
+    @NotNull
+    public SourceWriter print(final char character) {
+        writeIndent();
+        this.buffer.append(character);
+        return this;
+    }
+
+    /**
+     * Fügt dem Quellcode eine Zeichenkette hinzu und beendet anschließend die aktuelle Zeile. Ist die Zeichenkette leer,
+     * wird nur die aktuelle Zeile beendet.
+     *
+     * @param text Die Zeichenkette, die hinzugefügt werden soll.
+     *
+     * @return Dieser {@link SourceWriter}.
+     */
+    @NotNull
+    public SourceWriter println(@NotNull final CharSequence text) {
+        if (text.length() == 0) {
+            return println();
+        }
+
+        return print(text).println();
+    }
+
+    /**
+     * Beendet die aktuelle Zeile. Leere Zeilen werden nicht eingerückt.
+     *
+     * @return Dieser {@link SourceWriter}.
+     */
+    @NotNull
+    public SourceWriter println() {
+        this.buffer.append('\n');
+        this.lineStart = true;
+        return this;
+    }
+
+    /**
+     * Erhöht die Einrückung aller folgenden Zeilen um eine Ebene.
+     *
+     * @return Dieser {@link SourceWriter}.
+     */
+    @NotNull
+    public SourceWriter indent() {
+        this.indentLevel++;
+        return this;
+    }
+
+    /**
+     * Verringert die Einrückung aller folgenden Zeilen um eine Ebene.
+     *
+     * @return Dieser {@link SourceWriter}.
+     */
+    @NotNull
+    public SourceWriter unindent() {
+        if (this.indentLevel > 0) {
+            this.indentLevel--;
+        }
+
+        return this;
+    }
+
+    /**
+     * Leert den Puffer dieses Writers, damit er für eine neue Java-Datei wiederverwendet werden kann. Die Größe des
+     * Puffers bleibt dabei erhalten.
+     *
+     * @return Dieser {@link SourceWriter}.
+     */
+    @NotNull
+    public SourceWriter reset() {
+        this.buffer.setLength(0);
+        this.indentLevel = 0;
+        this.lineStart = true;
+        return this;
+    }
+
+    /**
+     * Gibt die Anzahl an Zeichen zurück, die sich momentan im Puffer befinden.
+     *
+     * @return Die Anzahl an Zeichen, die sich momentan im Puffer befinden.
+     */
+    public int length() {
+        return this.buffer.length();
+    }
+
+    /**
+     * Rückt die aktuelle Zeile ein, sofern sich dieser Writer am Anfang einer neuen Zeile befindet.
+     */
+    private void writeIndent() {
+        if (!this.lineStart) return;
+
+        for (int i = 0; i < this.indentLevel; i++) {
+            this.buffer.append(INDENT);
+        }
+
+        this.lineStart = false;
+    }
+
+    //<editor-fold desc="implementation">
+    @NotNull
+    @Override
+    public String toString() {
+        return this.buffer.toString();
+    }
+    //</editor-fold>
+
+}
@@ -0,0 +1,343 @@
+package de.jonas.gannotations.processor;
+
+import com.sun.source.util.Trees;
+import com.sun.tools.javac.parser.JavacParser;
+import com.sun.tools.javac.parser.ParserFactory;
+import com.sun.tools.javac.processing.JavacProcessingEnvironment;
+import com.sun.tools.javac.tree.JCTree;
+import com.sun.tools.javac.tree.TreeMaker;
+import com.sun.tools.javac.tree.TreeScanner;
+import com.sun.tools.javac.util.Context;
+import com.sun.tools.javac.util.List;
+import com.sun.tools.javac.util.Names;
+import org.jetbrains.annotations.NotNull;
+
+import javax.annotation.processing.ProcessingEnvironment;
+import javax.lang.model.element.Element;
+import javax.lang.model.element.ElementKind;
+import javax.lang.model.element.ExecutableElement;
+import javax.lang.model.element.TypeElement;
+import javax.lang.model.util.ElementFilter;
+
+/**
+ * Mithilfe des {@link TreeEditor} lassen sich die AST trees einer bestehenden Klasse während des Kompilierungs-Prozesses
+ * bearbeiten. Neue Member werden, genau wie beim {@link JavaGenerator}, als Quellcode übergeben und mithilfe des
+ * Parsers des Compilers in Trees umgewandelt, bevor sie der Klasse hinzugefügt werden. Die Positionen der neuen Trees
+ * werden auf die Position eines bestehenden Elements gesetzt, damit Fehlermeldungen an einer sinnvollen Stelle
+ * angezeigt werden. Da die Trees nach jeder Runde des Prozessors neu eingelesen werden, sind die neuen Member danach in
+ * allen Klassen sichtbar.
+ */
+@NotNull
+public final class TreeEditor {
+
+    //<editor-fold desc="LOCAL FIELDS">
+    /** Die AST trees. */
+    @NotNull
+    private final Trees trees;
+    /** Der Tree-Maker um einen Tree zu editieren. */
+    @NotNull
+    private final TreeMaker treeMaker;
+    /** Die Namen, welche vom Compiler genutzt werden. */
+    @NotNull
+    private final Names names;
+    /** Die Fabrik, mit der neue Parser für den übergebenen Quellcode erzeugt werden. */
+    @NotNull
+    private final ParserFactory parserFactory;
+    //</editor-fold>
+
+
+    //<editor-fold desc="CONSTRUCTORS">
+
+    /**
+     * Erzeugt einen neuen {@link TreeEditor}, mit dem sich die AST trees einer bestehenden Klasse bearbeiten lassen.
+     *
+     * @param processingEnvironment Die {@link ProcessingEnvironment}, die vom Prozessor übergeben wird.
+     * @param trees                 Die AST trees, welche vom Prozessor übergeben werden.
+     * @param treeMaker             Der Tree-Maker, mit dem ein Tree editiert werden kann.
+     *
+     * @throws IllegalArgumentException Wenn die Umgebung nicht zum javac-Compiler gehört.
+     */
+    public TreeEditor(
+        @NotNull final ProcessingEnvironment processingEnvironment,
+        @NotNull final Trees trees,
+        @NotNull final TreeMaker treeMaker
+    ) {
+        final JavacProcessingEnvironment javacProcessingEnvironment = HandlerProcessor.getJavacProcessingEnvironment(
+            processingEnvironment
+        );
+
+        if (javacProcessingEnvironment == null) {
+            throw new IllegalArgumentException("The trees can only be edited within javac.");
+        }
+
+        final Context context = javacProcessingEnvironment.getContext();
+
+        this.trees = trees;
+        this.treeMaker = treeMaker;
+        this.names = Names.instance(context);
+        this.parserFactory = ParserFactory.instance(context);
+    }
+    //</editor-fold>
+
+
+    /**
+     * Fügt einer bestehenden Klasse neue Member (Felder, Methoden oder Klassen) hinzu, welche als Quellcode übergeben
+     * werden.
+     *
+     * @param classElement Die Klasse, der die neuen Member hinzugefügt werden sollen.
+     * @param position     Das Element, dessen Position die neuen Member erhalten sollen.
+     * @param members      Der Quellcode der neuen Member.
+     */
+    public void addMembers(
+        @NotNull final TypeElement classElement,
+        @NotNull final Element position,
+        @NotNull final String... members
+    ) {
+        final JCTree.JCClassDecl classTree = getClassTree(classElement);
+        final int pos = getPosition(position);
+
+        for (@NotNull final JCTree member : parseMembers(members)) {
+            setPosition(member, pos);
+            classTree.defs = classTree.defs.append(member);
+        }
+    }
+
+    /**
+     * Fügt einer bestehenden Klasse neue Member am Anfang hinzu, welche als Quellcode übergeben werden. Neue Felder
+     * werden dadurch vor allen bestehenden Feldern initialisiert.
+     *
+     * @param classElement Die Klasse, der die neuen Member hinzugefügt werden sollen.
+     * @param position     Das Element, dessen Position die neuen Member erhalten sollen.
+     * @param members      Der Quellcode der neuen Member.
+     */
+    public void prependMembers(
+        @NotNull final TypeElement classElement,
+        @NotNull final Element position,
+        @NotNull final String... members
+    ) {
+        final JCTree.JCClassDecl classTree = getClassTree(classElement);
+        final int pos = getPosition(position);
+        final List<JCTree> newMembers = parseMembers(members);
+
+        for (@NotNull final JCTree member : newMembers) {
+            setPosition(member, pos);
+        }
+
+        classTree.defs = classTree.defs.prependList(newMembers);
+    }
+
+    /**
+     * Entfernt einen Member (Feld, Methode oder Klasse) aus einer bestehenden Klasse.
+     *
+     * @param classElement Die Klasse, aus der der Member entfernt werden soll.
+     * @param member       Der Member, der entfernt werden soll.
+     */
+    public void removeMember(
+        @NotNull final TypeElement classElement,
+        @NotNull final Element member
+    ) {
+        final JCTree.JCClassDecl classTree = getClassTree(classElement);
+        final JCTree memberTree = (JCTree) this.trees.getTree(member);
+
+        List<JCTree> remainingDefs = List.nil();
+
+        for (@NotNull final JCTree def : classTree.defs) {
+            if (def == memberTree) continue;
+
+            remainingDefs = remainingDefs.append(def);
+        }
+
+        classTree.defs = remainingDefs;
+    }
+
+    /**
+     * Wandelt Quellcode in einen einzelnen Ausdruck um, dessen Position auf die Position eines bestehenden Elements
+     * gesetzt wird.
+     *
+     * @param expression Der Quellcode des Ausdrucks.
+     * @param position   Das Element, dessen Position der Ausdruck erhalten soll.
+     *
+     * @return Der Ausdruck als Tree.
+     */
+    @NotNull
+    public JCTree.JCExpression parseExpression(
+        @NotNull final String expression,
+        @NotNull final Element position
+    ) {
+        final JCTree.JCExpression expressionTree = this.parserFactory
+            .newParser(expression, false, false, false)
+            .parseExpression();
+
+        setPosition(expressionTree, getPosition(position));
+        return expressionTree;
+    }
+
+    /**
+     * Wandelt Quellcode in eine Liste von Anweisungen um, deren Position auf die Position eines bestehenden Elements
+     * gesetzt wird.
+     *
+     * @param statements Der Quellcode der Anweisungen.
+     * @param position   Das Element, dessen Position die Anweisungen erhalten sollen.
+     *
+     * @return Die Anweisungen als Trees.
+     */
+    @NotNull
+    public List<JCTree.JCStatement> parseStatements(
+        @NotNull final String statements,
+        @NotNull final Element position
+    ) {
+        final JCTree.JCMethodDecl method = (JCTree.JCMethodDecl) parseMembers(
+            "void gannotationsStatements() {" + statements + "}"
+        ).head;
+        final int pos = getPosition(position);
+
+        for (@NotNull final JCTree.JCStatement statement : method.body.stats) {
+            setPosition(statement, pos);
+        }
+
+        return method.body.stats;
+    }
+
+    /**
+     * Prüft, ob eine Klasse bereits eine Methode mit einem bestimmten Namen und einer bestimmten Anzahl an Parametern
+     * besitzt.
+     *
+     * @param classElement   Die Klasse, die geprüft werden soll.
+     * @param methodName     Der Name der Methode.
+     * @param parameterCount Die Anzahl an Parametern der Methode.
+     *
+     * @return Ob die Klasse bereits eine solche Methode besitzt.
+     */
+    public boolean hasMethod(
+        @NotNull final TypeElement classElement,
+        @NotNull final String methodName,
+        final int parameterCount
+    ) {
+        for (@NotNull final ExecutableElement method : ElementFilter.methodsIn(classElement.getEnclosedElements())) {
+            if (!method.getSimpleName().contentEquals(methodName)) continue;
+            if (method.getParameters().size() != parameterCount) continue;
+
+            return true;
+        }
+
+        return false;
+    }
+
+    /**
+     * Gibt den Tree einer bestimmten Klasse zurück.
+     *
+     * @param classElement Die Klasse, deren Tree zurückgegeben werden soll.
+     *
+     * @return Der Tree der Klasse.
+     */
+    @NotNull
+    public JCTree.JCClassDecl getClassTree(@NotNull final TypeElement classElement) {
+        return (JCTree.JCClassDecl) this.trees.getTree(classElement);
+    }
+
+    /**
+     * Gibt den Tree einer bestimmten Methode zurück.
+     *
+     * @param methodElement Die Methode, deren Tree zurückgegeben werden soll.
+     *
+     * @return Der Tree der Methode.
+     */
+    @NotNull
+    public JCTree.JCMethodDecl getMethodTree(@NotNull final ExecutableElement methodElement) {
+        return (JCTree.JCMethodDecl) this.trees.getTree(methodElement);
+    }
+
+    /**
+     * Gibt den Tree-Maker zurück, mit dem sich neue Trees an einer bestimmten Position erzeugen lassen.
+     *
+     * @param position Das Element, dessen Position die neuen Trees erhalten sollen.
+     *
+     * @return Der Tree-Maker, mit dem sich neue Trees an der Position des Elements erzeugen lassen.
+     */
+    @NotNull
+    public TreeMaker at(@NotNull final Element position) {
+        return this.treeMaker.at(getPosition(position));
+    }
+
+    /**
+     * Gibt die Namen zurück, welche vom Compiler genutzt werden.
+     *
+     * @return Die Namen, welche vom Compiler genutzt werden.
+     */
+    @NotNull
+    public Names getNames() {
+        return this.names;
+    }
+
+    /**
+     * Wandelt den Quellcode mehrerer Member in Trees um.
+     *
+     * @param members Der Quellcode der Member.
+     *
+     * @return Die Member als Trees.
+     */
+    @NotNull
+    private List<JCTree> parseMembers(@NotNull final String... members) {
+        final StringBuilder source = new StringBuilder("class GannotationsMembers {\n");
+
+        for (@NotNull final String member : members) {
+            source.append(member).append('\n');
+        }
+
+        source.append('}');
+
+        final JavacParser parser = this.parserFactory.newParser(source, false, false, false);
+        final JCTree.JCCompilationUnit compilationUnit = parser.parseCompilationUnit();
+
+        for (@NotNull final JCTree def : compilationUnit.defs) {
+            if (def.getTag() != JCTree.Tag.CLASSDEF) continue;
+
+            return ((JCTree.JCClassDecl) def).defs;
+        }
+
+        return List.nil();
+    }
+
+    /**
+     * Ermittelt die Position eines Elements im Quellcode.
+     *
+     * @param element Das Element, dessen Position ermittelt werden soll.
+     *
+     * @return Die Position des Elements im Quellcode.
+     */
+    private int getPosition(@NotNull final Element element) {
+        final JCTree tree = (JCTree) this.trees.getTree(element);
+
+        if (tree != null) {
+            return tree.pos;
+        }
+
+        if (element.getKind() == ElementKind.PACKAGE || element.getEnclosingElement() == null) {
+            return 0;
+        }
+
+        return getPosition(element.getEnclosingElement());
+    }
+
+    /**
+     * Setzt die Position eines Trees und aller seiner untergeordneten Trees.
+     *
+     * @param tree     Der Tree, dessen Position gesetzt werden soll.
+     * @param position Die Position, die gesetzt werden soll.
+     */
+    private static void setPosition(
+        @NotNull final JCTree tree,
+        final int position
+    ) {
+        new TreeScanner() {
+            @Override
+            public void scan(final JCTree subTree) {
+                if (subTree == null) return;
+
+                subTree.pos = position;
+                super.scan(subTree);
+            }
+        }.scan(tree);
+    }
+
+}
@@ -0,0 +1,576 @@
+package de.jonas.gannotations.processor.annotation;
+
+import com.sun.source.util.Trees;
+import com.sun.tools.javac.tree.TreeMaker;
+import de.jonas.gannotations.annotation.Async;
+import de.jonas.gannotations.processor.AnnotationHandler;
+import de.jonas.gannotations.processor.GenerationPipeline;
+import de.jonas.gannotations.processor.JavaGenerator;
+import de.jonas.gannotations.processor.JavaParameter;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import javax.annotation.processing.ProcessingEnvironment;
+import javax.lang.model.element.Element;
+import javax.lang.model.element.ExecutableElement;
+import javax.lang.model.element.Modifier;
+import javax.lang.model.element.TypeElement;
+import javax.lang.model.element.VariableElement;
+import javax.lang.model.type.DeclaredType;
+import javax.lang.model.type.PrimitiveType;
+import javax.lang.model.type.TypeKind;
+import javax.lang.model.type.TypeMirror;
+import javax.lang.model.util.ElementFilter;
+import javax.lang.model.util.Types;
+import javax.tools.Diagnostic;
+
+import java.lang.annotation.Annotation;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Es wird ein Handler für die {@link Async} erzeugt, welcher für alle Methoden einer Klasse, die diese Annotation
+ * besitzen, einen gemeinsamen Wrapper erzeugt. Jede Methode wird in diesem Wrapper auf einem Executor ausgeführt und
+ * gibt ihr Ergebnis als {@link java.util.concurrent.CompletableFuture} zurück. Gleiche Aufrufe werden bei Bedarf in
+ * {@link de.jonas.gannotations.runtime.InFlightCalls} zusammengefasst und Aufrufe mit einem Parameter bei Bedarf von
+ * einem {@link de.jonas.gannotations.runtime.AsyncBatcher} in Stapeln ausgeführt.
+ */
+@NotNull
+public final class AsyncAnnotation implements AnnotationHandler {
+
+    //<editor-fold desc="CONSTANTS">
+    /** Der vollständige Name des Typs, auf dem die Aufrufe ausgeführt werden. */
+    @NotNull
+    private static final String EXECUTOR_CLASS = "java.util.concurrent.Executor";
+    /** Der vollständige Name der Klasse, mit der die Aufrufe auf einem Executor ausgeführt werden. */
+    @NotNull
+    private static final String EXECUTORS_CLASS = "de.jonas.gannotations.runtime.AsyncExecutors";
+    /** Der vollständige Name der Klasse, in der gleiche laufende Aufrufe zusammengefasst werden. */
+    @NotNull
+    private static final String IN_FLIGHT_CLASS = "de.jonas.gannotations.runtime.InFlightCalls";
+    /** Der vollständige Name der Klasse, mit der die Aufrufe in Stapeln ausgeführt werden. */
+    @NotNull
+    private static final String BATCHER_CLASS = "de.jonas.gannotations.runtime.AsyncBatcher";
+    /** Der vollständige Name der Klasse, mit der die Schlüssel der zusammengefassten Aufrufe erzeugt werden. */
+    @NotNull
+    private static final String KEY_CLASS = "de.jonas.gannotations.runtime.MemoizeCache";
+    /** Der Name der Methode, mit der alle wartenden Stapel des Wrappers sofort ausgeführt werden. */
+    @NotNull
+    private static final String FLUSH_METHOD = "flush";
+    /** Der vollständige Name des Typs, welchen die Methode für einen Stapel entgegennimmt und zurückgibt. */
+    @NotNull
+    private static final String LIST_CLASS = "java.util.List";
+    //</editor-fold>
+
+
+    //<editor-fold desc="implementation">
+    @Override
+    public void processAnnotation(
+        @NotNull final Set<? extends Element> annotatedElements,
+        @NotNull final ProcessingEnvironment processingEnvironment,
+        @NotNull final Trees trees,
+        @NotNull final TreeMaker treeMaker,
+        @NotNull final GenerationPipeline generationPipeline
+    ) {
+        final TypeElement classElement = (TypeElement) annotatedElements.iterator().next().getEnclosingElement();
+
+        if (!classElement.getTypeParameters().isEmpty()) {
+            processingEnvironment.getMessager().printMessage(
+                Diagnostic.Kind.ERROR,
+                "@Async cannot be applied to methods of generic classes",
+                classElement
+            );
+            return;
+        }
+
+        final List<AsyncMethod> methods = new ArrayList<>();
+        final Set<String> fieldNames = new HashSet<>();
+        ExecutableElement flushMethod = null;
+        boolean batched = false;
+
+        for (@NotNull final Element annotatedElement : annotatedElements) {
+            final ExecutableElement method = (ExecutableElement) annotatedElement;
+            final Async async = method.getAnnotation(Async.class);
+            final String error = validate(method, async);
+
+            if (error != null) {
+                processingEnvironment.getMessager().printMessage(Diagnostic.Kind.ERROR, error, method);
+                continue;
+            }
+
+            ExecutableElement batchMethod = null;
+
+            if (!async.batchMethod().isEmpty()) {
+                final Types types = processingEnvironment.getTypeUtils();
+                final TypeElement listElement = processingEnvironment.getElementUtils().getTypeElement(LIST_CLASS);
+                final DeclaredType keysType = types.getDeclaredType(
+                    listElement,
+                    box(types, method.getParameters().get(0).asType())
+                );
+                final DeclaredType resultsType = types.getDeclaredType(
+                    listElement,
+                    box(types, method.getReturnType())
+                );
+
+                batchMethod = getBatchMethod(classElement, async.batchMethod(), keysType, resultsType, types);
+
+                if (batchMethod == null) {
+                    processingEnvironment.getMessager().printMessage(
+                        Diagnostic.Kind.ERROR,
+                        "@Async batchMethod '" + async.batchMethod() + "' must be a non-private method accepting a "
+                            + keysType + " and returning a " + resultsType,
+                        method
+                    );
+                    continue;
+                }
+            }
+
+            final List<JavaParameter> parameters = new ArrayList<>();
+
+            for (@NotNull final VariableElement parameter : method.getParameters()) {
+                parameters.add(JavaParameter.of(parameter.getSimpleName().toString(), parameter.asType()));
+            }
+
+            if (method.isVarArgs()) {
+                // keep the varargs signature, so that callers of the wrapper do not need to create the array
+                final JavaParameter varArgs = parameters.remove(parameters.size() - 1);
+                final String arrayType = varArgs.getType();
+
+                parameters.add(new JavaParameter(
+                    varArgs.getName(),
+                    arrayType.substring(0, arrayType.length() - 2) + "...",
+                    TypeKind.ARRAY
+                ));
+            }
+
+            final String methodName = method.getSimpleName().toString();
+            String fieldName = methodName;
+
+            if (methodName.equals(FLUSH_METHOD) && parameters.isEmpty()) {
+                flushMethod = method;
+            }
+
+            batched |= batchMethod != null;
+
+            // overloaded methods need their own fields
+            for (int i = 2; !fieldNames.add(fieldName); i++) {
+                fieldName = methodName + i;
+            }
+
+            methods.add(new AsyncMethod(
+                methodName,
+                fieldName,
+                method.getReturnType().getKind() == TypeKind.VOID
+                    ? null
+                    : JavaParameter.of("result", method.getReturnType()),
+                Collections.unmodifiableList(parameters),
+                method.getModifiers().contains(Modifier.STATIC),
+                async.coalesce(),
+                batchMethod == null ? null : batchMethod.getSimpleName().toString(),
+                batchMethod != null && batchMethod.getModifiers().contains(Modifier.STATIC),
+                async.maxBatchSize(),
+                async.batchWindowMillis()
+            ));
+        }
+
+        // the wrapper of batched methods has its own flush method, which cannot be overloaded without parameters
+        if (batched && flushMethod != null) {
+            processingEnvironment.getMessager().printMessage(
+                Diagnostic.Kind.ERROR,
+                "@Async cannot wrap a method " + FLUSH_METHOD + "() in a class with batched methods, because the "
+                    + "wrapper uses it to flush pending batches",
+                flushMethod
+            );
+            return;
+        }
+
+        if (methods.isEmpty()) {
+            return;
+        }
+
+        generateJavaCode(classElement, generationPipeline, Collections.unmodifiableList(methods));
+    }
+
+    @NotNull
+    @Override
+    public Class<? extends Annotation> getAnnotytionType() {
+        return Async.class;
+    }
+    //</editor-fold>
+
+    /**
+     * Generiert die Java-Datei des Wrappers. Die Java-Datei wird mithilfe der {@link GenerationPipeline} erzeugt,
+     * weshalb die übergebenen Methoden nicht mehr verändert werden dürfen.
+     *
+     * @param classElement       Die Klasse, in der sich die Annotations befinden.
+     * @param generationPipeline Die {@link GenerationPipeline}, mit der die Java-Datei generiert wird.
+     * @param methods            Alle Methoden, welche asynchron aufgerufen werden sollen.
+     */
+    private static void generateJavaCode(
+        @NotNull final TypeElement classElement,
+        @NotNull final GenerationPipeline generationPipeline,
+        @NotNull final List<AsyncMethod> methods
+    ) {
+        final String className = classElement.getQualifiedName().toString();
+
+        generationPipeline.submit(
+            className,
+            className + "Async",
+            generator -> generateWrapper(generator, className, methods),
+            classElement
+        );
+    }
+
+    /**
+     * Prüft, ob eine Methode asynchron aufgerufen werden kann.
+     *
+     * @param method Die Methode, welche geprüft werden soll.
+     * @param async  Die Annotation der Methode.
+     *
+     * @return Die Fehlermeldung oder null, wenn die Methode asynchron aufgerufen werden kann.
+     */
+    @Nullable
+    private static String validate(
+        @NotNull final ExecutableElement method,
+        @NotNull final Async async
+    ) {
+        if (method.getModifiers().contains(Modifier.PRIVATE)) {
+            return "@Async cannot be applied to private methods";
+        }
+
+        if (!method.getTypeParameters().isEmpty()) {
+            return "@Async cannot be applied to generic methods";
+        }
+
+        if (async.batchMethod().isEmpty()) {
+            return null;
+        }
+
+        if (method.getParameters().size() != 1 || method.getReturnType().getKind() == TypeKind.VOID) {
+            return "@Async batchMethod requires a method with a single parameter and a result";
+        }
+
+        if (async.maxBatchSize() < 1) {
+            return "@Async requires a positive maxBatchSize";
+        }
+
+        if (async.batchWindowMillis() < 1) {
+            return "@Async requires a positive batchWindowMillis";
+        }
+
+        return null;
+    }
+
+    /**
+     * Sucht die Methode, an welche die Aufrufe in Stapeln übergeben werden. Die Methode darf nicht privat sein, muss
+     * genau einen Parameter besitzen, dem die {@link List} mit den Argumenten aller Aufrufe übergeben werden kann, und
+     * eine {@link List} mit den Ergebnissen zurückgeben, deren Elemente denselben Typ wie das Ergebnis der annotierten
+     * Methode haben.
+     *
+     * @param classElement Die Klasse, in der sich die Methode befindet.
+     * @param name         Der Name der Methode.
+     * @param keysType     Der Typ der {@link List}, in der die Argumente aller Aufrufe übergeben werden.
+     * @param resultsType  Der Typ der {@link List}, in der die Ergebnisse zurückgegeben werden müssen.
+     * @param types        Die Hilfsmethoden für Typen des Compilers.
+     *
+     * @return Die Methode, an welche die Aufrufe in Stapeln übergeben werden oder null, wenn es keine passende Methode
+     *     gibt.
+     */
+    @Nullable
+    private static ExecutableElement getBatchMethod(
+        @NotNull final TypeElement classElement,
+        @NotNull final String name,
+        @NotNull final DeclaredType keysType,
+        @NotNull final DeclaredType resultsType,
+        @NotNull final Types types
+    ) {
+        for (@NotNull final ExecutableElement method : ElementFilter.methodsIn(classElement.getEnclosedElements())) {
+            if (!method.getSimpleName().contentEquals(name)) continue;
+            if (method.getModifiers().contains(Modifier.PRIVATE)) continue;
+            if (method.getParameters().size() != 1) continue;
+
+            // the parameter may be any supertype of the list (Bsp: java.util.Collection<java.lang.Integer>)
+            if (!types.isAssignable(keysType, method.getParameters().get(0).asType())) continue;
+            if (!types.isAssignable(method.getReturnType(), resultsType)) continue;
+
+            return method;
+        }
+
+        return null;
+    }
+
+    /**
+     * Gibt den Typ zurück, mit dem ein Wert in einer {@link List} abgelegt wird. Primitive Typen werden durch ihre
+     * Wrapper-Klasse ersetzt.
+     *
+     * @param types Die Hilfsmethoden für Typen des Compilers.
+     * @param type  Der Typ des Wertes.
+     *
+     * @return Der Typ, mit dem der Wert in einer {@link List} abgelegt wird.
+     */
+    @NotNull
+    private static TypeMirror box(
+        @NotNull final Types types,
+        @NotNull final TypeMirror type
+    ) {
+        return type.getKind().isPrimitive() ? types.boxedClass((PrimitiveType) type).asType() : type;
+    }
+
+    /**
+     * Erzeugt den Inhalt des Wrappers mithilfe eines {@link JavaGenerator}. Jede Methode wird mit denselben Parametern
+     * erzeugt und gibt ein {@link java.util.concurrent.CompletableFuture} zurück. Der Wrapper besitzt einen
+     * Konstruktor, welcher den Standard-Executor nutzt, und einen Konstruktor, dem ein eigener Executor übergeben
+     * wird.
+     *
+     * @param generator Der {@link JavaGenerator}, mit dem der Inhalt des Wrappers erzeugt wird.
+     * @param className Der Name der Klasse, in der sich die Annotations befinden.
+     * @param methods   Alle Methoden, welche asynchron aufgerufen werden sollen.
+     */
+    private static void generateWrapper(
+        @NotNull final JavaGenerator generator,
+        @NotNull final String className,
+        @NotNull final List<AsyncMethod> methods
+    ) {
+        final JavaParameter delegate = new JavaParameter("delegate", className, TypeKind.DECLARED);
+        final JavaParameter executor = new JavaParameter("executor", EXECUTOR_CLASS, TypeKind.DECLARED);
+
+        generator.addField("private final", className, "delegate", null);
+        generator.addField("private final", EXECUTOR_CLASS, "executor", null);
+
+        for (@NotNull final AsyncMethod method : methods) {
+            if (method.coalesce) {
+                generator.addField(
+                    "private final",
+                    IN_FLIGHT_CLASS + "<" + method.getResultType() + ">",
+                    method.getCallsField(),
+                    "new " + IN_FLIGHT_CLASS + "<>()"
+                );
+            }
+
+            if (method.batchMethod != null) {
+                generator.addField(
+                    "private final",
+                    BATCHER_CLASS + "<" + method.parameters.get(0).getBoxedType() + ", " + method.getResultType() + ">",
+                    method.getBatcherField(),
+                    null
+                );
+            }
+        }
+
+        generator.addConstructor(
+            Collections.singletonList(delegate),
+            new String[]{"this(delegate, " + EXECUTORS_CLASS + ".defaultExecutor());"}
+        );
+
+        final List<String> constructorBody = new ArrayList<>();
+        constructorBody.add("this.delegate = delegate;");
+        constructorBody.add("this.executor = executor;");
+
+        for (@NotNull final AsyncMethod method : methods) {
+            if (method.batchMethod == null) continue;
+
+            final String batchTarget = method.batchMethodStatic ? className : "delegate";
+
+            constructorBody.add("this." + method.getBatcherField() + " = new " + BATCHER_CLASS + "<>(");
+            constructorBody.add("    executor,");
+            constructorBody.add("    " + method.maxBatchSize + ",");
+            constructorBody.add("    " + method.batchWindowMillis + "L,");
+            constructorBody.add("    keys -> " + batchTarget + "." + method.batchMethod + "(keys)");
+            constructorBody.add(");");
+        }
+
+        generator.addConstructor(Arrays.asList(delegate, executor), constructorBody.toArray(new String[0]));
+
+        for (@NotNull final AsyncMethod method : methods) {
+            generator.addMethod(
+                method.name,
+                "java.util.concurrent.CompletableFuture<" + method.getResultType() + ">",
+                method.parameters,
+                new String[]{"return " + createCall(className, method) + ";"}
+            );
+        }
+
+        final List<String> flushBody = new ArrayList<>();
+
+        for (@NotNull final AsyncMethod method : methods) {
+            if (method.batchMethod == null) continue;
+
+            flushBody.add("this." + method.getBatcherField() + ".flush();");
+        }
+
+        // only wrappers with batched methods have pending calls, which could be flushed
+        if (!flushBody.isEmpty()) {
+            generator.addMethod(FLUSH_METHOD, null, Collections.emptyList(), flushBody.toArray(new String[0]));
+        }
+    }
+
+    /**
+     * Erzeugt den Ausdruck, mit dem eine Methode im Wrapper asynchron aufgerufen wird.
+     *
+     * @param className Der Name der Klasse, in der sich die Annotations befinden.
+     * @param method    Die Methode, welche asynchron aufgerufen werden soll.
+     *
+     * @return Der Ausdruck, welcher das Ergebnis des Aufrufs als {@link java.util.concurrent.CompletableFuture}
+     *     liefert.
+     */
+    @NotNull
+    private static String createCall(
+        @NotNull final String className,
+        @NotNull final AsyncMethod method
+    ) {
+        final StringBuilder arguments = new StringBuilder();
+
+        for (@NotNull final JavaParameter parameter : method.parameters) {
+            if (arguments.length() > 0) {
+                arguments.append(", ");
+            }
+
+            arguments.append(parameter.getName());
+        }
+
+        final String target = method.isStatic ? className : "this.delegate";
+        final String invocation = target + "." + method.name + "(" + arguments + ")";
+        final String call;
+
+        if (method.batchMethod != null) {
+            call = "this." + method.getBatcherField() + ".submit(" + arguments + ")";
+        } else if (method.result == null) {
+            call = EXECUTORS_CLASS + ".supply(this.executor, () -> { " + invocation + "; return null; })";
+        } else {
+            call = EXECUTORS_CLASS + ".supply(this.executor, () -> " + invocation + ")";
+        }
+
+        if (!method.coalesce) {
+            return call;
+        }
+
+        final String key;
+
+        if (method.parameters.isEmpty()) {
+            key = KEY_CLASS + ".EMPTY_KEY";
+        } else if (method.parameters.size() == 1) {
+            key = KEY_CLASS + ".key(" + arguments + ")";
+        } else {
+            key = KEY_CLASS + ".compositeKey(" + arguments + ")";
+        }
+
+        return "this." + method.getCallsField() + ".call(" + key + ", () -> " + call + ")";
+    }
+
+    /**
+     * Eine {@link AsyncMethod} beschreibt eine Methode, welche asynchron aufgerufen werden soll. Sie ist unveränderlich
+     * und greift nicht auf die Elemente des Compilers zu, weshalb sie auch beim parallelen Erzeugen von Quellcode
+     * genutzt werden kann.
+     */
+    private static final class AsyncMethod {
+
+        //<editor-fold desc="LOCAL FIELDS">
+        /** Der Name der Methode. */
+        @NotNull
+        private final String name;
+        /** Der Name, anhand dessen die Felder dieser Methode im Wrapper benannt werden. */
+        @NotNull
+        private final String fieldName;
+        /** Das Ergebnis der Methode oder null, wenn die Methode kein Ergebnis hat. */
+        @Nullable
+        private final JavaParameter result;
+        /** Alle Parameter der Methode. */
+        @NotNull
+        private final List<JavaParameter> parameters;
+        /** Ob es sich um eine statische Methode handelt. */
+        private final boolean isStatic;
+        /** Ob gleiche laufende Aufrufe zusammengefasst werden. */
+        private final boolean coalesce;
+        /** Der Name der Methode, an welche die Aufrufe in Stapeln übergeben werden oder null. */
+        @Nullable
+        private final String batchMethod;
+        /** Ob es sich bei der Methode für die Stapel um eine statische Methode handelt. */
+        private final boolean batchMethodStatic;
+        /** Die maximale Anzahl an Aufrufen in einem Stapel. */
+        private final int maxBatchSize;
+        /** Die Zeit in Millisekunden, nach der ein Stapel spätestens ausgeführt wird. */
+        private final long batchWindowMillis;
+        //</editor-fold>
+
+
+        //<editor-fold desc="CONSTRUCTORS">
+
+        /**
+         * Erzeugt eine neue {@link AsyncMethod}.
+         *
+         * @param name              Der Name der Methode.
+         * @param fieldName         Der Name, anhand dessen die Felder dieser Methode im Wrapper benannt werden.
+         * @param result            Das Ergebnis der Methode oder null, wenn die Methode kein Ergebnis hat.
+         * @param parameters        Alle Parameter der Methode.
+         * @param isStatic          Ob es sich um eine statische Methode handelt.
+         * @param coalesce          Ob gleiche laufende Aufrufe zusammengefasst werden.
+         * @param batchMethod       Der Name der Methode, an welche die Aufrufe in Stapeln übergeben werden oder null.
+         * @param batchMethodStatic Ob es sich bei der Methode für die Stapel um eine statische Methode handelt.
+         * @param maxBatchSize      Die maximale Anzahl an Aufrufen in einem Stapel.
+         * @param batchWindowMillis Die Zeit in Millisekunden, nach der ein Stapel spätestens ausgeführt wird.
+         */
+        private AsyncMethod(
+            @NotNull final String name,
+            @NotNull final String fieldName,
+            @Nullable final JavaParameter result,
+            @NotNull final List<JavaParameter> parameters,
+            final boolean isStatic,
+            final boolean coalesce,
+            @Nullable final String batchMethod,
+            final boolean batchMethodStatic,
+            final int maxBatchSize,
+            final long batchWindowMillis
+        ) {
+            this.name = name;
+            this.fieldName = fieldName;
+            this.result = result;
+            this.parameters = parameters;
+            this.isStatic = isStatic;
+            this.coalesce = coalesce;
+            this.batchMethod = batchMethod;
+            this.batchMethodStatic = batchMethodStatic;
+            this.maxBatchSize = maxBatchSize;
+            this.batchWindowMillis = batchWindowMillis;
+        }
+        //</editor-fold>
+
+
+        /**
+         * Gibt den Typ zurück, mit dem das Ergebnis dieser Methode im {@link java.util.concurrent.CompletableFuture}
+         * abgelegt wird. Primitive Typen werden durch ihre Wrapper-Klasse ersetzt.
+         *
+         * @return Der Typ des Ergebnisses im {@link java.util.concurrent.CompletableFuture}.
+         */
+        @NotNull
+        private String getResultType() {
+            return this.result == null ? "java.lang.Void" : this.result.getBoxedType();
+        }
+
+        /**
+         * Gibt den Namen des Feldes zurück, in dem die laufenden Aufrufe dieser Methode zusammengefasst werden.
+         *
+         * @return Der Name des Feldes, in dem die laufenden Aufrufe zusammengefasst werden.
+         */
+        @NotNull
+        private String getCallsField() {
+            return this.fieldName + "Calls";
+        }
+
+        /**
+         * Gibt den Namen des Feldes zurück, in dem sich der {@link de.jonas.gannotations.runtime.AsyncBatcher} dieser
+         * Methode befindet.
+         *
+         * @return Der Name des Feldes, in dem sich der Batcher befindet.
+         */
+        @NotNull
+        private String getBatcherField() {
+            return this.fieldName + "Batcher";
+        }
+
+    }
+
+}
@@ -0,0 +1,761 @@
+package de.jonas.gannotations.processor.annotation;
+
+import com.sun.source.util.Trees;
+import com.sun.tools.javac.tree.TreeMaker;
+import de.jonas.gannotations.annotation.BinaryCodec;
+import de.jonas.gannotations.annotation.BuilderProperty;
+import de.jonas.gannotations.annotation.ReusableBuilder;
+import de.jonas.gannotations.processor.AnnotationHandler;
+import de.jonas.gannotations.processor.GenerationPipeline;
+import de.jonas.gannotations.processor.JavaGenerator;
+import de.jonas.gannotations.processor.JavaParameter;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import javax.annotation.processing.ProcessingEnvironment;
+import javax.lang.model.element.Element;
+import javax.lang.model.element.ElementKind;
+import javax.lang.model.element.ExecutableElement;
+import javax.lang.model.element.TypeElement;
+import javax.lang.model.element.VariableElement;
+import javax.lang.model.type.ArrayType;
+import javax.lang.model.type.DeclaredType;
+import javax.lang.model.type.TypeKind;
+import javax.lang.model.type.TypeMirror;
+import javax.lang.model.util.ElementFilter;
+import javax.tools.Diagnostic;
+
+import java.lang.annotation.Annotation;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Es wird ein Handler für die {@link BinaryCodec} erzeugt, welcher für eine Klasse einen binären Codec generiert. Der
+ * Codec nutzt dieselben Setter wie der Builder der {@link BuilderProperty}, sodass jeder gelesene Datensatz direkt in
+ * den Builder geschrieben wird. Da alle Kodierungen bereits beim Kompilieren feststehen, kommt der Codec ohne
+ * Reflection aus und erzeugt beim Schreiben keine Objekte.
+ */
+@NotNull
+public final class BinaryCodecAnnotation implements AnnotationHandler {
+
+    //<editor-fold desc="CONSTANTS">
+    /** Der Typ, mit dem die Puffer im generierten Quellcode angesprochen werden. */
+    @NotNull
+    private static final String BUFFER_TYPE = "java.nio.ByteBuffer";
+    /** Die Klasse, welche alle Kodierungen enthält. */
+    @NotNull
+    private static final String FORMAT = "de.jonas.gannotations.runtime.BinaryFormat";
+    /** Der Startwert des Hash-Verfahrens FNV-1a, mit dem der Fingerabdruck des Schemas berechnet wird. */
+    private static final long FNV_OFFSET_BASIS = 0xcbf29ce484222325L;
+    /** Die Primzahl des Hash-Verfahrens FNV-1a, mit dem der Fingerabdruck des Schemas berechnet wird. */
+    private static final long FNV_PRIME = 0x100000001b3L;
+    //</editor-fold>
+
+
+    //<editor-fold desc="implementation">
+    @Override
+    public void processAnnotation(
+        @NotNull final Set<? extends Element> annotatedElements,
+        @NotNull final ProcessingEnvironment processingEnvironment,
+        @NotNull final Trees trees,
+        @NotNull final TreeMaker treeMaker,
+        @NotNull final GenerationPipeline generationPipeline
+    ) {
+        final TypeElement classElement = (TypeElement) annotatedElements.iterator().next();
+
+        if (!classElement.getTypeParameters().isEmpty()) {
+            processingEnvironment.getMessager().printMessage(
+                Diagnostic.Kind.ERROR,
+                "@BinaryCodec cannot be applied to generic classes",
+                classElement
+            );
+            return;
+        }
+
+        final List<ExecutableElement> setters = new ArrayList<>();
+
+        for (@NotNull final ExecutableElement method : ElementFilter.methodsIn(classElement.getEnclosedElements())) {
+            if (method.getAnnotation(BuilderProperty.class) == null) continue;
+            if (!BuilderPropertyAnnotation.isSetter(method)) continue;
+
+            setters.add(method);
+        }
+
+        if (setters.isEmpty()) {
+            processingEnvironment.getMessager().printMessage(
+                Diagnostic.Kind.ERROR,
+                "@BinaryCodec requires at least one setter annotated with @BuilderProperty",
+                classElement
+            );
+            return;
+        }
+
+        final Map<String, JavaParameter> setterMap = BuilderPropertyAnnotation.createSetterMap(setters);
+        final List<CodecProperty> properties = new ArrayList<>();
+
+        for (@NotNull final ExecutableElement setter : setters) {
+            final String setterName = setter.getSimpleName().toString();
+            final JavaParameter parameter = setterMap.get(setterName);
+            final Encoding encoding = getEncoding(setter.getParameters().get(0).asType());
+
+            if (encoding == null) {
+                processingEnvironment.getMessager().printMessage(
+                    Diagnostic.Kind.ERROR,
+                    "@BinaryCodec does not support the type " + parameter.getType(),
+                    setter
+                );
+                return;
+            }
+
+            final String propertyName = BuilderPropertyAnnotation.getPropertyName(setterName);
+            final String reader = getReader(classElement, propertyName, parameter);
+
+            if (reader == null) {
+                processingEnvironment.getMessager().printMessage(
+                    Diagnostic.Kind.ERROR,
+                    "@BinaryCodec requires a getter or a field that is not private for the property " + propertyName,
+                    setter
+                );
+                return;
+            }
+
+            final List<String> constants = encoding == Encoding.ENUM
+                ? getEnumConstants(setter.getParameters().get(0).asType())
+                : Collections.emptyList();
+
+            properties.add(new CodecProperty(propertyName, setterName, parameter, encoding, reader, constants));
+        }
+
+        final String className = classElement.getQualifiedName().toString();
+        final boolean reusable = classElement.getAnnotation(ReusableBuilder.class) != null;
+        final long fingerprint = getFingerprint(className, properties);
+
+        generationPipeline.submit(
+            className,
+            className + "Codec",
+            generator -> generateCodec(
+                generator,
+                className,
+                Collections.unmodifiableList(properties),
+                fingerprint,
+                reusable
+            ),
+            classElement
+        );
+    }
+
+    @NotNull
+    @Override
+    public Class<? extends Annotation> getAnnotytionType() {
+        return BinaryCodec.class;
+    }
+    //</editor-fold>
+
+    /**
+     * Ermittelt die Kodierung eines Typs.
+     *
+     * @param type Der Typ, dessen Kodierung ermittelt werden soll.
+     *
+     * @return Die Kodierung des Typs oder null, wenn der Typ nicht unterstützt wird.
+     */
+    @Nullable
+    private static Encoding getEncoding(@NotNull final TypeMirror type) {
+        switch (type.getKind()) {
+            case BOOLEAN:
+                return Encoding.BOOLEAN;
+            case BYTE:
+                return Encoding.BYTE;
+            case SHORT:
+                return Encoding.SHORT;
+            case CHAR:
+                return Encoding.CHAR;
+            case INT:
+                return Encoding.INT;
+            case LONG:
+                return Encoding.LONG;
+            case FLOAT:
+                return Encoding.FLOAT;
+            case DOUBLE:
+                return Encoding.DOUBLE;
+            case ARRAY:
+                switch (((ArrayType) type).getComponentType().getKind()) {
+                    case BYTE:
+                        return Encoding.BYTE_ARRAY;
+                    case INT:
+                        return Encoding.INT_ARRAY;
+                    case LONG:
+                        return Encoding.LONG_ARRAY;
+                    case DOUBLE:
+                        return Encoding.DOUBLE_ARRAY;
+                    default:
+                        return null;
+                }
+            case DECLARED:
+                final Element element = ((DeclaredType) type).asElement();
+
+                if (element.getKind() == ElementKind.ENUM) {
+                    return Encoding.ENUM;
+                }
+
+                if (((TypeElement) element).getQualifiedName().contentEquals("java.lang.String")) {
+                    return Encoding.STRING;
+                }
+
+                return null;
+            default:
+                return null;
+        }
+    }
+
+    /**
+     * Ermittelt die Namen aller Konstanten eines Enums in der Reihenfolge ihrer Deklaration. Da Enums anhand der
+     * Position ihrer Konstanten geschrieben werden, gehören diese Namen zum Schema.
+     *
+     * @param type Der Typ des Enums.
+     *
+     * @return Die Namen aller Konstanten des Enums.
+     */
+    @NotNull
+    private static List<String> getEnumConstants(@NotNull final TypeMirror type) {
+        final List<String> constants = new ArrayList<>();
+
+        for (@NotNull final Element element : ((DeclaredType) type).asElement().getEnclosedElements()) {
+            if (element.getKind() != ElementKind.ENUM_CONSTANT) continue;
+
+            constants.add(element.getSimpleName().toString());
+        }
+
+        return Collections.unmodifiableList(constants);
+    }
+
+    /**
+     * Ermittelt den Ausdruck, mit dem eine Eigenschaft eines Objekts ({@code object}) ausgelesen wird. Besitzt die
+     * Klasse ein Feld mit dem Namen der Eigenschaft, wird es wie bei der {@link
+     * de.jonas.gannotations.annotation.Columnar} ausgelesen, ansonsten über einen Getter.
+     *
+     * @param classElement Die Klasse, in der sich die Eigenschaft befindet.
+     * @param propertyName Der Name der Eigenschaft.
+     * @param parameter    Der Parameter des Setters der Eigenschaft.
+     *
+     * @return Der Ausdruck, mit dem die Eigenschaft ausgelesen wird oder null, wenn sie sich nicht auslesen lässt.
+     */
+    @Nullable
+    private static String getReader(
+        @NotNull final TypeElement classElement,
+        @NotNull final String propertyName,
+        @NotNull final JavaParameter parameter
+    ) {
+        for (@NotNull final VariableElement field : ElementFilter.fieldsIn(classElement.getEnclosedElements())) {
+            if (!field.getSimpleName().contentEquals(propertyName)) continue;
+
+            return ColumnarAnnotation.getReader(classElement, field);
+        }
+
+        final String prefix = parameter.getKind() == TypeKind.BOOLEAN ? "is" : "get";
+        final String getterName = prefix + ColumnarAnnotation.capitalize(propertyName);
+
+        return ColumnarAnnotation.hasAccessibleMethod(classElement, getterName, 0)
+            ? "object." + getterName + "()"
+            : null;
+    }
+
+    /**
+     * Berechnet den Fingerabdruck des Schemas mithilfe des Hash-Verfahrens FNV-1a. Der Fingerabdruck ändert sich,
+     * sobald sich der Name der Klasse oder der Name, der Typ oder die Reihenfolge einer Eigenschaft ändert. Bei Enums
+     * gehören auch die Namen und die Reihenfolge der Konstanten zum Schema, da sie anhand ihrer Position geschrieben
+     * werden.
+     *
+     * @param className  Der Name der Klasse.
+     * @param properties Alle Eigenschaften in der Reihenfolge, in der sie geschrieben werden.
+     *
+     * @return Der Fingerabdruck des Schemas.
+     */
+    private static long getFingerprint(
+        @NotNull final String className,
+        @NotNull final List<CodecProperty> properties
+    ) {
+        final StringBuilder schema = new StringBuilder(className);
+
+        for (@NotNull final CodecProperty property : properties) {
+            schema.append(';').append(property.name).append(':').append(property.parameter.getType());
+
+            if (!property.constants.isEmpty()) {
+                schema.append('{').append(String.join(",", property.constants)).append('}');
+            }
+        }
+
+        return getFnv1aHash(schema);
+    }
+
+    /**
+     * Berechnet den Hash einer Zeichenkette mithilfe des Hash-Verfahrens FNV-1a, welcher auch für das Layout anderer
+     * generierter Dateiformate genutzt wird.
+     *
+     * @param value Die Zeichenkette, deren Hash berechnet wird.
+     *
+     * @return Der Hash der Zeichenkette.
+     */
+    static long getFnv1aHash(@NotNull final CharSequence value) {
+        long hash = FNV_OFFSET_BASIS;
+
+        for (int i = 0; i < value.length(); i++) {
+            hash ^= value.charAt(i);
+            hash *= FNV_PRIME;
+        }
+
+        return hash;
+    }
+
+    /**
+     * Erzeugt den Inhalt des Codecs mithilfe eines {@link JavaGenerator}.
+     *
+     * @param generator   Der {@link JavaGenerator}, mit dem der Inhalt des Codecs erzeugt wird.
+     * @param className   Der Name der Klasse, deren Objekte kodiert werden.
+     * @param properties  Alle Eigenschaften in der Reihenfolge, in der sie geschrieben werden.
+     * @param fingerprint Der Fingerabdruck des Schemas.
+     * @param reusable    Ob der Builder der Klasse wiederverwendet werden kann.
+     */
+    private static void generateCodec(
+        @NotNull final JavaGenerator generator,
+        @NotNull final String className,
+        @NotNull final List<CodecProperty> properties,
+        final long fingerprint,
+        final boolean reusable
+    ) {
+        final String builderClassName = className + "Builder";
+        final List<JavaParameter> objectParameter = Collections.singletonList(
+            new JavaParameter("object", className, TypeKind.DECLARED)
+        );
+        final List<JavaParameter> bufferParameter = Collections.singletonList(
+            new JavaParameter("buffer", BUFFER_TYPE, TypeKind.DECLARED)
+        );
+        final List<JavaParameter> writeParameters = new ArrayList<>(objectParameter);
+        writeParameters.addAll(bufferParameter);
+        final List<JavaParameter> readParameters = new ArrayList<>(bufferParameter);
+        readParameters.add(new JavaParameter("builder", builderClassName, TypeKind.DECLARED));
+        final List<String> streamExceptions = Collections.singletonList("java.io.IOException");
+
+        final StringBuilder size = new StringBuilder("return ");
+        final List<String> writeBody = new ArrayList<>();
+        final List<String> readBody = new ArrayList<>();
+
+        writeBody.add(FORMAT + ".writeVarInt(buffer, sizeOf(object));");
+
+        for (int i = 0; i < properties.size(); i++) {
+            final CodecProperty property = properties.get(i);
+
+            if (i > 0) {
+                size.append(" + ");
+            }
+
+            size.append(property.size(property.reader));
+            writeBody.add(property.write(property.reader) + ";");
+            readBody.add("builder." + property.setterName + "(" + property.read() + ");");
+        }
+
+        readBody.add("return builder;");
+
+        generator.addField("public static final", "long", "FINGERPRINT", "0x" + Long.toHexString(fingerprint) + "L");
+
+        for (@NotNull final CodecProperty property : properties) {
+            if (property.encoding != Encoding.ENUM) continue;
+
+            generator.addField(
+                "private static final",
+                property.parameter.getType() + "[]",
+                property.getValuesName(),
+                property.parameter.getType() + ".values()"
+            );
+        }
+
+        generator.addConstructor("private", Collections.emptyList(), new String[0]);
+
+        generator.addMethod(
+            "public static",
+            "sizeOf",
+            "int",
+            objectParameter,
+            new String[]{size.append(';').toString()}
+        );
+        generator.addMethod("public static", "write", null, writeParameters, writeBody.toArray(new String[0]));
+        generator.addMethod(
+            "public static",
+            "read",
+            builderClassName,
+            readParameters,
+            new String[]{
+                "final int length = " + FORMAT + ".readVarInt(buffer);",
+                "if (length < 0 || length > buffer.remaining()) {",
+                "    throw new java.nio.BufferUnderflowException();",
+                "}",
+                "final int end = buffer.position() + length;",
+                "final int limit = buffer.limit();",
+                "buffer.limit(end);",
+                "try {",
+                "    return readBody(buffer, builder);",
+                "} finally {",
+                "    buffer.limit(limit);",
+                "    buffer.position(end);",
+                "}"
+            }
+        );
+        generator.addMethod(
+            "public static",
+            "writeHeader",
+            null,
+            bufferParameter,
+            new String[]{FORMAT + ".writeVarInt(buffer, java.lang.Long.BYTES);", "buffer.putLong(FINGERPRINT);"}
+        );
+        generator.addMethod(
+            "public static",
+            "readHeader",
+            null,
+            bufferParameter,
+            Collections.singletonList("java.io.StreamCorruptedException"),
+            new String[]{
+                "if (" + FORMAT + ".readVarInt(buffer) != java.lang.Long.BYTES) {",
+                "    throw new java.io.StreamCorruptedException(\"missing schema header for " + className + "\");",
+                "}",
+                "checkFingerprint(buffer.getLong());"
+            }
+        );
+
+        final List<JavaParameter> readAllParameters = new ArrayList<>();
+        readAllParameters.add(new JavaParameter(
+            "channel",
+            "java.nio.channels.ReadableByteChannel",
+            TypeKind.DECLARED
+        ));
+        readAllParameters.add(new JavaParameter(
+            "consumer",
+            "java.util.function.Consumer<? super " + className + ">",
+            TypeKind.DECLARED
+        ));
+
+        final List<String> readAllBody = new ArrayList<>();
+        readAllBody.add(
+            "final de.jonas.gannotations.runtime.FrameReader reader = "
+                + "new de.jonas.gannotations.runtime.FrameReader(channel, 65536);"
+        );
+        readAllBody.add("final " + BUFFER_TYPE + " header = reader.nextFrame();");
+        readAllBody.add("if (header == null) return 0L;");
+        readAllBody.add("checkFingerprint(header.remaining() == java.lang.Long.BYTES ? header.getLong() : 0L);");
+
+        if (reusable) {
+            readAllBody.add("final " + builderClassName + " builder = new " + builderClassName + "();");
+        }
+
+        readAllBody.add("long count = 0L;");
+        readAllBody.add(BUFFER_TYPE + " frame;");
+        readAllBody.add("while ((frame = reader.nextFrame()) != null) {");
+        final String builder = reusable ? "builder" : "new " + builderClassName + "()";
+        readAllBody.add("    consumer.accept(readBody(frame, " + builder + ").build());");
+        readAllBody.add("    count++;");
+        readAllBody.add("}");
+        readAllBody.add("return count;");
+
+        generator.addMethod(
+            "public static",
+            "readAll",
+            "long",
+            readAllParameters,
+            streamExceptions,
+            readAllBody.toArray(new String[0])
+        );
+
+        generator.addMethod(
+            "private static",
+            "readBody",
+            builderClassName,
+            readParameters,
+            readBody.toArray(new String[0])
+        );
+        generator.addMethod(
+            "private static",
+            "checkFingerprint",
+            null,
+            Collections.singletonList(new JavaParameter("fingerprint", "long", TypeKind.LONG)),
+            Collections.singletonList("java.io.StreamCorruptedException"),
+            new String[]{
+                "if (fingerprint != FINGERPRINT) {",
+                "    throw new java.io.StreamCorruptedException(",
+                "        \"schema fingerprint mismatch for " + className + "\"",
+                "    );",
+                "}"
+            }
+        );
+
+        for (@NotNull final CodecProperty property : properties) {
+            if (property.encoding != Encoding.ENUM) continue;
+
+            generator.addMethod(
+                "private static",
+                property.getEnumReaderName(),
+                property.parameter.getType(),
+                bufferParameter,
+                new String[]{
+                    "final int ordinal = " + FORMAT + ".readVarInt(buffer);",
+                    "if (ordinal < 0 || ordinal > " + property.getValuesName() + ".length) {",
+                    "    throw new java.lang.IllegalArgumentException(",
+                    "        \"malformed ordinal \" + ordinal + \" of " + property.parameter.getType() + "\"",
+                    "    );",
+                    "}",
+                    "return ordinal == 0 ? null : " + property.getValuesName() + "[ordinal - 1];"
+                }
+            );
+        }
+    }
+
+    /**
+     * Alle Kodierungen, mit denen eine Eigenschaft geschrieben werden kann.
+     */
+    private enum Encoding {
+        /** Ein einzelnes Byte, welches 0 oder 1 ist. */
+        BOOLEAN,
+        /** Ein einzelnes Byte. */
+        BYTE,
+        /** Ein Varint, welcher mit ZigZag kodiert wurde. */
+        SHORT,
+        /** Ein Varint. */
+        CHAR,
+        /** Ein Varint, welcher mit ZigZag kodiert wurde. */
+        INT,
+        /** Ein Varint, welcher mit ZigZag kodiert wurde. */
+        LONG,
+        /** Vier Bytes. */
+        FLOAT,
+        /** Acht Bytes. */
+        DOUBLE,
+        /** Die Länge plus eins als Varint, gefolgt von den Zeichen als UTF-8. */
+        STRING,
+        /** Die Position der Konstanten plus eins als Varint. */
+        ENUM,
+        /** Die Länge plus eins als Varint, gefolgt von den Bytes. */
+        BYTE_ARRAY,
+        /** Die Länge plus eins als Varint, gefolgt von den Elementen als Varint mit ZigZag. */
+        INT_ARRAY,
+        /** Die Länge plus eins als Varint, gefolgt von den Elementen als Varint mit ZigZag. */
+        LONG_ARRAY,
+        /** Die Länge plus eins als Varint, gefolgt von den Elementen mit jeweils acht Bytes. */
+        DOUBLE_ARRAY
+    }
+
+    /**
+     * Eine {@link CodecProperty} beschreibt eine einzelne Eigenschaft, welche vom Codec geschrieben und gelesen wird.
+     * Eine {@link CodecProperty} ist unveränderlich und greift nicht mehr auf die Elemente des Compilers zu, weshalb
+     * sie auch beim parallelen Erzeugen von Quellcode genutzt werden kann.
+     */
+    private static final class CodecProperty {
+
+        //<editor-fold desc="LOCAL FIELDS">
+        /** Der Name der Eigenschaft. */
+        @NotNull
+        private final String name;
+        /** Der Name des Setters der Eigenschaft. */
+        @NotNull
+        private final String setterName;
+        /** Der Parameter des Setters der Eigenschaft. */
+        @NotNull
+        private final JavaParameter parameter;
+        /** Die Kodierung der Eigenschaft. */
+        @NotNull
+        private final Encoding encoding;
+        /** Der Ausdruck, mit dem die Eigenschaft eines Objekts ausgelesen wird. */
+        @NotNull
+        private final String reader;
+        /** Die Namen aller Konstanten, wenn es sich um ein Enum handelt, ansonsten eine leere Liste. */
+        @NotNull
+        private final List<String> constants;
+        //</editor-fold>
+
+
+        //<editor-fold desc="CONSTRUCTORS">
+
+        /**
+         * Erzeugt eine neue {@link CodecProperty}.
+         *
+         * @param name       Der Name der Eigenschaft.
+         * @param setterName Der Name des Setters der Eigenschaft.
+         * @param parameter  Der Parameter des Setters der Eigenschaft.
+         * @param encoding   Die Kodierung der Eigenschaft.
+         * @param reader     Der Ausdruck, mit dem die Eigenschaft eines Objekts ausgelesen wird.
+         * @param constants  Die Namen aller Konstanten, wenn es sich um ein Enum handelt, ansonsten eine leere Liste.
+         */
+        private CodecProperty(
+            @NotNull final String name,
+            @NotNull final String setterName,
+            @NotNull final JavaParameter parameter,
+            @NotNull final Encoding encoding,
+            @NotNull final String reader,
+            @NotNull final List<String> constants
+        ) {
+            this.name = name;
+            this.setterName = setterName;
+            this.parameter = parameter;
+            this.encoding = encoding;
+            this.reader = reader;
+            this.constants = constants;
+        }
+        //</editor-fold>
+
+
+        /**
+         * Erzeugt den Ausdruck, welcher die Anzahl an Bytes eines Wertes dieser Eigenschaft berechnet.
+         *
+         * @param value Der Ausdruck, welcher den Wert angibt.
+         *
+         * @return Der Ausdruck, welcher die Anzahl an Bytes berechnet.
+         */
+        @NotNull
+        private String size(@NotNull final String value) {
+            switch (this.encoding) {
+                case BOOLEAN:
+                case BYTE:
+                    return "1";
+                case SHORT:
+                case INT:
+                    return FORMAT + ".sizeOfVarInt(" + FORMAT + ".encodeZigZag((int) " + value + "))";
+                case CHAR:
+                    return FORMAT + ".sizeOfVarInt(" + value + ")";
+                case LONG:
+                    return FORMAT + ".sizeOfVarLong(" + FORMAT + ".encodeZigZag(" + value + "))";
+                case FLOAT:
+                    return "4";
+                case DOUBLE:
+                    return "8";
+                case STRING:
+                    return FORMAT + ".sizeOfString(" + value + ")";
+                case ENUM:
+                    return FORMAT + ".sizeOfVarInt(" + getOrdinal(value) + ")";
+                case BYTE_ARRAY:
+                    return FORMAT + ".sizeOfBytes(" + value + ")";
+                case INT_ARRAY:
+                    return FORMAT + ".sizeOfIntArray(" + value + ")";
+                case LONG_ARRAY:
+                    return FORMAT + ".sizeOfLongArray(" + value + ")";
+                default:
+                    return FORMAT + ".sizeOfDoubleArray(" + value + ")";
+            }
+        }
+
+        /**
+         * Erzeugt den Ausdruck, mit dem ein Wert dieser Eigenschaft in einen Puffer ({@code buffer}) geschrieben wird.
+         *
+         * @param value Der Ausdruck, welcher den Wert angibt.
+         *
+         * @return Der Ausdruck, mit dem der Wert geschrieben wird.
+         */
+        @NotNull
+        private String write(@NotNull final String value) {
+            switch (this.encoding) {
+                case BOOLEAN:
+                    return "buffer.put((byte) (" + value + " ? 1 : 0))";
+                case BYTE:
+                    return "buffer.put(" + value + ")";
+                case SHORT:
+                case INT:
+                    return FORMAT + ".writeVarInt(buffer, " + FORMAT + ".encodeZigZag((int) " + value + "))";
+                case CHAR:
+                    return FORMAT + ".writeVarInt(buffer, " + value + ")";
+                case LONG:
+                    return FORMAT + ".writeVarLong(buffer, " + FORMAT + ".encodeZigZag(" + value + "))";
+                case FLOAT:
+                    return "buffer.putFloat(" + value + ")";
+                case DOUBLE:
+                    return "buffer.putDouble(" + value + ")";
+                case STRING:
+                    return FORMAT + ".writeString(buffer, " + value + ")";
+                case ENUM:
+                    return FORMAT + ".writeVarInt(buffer, " + getOrdinal(value) + ")";
+                case BYTE_ARRAY:
+                    return FORMAT + ".writeBytes(buffer, " + value + ")";
+                case INT_ARRAY:
+                    return FORMAT + ".writeIntArray(buffer, " + value + ")";
+                case LONG_ARRAY:
+                    return FORMAT + ".writeLongArray(buffer, " + value + ")";
+                default:
+                    return FORMAT + ".writeDoubleArray(buffer, " + value + ")";
+            }
+        }
+
+        /**
+         * Erzeugt den Ausdruck, mit dem ein Wert dieser Eigenschaft aus einem Puffer ({@code buffer}) gelesen wird.
+         *
+         * @return Der Ausdruck, mit dem der Wert gelesen wird.
+         */
+        @NotNull
+        private String read() {
+            switch (this.encoding) {
+                case BOOLEAN:
+                    return "buffer.get() != 0";
+                case BYTE:
+                    return "buffer.get()";
+                case SHORT:
+                    return "(short) " + FORMAT + ".decodeZigZag(" + FORMAT + ".readVarInt(buffer))";
+                case INT:
+                    return FORMAT + ".decodeZigZag(" + FORMAT + ".readVarInt(buffer))";
+                case CHAR:
+                    return "(char) " + FORMAT + ".readVarInt(buffer)";
+                case LONG:
+                    return FORMAT + ".decodeZigZag(" + FORMAT + ".readVarLong(buffer))";
+                case FLOAT:
+                    return "buffer.getFloat()";
+                case DOUBLE:
+                    return "buffer.getDouble()";
+                case STRING:
+                    return FORMAT + ".readString(buffer)";
+                case ENUM:
+                    return getEnumReaderName() + "(buffer)";
+                case BYTE_ARRAY:
+                    return FORMAT + ".readBytes(buffer)";
+                case INT_ARRAY:
+                    return FORMAT + ".readIntArray(buffer)";
+                case LONG_ARRAY:
+                    return FORMAT + ".readLongArray(buffer)";
+                default:
+                    return FORMAT + ".readDoubleArray(buffer)";
+            }
+        }
+
+        /**
+         * Erzeugt den Ausdruck, welcher die Position einer Konstanten plus eins ermittelt, wobei null als 0 kodiert
+         * wird.
+         *
+         * @param value Der Ausdruck, welcher die Konstante angibt.
+         *
+         * @return Der Ausdruck, welcher die Position der Konstanten ermittelt.
+         */
+        @NotNull
+        private String getOrdinal(@NotNull final String value) {
+            return "(" + value + " == null ? 0 : " + value + ".ordinal() + 1)";
+        }
+
+        /**
+         * Gibt den Namen der Konstanten zurück, in der alle Werte des Enums dieser Eigenschaft abgelegt werden (Bsp:
+         * 'SIDE_VALUES').
+         *
+         * @return Der Name der Konstanten.
+         */
+        @NotNull
+        private String getValuesName() {
+            return TimedAnnotation.toConstantName(this.name) + "_VALUES";
+        }
+
+        /**
+         * Gibt den Namen der Methode zurück, mit der ein Wert des Enums dieser Eigenschaft gelesen wird (Bsp:
+         * 'readEnumSide'). Durch den Zusatz 'Enum' kann der Name nicht mit den übrigen Methoden des Codecs (Bsp:
+         * 'readHeader') übereinstimmen.
+         *
+         * @return Der Name der Methode.
+         */
+        @NotNull
+        private String getEnumReaderName() {
+            return "readEnum" + ColumnarAnnotation.capitalize(this.name);
+        }
+
+    }
+
+}
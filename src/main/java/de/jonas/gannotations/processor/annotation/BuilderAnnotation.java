@@ -0,0 +1,267 @@
+package de.jonas.gannotations.processor.annotation;
+
+import com.sun.source.util.Trees;
+import com.sun.tools.javac.tree.TreeMaker;
+import de.jonas.gannotations.annotation.Builder;
+import de.jonas.gannotations.annotation.BuilderProperty;
+import de.jonas.gannotations.annotation.Interned;
+import de.jonas.gannotations.processor.AnnotationHandler;
+import de.jonas.gannotations.processor.GenerationPipeline;
+import de.jonas.gannotations.processor.JavaGenerator;
+import de.jonas.gannotations.processor.JavaParameter;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import javax.annotation.processing.ProcessingEnvironment;
+import javax.lang.model.element.Element;
+import javax.lang.model.element.ElementKind;
+import javax.lang.model.element.ExecutableElement;
+import javax.lang.model.element.Modifier;
+import javax.lang.model.element.TypeElement;
+import javax.lang.model.element.VariableElement;
+import javax.lang.model.type.TypeMirror;
+import javax.lang.model.util.ElementFilter;
+import javax.tools.Diagnostic;
+
+import java.lang.annotation.Annotation;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Es wird ein Handler für den {@link Builder} erzeugt, welcher aus einem Konstruktor einen Builder erzeugt. Der Builder
+ * speichert alle Werte in seinen eigenen Feldern und ruft den Konstruktor erst in der Methode {@code build} auf, sodass
+ * auch Klassen mit ausschließlich finalen Feldern einen Builder erhalten können.
+ */
+@NotNull
+public final class BuilderAnnotation implements AnnotationHandler {
+
+    //<editor-fold desc="implementation">
+    @Override
+    public void processAnnotation(
+        @NotNull final Set<? extends Element> annotatedElements,
+        @NotNull final ProcessingEnvironment processingEnvironment,
+        @NotNull final Trees trees,
+        @NotNull final TreeMaker treeMaker,
+        @NotNull final GenerationPipeline generationPipeline
+    ) {
+        if (annotatedElements.size() != 1) {
+            annotatedElements.forEach(element -> processingEnvironment.getMessager().printMessage(
+                    Diagnostic.Kind.ERROR,
+                    "@Builder must be applied to only one constructor or class per class",
+                    element
+                )
+            );
+            return;
+        }
+
+        final Element annotatedElement = annotatedElements.iterator().next();
+        final ExecutableElement constructor = getConstructor(annotatedElement, processingEnvironment);
+
+        if (constructor == null) {
+            return;
+        }
+
+        final TypeElement classElement = (TypeElement) constructor.getEnclosingElement();
+
+        if (!classElement.getTypeParameters().isEmpty()) {
+            processingEnvironment.getMessager().printMessage(
+                Diagnostic.Kind.ERROR,
+                "@Builder cannot be applied to generic classes",
+                annotatedElement
+            );
+            return;
+        }
+
+        for (@NotNull final ExecutableElement method : ElementFilter.methodsIn(classElement.getEnclosedElements())) {
+            if (method.getAnnotation(BuilderProperty.class) == null) continue;
+
+            processingEnvironment.getMessager().printMessage(
+                Diagnostic.Kind.ERROR,
+                "@Builder cannot be combined with @BuilderProperty in the same class",
+                annotatedElement
+            );
+            return;
+        }
+
+        final List<JavaParameter> parameters = new ArrayList<>();
+        final List<String> thrownTypes = new ArrayList<>();
+
+        for (@NotNull final VariableElement parameter : constructor.getParameters()) {
+            parameters.add(JavaParameter.of(parameter.getSimpleName().toString(), parameter.asType()));
+        }
+
+        for (@NotNull final TypeMirror thrownType : constructor.getThrownTypes()) {
+            thrownTypes.add(thrownType.toString());
+        }
+
+        generateJavaCode(
+            classElement,
+            generationPipeline,
+            Collections.unmodifiableList(parameters),
+            Collections.unmodifiableList(thrownTypes)
+        );
+    }
+
+    @NotNull
+    @Override
+    public Class<? extends Annotation> getAnnotytionType() {
+        return Builder.class;
+    }
+    //</editor-fold>
+
+    /**
+     * Generiert die Java-Datei des Builders. Die Java-Datei wird mithilfe der {@link GenerationPipeline} erzeugt,
+     * weshalb die übergebenen Parameter nicht mehr verändert werden dürfen. Besitzt die Klasse die {@link Interned}
+     * Annotation, gibt der Builder die kanonische Instanz des erzeugten Objekts zurück.
+     *
+     * @param classElement       Die Klasse, für die der Builder erzeugt wird.
+     * @param generationPipeline Die {@link GenerationPipeline}, mit der die Java-Datei generiert wird.
+     * @param parameters         Alle Parameter des Konstruktors in der Reihenfolge ihrer Deklaration.
+     * @param thrownTypes        Alle Exceptions, welche der Konstruktor deklariert.
+     */
+    public void generateJavaCode(
+        @NotNull final TypeElement classElement,
+        @NotNull final GenerationPipeline generationPipeline,
+        @NotNull final List<JavaParameter> parameters,
+        @NotNull final List<String> thrownTypes
+    ) {
+        final String className = classElement.getQualifiedName().toString();
+        final boolean interned = classElement.getAnnotation(Interned.class) != null;
+
+        generationPipeline.submit(
+            className,
+            className + "Builder",
+            "interned=" + interned + ", parameters=" + parameters + ", thrownTypes=" + thrownTypes,
+            generator -> generateBuilder(generator, className, parameters, thrownTypes, interned),
+            classElement
+        );
+    }
+
+    /**
+     * Ermittelt den Konstruktor, aus dem der Builder erzeugt werden soll. Wurde die Annotation an eine Klasse
+     * angemerkt, muss diese Klasse genau einen Konstruktor besitzen.
+     *
+     * @param annotatedElement      Das Element, welches die Annotation besitzt.
+     * @param processingEnvironment Die {@link ProcessingEnvironment}, welche vom Prozessor übergeben wird.
+     *
+     * @return Der Konstruktor, aus dem der Builder erzeugt werden soll oder null, wenn kein passender Konstruktor
+     *     existiert.
+     */
+    @Nullable
+    private static ExecutableElement getConstructor(
+        @NotNull final Element annotatedElement,
+        @NotNull final ProcessingEnvironment processingEnvironment
+    ) {
+        final ExecutableElement constructor;
+
+        if (annotatedElement.getKind() == ElementKind.CONSTRUCTOR) {
+            constructor = (ExecutableElement) annotatedElement;
+        } else {
+            final List<ExecutableElement> constructors = ElementFilter.constructorsIn(
+                annotatedElement.getEnclosedElements()
+            );
+
+            if (constructors.size() != 1) {
+                processingEnvironment.getMessager().printMessage(
+                    Diagnostic.Kind.ERROR,
+                    "@Builder on a class requires exactly one constructor, annotate the constructor instead",
+                    annotatedElement
+                );
+                return null;
+            }
+
+            constructor = constructors.get(0);
+        }
+
+        if (constructor.getModifiers().contains(Modifier.PRIVATE)) {
+            processingEnvironment.getMessager().printMessage(
+                Diagnostic.Kind.ERROR,
+                "@Builder requires a constructor that is not private",
+                annotatedElement
+            );
+            return null;
+        }
+
+        return constructor;
+    }
+
+    /**
+     * Erzeugt den Inhalt des Builders mithilfe eines {@link JavaGenerator}. Für jeden Parameter, welcher ein primitives
+     * Array ist, wird zusätzlich eine Methode erzeugt, mit der sich einzelne Elemente ohne Boxing hinzufügen lassen.
+     *
+     * @param generator   Der {@link JavaGenerator}, mit dem der Inhalt des Builders erzeugt wird.
+     * @param className   Der Name der Klasse, für die der Builder erzeugt wird.
+     * @param parameters  Alle Parameter des Konstruktors in der Reihenfolge ihrer Deklaration.
+     * @param thrownTypes Alle Exceptions, welche der Konstruktor deklariert und die daher auch von {@code build}
+     *                    deklariert werden.
+     * @param interned    Ob der Builder die kanonische Instanz des erzeugten Objekts zurückgeben soll.
+     */
+    private static void generateBuilder(
+        @NotNull final JavaGenerator generator,
+        @NotNull final String className,
+        @NotNull final List<JavaParameter> parameters,
+        @NotNull final List<String> thrownTypes,
+        final boolean interned
+    ) {
+        final StringBuilder arguments = new StringBuilder();
+
+        for (@NotNull final JavaParameter parameter : parameters) {
+            final String name = parameter.getName();
+
+            generator.addField("private", parameter.getType(), name, null);
+
+            if (arguments.length() > 0) {
+                arguments.append(", ");
+            }
+
+            if (!parameter.isPrimitiveArray()) {
+                arguments.append("this.").append(name);
+                continue;
+            }
+
+            generator.addField("private", parameter.getType(), name + "Buffer", null);
+            generator.addField("private", "int", name + "Size", null);
+
+            arguments
+                .append("(this.").append(name).append("Size > 0")
+                .append(" ? java.util.Arrays.copyOf(this.").append(name).append("Buffer, this.").append(name)
+                .append("Size) : this.").append(name).append(')');
+        }
+
+        final String builtObject = "new " + className + "(" + arguments + ")";
+
+        generator.addMethod(
+            "public",
+            "build",
+            className,
+            Collections.emptyList(),
+            thrownTypes,
+            new String[]{
+                interned
+                    ? "return " + className + "Interner.intern(" + builtObject + ");"
+                    : "return " + builtObject + ";"
+            }
+        );
+
+        for (@NotNull final JavaParameter parameter : parameters) {
+            final String name = parameter.getName();
+            final String capitalizedName = Character.toUpperCase(name.charAt(0)) + name.substring(1);
+
+            generator.addMethod(
+                "set" + capitalizedName,
+                generator.getNewClassName(),
+                Collections.singletonList(parameter.withName("value")),
+                parameter.isPrimitiveArray()
+                    ? new String[]{"this." + name + " = value;", "this." + name + "Size = 0;", "return this;"}
+                    : new String[]{"this." + name + " = value;", "return this;"}
+            );
+
+            if (!parameter.isPrimitiveArray()) continue;
+
+            BuilderPropertyAnnotation.addPrimitiveArrayAdder(generator, "add" + capitalizedName, name, parameter);
+        }
+    }
+
+}
@@ -2,45 +2,60 @@ package de.jonas.gannotations.processor.annotation;
 
 import com.sun.source.util.Trees;
 import com.sun.tools.javac.tree.TreeMaker;
+import de.jonas.gannotations.annotation.BatchBuilder;
 import de.jonas.gannotations.annotation.BuilderProperty;
+import de.jonas.gannotations.annotation.Interned;
+import de.jonas.gannotations.annotation.ReusableBuilder;
 import de.jonas.gannotations.processor.AnnotationHandler;
+import de.jonas.gannotations.processor.GenerationPipeline;
 import de.jonas.gannotations.processor.JavaGenerator;
+import de.jonas.gannotations.processor.JavaParameter;
 import org.jetbrains.annotations.NotNull;
 
 import javax.annotation.processing.ProcessingEnvironment;
 import javax.lang.model.element.Element;
 import javax.lang.model.element.TypeElement;
 import javax.lang.model.type.ExecutableType;
+import javax.lang.model.type.TypeKind;
 import javax.tools.Diagnostic;
 
 import java.lang.annotation.Annotation;
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collections;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
-import java.util.NavigableMap;
+import java.util.Objects;
 import java.util.Set;
-import java.util.TreeMap;
 import java.util.stream.Collectors;
 
 /**
  * Es wird ein Handler für die {@link BuilderProperty} erzeugt, welcher nun aus allen Settern, die diese Annotation
- * besitzen einen Builder erzeugt.
+ * besitzen einen Builder erzeugt. Besitzt die Klasse die {@link BatchBuilder} Annotation, wird aus denselben Settern
+ * zusätzlich ein Builder erzeugt, welcher sehr viele Objekte auf einmal erzeugt.
  */
 @NotNull
 public final class BuilderPropertyAnnotation implements AnnotationHandler {
 
+    //<editor-fold desc="CONSTANTS">
+    /** Die Anzahl an Objekten, welche ein {@link BatchBuilder} im parallelen Modus in einem Abschnitt erzeugt. */
+    private static final int BATCH_CHUNK_SIZE = 4096;
+    //</editor-fold>
+
+
     //<editor-fold desc="implementation">
     @Override
     public void processAnnotation(
         @NotNull final Set<? extends Element> annotatedElements,
         @NotNull final ProcessingEnvironment processingEnvironment,
         @NotNull final Trees trees,
-        @NotNull final TreeMaker treeMaker
+        @NotNull final TreeMaker treeMaker,
+        @NotNull final GenerationPipeline generationPipeline
     ) {
         final Map<Boolean, List<Element>> annotatedMethods = annotatedElements.stream().collect(
-            Collectors.partitioningBy(element -> ((ExecutableType) element.asType()).getParameterTypes().size() == 1
-                && element.getSimpleName().toString().startsWith("set")
-            )
+            Collectors.partitioningBy(BuilderPropertyAnnotation::isSetter)
         );
 
         final List<Element> setters = annotatedMethods.get(true);
@@ -57,15 +72,28 @@ public final class BuilderPropertyAnnotation implements AnnotationHandler {
             return;
         }
 
-        final String className = ((TypeElement) setters.get(0).getEnclosingElement()).getQualifiedName().toString();
+        // the builder maps every property to exactly one setter, so overloads would silently replace each other
+        final Set<String> setterNames = new HashSet<>();
+        boolean overloaded = false;
 
-        final Map<String, String> setterMap = setters.stream().collect(Collectors.toMap(
-                setter -> setter.getSimpleName().toString(),
-                setter -> ((ExecutableType) setter.asType()).getParameterTypes().get(0).toString()
-            )
-        );
+        for (@NotNull final Element setter : setters) {
+            if (setterNames.add(setter.getSimpleName().toString())) continue;
 
-        generateJavaCode(className, processingEnvironment, setterMap);
+            processingEnvironment.getMessager().printMessage(
+                Diagnostic.Kind.ERROR,
+                "@BuilderProperty cannot be applied to overloaded setters, because each property needs a single setter",
+                setter
+            );
+            overloaded = true;
+        }
+
+        if (overloaded) {
+            return;
+        }
+
+        final TypeElement classElement = (TypeElement) setters.get(0).getEnclosingElement();
+
+        generateJavaCode(classElement, generationPipeline, Collections.unmodifiableMap(createSetterMap(setters)));
     }
 
     @NotNull
@@ -76,54 +104,371 @@ public final class BuilderPropertyAnnotation implements AnnotationHandler {
     //</editor-fold>
 
     /**
-     * Generiert die Java-Datei des Builders.
+     * Prüft, ob es sich bei einem Element um einen Setter handelt, welcher für den Builder genutzt werden kann. Ein
+     * solcher Setter beginnt mit 'set' und besitzt genau einen Parameter.
+     *
+     * @param element Das Element, welches geprüft werden soll.
+     *
+     * @return Ob es sich bei dem Element um einen Setter handelt.
+     */
+    static boolean isSetter(@NotNull final Element element) {
+        return ((ExecutableType) element.asType()).getParameterTypes().size() == 1
+            && element.getSimpleName().toString().startsWith("set")
+            && element.getSimpleName().length() > 3;
+    }
+
+    /**
+     * Erzeugt aus allen Settern einer Klasse eine Map, welche den Namen jedes Setters auf seinen Parameter abbildet.
+     * Die Reihenfolge der Setter bleibt dabei erhalten.
      *
-     * @param className             Der Name der Klasse, in der sich die Annotations befinden.
-     * @param processingEnvironment Die {@link ProcessingEnvironment}, welche vom Prozessor übergeben wird.
-     * @param setterMap             Alle Setter, welche für den Builder genutzt werden sollen.
+     * @param setters Alle Setter, welche für den Builder genutzt werden sollen.
+     *
+     * @return Alle Setter (Name und Parameter) in der übergebenen Reihenfolge.
+     */
+    @NotNull
+    static Map<String, JavaParameter> createSetterMap(@NotNull final List<? extends Element> setters) {
+        final Map<String, JavaParameter> setterMap = new LinkedHashMap<>();
+
+        for (@NotNull final Element setter : setters) {
+            setterMap.put(
+                setter.getSimpleName().toString(),
+                JavaParameter.of("value", ((ExecutableType) setter.asType()).getParameterTypes().get(0))
+            );
+        }
+
+        return setterMap;
+    }
+
+    /**
+     * Generiert die Java-Datei des Builders. Die Java-Datei wird mithilfe der {@link GenerationPipeline} erzeugt,
+     * weshalb die übergebenen Setter nicht mehr verändert werden dürfen. Besitzt die Klasse die {@link ReusableBuilder}
+     * Annotation, wird ein Builder erzeugt, welcher wiederverwendet werden kann. Besitzt die Klasse die {@link
+     * Interned} Annotation, gibt der Builder die kanonische Instanz des erzeugten Objekts zurück. Besitzt die Klasse
+     * die {@link BatchBuilder} Annotation, wird zusätzlich der Builder für viele Objekte erzeugt.
+     *
+     * @param classElement       Die Klasse, in der sich die Annotations befinden.
+     * @param generationPipeline Die {@link GenerationPipeline}, mit der die Java-Datei generiert wird.
+     * @param setterMap          Alle Setter (Name und Parameter), welche für den Builder genutzt werden sollen.
      */
     public void generateJavaCode(
-        @NotNull final String className,
-        @NotNull final ProcessingEnvironment processingEnvironment,
-        @NotNull final Map<String, String> setterMap
+        @NotNull final TypeElement classElement,
+        @NotNull final GenerationPipeline generationPipeline,
+        @NotNull final Map<String, JavaParameter> setterMap
     ) {
-        final JavaGenerator generator = new JavaGenerator(
+        final String className = classElement.getQualifiedName().toString();
+        final boolean reusable = classElement.getAnnotation(ReusableBuilder.class) != null;
+        final boolean interned = classElement.getAnnotation(Interned.class) != null;
+
+        generationPipeline.submit(
             className,
             className + "Builder",
-            processingEnvironment
+            "reusable=" + reusable + ", interned=" + interned + ", setters=" + setterMap,
+            generator -> generateBuilder(generator, className, setterMap, reusable, interned),
+            classElement
         );
 
+        final BatchBuilder batchBuilder = classElement.getAnnotation(BatchBuilder.class);
+
+        if (batchBuilder == null) return;
+
+        final int parallelThreshold = batchBuilder.parallelThreshold();
+
+        generationPipeline.submit(
+            className,
+            className + "BatchBuilder",
+            "parallelThreshold=" + parallelThreshold + ", interned=" + interned + ", setters=" + setterMap,
+            generator -> generateBatchBuilder(generator, className, setterMap, parallelThreshold, interned),
+            classElement
+        );
+    }
+
+    /**
+     * Erzeugt den Inhalt des Builders mithilfe eines {@link JavaGenerator}. Für jeden Setter, dessen Parameter ein
+     * primitives Array ist, wird zusätzlich eine Methode erzeugt, mit der sich einzelne Elemente ohne Boxing hinzufügen
+     * lassen. Die hinzugefügten Elemente werden beim Aufruf von {@code build} als Array an den Setter übergeben.
+     *
+     * @param generator Der {@link JavaGenerator}, mit dem der Inhalt des Builders erzeugt wird.
+     * @param className Der Name der Klasse, in der sich die Annotations befinden.
+     * @param setterMap Alle Setter (Name und Parameter), welche für den Builder genutzt werden sollen.
+     * @param reusable  Ob der Builder wiederverwendet werden kann. Das Objekt wird dann erst beim ersten Aufruf eines
+     *                  Setters erzeugt und durch {@code build} oder {@code reset} wieder aus dem Builder entfernt.
+     * @param interned  Ob der Builder die kanonische Instanz des erzeugten Objekts zurückgeben soll. Ein Builder, welcher
+     *                  nicht wiederverwendet werden kann, lässt sich dann nach {@code build} nicht mehr nutzen.
+     */
+    private static void generateBuilder(
+        @NotNull final JavaGenerator generator,
+        @NotNull final String className,
+        @NotNull final Map<String, JavaParameter> setterMap,
+        final boolean reusable,
+        final boolean interned
+    ) {
+        final String createObject = "if (object == null) object = new " + className + "();";
+        // a canonical instance is shared by all holders, so a single-use builder must not change it after build
+        final boolean singleUse = interned && !reusable;
+        final String checkObject = "if (object == null) throw new IllegalStateException(\""
+            + className + " was already built\");";
+
         generator.addField(
-            "private final",
+            reusable || singleUse ? "private" : "private final",
             className,
             "object",
-            "new " + className + "()"
+            reusable ? null : "new " + className + "()"
         );
 
+        setterMap.forEach((methodName, parameter) -> {
+            if (!parameter.isPrimitiveArray()) return;
+
+            final String propertyName = getPropertyName(methodName);
+
+            generator.addField("private", parameter.getType(), propertyName + "Buffer", null);
+            generator.addField("private", "int", propertyName + "Size", null);
+        });
+
+        final List<String> buildBody = new ArrayList<>();
+
+        if (reusable) {
+            buildBody.add(createObject);
+        } else if (singleUse) {
+            buildBody.add(checkObject);
+        }
+
+        setterMap.forEach((methodName, parameter) -> {
+            if (!parameter.isPrimitiveArray()) return;
+
+            final String propertyName = getPropertyName(methodName);
+
+            buildBody.add("if (" + propertyName + "Size > 0) {");
+            buildBody.add("    object." + methodName + "(java.util.Arrays.copyOf("
+                + propertyName + "Buffer, " + propertyName + "Size));");
+            buildBody.add("    " + propertyName + "Size = 0;");
+            buildBody.add("}");
+        });
+
+        if (reusable || singleUse) {
+            buildBody.add("final " + className + " builtObject = object;");
+            buildBody.add("object = null;");
+            buildBody.add(interned ? "return " + className + "Interner.intern(builtObject);" : "return builtObject;");
+        } else {
+            buildBody.add(interned ? "return " + className + "Interner.intern(object);" : "return object;");
+        }
+
         generator.addMethod(
             "build",
             className,
-            Collections.emptyNavigableMap(),
-            new String[]{
-                "return object;"
-            }
+            Collections.emptyList(),
+            buildBody.toArray(new String[0])
         );
 
-        setterMap.forEach((methodName, argumentType) -> {
-            final NavigableMap<String, String> parameters = new TreeMap<>();
-            parameters.put(argumentType, "value");
+        if (reusable) {
+            final List<String> resetBody = new ArrayList<>();
+            resetBody.add("object = null;");
+
+            setterMap.forEach((methodName, parameter) -> {
+                if (!parameter.isPrimitiveArray()) return;
+
+                resetBody.add(getPropertyName(methodName) + "Size = 0;");
+            });
+
+            resetBody.add("return this;");
+
+            generator.addMethod(
+                "reset",
+                generator.getNewClassName(),
+                Collections.emptyList(),
+                resetBody.toArray(new String[0])
+            );
+        }
+
+        setterMap.forEach((methodName, parameter) -> {
+            final List<String> setterBody = new ArrayList<>();
+
+            if (reusable) {
+                setterBody.add(createObject);
+            } else if (singleUse) {
+                setterBody.add(checkObject);
+            }
+
+            setterBody.add("object." + methodName + "(value);");
+
+            if (parameter.isPrimitiveArray()) {
+                setterBody.add(getPropertyName(methodName) + "Size = 0;");
+            }
+
+            setterBody.add("return this;");
 
             generator.addMethod(
                 methodName,
                 generator.getNewClassName(),
-                parameters,
-                new String[]{
-                    "object." + methodName + "(value);",
-                    "return this;"
-                }
+                Collections.singletonList(parameter),
+                setterBody.toArray(new String[0])
             );
+
+            if (!parameter.isPrimitiveArray()) return;
+
+            addPrimitiveArrayAdder(generator, "add" + methodName.substring(3), getPropertyName(methodName), parameter);
+        });
+    }
+
+    /**
+     * Erzeugt den Inhalt des Builders für viele Objekte mithilfe eines {@link JavaGenerator}. Für jeden Setter wird ein
+     * Array angelegt, in dem die Werte aller Objekte liegen. Die Arrays werden beim Erzeugen der Objekte in lokale
+     * Variablen kopiert, damit der JIT die Schleife ohne erneutes Lesen der Felder optimieren kann.
+     *
+     * @param generator         Der {@link JavaGenerator}, mit dem der Inhalt des Builders erzeugt wird.
+     * @param className         Der Name der Klasse, in der sich die Annotations befinden.
+     * @param setterMap         Alle Setter (Name und Parameter), welche für den Builder genutzt werden sollen.
+     * @param parallelThreshold Die Anzahl an Objekten, ab der die Objekte parallel erzeugt werden.
+     * @param interned          Ob der Builder die kanonischen Instanzen der erzeugten Objekte zurückgeben soll.
+     */
+    private static void generateBatchBuilder(
+        @NotNull final JavaGenerator generator,
+        @NotNull final String className,
+        @NotNull final Map<String, JavaParameter> setterMap,
+        final int parallelThreshold,
+        final boolean interned
+    ) {
+        final JavaParameter size = new JavaParameter("size", "int", TypeKind.INT);
+
+        generator.addField("public static final", "int", "PARALLEL_THRESHOLD", String.valueOf(parallelThreshold));
+        generator.addField("private static final", "int", "CHUNK_SIZE", String.valueOf(BATCH_CHUNK_SIZE));
+        generator.addField("private final", "int", "size", null);
+
+        setterMap.forEach((methodName, parameter) -> generator.addField(
+            "private",
+            parameter.getType() + "[]",
+            getPropertyName(methodName) + "Values",
+            null
+        ));
+
+        generator.addConstructor(
+            Collections.singletonList(size),
+            new String[]{
+                "if (size < 0) throw new IllegalArgumentException(\"size must not be negative: \" + size);",
+                "this.size = size;"
+            }
+        );
+
+        setterMap.forEach((methodName, parameter) -> generator.addMethod(
+            methodName,
+            generator.getNewClassName(),
+            Collections.singletonList(new JavaParameter("values", parameter.getType() + "[]", TypeKind.ARRAY)),
+            new String[]{
+                "if (values != null && values.length < this.size) {",
+                "    throw new IllegalArgumentException(",
+                "        \"expected at least \" + this.size + \" values but got \" + values.length",
+                "    );",
+                "}",
+                "this." + getPropertyName(methodName) + "Values = values;",
+                "return this;"
+            }
+        ));
+
+        generator.addMethod("size", "int", Collections.emptyList(), new String[]{"return this.size;"});
+
+        generator.addMethod(
+            "buildAll",
+            className + "[]",
+            Collections.emptyList(),
+            new String[]{
+                "final " + className + "[] objects = new " + className + "[this.size];",
+                "if (PARALLEL_THRESHOLD > 0 && this.size >= PARALLEL_THRESHOLD) {",
+                "    final int chunks = (this.size + CHUNK_SIZE - 1) / CHUNK_SIZE;",
+                "    java.util.stream.IntStream.range(0, chunks).parallel().forEach(chunk -> {",
+                "        final int from = chunk * CHUNK_SIZE;",
+                "        build(objects, from, from + Math.min(CHUNK_SIZE, this.size - from));",
+                "    });",
+                "} else {",
+                "    build(objects, 0, this.size);",
+                "}",
+                "return objects;"
+            }
+        );
+
+        final List<String> buildBody = new ArrayList<>();
+
+        setterMap.forEach((methodName, parameter) -> {
+            final String values = getPropertyName(methodName) + "Values";
+
+            buildBody.add("final " + parameter.getType() + "[] " + values + " = this." + values + ";");
+        });
+
+        buildBody.add("for (int i = from; i < to; i++) {");
+        buildBody.add("    final " + className + " object = new " + className + "();");
+
+        setterMap.forEach((methodName, parameter) -> {
+            final String values = getPropertyName(methodName) + "Values";
+
+            buildBody.add("    if (" + values + " != null) object." + methodName + "(" + values + "[i]);");
         });
 
-        generator.finish();
+        buildBody.add(interned
+            ? "    objects[i] = " + className + "Interner.intern(object);"
+            : "    objects[i] = object;"
+        );
+        buildBody.add("}");
+
+        generator.addMethod(
+            "private",
+            "build",
+            null,
+            Arrays.asList(
+                new JavaParameter("objects", className + "[]", TypeKind.ARRAY),
+                new JavaParameter("from", "int", TypeKind.INT),
+                new JavaParameter("to", "int", TypeKind.INT)
+            ),
+            buildBody.toArray(new String[0])
+        );
     }
+
+    /**
+     * Fügt dem Builder eine Methode hinzu, mit der sich einzelne Elemente eines primitiven Arrays ohne Boxing in einem
+     * Puffer sammeln lassen. Der Puffer wird bei Bedarf vergrößert und beim Wiederverwenden des Builders nicht neu
+     * angelegt.
+     *
+     * @param generator    Der {@link JavaGenerator}, mit dem der Inhalt des Builders erzeugt wird.
+     * @param adderName    Der Name der Methode, mit der ein Element hinzugefügt wird.
+     * @param propertyName Der Name der Eigenschaft, anhand dessen der Puffer benannt ist.
+     * @param parameter    Der Parameter des Setters, welcher ein primitives Array ist.
+     */
+    static void addPrimitiveArrayAdder(
+        @NotNull final JavaGenerator generator,
+        @NotNull final String adderName,
+        @NotNull final String propertyName,
+        @NotNull final JavaParameter parameter
+    ) {
+        final String buffer = propertyName + "Buffer";
+        final String size = propertyName + "Size";
+
+        generator.addMethod(
+            adderName,
+            generator.getNewClassName(),
+            Collections.singletonList(new JavaParameter(
+                "value",
+                Objects.requireNonNull(parameter.getComponentType()),
+                Objects.requireNonNull(parameter.getComponentKind())
+            )),
+            new String[]{
+                "if (" + buffer + " == null) {",
+                "    " + buffer + " = new " + parameter.getComponentType() + "[8];",
+                "} else if (" + size + " == " + buffer + ".length) {",
+                "    " + buffer + " = java.util.Arrays.copyOf(" + buffer + ", " + size + " << 1);",
+                "}",
+                buffer + "[" + size + "++] = value;",
+                "return this;"
+            }
+        );
+    }
+
+    /**
+     * Ermittelt den Namen einer Eigenschaft anhand des Namens ihres Setters (Bsp: 'setValues' wird zu 'values').
+     *
+     * @param setterName Der Name des Setters.
+     *
+     * @return Der Name der Eigenschaft.
+     */
+    @NotNull
+    static String getPropertyName(@NotNull final String setterName) {
+        return Character.toLowerCase(setterName.charAt(3)) + setterName.substring(4);
+    }
+
 }
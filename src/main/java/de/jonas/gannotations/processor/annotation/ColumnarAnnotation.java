@@ -0,0 +1,639 @@
+package de.jonas.gannotations.processor.annotation;
+
+import com.sun.source.util.Trees;
+import com.sun.tools.javac.tree.TreeMaker;
+import de.jonas.gannotations.annotation.Columnar;
+import de.jonas.gannotations.annotation.Getter;
+import de.jonas.gannotations.processor.AnnotationHandler;
+import de.jonas.gannotations.processor.GenerationPipeline;
+import de.jonas.gannotations.processor.JavaGenerator;
+import de.jonas.gannotations.processor.JavaParameter;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import javax.annotation.processing.ProcessingEnvironment;
+import javax.lang.model.element.Element;
+import javax.lang.model.element.ExecutableElement;
+import javax.lang.model.element.Modifier;
+import javax.lang.model.element.TypeElement;
+import javax.lang.model.element.VariableElement;
+import javax.lang.model.type.TypeKind;
+import javax.lang.model.util.ElementFilter;
+import javax.tools.Diagnostic;
+
+import java.lang.annotation.Annotation;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Es wird ein Handler für die {@link Columnar} erzeugt, welcher für eine Daten-Klasse eine Sammlung generiert, die
+ * jedes Feld in einem eigenen Array speichert (struct of arrays). Die Werte einer Spalte liegen dadurch direkt
+ * hintereinander im Speicher, sodass Schleifen über eine einzelne Spalte den Cache optimal ausnutzen und vom JIT
+ * vektorisiert werden können.
+ */
+@NotNull
+public final class ColumnarAnnotation implements AnnotationHandler {
+
+    //<editor-fold desc="CONSTANTS">
+    /** Der Name der lokalen Variable, in der der Index eines neu hinzugefügten Objekts gespeichert wird. */
+    @NotNull
+    private static final String INDEX_VARIABLE = "gannotations$index";
+    /** Der Name der Methode, mit der die aktuelle Position eines Cursors abgefragt wird. */
+    @NotNull
+    private static final String CURSOR_INDEX_GETTER = "getIndex";
+    //</editor-fold>
+
+
+    //<editor-fold desc="implementation">
+    @Override
+    public void processAnnotation(
+        @NotNull final Set<? extends Element> annotatedElements,
+        @NotNull final ProcessingEnvironment processingEnvironment,
+        @NotNull final Trees trees,
+        @NotNull final TreeMaker treeMaker,
+        @NotNull final GenerationPipeline generationPipeline
+    ) {
+        final TypeElement classElement = (TypeElement) annotatedElements.iterator().next();
+        final Columnar columnar = classElement.getAnnotation(Columnar.class);
+
+        if (columnar.initialCapacity() < 0) {
+            processingEnvironment.getMessager().printMessage(
+                Diagnostic.Kind.ERROR,
+                "@Columnar requires an initialCapacity that is not negative",
+                classElement
+            );
+            return;
+        }
+
+        if (!classElement.getTypeParameters().isEmpty()) {
+            processingEnvironment.getMessager().printMessage(
+                Diagnostic.Kind.ERROR,
+                "@Columnar cannot be applied to generic classes",
+                classElement
+            );
+            return;
+        }
+
+        final List<Column> columns = new ArrayList<>();
+        boolean writable = hasNoArgConstructor(classElement);
+
+        for (@NotNull final VariableElement field : ElementFilter.fieldsIn(classElement.getEnclosedElements())) {
+            if (field.getModifiers().contains(Modifier.STATIC)) continue;
+            if (field.getModifiers().contains(Modifier.TRANSIENT)) continue;
+
+            final String reader = getReader(classElement, field);
+
+            if (reader == null) {
+                processingEnvironment.getMessager().printMessage(
+                    Diagnostic.Kind.ERROR,
+                    "@Columnar requires a getter for private fields",
+                    field
+                );
+                return;
+            }
+
+            final Column column = new Column(
+                JavaParameter.of(field.getSimpleName().toString(), field.asType()),
+                processingEnvironment.getTypeUtils().erasure(field.asType()).toString(),
+                reader,
+                getWriter(classElement, field)
+            );
+
+            if (column.getGetterName().equals(CURSOR_INDEX_GETTER)) {
+                processingEnvironment.getMessager().printMessage(
+                    Diagnostic.Kind.ERROR,
+                    "@Columnar cannot generate the getter " + CURSOR_INDEX_GETTER
+                        + "() of this field, because the cursor already uses it for its position",
+                    field
+                );
+                return;
+            }
+
+            if (column.writer == null) {
+                writable = false;
+            }
+
+            columns.add(column);
+        }
+
+        if (columns.isEmpty()) {
+            processingEnvironment.getMessager().printMessage(
+                Diagnostic.Kind.ERROR,
+                "@Columnar requires at least one field that is neither static nor transient",
+                classElement
+            );
+            return;
+        }
+
+        final String className = classElement.getQualifiedName().toString();
+        final int initialCapacity = columnar.initialCapacity();
+        final boolean materializable = writable;
+
+        generationPipeline.submit(
+            className,
+            className + "Columns",
+            generator -> generateColumns(
+                generator,
+                className,
+                Collections.unmodifiableList(columns),
+                initialCapacity,
+                materializable
+            ),
+            classElement
+        );
+    }
+
+    @NotNull
+    @Override
+    public Class<? extends Annotation> getAnnotytionType() {
+        return Columnar.class;
+    }
+    //</editor-fold>
+
+    /**
+     * Prüft, ob eine Klasse einen Konstruktor ohne Parameter besitzt, welcher nicht privat ist und ob sich die Klasse
+     * instanziieren lässt.
+     *
+     * @param classElement Die Klasse, welche geprüft werden soll.
+     *
+     * @return Ob sich Objekte der Klasse mit einem Konstruktor ohne Parameter erzeugen lassen.
+     */
+    static boolean hasNoArgConstructor(@NotNull final TypeElement classElement) {
+        if (classElement.getModifiers().contains(Modifier.ABSTRACT)) {
+            return false;
+        }
+
+        for (@NotNull final ExecutableElement constructor : ElementFilter.constructorsIn(
+            classElement.getEnclosedElements()
+        )) {
+            if (!constructor.getParameters().isEmpty()) continue;
+
+            return !constructor.getModifiers().contains(Modifier.PRIVATE);
+        }
+
+        return false;
+    }
+
+    /**
+     * Ermittelt den Ausdruck, mit dem ein Feld eines Objekts ({@code object}) ausgelesen wird. Nicht private Felder
+     * werden direkt ausgelesen, private Felder über ihren Getter, welcher bereits existieren oder durch den {@link
+     * Getter} erzeugt werden muss.
+     *
+     * @param classElement Die Klasse, in der sich das Feld befindet.
+     * @param field        Das Feld, welches ausgelesen werden soll.
+     *
+     * @return Der Ausdruck, mit dem das Feld ausgelesen wird oder null, wenn sich das Feld nicht auslesen lässt.
+     */
+    @Nullable
+    static String getReader(
+        @NotNull final TypeElement classElement,
+        @NotNull final VariableElement field
+    ) {
+        if (!field.getModifiers().contains(Modifier.PRIVATE)) {
+            return "object." + field.getSimpleName();
+        }
+
+        final String getterName = GetterAnnotation.getGetterName(field);
+
+        // getters of @Getter are injected into the tree and therefore not yet visible as elements in this round
+        if (field.getAnnotation(Getter.class) != null || classElement.getAnnotation(Getter.class) != null) {
+            return "object." + getterName + "()";
+        }
+
+        return hasAccessibleMethod(classElement, getterName, 0) ? "object." + getterName + "()" : null;
+    }
+
+    /**
+     * Ermittelt den Beginn der Anweisung, mit der ein Feld eines Objekts ({@code object}) geschrieben wird. Nicht
+     * private und nicht finale Felder werden direkt geschrieben, alle anderen Felder über ihren Setter. Der neue Wert
+     * und das Ende der Anweisung werden mithilfe der Methode {@link #write(String, String)} ergänzt.
+     *
+     * @param classElement Die Klasse, in der sich das Feld befindet.
+     * @param field        Das Feld, welches geschrieben werden soll.
+     *
+     * @return Der Beginn der Anweisung, mit der das Feld geschrieben wird oder null, wenn sich das Feld nicht schreiben
+     *     lässt.
+     */
+    @Nullable
+    static String getWriter(
+        @NotNull final TypeElement classElement,
+        @NotNull final VariableElement field
+    ) {
+        if (!field.getModifiers().contains(Modifier.PRIVATE) && !field.getModifiers().contains(Modifier.FINAL)) {
+            return "object." + field.getSimpleName() + " = ";
+        }
+
+        final String setterName = "set" + capitalize(field.getSimpleName().toString());
+
+        return hasAccessibleMethod(classElement, setterName, 1) ? "object." + setterName + "(" : null;
+    }
+
+    /**
+     * Vervollständigt die Anweisung, mit der ein Wert in das Feld eines Objekts ({@code object}) geschrieben wird.
+     *
+     * @param writer Der Beginn der Anweisung, welcher mithilfe der Methode {@link #getWriter(TypeElement,
+     *               VariableElement)} ermittelt wurde.
+     * @param value  Der Ausdruck, welcher den neuen Wert angibt.
+     *
+     * @return Die vollständige Anweisung, mit der der Wert geschrieben wird.
+     */
+    @NotNull
+    static String write(
+        @NotNull final String writer,
+        @NotNull final String value
+    ) {
+        return writer + value + (writer.endsWith("(") ? ");" : ";");
+    }
+
+    /**
+     * Prüft, ob eine Klasse eine Methode mit einem bestimmten Namen und einer bestimmten Anzahl an Parametern besitzt,
+     * welche nicht privat ist.
+     *
+     * @param classElement   Die Klasse, die geprüft werden soll.
+     * @param methodName     Der Name der Methode.
+     * @param parameterCount Die Anzahl an Parametern der Methode.
+     *
+     * @return Ob die Klasse eine solche Methode besitzt.
+     */
+    static boolean hasAccessibleMethod(
+        @NotNull final TypeElement classElement,
+        @NotNull final String methodName,
+        final int parameterCount
+    ) {
+        for (@NotNull final ExecutableElement method : ElementFilter.methodsIn(classElement.getEnclosedElements())) {
+            if (!method.getSimpleName().contentEquals(methodName)) continue;
+            if (method.getParameters().size() != parameterCount) continue;
+            if (method.getModifiers().contains(Modifier.PRIVATE)) continue;
+
+            return true;
+        }
+
+        return false;
+    }
+
+    /**
+     * Erzeugt den Inhalt der Sammlung mithilfe eines {@link JavaGenerator}. Für jede Spalte werden typisierte Zugriffe
+     * über den Index, ein direkter Zugriff auf das Array der Spalte und die Zugriffe des Cursors erzeugt.
+     *
+     * @param generator       Der {@link JavaGenerator}, mit dem der Inhalt der Sammlung erzeugt wird.
+     * @param className       Der Name der Klasse, deren Objekte in der Sammlung gespeichert werden.
+     * @param columns         Alle Spalten der Sammlung.
+     * @param initialCapacity Die Anzahl an Objekten, für welche die Arrays standardmäßig angelegt werden.
+     * @param materializable  Ob sich aus den Werten der Spalten wieder Objekte erzeugen lassen.
+     */
+    private static void generateColumns(
+        @NotNull final JavaGenerator generator,
+        @NotNull final String className,
+        @NotNull final List<Column> columns,
+        final int initialCapacity,
+        final boolean materializable
+    ) {
+        final String simpleNewClassName = generator.getNewClassName().substring(
+            generator.getNewClassName().lastIndexOf('.') + 1
+        );
+        final List<JavaParameter> indexParameter = Collections.singletonList(
+            new JavaParameter("index", "int", TypeKind.INT)
+        );
+        final List<JavaParameter> rowParameters = new ArrayList<>();
+        final List<String> constructorBody = new ArrayList<>();
+        final List<String> addObjectBody = new ArrayList<>();
+        final List<String> addRowBody = new ArrayList<>();
+        final List<String> getBody = new ArrayList<>();
+        final List<String> clearBody = new ArrayList<>();
+        final List<String> growBody = new ArrayList<>();
+
+        constructorBody.add("if (initialCapacity < 0) {");
+        constructorBody.add(
+            "    throw new java.lang.IllegalArgumentException(\"negative initialCapacity: \" + initialCapacity);"
+        );
+        constructorBody.add("}");
+        constructorBody.add("this.capacity = initialCapacity;");
+
+        addObjectBody.add("final int " + INDEX_VARIABLE + " = this.size;");
+        addObjectBody.add("ensureCapacity(" + INDEX_VARIABLE + " + 1);");
+        addRowBody.add("final int " + INDEX_VARIABLE + " = this.size;");
+        addRowBody.add("ensureCapacity(" + INDEX_VARIABLE + " + 1);");
+
+        getBody.add("checkIndex(index);");
+        getBody.add("final " + className + " object = new " + className + "();");
+
+        growBody.add("if (minCapacity <= this.capacity) return;");
+        growBody.add(
+            "final int newCapacity = java.lang.Math.max(minCapacity, this.capacity + (this.capacity >> 1) + 1);"
+        );
+
+        for (@NotNull final Column column : columns) {
+            final String name = column.property.getName();
+            final String field = "this." + column.getFieldName();
+
+            generator.addField("private", column.getArrayType(), column.getFieldName(), null);
+
+            constructorBody.add(field + " = " + column.createArray("initialCapacity") + ";");
+            addObjectBody.add(field + "[" + INDEX_VARIABLE + "] = " + column.reader + ";");
+            addRowBody.add(field + "[" + INDEX_VARIABLE + "] = " + name + ";");
+            rowParameters.add(column.property);
+            growBody.add(field + " = java.util.Arrays.copyOf(" + field + ", newCapacity);");
+
+            if (column.writer != null) {
+                getBody.add(write(column.writer, column.read(field + "[index]")));
+            }
+
+            if (!column.property.isPrimitive()) {
+                clearBody.add("java.util.Arrays.fill(" + field + ", 0, this.size, null);");
+            }
+        }
+
+        addObjectBody.add("this.size = " + INDEX_VARIABLE + " + 1;");
+        addObjectBody.add("return " + INDEX_VARIABLE + ";");
+        addRowBody.add("this.size = " + INDEX_VARIABLE + " + 1;");
+        addRowBody.add("return " + INDEX_VARIABLE + ";");
+        getBody.add("return object;");
+        clearBody.add("this.size = 0;");
+        growBody.add("this.capacity = newCapacity;");
+
+        generator.addField("private", "int", "size", null);
+        generator.addField("private", "int", "capacity", null);
+
+        generator.addConstructor(Collections.emptyList(), new String[]{"this(" + initialCapacity + ");"});
+        generator.addConstructor(
+            Collections.singletonList(new JavaParameter("initialCapacity", "int", TypeKind.INT)),
+            constructorBody.toArray(new String[0])
+        );
+
+        generator.addMethod(
+            "add",
+            "int",
+            Collections.singletonList(new JavaParameter("object", className, TypeKind.DECLARED)),
+            addObjectBody.toArray(new String[0])
+        );
+        generator.addMethod("add", "int", rowParameters, addRowBody.toArray(new String[0]));
+
+        if (materializable) {
+            final boolean unchecked = columns.stream().anyMatch(Column::needsCast);
+
+            generator.addMethod(
+                unchecked ? "@java.lang.SuppressWarnings(\"unchecked\") public" : "public",
+                "get",
+                className,
+                indexParameter,
+                getBody.toArray(new String[0])
+            );
+        }
+
+        for (@NotNull final Column column : columns) {
+            final String field = "this." + column.getFieldName();
+            final String capitalizedName = capitalize(column.property.getName());
+            final List<JavaParameter> setParameters = new ArrayList<>(indexParameter);
+            setParameters.add(column.property.withName("value"));
+
+            generator.addMethod(
+                column.getGetterModifier(),
+                column.getGetterName(),
+                column.property.getType(),
+                indexParameter,
+                new String[]{"checkIndex(index);", "return " + column.read(field + "[index]") + ";"}
+            );
+            generator.addMethod(
+                "set" + capitalizedName,
+                null,
+                setParameters,
+                new String[]{"checkIndex(index);", field + "[index] = value;"}
+            );
+            generator.addMethod(
+                "get" + capitalizedName + "Column",
+                column.getArrayType(),
+                Collections.emptyList(),
+                new String[]{"return " + field + ";"}
+            );
+        }
+
+        generator.addMethod("size", "int", Collections.emptyList(), new String[]{"return this.size;"});
+        generator.addMethod("clear", null, Collections.emptyList(), clearBody.toArray(new String[0]));
+        generator.addMethod(
+            "ensureCapacity",
+            null,
+            Collections.singletonList(new JavaParameter("minCapacity", "int", TypeKind.INT)),
+            growBody.toArray(new String[0])
+        );
+        generator.addMethod("cursor", "Cursor", Collections.emptyList(), new String[]{"return new Cursor();"});
+        generator.addMethod(
+            "private",
+            "checkIndex",
+            null,
+            indexParameter,
+            new String[]{
+                "if (index < 0 || index >= this.size) {",
+                "    throw new java.lang.IndexOutOfBoundsException(\"index: \" + index + \", size: \" + this.size);",
+                "}"
+            }
+        );
+
+        generateCursor(generator, simpleNewClassName, columns);
+    }
+
+    /**
+     * Erzeugt den Cursor der Sammlung als innere Klasse. Ein Cursor zeigt immer auf genau ein Objekt der Sammlung und
+     * liest dessen Werte direkt aus den Arrays der Spalten, sodass beim Durchlaufen der Sammlung keine Objekte erzeugt
+     * werden müssen.
+     *
+     * @param generator          Der {@link JavaGenerator}, mit dem der Inhalt der Sammlung erzeugt wird.
+     * @param simpleNewClassName Der einfache Name der generierten Sammlung.
+     * @param columns            Alle Spalten der Sammlung.
+     */
+    private static void generateCursor(
+        @NotNull final JavaGenerator generator,
+        @NotNull final String simpleNewClassName,
+        @NotNull final List<Column> columns
+    ) {
+        final String outer = simpleNewClassName + ".this";
+
+        generator.beginNestedClass("public final", "Cursor");
+        generator.addField("private", "int", "index", "-1");
+
+        generator.addMethod(
+            "next",
+            "boolean",
+            Collections.emptyList(),
+            new String[]{
+                "if (this.index + 1 >= " + outer + ".size) return false;",
+                "this.index++;",
+                "return true;"
+            }
+        );
+        generator.addMethod(
+            "moveTo",
+            "Cursor",
+            Collections.singletonList(new JavaParameter("index", "int", TypeKind.INT)),
+            new String[]{outer + ".checkIndex(index);", "this.index = index;", "return this;"}
+        );
+        generator.addMethod("rewind", null, Collections.emptyList(), new String[]{"this.index = -1;"});
+        generator.addMethod(CURSOR_INDEX_GETTER, "int", Collections.emptyList(), new String[]{"return this.index;"});
+
+        for (@NotNull final Column column : columns) {
+            final String field = outer + "." + column.getFieldName();
+
+            generator.addMethod(
+                column.getGetterModifier(),
+                column.getGetterName(),
+                column.property.getType(),
+                Collections.emptyList(),
+                new String[]{"return " + column.read(field + "[this.index]") + ";"}
+            );
+            generator.addMethod(
+                "set" + capitalize(column.property.getName()),
+                null,
+                Collections.singletonList(column.property.withName("value")),
+                new String[]{field + "[this.index] = value;"}
+            );
+        }
+
+        generator.endNestedClass();
+    }
+
+    /**
+     * Wandelt den ersten Buchstaben eines Namens in einen Großbuchstaben um.
+     *
+     * @param name Der Name, welcher umgewandelt werden soll.
+     *
+     * @return Der Name mit einem großen Anfangsbuchstaben.
+     */
+    @NotNull
+    static String capitalize(@NotNull final String name) {
+        return Character.toUpperCase(name.charAt(0)) + name.substring(1);
+    }
+
+    /**
+     * Eine {@link Column} beschreibt eine einzelne Spalte der Sammlung. Eine {@link Column} ist unveränderlich und
+     * greift nicht mehr auf die Elemente des Compilers zu, weshalb sie auch beim parallelen Erzeugen von Quellcode
+     * genutzt werden kann.
+     */
+    private static final class Column {
+
+        //<editor-fold desc="LOCAL FIELDS">
+        /** Das Feld, welches in dieser Spalte gespeichert wird. */
+        @NotNull
+        private final JavaParameter property;
+        /** Der Typ der Elemente des Arrays, welcher bei generischen Typen der Erasure des Feldes entspricht. */
+        @NotNull
+        private final String elementType;
+        /** Der Ausdruck, mit dem das Feld eines Objekts ausgelesen wird. */
+        @NotNull
+        private final String reader;
+        /** Der Beginn der Anweisung, mit der das Feld eines Objekts geschrieben wird oder null. */
+        @Nullable
+        private final String writer;
+        //</editor-fold>
+
+
+        //<editor-fold desc="CONSTRUCTORS">
+
+        /**
+         * Erzeugt eine neue {@link Column}.
+         *
+         * @param property    Das Feld, welches in dieser Spalte gespeichert wird.
+         * @param elementType Der Typ der Elemente des Arrays.
+         * @param reader      Der Ausdruck, mit dem das Feld eines Objekts ausgelesen wird.
+         * @param writer      Der Beginn der Anweisung, mit der das Feld eines Objekts geschrieben wird oder null.
+         */
+        private Column(
+            @NotNull final JavaParameter property,
+            @NotNull final String elementType,
+            @NotNull final String reader,
+            @Nullable final String writer
+        ) {
+            this.property = property;
+            this.elementType = elementType;
+            this.reader = reader;
+            this.writer = writer;
+        }
+        //</editor-fold>
+
+
+        /**
+         * Gibt den Namen des Feldes der Sammlung zurück, in dem das Array dieser Spalte abgelegt wird.
+         *
+         * @return Der Name des Feldes der Sammlung.
+         */
+        @NotNull
+        private String getFieldName() {
+            return this.property.getName() + "Column";
+        }
+
+        /**
+         * Gibt den Typ des Arrays dieser Spalte zurück.
+         *
+         * @return Der Typ des Arrays dieser Spalte.
+         */
+        @NotNull
+        private String getArrayType() {
+            return this.elementType + "[]";
+        }
+
+        /**
+         * Erzeugt den Ausdruck, mit dem ein neues Array für diese Spalte angelegt wird. Ist das Feld selbst ein Array,
+         * muss die Größe vor den Klammern des Elements stehen (Bsp: 'new int[size][]').
+         *
+         * @param size Der Ausdruck, welcher die Größe des neuen Arrays angibt.
+         *
+         * @return Der Ausdruck, mit dem ein neues Array angelegt wird.
+         */
+        @NotNull
+        private String createArray(@NotNull final String size) {
+            final int bracket = this.elementType.indexOf('[');
+
+            if (bracket < 0) {
+                return "new " + this.elementType + "[" + size + "]";
+            }
+
+            return "new " + this.elementType.substring(0, bracket) + "[" + size + "]"
+                + this.elementType.substring(bracket);
+        }
+
+        /**
+         * Prüft, ob ein Wert dieser Spalte nach dem Auslesen in den generischen Typ des Feldes umgewandelt werden muss.
+         *
+         * @return Ob ein Wert dieser Spalte umgewandelt werden muss.
+         */
+        private boolean needsCast() {
+            return !this.elementType.equals(this.property.getType());
+        }
+
+        /**
+         * Erzeugt den Ausdruck, mit dem ein Wert dieser Spalte ausgelesen wird.
+         *
+         * @param element Der Ausdruck, welcher das Element des Arrays anspricht.
+         *
+         * @return Der Ausdruck, mit dem ein Wert dieser Spalte ausgelesen wird.
+         */
+        @NotNull
+        private String read(@NotNull final String element) {
+            return needsCast() ? "(" + this.property.getType() + ") " + element : element;
+        }
+
+        /**
+         * Gibt die Modifikatoren der Getter dieser Spalte zurück. Muss ein Wert umgewandelt werden, wird die Warnung
+         * des Compilers unterdrückt.
+         *
+         * @return Die Modifikatoren der Getter dieser Spalte.
+         */
+        @NotNull
+        private String getGetterModifier() {
+            return needsCast() ? "@java.lang.SuppressWarnings(\"unchecked\") public" : "public";
+        }
+
+        /**
+         * Gibt den Namen der Getter dieser Spalte zurück, welcher für den primitiven Typ boolean mit 'is' und für alle
+         * anderen Typen mit 'get' beginnt.
+         *
+         * @return Der Name der Getter dieser Spalte.
+         */
+        @NotNull
+        private String getGetterName() {
+            return (this.property.getKind() == TypeKind.BOOLEAN ? "is" : "get") + capitalize(this.property.getName());
+        }
+
+    }
+
+}
@@ -0,0 +1,272 @@
+package de.jonas.gannotations.processor.annotation;
+
+import com.sun.source.util.Trees;
+import com.sun.tools.javac.tree.JCTree;
+import com.sun.tools.javac.tree.TreeMaker;
+import de.jonas.gannotations.annotation.Getter;
+import de.jonas.gannotations.processor.AnnotationHandler;
+import de.jonas.gannotations.processor.GenerationPipeline;
+import de.jonas.gannotations.processor.JavaGenerator;
+import de.jonas.gannotations.processor.JavaParameter;
+import de.jonas.gannotations.processor.TreeEditor;
+import org.jetbrains.annotations.NotNull;
+
+import javax.annotation.processing.ProcessingEnvironment;
+import javax.lang.model.element.Element;
+import javax.lang.model.element.Modifier;
+import javax.lang.model.element.TypeElement;
+import javax.lang.model.element.VariableElement;
+import javax.lang.model.type.TypeKind;
+import javax.lang.model.util.ElementFilter;
+import javax.tools.Diagnostic;
+
+import java.lang.annotation.Annotation;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Es wird ein Handler für den {@link Getter} erzeugt, welcher die Getter direkt in den AST tree der Klasse einfügt.
+ * Zusätzlich wird für jede Klasse eine Zugriffs-Tabelle generiert, welche die Getter über direkte Methodenaufrufe
+ * anspricht, sodass Serialisierer die Eigenschaften ohne Reflection auslesen können.
+ */
+@NotNull
+public final class GetterAnnotation implements AnnotationHandler {
+
+    //<editor-fold desc="implementation">
+    @Override
+    public void processAnnotation(
+        @NotNull final Set<? extends Element> annotatedElements,
+        @NotNull final ProcessingEnvironment processingEnvironment,
+        @NotNull final Trees trees,
+        @NotNull final TreeMaker treeMaker,
+        @NotNull final GenerationPipeline generationPipeline
+    ) {
+        final Element firstElement = annotatedElements.iterator().next();
+        final TypeElement classElement = firstElement instanceof TypeElement
+            ? (TypeElement) firstElement
+            : (TypeElement) firstElement.getEnclosingElement();
+
+        final Set<VariableElement> fields = new LinkedHashSet<>();
+
+        for (@NotNull final Element annotatedElement : annotatedElements) {
+            if (annotatedElement instanceof TypeElement) {
+                for (@NotNull final VariableElement field : ElementFilter.fieldsIn(classElement.getEnclosedElements())) {
+                    if (field.getModifiers().contains(Modifier.STATIC)) continue;
+
+                    fields.add(field);
+                }
+                continue;
+            }
+
+            if (annotatedElement.getModifiers().contains(Modifier.STATIC)) {
+                processingEnvironment.getMessager().printMessage(
+                    Diagnostic.Kind.ERROR,
+                    "@Getter cannot be applied to static fields",
+                    annotatedElement
+                );
+                continue;
+            }
+
+            fields.add((VariableElement) annotatedElement);
+        }
+
+        if (fields.isEmpty()) {
+            return;
+        }
+
+        final TreeEditor treeEditor = new TreeEditor(processingEnvironment, trees, treeMaker);
+        final Map<String, JavaParameter> getterMap = new LinkedHashMap<>();
+        final boolean generic = !classElement.getTypeParameters().isEmpty();
+
+        for (@NotNull final VariableElement field : fields) {
+            final String fieldName = field.getSimpleName().toString();
+            final String getterName = getGetterName(field);
+
+            // type variables of the class are unknown outside of it, so generic classes use the erased types
+            getterMap.put(
+                getterName,
+                JavaParameter.of(
+                    fieldName,
+                    generic ? processingEnvironment.getTypeUtils().erasure(field.asType()) : field.asType()
+                )
+            );
+
+            if (treeEditor.hasMethod(classElement, getterName, 0)) continue;
+
+            // use the type as it is written in the source, so that it is resolved within the scope of the class
+            final JCTree.JCVariableDecl fieldTree = (JCTree.JCVariableDecl) trees.getTree(field);
+
+            treeEditor.addMembers(
+                classElement,
+                field,
+                "public " + fieldTree.vartype + " " + getterName + "() { return this." + fieldName + "; }"
+            );
+        }
+
+        generateJavaCode(classElement, generationPipeline, Collections.unmodifiableMap(getterMap));
+    }
+
+    @NotNull
+    @Override
+    public Class<? extends Annotation> getAnnotytionType() {
+        return Getter.class;
+    }
+    //</editor-fold>
+
+    /**
+     * Generiert die Java-Datei der Zugriffs-Tabelle. Die Java-Datei wird mithilfe der {@link GenerationPipeline}
+     * erzeugt, weshalb die übergebenen Getter nicht mehr verändert werden dürfen.
+     *
+     * @param classElement       Die Klasse, für die die Zugriffs-Tabelle erzeugt wird.
+     * @param generationPipeline Die {@link GenerationPipeline}, mit der die Java-Datei generiert wird.
+     * @param getterMap          Alle Getter (Name und Eigenschaft), welche in der Zugriffs-Tabelle enthalten sind.
+     */
+    public void generateJavaCode(
+        @NotNull final TypeElement classElement,
+        @NotNull final GenerationPipeline generationPipeline,
+        @NotNull final Map<String, JavaParameter> getterMap
+    ) {
+        final String className = classElement.getQualifiedName().toString();
+        final String objectType = getObjectType(className, classElement.getTypeParameters().size());
+
+        generationPipeline.submit(
+            className,
+            className + "Accessors",
+            generator -> generateAccessors(generator, objectType, getterMap),
+            classElement
+        );
+    }
+
+    /**
+     * Erzeugt den Inhalt der Zugriffs-Tabelle mithilfe eines {@link JavaGenerator}. Für jede Eigenschaft wird eine
+     * statische Methode mit dem exakten (primitiven) Typ erzeugt. Zusätzlich lassen sich alle Eigenschaften anhand ihres
+     * Namens oder nacheinander auslesen, wofür primitive Werte geboxt werden müssen.
+     *
+     * @param generator  Der {@link JavaGenerator}, mit dem der Inhalt der Zugriffs-Tabelle erzeugt wird.
+     * @param objectType Der Typ der Objekte, deren Eigenschaften ausgelesen werden.
+     * @param getterMap  Alle Getter (Name und Eigenschaft), welche in der Zugriffs-Tabelle enthalten sind.
+     */
+    private static void generateAccessors(
+        @NotNull final JavaGenerator generator,
+        @NotNull final String objectType,
+        @NotNull final Map<String, JavaParameter> getterMap
+    ) {
+        final List<JavaParameter> objectParameter = Collections.singletonList(
+            new JavaParameter("object", objectType, TypeKind.DECLARED)
+        );
+        final StringBuilder propertyNames = new StringBuilder();
+        final List<String> getBody = new ArrayList<>();
+        final List<String> forEachBody = new ArrayList<>();
+
+        getBody.add("switch (property) {");
+
+        getterMap.forEach((getterName, property) -> {
+            if (propertyNames.length() > 0) {
+                propertyNames.append(", ");
+            }
+
+            propertyNames.append('"').append(property.getName()).append('"');
+
+            getBody.add("    case \"" + property.getName() + "\":");
+            getBody.add("        return object." + getterName + "();");
+            forEachBody.add("consumer.accept(\"" + property.getName() + "\", object." + getterName + "());");
+        });
+
+        getBody.add("    default:");
+        getBody.add("        throw new java.lang.IllegalArgumentException(\"unknown property: \" + property);");
+        getBody.add("}");
+
+        generator.addField(
+            "public static final",
+            "java.util.List<java.lang.String>",
+            "PROPERTY_NAMES",
+            "java.util.Collections.unmodifiableList(java.util.Arrays.asList(" + propertyNames + "))"
+        );
+
+        generator.addConstructor("private", Collections.emptyList(), new String[0]);
+
+        getterMap.forEach((getterName, property) -> generator.addMethod(
+            "public static",
+            getterName,
+            property.getType(),
+            objectParameter,
+            new String[]{"return object." + getterName + "();"}
+        ));
+
+        final List<JavaParameter> getParameters = new ArrayList<>(objectParameter);
+        getParameters.add(new JavaParameter("property", "java.lang.String", TypeKind.DECLARED));
+
+        generator.addMethod(
+            "public static",
+            "get",
+            "java.lang.Object",
+            getParameters,
+            getBody.toArray(new String[0])
+        );
+
+        final List<JavaParameter> forEachParameters = new ArrayList<>(objectParameter);
+        forEachParameters.add(new JavaParameter(
+            "consumer",
+            "java.util.function.BiConsumer<java.lang.String, java.lang.Object>",
+            TypeKind.DECLARED
+        ));
+
+        generator.addMethod(
+            "public static",
+            "forEach",
+            null,
+            forEachParameters,
+            forEachBody.toArray(new String[0])
+        );
+    }
+
+    /**
+     * Ermittelt den Namen des Getters eines Feldes. Felder mit dem primitiven Typ boolean erhalten einen Getter, welcher
+     * mit 'is' beginnt, alle anderen Felder einen Getter, welcher mit 'get' beginnt.
+     *
+     * @param field Das Feld, dessen Getter benannt werden soll.
+     *
+     * @return Der Name des Getters.
+     */
+    @NotNull
+    static String getGetterName(@NotNull final VariableElement field) {
+        final String fieldName = field.getSimpleName().toString();
+        final String prefix = field.asType().getKind() == TypeKind.BOOLEAN ? "is" : "get";
+
+        return prefix + Character.toUpperCase(fieldName.charAt(0)) + fieldName.substring(1);
+    }
+
+    /**
+     * Ermittelt den Typ der Objekte, deren Eigenschaften ausgelesen werden. Bei generischen Klassen werden alle
+     * Typ-Parameter durch Wildcards ersetzt, damit die Zugriffs-Tabelle für alle Ausprägungen der Klasse genutzt werden
+     * kann.
+     *
+     * @param className          Der Name der Klasse.
+     * @param typeParameterCount Die Anzahl der Typ-Parameter der Klasse.
+     *
+     * @return Der Typ der Objekte, deren Eigenschaften ausgelesen werden.
+     */
+    @NotNull
+    private static String getObjectType(
+        @NotNull final String className,
+        final int typeParameterCount
+    ) {
+        if (typeParameterCount == 0) {
+            return className;
+        }
+
+        final StringBuilder objectType = new StringBuilder(className).append('<');
+
+        for (int i = 0; i < typeParameterCount; i++) {
+            objectType.append(i == 0 ? "?" : ", ?");
+        }
+
+        return objectType.append('>').toString();
+    }
+
+}
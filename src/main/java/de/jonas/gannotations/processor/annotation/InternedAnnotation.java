@@ -0,0 +1,278 @@
+package de.jonas.gannotations.processor.annotation;
+
+import com.sun.source.util.Trees;
+import com.sun.tools.javac.tree.TreeMaker;
+import de.jonas.gannotations.annotation.Interned;
+import de.jonas.gannotations.processor.AnnotationHandler;
+import de.jonas.gannotations.processor.GenerationPipeline;
+import de.jonas.gannotations.processor.JavaGenerator;
+import de.jonas.gannotations.processor.JavaParameter;
+import de.jonas.gannotations.processor.TreeEditor;
+import org.jetbrains.annotations.NotNull;
+
+import javax.annotation.processing.ProcessingEnvironment;
+import javax.lang.model.element.Element;
+import javax.lang.model.element.ExecutableElement;
+import javax.lang.model.element.Modifier;
+import javax.lang.model.element.TypeElement;
+import javax.lang.model.element.VariableElement;
+import javax.lang.model.type.TypeKind;
+import javax.lang.model.util.ElementFilter;
+import javax.tools.Diagnostic;
+
+import java.lang.annotation.Annotation;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Es wird ein Handler für die {@link Interned} erzeugt, welcher der Klasse die Methoden {@code equals} und {@code
+ * hashCode} direkt im AST tree hinzufügt und eine Klasse generiert, mit der sich die kanonische Instanz eines Objekts
+ * ermitteln lässt. Besitzt die Klasse bereits eine der beiden Methoden, wird diese nicht ersetzt.
+ */
+@NotNull
+public final class InternedAnnotation implements AnnotationHandler {
+
+    //<editor-fold desc="CONSTANTS">
+    /** Der Name des Feldes, in dem der Hash-Code eines Objekts zwischengespeichert wird. */
+    @NotNull
+    private static final String HASH_FIELD = "gannotations$hash";
+    //</editor-fold>
+
+
+    //<editor-fold desc="implementation">
+    @Override
+    public void processAnnotation(
+        @NotNull final Set<? extends Element> annotatedElements,
+        @NotNull final ProcessingEnvironment processingEnvironment,
+        @NotNull final Trees trees,
+        @NotNull final TreeMaker treeMaker,
+        @NotNull final GenerationPipeline generationPipeline
+    ) {
+        final TypeElement classElement = (TypeElement) annotatedElements.iterator().next();
+        final Interned interned = classElement.getAnnotation(Interned.class);
+
+        if (interned.maximumSize() < 0) {
+            processingEnvironment.getMessager().printMessage(
+                Diagnostic.Kind.ERROR,
+                "@Interned requires a maximumSize that is not negative",
+                classElement
+            );
+            return;
+        }
+
+        if (!classElement.getTypeParameters().isEmpty()) {
+            processingEnvironment.getMessager().printMessage(
+                Diagnostic.Kind.ERROR,
+                "@Interned cannot be applied to generic classes",
+                classElement
+            );
+            return;
+        }
+
+        final TreeEditor treeEditor = new TreeEditor(processingEnvironment, trees, treeMaker);
+        final List<JavaParameter> fields = new ArrayList<>();
+
+        for (@NotNull final VariableElement field : ElementFilter.fieldsIn(classElement.getEnclosedElements())) {
+            if (field.getModifiers().contains(Modifier.STATIC)) continue;
+            if (field.getModifiers().contains(Modifier.TRANSIENT)) continue;
+
+            fields.add(JavaParameter.of(field.getSimpleName().toString(), field.asType()));
+        }
+
+        final boolean hasEquals = hasEquals(classElement);
+        final boolean hasHashCode = treeEditor.hasMethod(classElement, "hashCode", 0);
+
+        // with only one of both methods, equal objects would not share a canonical instance
+        if (hasEquals != hasHashCode) {
+            processingEnvironment.getMessager().printMessage(
+                Diagnostic.Kind.ERROR,
+                "@Interned generates equals and hashCode only together, declare both or none of them",
+                classElement
+            );
+            return;
+        }
+
+        if (!hasEquals) {
+            treeEditor.addMembers(
+                classElement,
+                classElement,
+                "private transient int " + HASH_FIELD + ";",
+                createEquals(classElement.getSimpleName().toString(), fields),
+                createHashCode(fields)
+            );
+        }
+
+        final String className = classElement.getQualifiedName().toString();
+        final int maximumSize = interned.maximumSize();
+
+        generationPipeline.submit(
+            className,
+            className + "Interner",
+            generator -> generateInterner(generator, className, maximumSize),
+            classElement
+        );
+    }
+
+    @NotNull
+    @Override
+    public Class<? extends Annotation> getAnnotytionType() {
+        return Interned.class;
+    }
+    //</editor-fold>
+
+    /**
+     * Prüft, ob eine Klasse bereits eine Methode {@code equals} mit einem Parameter besitzt.
+     *
+     * @param classElement Die Klasse, welche geprüft werden soll.
+     *
+     * @return Ob die Klasse bereits eine Methode {@code equals} besitzt.
+     */
+    private static boolean hasEquals(@NotNull final TypeElement classElement) {
+        for (@NotNull final ExecutableElement method : ElementFilter.methodsIn(classElement.getEnclosedElements())) {
+            if (!method.getSimpleName().contentEquals("equals")) continue;
+            if (method.getParameters().size() != 1) continue;
+
+            return true;
+        }
+
+        return false;
+    }
+
+    /**
+     * Erzeugt den Quellcode der Methode {@code equals}, welche alle Felder vergleicht. Sind die Hash-Codes beider
+     * Objekte bereits berechnet und unterschiedlich, wird auf den Vergleich der Felder verzichtet.
+     *
+     * @param simpleClassName Der einfache Name der Klasse.
+     * @param fields          Alle Felder, welche verglichen werden.
+     *
+     * @return Der Quellcode der Methode {@code equals}.
+     */
+    @NotNull
+    private static String createEquals(
+        @NotNull final String simpleClassName,
+        @NotNull final List<JavaParameter> fields
+    ) {
+        final StringBuilder method = new StringBuilder()
+            .append("@java.lang.Override public boolean equals(final java.lang.Object other) {")
+            .append("if (this == other) return true;")
+            .append("if (other == null || other.getClass() != this.getClass()) return false;")
+            .append("final ").append(simpleClassName).append(" that = (").append(simpleClassName).append(") other;")
+            .append("if (this.").append(HASH_FIELD).append(" != 0 && that.").append(HASH_FIELD).append(" != 0")
+            .append(" && this.").append(HASH_FIELD).append(" != that.").append(HASH_FIELD).append(") return false;")
+            .append("return true");
+
+        for (@NotNull final JavaParameter field : fields) {
+            final String thisField = "this." + field.getName();
+            final String thatField = "that." + field.getName();
+
+            method.append(" && ");
+
+            switch (field.getKind()) {
+                case FLOAT:
+                    method.append("java.lang.Float.compare(").append(thisField).append(", ").append(thatField)
+                        .append(") == 0");
+                    break;
+                case DOUBLE:
+                    method.append("java.lang.Double.compare(").append(thisField).append(", ").append(thatField)
+                        .append(") == 0");
+                    break;
+                case ARRAY:
+                    method.append("java.util.Arrays.").append(field.isPrimitiveArray() ? "equals" : "deepEquals")
+                        .append('(').append(thisField).append(", ").append(thatField).append(')');
+                    break;
+                default:
+                    if (field.isPrimitive()) {
+                        method.append(thisField).append(" == ").append(thatField);
+                    } else {
+                        method.append("java.util.Objects.equals(").append(thisField).append(", ").append(thatField)
+                            .append(')');
+                    }
+            }
+        }
+
+        return method.append(";}").toString();
+    }
+
+    /**
+     * Erzeugt den Quellcode der Methode {@code hashCode}, welche den Hash-Code aus allen Feldern berechnet und nach der
+     * ersten Berechnung zwischenspeichert.
+     *
+     * @param fields Alle Felder, aus denen der Hash-Code berechnet wird.
+     *
+     * @return Der Quellcode der Methode {@code hashCode}.
+     */
+    @NotNull
+    private static String createHashCode(@NotNull final List<JavaParameter> fields) {
+        final StringBuilder method = new StringBuilder()
+            .append("@java.lang.Override public int hashCode() {")
+            .append("int hash = this.").append(HASH_FIELD).append(';')
+            .append("if (hash != 0) return hash;")
+            .append("hash = 1;");
+
+        for (@NotNull final JavaParameter field : fields) {
+            method.append("hash = 31 * hash + ");
+
+            if (field.getKind() == TypeKind.ARRAY) {
+                method.append("java.util.Arrays.").append(field.isPrimitiveArray() ? "hashCode" : "deepHashCode");
+            } else if (field.isPrimitive()) {
+                method.append(field.getBoxedType()).append(".hashCode");
+            } else {
+                method.append("java.util.Objects.hashCode");
+            }
+
+            method.append("(this.").append(field.getName()).append(");");
+        }
+
+        return method
+            .append("this.").append(HASH_FIELD).append(" = hash;")
+            .append("return hash;}")
+            .toString();
+    }
+
+    /**
+     * Erzeugt den Inhalt des Interners mithilfe eines {@link JavaGenerator}. Ohne maximale Größe wird ein {@link
+     * de.jonas.gannotations.runtime.WeakInterner} genutzt, ansonsten ein {@link
+     * de.jonas.gannotations.runtime.MemoizeCache}, welcher die am längsten nicht genutzten Instanzen entfernt.
+     *
+     * @param generator   Der {@link JavaGenerator}, mit dem der Inhalt des Interners erzeugt wird.
+     * @param className   Der Name der Klasse, deren Objekte internalisiert werden.
+     * @param maximumSize Die maximale Anzahl an kanonischen Instanzen oder 0, wenn sie schwach referenziert werden.
+     */
+    private static void generateInterner(
+        @NotNull final JavaGenerator generator,
+        @NotNull final String className,
+        final int maximumSize
+    ) {
+        if (maximumSize == 0) {
+            generator.addField(
+                "private static final",
+                "de.jonas.gannotations.runtime.WeakInterner<" + className + ">",
+                "INTERNER",
+                "new de.jonas.gannotations.runtime.WeakInterner<>()"
+            );
+        } else {
+            generator.addField(
+                "private static final",
+                "de.jonas.gannotations.runtime.MemoizeCache<" + className + ">",
+                "INTERNER",
+                "new de.jonas.gannotations.runtime.MemoizeCache<>(" + maximumSize
+                    + ", de.jonas.gannotations.runtime.Eviction.LRU, 0L)"
+            );
+        }
+
+        generator.addConstructor("private", Collections.emptyList(), new String[0]);
+
+        generator.addMethod(
+            "public static",
+            "intern",
+            className,
+            Collections.singletonList(new JavaParameter("object", className, TypeKind.DECLARED)),
+            new String[]{
+                maximumSize == 0 ? "return INTERNER.intern(object);" : "return INTERNER.get(object, () -> object);"
+            }
+        );
+    }
+
+}
@@ -0,0 +1,607 @@
+package de.jonas.gannotations.processor.annotation;
+
+import com.sun.source.util.Trees;
+import com.sun.tools.javac.code.Flags;
+import com.sun.tools.javac.tree.JCTree;
+import com.sun.tools.javac.tree.TreeMaker;
+import com.sun.tools.javac.tree.TreeTranslator;
+import com.sun.tools.javac.util.Name;
+import com.sun.tools.javac.util.Names;
+import de.jonas.gannotations.annotation.Lazy;
+import de.jonas.gannotations.processor.AnnotationHandler;
+import de.jonas.gannotations.processor.GenerationPipeline;
+import de.jonas.gannotations.processor.TreeEditor;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import javax.annotation.processing.ProcessingEnvironment;
+import javax.lang.model.SourceVersion;
+import javax.lang.model.element.Element;
+import javax.lang.model.element.ElementKind;
+import javax.lang.model.element.Modifier;
+import javax.lang.model.element.TypeElement;
+import javax.lang.model.element.VariableElement;
+import javax.lang.model.type.ArrayType;
+import javax.lang.model.type.DeclaredType;
+import javax.lang.model.type.TypeKind;
+import javax.lang.model.type.TypeMirror;
+import javax.lang.model.util.Types;
+import javax.tools.Diagnostic;
+
+import java.lang.annotation.Annotation;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Es wird ein Handler für die {@link Lazy} erzeugt, welcher alle Felder, die diese Annotation besitzen, erst beim
+ * ersten Zugriff initialisiert. Der Initialisierer jedes Feldes wird in eine eigene Methode verschoben, der Klasse wird
+ * je nach {@link Lazy.Strategy Strategie} eine Zugriffs-Methode hinzugefügt und alle Zugriffe auf das Feld werden
+ * direkt im AST tree durch den Aufruf dieser Methode ersetzt. Das Feld selbst wird umbenannt, sodass ein Zugriff,
+ * welcher nicht umgeschrieben werden konnte, zu einem Fehler beim Kompilieren führt, statt unbemerkt einen nicht
+ * initialisierten Wert zu lesen.
+ */
+@NotNull
+public final class LazyAnnotation implements AnnotationHandler {
+
+    //<editor-fold desc="CONSTANTS">
+    /** Das Präfix aller Member, welche der Klasse hinzugefügt werden. */
+    @NotNull
+    private static final String PREFIX = "gannotations$";
+    /** Der Name der Methode, mit der die {@code VarHandle} aller Felder einer Klasse erzeugt werden. */
+    @NotNull
+    private static final String HANDLE_FACTORY = PREFIX + "lazyHandle";
+    //</editor-fold>
+
+
+    //<editor-fold desc="implementation">
+    @Override
+    public void processAnnotation(
+        @NotNull final Set<? extends Element> annotatedElements,
+        @NotNull final ProcessingEnvironment processingEnvironment,
+        @NotNull final Trees trees,
+        @NotNull final TreeMaker treeMaker,
+        @NotNull final GenerationPipeline generationPipeline
+    ) {
+        final TypeElement classElement = (TypeElement) annotatedElements.iterator().next().getEnclosingElement();
+
+        if (classElement.getKind() == ElementKind.INTERFACE || classElement.getKind() == ElementKind.ANNOTATION_TYPE) {
+            processingEnvironment.getMessager().printMessage(
+                Diagnostic.Kind.ERROR,
+                "@Lazy cannot be applied to fields of interfaces",
+                classElement
+            );
+            return;
+        }
+
+        final TreeEditor treeEditor = new TreeEditor(processingEnvironment, trees, treeMaker);
+        final Names names = treeEditor.getNames();
+        final Map<Name, Name> accessorMap = new HashMap<>();
+        // the source version is compared by its position, since RELEASE_9 does not exist in java 8
+        final boolean varHandleSupported = processingEnvironment.getSourceVersion()
+            .compareTo(SourceVersion.RELEASE_8) > 0;
+        boolean handleFactoryAdded = false;
+
+        for (@NotNull final Element annotatedElement : annotatedElements) {
+            final VariableElement field = (VariableElement) annotatedElement;
+            final JCTree.JCVariableDecl fieldTree = (JCTree.JCVariableDecl) trees.getTree(field);
+            final boolean isStatic = field.getModifiers().contains(Modifier.STATIC);
+            final Lazy.Strategy strategy = getStrategy(field.getAnnotation(Lazy.class).strategy(), isStatic);
+            final String error = validate(field, fieldTree, strategy, isStatic, varHandleSupported);
+
+            if (error != null) {
+                processingEnvironment.getMessager().printMessage(Diagnostic.Kind.ERROR, error, field);
+                continue;
+            }
+
+            final String fieldName = field.getSimpleName().toString();
+            final String accessorName = PREFIX + fieldName;
+            final String initializerName = PREFIX + fieldName + "Init";
+            final String type = fieldTree.vartype.toString();
+            final String modifier = isStatic ? "private static " : "private ";
+
+            // the initializer is moved into its own method, so that every strategy calls it in the same way
+            treeEditor.addMembers(classElement, field, modifier + type + " " + initializerName + "() { return null; }");
+            final JCTree.JCClassDecl classTree = treeEditor.getClassTree(classElement);
+            final JCTree.JCMethodDecl initializerTree = (JCTree.JCMethodDecl) classTree.defs.last();
+            ((JCTree.JCReturn) initializerTree.body.stats.head).expr = fieldTree.init;
+
+            switch (strategy) {
+                case HOLDER:
+                    treeEditor.removeMember(classElement, field);
+                    treeEditor.addMembers(
+                        classElement,
+                        field,
+                        "private static final class " + accessorName + "Holder {"
+                            + "    static final " + type + " VALUE = " + initializerName + "();"
+                            + "}",
+                        "private static " + type + " " + accessorName + "() {"
+                            + "    return " + accessorName + "Holder.VALUE;"
+                            + "}"
+                    );
+                    break;
+                case DOUBLE_CHECKED:
+                    final String owner = isStatic ? classElement.getQualifiedName().toString() : "this";
+                    final String lockName = accessorName + "Lock";
+
+                    // a private lock, so that code locking on the instance or the class cannot block the initializer,
+                    // which is added first, so that it exists before any other initializer may read the field (an
+                    // empty array is used for instances, because unlike a plain object it is serializable)
+                    treeEditor.prependMembers(
+                        classElement,
+                        field,
+                        isStatic
+                            ? "private static final java.lang.Object " + lockName + " = new java.lang.Object();"
+                            : "private final java.lang.Object " + lockName + " = new java.lang.Object[0];"
+                    );
+                    fieldTree.mods.flags = (fieldTree.mods.flags & ~Flags.FINAL) | Flags.VOLATILE;
+                    treeEditor.addMembers(
+                        classElement,
+                        field,
+                        modifier + type + " " + accessorName + "() {"
+                            + "    " + type + " value = " + owner + "." + accessorName + ";"
+                            + "    if (value == null) {"
+                            + "        synchronized (" + owner + "." + lockName + ") {"
+                            + "            value = " + owner + "." + accessorName + ";"
+                            + "            if (value == null) {"
+                            + "                value = " + initializerName + "();"
+                            + "                " + owner + "." + accessorName + " = value;"
+                            + "            }"
+                            + "        }"
+                            + "    }"
+                            + "    return value;"
+                            + "}"
+                    );
+                    break;
+                default:
+                    final String handleName = accessorName + "Handle";
+                    final String erasedType = getErasedName(processingEnvironment.getTypeUtils(), field.asType());
+
+                    if (!handleFactoryAdded) {
+                        addHandleFactory(treeEditor, classElement, field);
+                        handleFactoryAdded = true;
+                    }
+
+                    fieldTree.mods.flags &= ~Flags.FINAL;
+                    // the exchange is volatile, so that a thread which loses the race also sees the state of the
+                    // witness, which was initialized by the winning thread
+                    treeEditor.addMembers(
+                        classElement,
+                        field,
+                        "private static final java.lang.invoke.VarHandle " + handleName + " = "
+                            + HANDLE_FACTORY + "(\"" + accessorName + "\", " + erasedType + ".class);",
+                        "@java.lang.SuppressWarnings({\"unchecked\", \"rawtypes\"})"
+                            + "private " + type + " " + accessorName + "() {"
+                            + "    " + type + " value = (" + type + ") (" + erasedType + ") "
+                            + handleName + ".getAcquire(this);"
+                            + "    if (value == null) {"
+                            + "        final " + type + " initialValue = " + initializerName + "();"
+                            + "        final " + erasedType + " witness = (" + erasedType + ") "
+                            + handleName + ".compareAndExchange("
+                            + "this, (" + erasedType + ") null, (" + erasedType + ") initialValue"
+                            + ");"
+                            + "        value = witness == null ? initialValue : (" + type + ") witness;"
+                            + "    }"
+                            + "    return value;"
+                            + "}"
+                    );
+                    break;
+            }
+
+            // the field is renamed, so that accesses which could not be rewritten fail instead of reading null
+            fieldTree.name = names.fromString(accessorName);
+            fieldTree.init = null;
+            accessorMap.put(names.fromString(fieldName), names.fromString(accessorName));
+        }
+
+        if (accessorMap.isEmpty()) {
+            return;
+        }
+
+        final JCTree.JCClassDecl classTree = treeEditor.getClassTree(classElement);
+        new LazyAccessRewriter(treeMaker, names, accessorMap, classTree).translate(classTree);
+    }
+
+    @NotNull
+    @Override
+    public Class<? extends Annotation> getAnnotytionType() {
+        return Lazy.class;
+    }
+    //</editor-fold>
+
+    /**
+     * Ermittelt die Strategie, mit der ein Feld initialisiert wird. Die Strategie {@link Lazy.Strategy#AUTO} wird
+     * anhand der Art des Feldes aufgelöst.
+     *
+     * @param strategy Die Strategie, welche in der Annotation angegeben wurde.
+     * @param isStatic Ob es sich um ein statisches Feld handelt.
+     *
+     * @return Die Strategie, mit der das Feld initialisiert wird.
+     */
+    @NotNull
+    private static Lazy.Strategy getStrategy(
+        @NotNull final Lazy.Strategy strategy,
+        final boolean isStatic
+    ) {
+        if (strategy != Lazy.Strategy.AUTO) {
+            return strategy;
+        }
+
+        return isStatic ? Lazy.Strategy.HOLDER : Lazy.Strategy.DOUBLE_CHECKED;
+    }
+
+    /**
+     * Prüft, ob ein Feld mit einer bestimmten Strategie beim ersten Zugriff initialisiert werden kann.
+     *
+     * @param field              Das Feld, welches geprüft werden soll.
+     * @param fieldTree          Der Tree des Feldes.
+     * @param strategy           Die Strategie, mit der das Feld initialisiert werden soll.
+     * @param isStatic           Ob es sich um ein statisches Feld handelt.
+     * @param varHandleSupported Ob der Quellcode mit einer Version kompiliert wird, welche {@code VarHandle} kennt.
+     *
+     * @return Die Fehlermeldung oder null, wenn das Feld beim ersten Zugriff initialisiert werden kann.
+     */
+    @Nullable
+    private static String validate(
+        @NotNull final VariableElement field,
+        @NotNull final JCTree.JCVariableDecl fieldTree,
+        @NotNull final Lazy.Strategy strategy,
+        final boolean isStatic,
+        final boolean varHandleSupported
+    ) {
+        if (!field.getModifiers().contains(Modifier.PRIVATE) || !field.getModifiers().contains(Modifier.FINAL)) {
+            return "@Lazy can only be applied to private final fields";
+        }
+
+        if (fieldTree.init == null) {
+            return "@Lazy requires a field with an initializer";
+        }
+
+        if (field.asType().getKind().isPrimitive()) {
+            return "@Lazy cannot be applied to fields of a primitive type";
+        }
+
+        if (strategy == Lazy.Strategy.HOLDER && !isStatic) {
+            return "@Lazy with the strategy HOLDER can only be applied to static fields";
+        }
+
+        if (strategy == Lazy.Strategy.VAR_HANDLE && isStatic) {
+            return "@Lazy with the strategy VAR_HANDLE cannot be applied to static fields";
+        }
+
+        if (strategy == Lazy.Strategy.VAR_HANDLE && !varHandleSupported) {
+            return "@Lazy with the strategy VAR_HANDLE requires at least Java 9";
+        }
+
+        return null;
+    }
+
+    /**
+     * Fügt einer Klasse die Methode hinzu, mit der die {@code VarHandle} ihrer Felder erzeugt werden. Die Methode wird
+     * für jede Klasse nur einmal hinzugefügt.
+     *
+     * @param treeEditor   Der {@link TreeEditor}, mit dem die Methode hinzugefügt wird.
+     * @param classElement Die Klasse, der die Methode hinzugefügt wird.
+     * @param position     Das Element, dessen Position die Methode erhalten soll.
+     */
+    private static void addHandleFactory(
+        @NotNull final TreeEditor treeEditor,
+        @NotNull final TypeElement classElement,
+        @NotNull final Element position
+    ) {
+        treeEditor.addMembers(
+            classElement,
+            position,
+            "private static java.lang.invoke.VarHandle " + HANDLE_FACTORY + "("
+                + "final java.lang.String name, final java.lang.Class<?> type"
+                + ") {"
+                + "    try {"
+                + "        return java.lang.invoke.MethodHandles.lookup().findVarHandle("
+                + classElement.getQualifiedName() + ".class, name, type"
+                + "        );"
+                + "    } catch (final java.lang.ReflectiveOperationException e) {"
+                + "        throw new java.lang.ExceptionInInitializerError(e);"
+                + "    }"
+                + "}"
+        );
+    }
+
+    /**
+     * Ermittelt den Namen der Erasure eines Typs ohne Annotations, so wie er in einem Klassen-Literal verwendet werden
+     * kann (Bsp: 'java.util.List' oder 'int[]').
+     *
+     * @param types Die Hilfsmethoden für Typen.
+     * @param type  Der Typ, dessen Erasure ermittelt werden soll.
+     *
+     * @return Der Name der Erasure des Typs.
+     */
+    @NotNull
+    private static String getErasedName(
+        @NotNull final Types types,
+        @NotNull final TypeMirror type
+    ) {
+        final TypeMirror erasure = types.erasure(type);
+
+        if (erasure.getKind() == TypeKind.ARRAY) {
+            return getErasedName(types, ((ArrayType) erasure).getComponentType()) + "[]";
+        }
+
+        if (erasure.getKind() == TypeKind.DECLARED) {
+            return ((TypeElement) ((DeclaredType) erasure).asElement()).getQualifiedName().toString();
+        }
+
+        return erasure.getKind().name().toLowerCase(Locale.ROOT);
+    }
+
+    /**
+     * Mithilfe des {@link LazyAccessRewriter} werden alle Zugriffe auf die Felder einer Klasse, welche die {@link Lazy}
+     * besitzen, durch den Aufruf ihrer Zugriffs-Methode ersetzt. Da die Trees zu diesem Zeitpunkt noch nicht
+     * attributiert sind, werden die Namen anhand der Deklarationen aufgelöst: Ein Name wird nicht umgeschrieben,
+     * solange er durch eine lokale Variable, einen Parameter oder ein Feld einer inneren Klasse verdeckt wird.
+     */
+    private static final class LazyAccessRewriter extends TreeTranslator {
+
+        //<editor-fold desc="LOCAL FIELDS">
+        /** Der Tree-Maker, mit dem die Aufrufe der Zugriffs-Methoden erzeugt werden. */
+        @NotNull
+        private final TreeMaker treeMaker;
+        /** Alle Felder, deren Zugriffe umgeschrieben werden (Name des Feldes und Name der Zugriffs-Methode). */
+        @NotNull
+        private final Map<Name, Name> accessorMap;
+        /** Die Klasse, in der sich die Felder befinden. */
+        @NotNull
+        private final JCTree.JCClassDecl rootClass;
+        /** Der Name {@code this}. */
+        @NotNull
+        private final Name thisName;
+        /** Alle Namen, welche an der aktuellen Stelle durch eine Deklaration verdeckt werden. */
+        @NotNull
+        private final List<Name> declaredNames = new ArrayList<>();
+        //</editor-fold>
+
+
+        //<editor-fold desc="CONSTRUCTORS">
+
+        /**
+         * Erzeugt einen neuen {@link LazyAccessRewriter}.
+         *
+         * @param treeMaker   Der Tree-Maker, mit dem die Aufrufe der Zugriffs-Methoden erzeugt werden.
+         * @param names       Die Namen, welche vom Compiler genutzt werden.
+         * @param accessorMap Alle Felder, deren Zugriffe umgeschrieben werden (Name des Feldes und Name der
+         *                    Zugriffs-Methode).
+         * @param rootClass   Die Klasse, in der sich die Felder befinden.
+         */
+        private LazyAccessRewriter(
+            @NotNull final TreeMaker treeMaker,
+            @NotNull final Names names,
+            @NotNull final Map<Name, Name> accessorMap,
+            @NotNull final JCTree.JCClassDecl rootClass
+        ) {
+            this.treeMaker = treeMaker;
+            this.accessorMap = accessorMap;
+            this.rootClass = rootClass;
+            this.thisName = names._this;
+        }
+        //</editor-fold>
+
+
+        //<editor-fold desc="implementation">
+        @Override
+        public void visitIdent(@NotNull final JCTree.JCIdent tree) {
+            final Name accessorName = this.accessorMap.get(tree.name);
+
+            if (accessorName == null || this.declaredNames.contains(tree.name)) {
+                this.result = tree;
+                return;
+            }
+
+            this.result = this.treeMaker.at(tree.pos).Apply(
+                com.sun.tools.javac.util.List.nil(),
+                this.treeMaker.Ident(accessorName),
+                com.sun.tools.javac.util.List.nil()
+            );
+        }
+
+        @Override
+        public void visitSelect(@NotNull final JCTree.JCFieldAccess tree) {
+            tree.selected = translate(tree.selected);
+
+            final Name accessorName = this.accessorMap.get(tree.name);
+
+            if (accessorName == null || !isOwner(tree.selected)) {
+                this.result = tree;
+                return;
+            }
+
+            this.result = this.treeMaker.at(tree.pos).Apply(
+                com.sun.tools.javac.util.List.nil(),
+                this.treeMaker.Select(tree.selected, accessorName),
+                com.sun.tools.javac.util.List.nil()
+            );
+        }
+
+        @Override
+        public void visitApply(@NotNull final JCTree.JCMethodInvocation tree) {
+            // the name of a method never refers to a field, so only the target of the invocation is rewritten
+            if (tree.meth instanceof JCTree.JCFieldAccess) {
+                final JCTree.JCFieldAccess method = (JCTree.JCFieldAccess) tree.meth;
+                method.selected = translate(method.selected);
+            }
+
+            tree.args = translate(tree.args);
+            this.result = tree;
+        }
+
+        @Override
+        public void visitAnnotation(@NotNull final JCTree.JCAnnotation tree) {
+            // the arguments of an annotation are constants and their names would otherwise be taken for fields
+            this.result = tree;
+        }
+
+        @Override
+        public void visitClassDef(@NotNull final JCTree.JCClassDecl tree) {
+            final int mark = this.declaredNames.size();
+
+            // fields of inner classes hide the fields of the outer class within the whole body of the inner class
+            if (tree != this.rootClass) {
+                for (@NotNull final JCTree def : tree.defs) {
+                    if (!(def instanceof JCTree.JCVariableDecl)) continue;
+
+                    this.declaredNames.add(((JCTree.JCVariableDecl) def).name);
+                }
+            }
+
+            for (@NotNull final JCTree def : tree.defs) {
+                if (def instanceof JCTree.JCVariableDecl) {
+                    final JCTree.JCVariableDecl field = (JCTree.JCVariableDecl) def;
+                    field.init = translate(field.init);
+                    continue;
+                }
+
+                translate(def);
+            }
+
+            reset(mark);
+            this.result = tree;
+        }
+
+        @Override
+        public void visitMethodDef(@NotNull final JCTree.JCMethodDecl tree) {
+            final int mark = this.declaredNames.size();
+
+            for (@NotNull final JCTree.JCVariableDecl parameter : tree.params) {
+                this.declaredNames.add(parameter.name);
+            }
+
+            tree.body = translate(tree.body);
+            reset(mark);
+            this.result = tree;
+        }
+
+        @Override
+        public void visitLambda(@NotNull final JCTree.JCLambda tree) {
+            final int mark = this.declaredNames.size();
+
+            for (@NotNull final JCTree.JCVariableDecl parameter : tree.params) {
+                this.declaredNames.add(parameter.name);
+            }
+
+            tree.body = translate(tree.body);
+            reset(mark);
+            this.result = tree;
+        }
+
+        @Override
+        public void visitVarDef(@NotNull final JCTree.JCVariableDecl tree) {
+            // a local variable is already in scope within its own initializer
+            this.declaredNames.add(tree.name);
+            tree.init = translate(tree.init);
+            this.result = tree;
+        }
+
+        @Override
+        public void visitBlock(@NotNull final JCTree.JCBlock tree) {
+            final int mark = this.declaredNames.size();
+
+            super.visitBlock(tree);
+            reset(mark);
+        }
+
+        @Override
+        public void visitForLoop(@NotNull final JCTree.JCForLoop tree) {
+            final int mark = this.declaredNames.size();
+
+            super.visitForLoop(tree);
+            reset(mark);
+        }
+
+        @Override
+        public void visitForeachLoop(@NotNull final JCTree.JCEnhancedForLoop tree) {
+            final int mark = this.declaredNames.size();
+
+            // the variable of the loop is not in scope within the iterated expression
+            tree.expr = translate(tree.expr);
+            this.declaredNames.add(tree.var.name);
+            tree.body = translate(tree.body);
+            reset(mark);
+            this.result = tree;
+        }
+
+        @Override
+        public void visitSwitch(@NotNull final JCTree.JCSwitch tree) {
+            final int mark = this.declaredNames.size();
+
+            super.visitSwitch(tree);
+            reset(mark);
+        }
+
+        @Override
+        public void visitTry(@NotNull final JCTree.JCTry tree) {
+            final int mark = this.declaredNames.size();
+
+            // resources are only in scope within the body of the try statement
+            tree.resources = translate(tree.resources);
+            tree.body = translate(tree.body);
+            reset(mark);
+            tree.catchers = translateCatchers(tree.catchers);
+            tree.finalizer = translate(tree.finalizer);
+            this.result = tree;
+        }
+
+        @Override
+        public void visitCatch(@NotNull final JCTree.JCCatch tree) {
+            final int mark = this.declaredNames.size();
+
+            this.declaredNames.add(tree.param.name);
+            tree.body = translate(tree.body);
+            reset(mark);
+            this.result = tree;
+        }
+        //</editor-fold>
+
+        /**
+         * Prüft, ob ein Ausdruck auf die Klasse oder die Instanz verweist, in der sich die Felder befinden ({@code
+         * this}, {@code Klasse.this} oder {@code Klasse}).
+         *
+         * @param expression Der Ausdruck, welcher geprüft werden soll.
+         *
+         * @return Ob der Ausdruck auf die Klasse oder die Instanz verweist, in der sich die Felder befinden.
+         */
+        private boolean isOwner(@NotNull final JCTree.JCExpression expression) {
+            final Name className = this.rootClass.name;
+
+            if (expression instanceof JCTree.JCIdent) {
+                final Name name = ((JCTree.JCIdent) expression).name;
+                return name == this.thisName || name == className;
+            }
+
+            if (expression instanceof JCTree.JCFieldAccess) {
+                final JCTree.JCFieldAccess access = (JCTree.JCFieldAccess) expression;
+
+                if (access.name == className) {
+                    return true;
+                }
+
+                return access.name == this.thisName
+                    && access.selected instanceof JCTree.JCIdent
+                    && ((JCTree.JCIdent) access.selected).name == className;
+            }
+
+            return false;
+        }
+
+        /**
+         * Entfernt alle Namen, welche nach einer bestimmten Stelle deklariert wurden, da ihr Gültigkeitsbereich endet.
+         *
+         * @param mark Die Anzahl an Namen, welche vor dem Gültigkeitsbereich deklariert waren.
+         */
+        private void reset(final int mark) {
+            this.declaredNames.subList(mark, this.declaredNames.size()).clear();
+        }
+
+    }
+
+}
@@ -0,0 +1,383 @@
+package de.jonas.gannotations.processor.annotation;
+
+import com.sun.source.util.Trees;
+import com.sun.tools.javac.tree.TreeMaker;
+import de.jonas.gannotations.annotation.Memoize;
+import de.jonas.gannotations.processor.AnnotationHandler;
+import de.jonas.gannotations.processor.GenerationPipeline;
+import de.jonas.gannotations.processor.JavaGenerator;
+import de.jonas.gannotations.processor.JavaParameter;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import javax.annotation.processing.ProcessingEnvironment;
+import javax.lang.model.element.Element;
+import javax.lang.model.element.ExecutableElement;
+import javax.lang.model.element.Modifier;
+import javax.lang.model.element.TypeElement;
+import javax.lang.model.element.VariableElement;
+import javax.lang.model.type.TypeKind;
+import javax.lang.model.type.TypeMirror;
+import javax.tools.Diagnostic;
+
+import java.lang.annotation.Annotation;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Es wird ein Handler für die {@link Memoize} erzeugt, welcher für alle Methoden einer Klasse, die diese Annotation
+ * besitzen, einen gemeinsamen Wrapper erzeugt. Jede Methode erhält in diesem Wrapper einen eigenen {@link
+ * de.jonas.gannotations.runtime.MemoizeCache}, in dem ihre Ergebnisse anhand der Argumente gespeichert werden.
+ */
+@NotNull
+public final class MemoizeAnnotation implements AnnotationHandler {
+
+    //<editor-fold desc="CONSTANTS">
+    /** Der vollständige Name der Klasse, in der die Ergebnisse gespeichert werden. */
+    @NotNull
+    private static final String CACHE_CLASS = "de.jonas.gannotations.runtime.MemoizeCache";
+    /** Der vollständige Name der Klasse, welche die Zähler eines Caches enthält. */
+    @NotNull
+    private static final String STATS_CLASS = "de.jonas.gannotations.runtime.CacheStats";
+    //</editor-fold>
+
+
+    //<editor-fold desc="implementation">
+    @Override
+    public void processAnnotation(
+        @NotNull final Set<? extends Element> annotatedElements,
+        @NotNull final ProcessingEnvironment processingEnvironment,
+        @NotNull final Trees trees,
+        @NotNull final TreeMaker treeMaker,
+        @NotNull final GenerationPipeline generationPipeline
+    ) {
+        final TypeElement classElement = (TypeElement) annotatedElements.iterator().next().getEnclosingElement();
+
+        if (!classElement.getTypeParameters().isEmpty()) {
+            processingEnvironment.getMessager().printMessage(
+                Diagnostic.Kind.ERROR,
+                "@Memoize cannot be applied to methods of generic classes",
+                classElement
+            );
+            return;
+        }
+
+        final List<MemoizedMethod> methods = new ArrayList<>();
+        final Set<String> cacheNames = new HashSet<>();
+
+        for (@NotNull final Element annotatedElement : annotatedElements) {
+            final ExecutableElement method = (ExecutableElement) annotatedElement;
+            final String error = validate(method);
+
+            if (error != null) {
+                processingEnvironment.getMessager().printMessage(Diagnostic.Kind.ERROR, error, method);
+                continue;
+            }
+
+            final Memoize memoize = method.getAnnotation(Memoize.class);
+            final List<JavaParameter> parameters = new ArrayList<>();
+            final List<String> thrownTypes = new ArrayList<>();
+
+            for (@NotNull final VariableElement parameter : method.getParameters()) {
+                parameters.add(JavaParameter.of(parameter.getSimpleName().toString(), parameter.asType()));
+            }
+
+            if (method.isVarArgs()) {
+                // keep the varargs signature, so that callers of the wrapper do not need to create the array
+                final JavaParameter varArgs = parameters.remove(parameters.size() - 1);
+                final String arrayType = varArgs.getType();
+
+                parameters.add(new JavaParameter(
+                    varArgs.getName(),
+                    arrayType.substring(0, arrayType.length() - 2) + "...",
+                    TypeKind.ARRAY
+                ));
+            }
+
+            for (@NotNull final TypeMirror thrownType : method.getThrownTypes()) {
+                thrownTypes.add(thrownType.toString());
+            }
+
+            final String methodName = method.getSimpleName().toString();
+            String cacheName = methodName + "Cache";
+
+            // overloaded methods need their own cache
+            for (int i = 2; !cacheNames.add(cacheName); i++) {
+                cacheName = methodName + "Cache" + i;
+            }
+
+            methods.add(new MemoizedMethod(
+                methodName,
+                cacheName,
+                JavaParameter.of("result", method.getReturnType()),
+                Collections.unmodifiableList(parameters),
+                Collections.unmodifiableList(thrownTypes),
+                method.getModifiers().contains(Modifier.STATIC),
+                memoize.maximumSize(),
+                memoize.eviction().name(),
+                memoize.expireAfterWriteMillis()
+            ));
+        }
+
+        if (methods.isEmpty()) {
+            return;
+        }
+
+        generateJavaCode(classElement, generationPipeline, Collections.unmodifiableList(methods));
+    }
+
+    @NotNull
+    @Override
+    public Class<? extends Annotation> getAnnotytionType() {
+        return Memoize.class;
+    }
+    //</editor-fold>
+
+    /**
+     * Generiert die Java-Datei des Wrappers. Die Java-Datei wird mithilfe der {@link GenerationPipeline} erzeugt,
+     * weshalb die übergebenen Methoden nicht mehr verändert werden dürfen.
+     *
+     * @param classElement       Die Klasse, in der sich die Annotations befinden.
+     * @param generationPipeline Die {@link GenerationPipeline}, mit der die Java-Datei generiert wird.
+     * @param methods            Alle Methoden, deren Ergebnisse gespeichert werden sollen.
+     */
+    private static void generateJavaCode(
+        @NotNull final TypeElement classElement,
+        @NotNull final GenerationPipeline generationPipeline,
+        @NotNull final List<MemoizedMethod> methods
+    ) {
+        final String className = classElement.getQualifiedName().toString();
+
+        generationPipeline.submit(
+            className,
+            className + "Memoized",
+            generator -> generateWrapper(generator, className, methods),
+            classElement
+        );
+    }
+
+    /**
+     * Prüft, ob die Ergebnisse einer Methode gespeichert werden können.
+     *
+     * @param method Die Methode, welche geprüft werden soll.
+     *
+     * @return Die Fehlermeldung oder null, wenn die Ergebnisse der Methode gespeichert werden können.
+     */
+    @Nullable
+    private static String validate(@NotNull final ExecutableElement method) {
+        if (method.getReturnType().getKind() == TypeKind.VOID) {
+            return "@Memoize cannot be applied to methods without a result";
+        }
+
+        if (method.getModifiers().contains(Modifier.PRIVATE)) {
+            return "@Memoize cannot be applied to private methods";
+        }
+
+        if (!method.getTypeParameters().isEmpty()) {
+            return "@Memoize cannot be applied to generic methods";
+        }
+
+        if (method.getAnnotation(Memoize.class).maximumSize() < 1) {
+            return "@Memoize requires a positive maximumSize";
+        }
+
+        return null;
+    }
+
+    /**
+     * Erzeugt den Inhalt des Wrappers mithilfe eines {@link JavaGenerator}. Jede Methode wird mit derselben Signatur
+     * erzeugt und leitet den Aufruf nur dann an die ursprüngliche Methode weiter, wenn sich das Ergebnis noch nicht im
+     * Cache befindet.
+     *
+     * @param generator Der {@link JavaGenerator}, mit dem der Inhalt des Wrappers erzeugt wird.
+     * @param className Der Name der Klasse, in der sich die Annotations befinden.
+     * @param methods   Alle Methoden, deren Ergebnisse gespeichert werden sollen.
+     */
+    private static void generateWrapper(
+        @NotNull final JavaGenerator generator,
+        @NotNull final String className,
+        @NotNull final List<MemoizedMethod> methods
+    ) {
+        generator.addField("private final", className, "delegate", null);
+
+        for (@NotNull final MemoizedMethod method : methods) {
+            generator.addField(
+                "private final",
+                CACHE_CLASS + "<" + method.result.getBoxedType() + ">",
+                method.cacheName,
+                "new " + CACHE_CLASS + "<>(" + method.maximumSize
+                    + ", de.jonas.gannotations.runtime.Eviction." + method.eviction
+                    + ", " + method.expireAfterWriteMillis + "L)"
+            );
+        }
+
+        generator.addConstructor(
+            Collections.singletonList(new JavaParameter("delegate", className, TypeKind.DECLARED)),
+            new String[]{"this.delegate = delegate;"}
+        );
+
+        for (@NotNull final MemoizedMethod method : methods) {
+            final StringBuilder arguments = new StringBuilder();
+
+            for (@NotNull final JavaParameter parameter : method.parameters) {
+                if (arguments.length() > 0) {
+                    arguments.append(", ");
+                }
+
+                arguments.append(parameter.getName());
+            }
+
+            final String key;
+
+            if (method.parameters.isEmpty()) {
+                key = CACHE_CLASS + ".EMPTY_KEY";
+            } else if (method.parameters.size() == 1) {
+                key = CACHE_CLASS + ".key(" + arguments + ")";
+            } else {
+                key = CACHE_CLASS + ".compositeKey(" + arguments + ")";
+            }
+
+            final String target = method.isStatic ? className : "this.delegate";
+
+            generator.addMethod(
+                "public",
+                method.name,
+                method.result.getType(),
+                method.parameters,
+                method.thrownTypes,
+                new String[]{
+                    "return this." + method.cacheName + ".get(" + key + ", () -> "
+                        + target + "." + method.name + "(" + arguments + "));"
+                }
+            );
+        }
+
+        final List<String> statsBody = new ArrayList<>();
+        final List<String> invalidateBody = new ArrayList<>();
+
+        statsBody.add("final java.util.Map<java.lang.String, " + STATS_CLASS + "> stats = "
+            + "new java.util.LinkedHashMap<>();");
+
+        for (@NotNull final MemoizedMethod method : methods) {
+            statsBody.add("stats.put(\"" + method.getSignature() + "\", this." + method.cacheName + ".stats());");
+            invalidateBody.add("this." + method.cacheName + ".invalidateAll();");
+        }
+
+        statsBody.add("return java.util.Collections.unmodifiableMap(stats);");
+
+        generator.addMethod(
+            "getStats",
+            "java.util.Map<java.lang.String, " + STATS_CLASS + ">",
+            Collections.emptyList(),
+            statsBody.toArray(new String[0])
+        );
+
+        generator.addMethod(
+            "invalidateAll",
+            null,
+            Collections.emptyList(),
+            invalidateBody.toArray(new String[0])
+        );
+    }
+
+    /**
+     * Eine {@link MemoizedMethod} beschreibt eine Methode, deren Ergebnisse gespeichert werden sollen. Sie ist
+     * unveränderlich und greift nicht auf die Elemente des Compilers zu, weshalb sie auch beim parallelen Erzeugen von
+     * Quellcode genutzt werden kann.
+     */
+    private static final class MemoizedMethod {
+
+        //<editor-fold desc="LOCAL FIELDS">
+        /** Der Name der Methode. */
+        @NotNull
+        private final String name;
+        /** Der Name des Feldes, in dem sich der Cache dieser Methode befindet. */
+        @NotNull
+        private final String cacheName;
+        /** Das Ergebnis der Methode. */
+        @NotNull
+        private final JavaParameter result;
+        /** Alle Parameter der Methode. */
+        @NotNull
+        private final List<JavaParameter> parameters;
+        /** Alle Exceptions, welche die Methode deklariert. */
+        @NotNull
+        private final List<String> thrownTypes;
+        /** Ob es sich um eine statische Methode handelt. */
+        private final boolean isStatic;
+        /** Die maximale Anzahl an Ergebnissen, die gespeichert werden. */
+        private final int maximumSize;
+        /** Der Name der Strategie, nach der Ergebnisse entfernt werden. */
+        @NotNull
+        private final String eviction;
+        /** Die Zeit in Millisekunden, nach der ein Ergebnis abläuft. */
+        private final long expireAfterWriteMillis;
+        //</editor-fold>
+
+
+        //<editor-fold desc="CONSTRUCTORS">
+
+        /**
+         * Erzeugt eine neue {@link MemoizedMethod}.
+         *
+         * @param name                   Der Name der Methode.
+         * @param cacheName              Der Name des Feldes, in dem sich der Cache dieser Methode befindet.
+         * @param result                 Das Ergebnis der Methode.
+         * @param parameters             Alle Parameter der Methode.
+         * @param thrownTypes            Alle Exceptions, welche die Methode deklariert.
+         * @param isStatic               Ob es sich um eine statische Methode handelt.
+         * @param maximumSize            Die maximale Anzahl an Ergebnissen, die gespeichert werden.
+         * @param eviction               Der Name der Strategie, nach der Ergebnisse entfernt werden.
+         * @param expireAfterWriteMillis Die Zeit in Millisekunden, nach der ein Ergebnis abläuft.
+         */
+        private MemoizedMethod(
+            @NotNull final String name,
+            @NotNull final String cacheName,
+            @NotNull final JavaParameter result,
+            @NotNull final List<JavaParameter> parameters,
+            @NotNull final List<String> thrownTypes,
+            final boolean isStatic,
+            final int maximumSize,
+            @NotNull final String eviction,
+            final long expireAfterWriteMillis
+        ) {
+            this.name = name;
+            this.cacheName = cacheName;
+            this.result = result;
+            this.parameters = parameters;
+            this.thrownTypes = thrownTypes;
+            this.isStatic = isStatic;
+            this.maximumSize = maximumSize;
+            this.eviction = eviction;
+            this.expireAfterWriteMillis = expireAfterWriteMillis;
+        }
+        //</editor-fold>
+
+
+        /**
+         * Gibt die Signatur der Methode zurück, anhand der ihre Zähler abgelegt werden (Bsp: 'price(java.lang.String,
+         * int)').
+         *
+         * @return Die Signatur der Methode.
+         */
+        @NotNull
+        private String getSignature() {
+            final StringBuilder signature = new StringBuilder(this.name).append('(');
+
+            for (int i = 0; i < this.parameters.size(); i++) {
+                if (i > 0) {
+                    signature.append(", ");
+                }
+
+                signature.append(this.parameters.get(i).getType());
+            }
+
+            return signature.append(')').toString();
+        }
+
+    }
+
+}
@@ -0,0 +1,709 @@
+package de.jonas.gannotations.processor.annotation;
+
+import com.sun.source.util.Trees;
+import com.sun.tools.javac.tree.TreeMaker;
+import de.jonas.gannotations.annotation.OffHeap;
+import de.jonas.gannotations.processor.AnnotationHandler;
+import de.jonas.gannotations.processor.GenerationPipeline;
+import de.jonas.gannotations.processor.JavaGenerator;
+import de.jonas.gannotations.processor.JavaParameter;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import javax.annotation.processing.ProcessingEnvironment;
+import javax.lang.model.element.Element;
+import javax.lang.model.element.Modifier;
+import javax.lang.model.element.TypeElement;
+import javax.lang.model.element.VariableElement;
+import javax.lang.model.type.TypeKind;
+import javax.lang.model.util.ElementFilter;
+import javax.tools.Diagnostic;
+
+import java.lang.annotation.Annotation;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Es wird ein Handler für die {@link OffHeap} erzeugt, welcher für eine Klasse ein Array generiert, das alle
+ * Datensätze außerhalb des Heaps in {@link java.nio.ByteBuffer direkten Puffern} oder {@link java.nio.MappedByteBuffer
+ * eingeblendeten Dateien} speichert. Die Positionen aller Felder werden beim Kompilieren berechnet und als Konstanten
+ * in das Array geschrieben. Da ein einzelner Puffer höchstens 2 GB groß sein kann, wird das Array in Segmente
+ * aufgeteilt, deren Anzahl an Datensätzen immer eine Zweierpotenz ist, sodass das Segment und die Position eines
+ * Datensatzes ohne Division ermittelt werden können. Eine Datei beginnt mit einem Kopf aus einer festen Kennung, der
+ * Größe eines Datensatzes und einem Hash des Layouts, welcher beim Öffnen geprüft wird, damit eine Datei nach einer
+ * Änderung der Felder nicht mit einem falschen Layout gelesen wird.
+ */
+@NotNull
+public final class OffHeapAnnotation implements AnnotationHandler {
+
+    //<editor-fold desc="CONSTANTS">
+    /** Der Typ, mit dem die Puffer im generierten Quellcode angesprochen werden. */
+    @NotNull
+    private static final String BUFFER_TYPE = "java.nio.ByteBuffer";
+    /** Der Typ, mit dem die Dateien im generierten Quellcode angesprochen werden. */
+    @NotNull
+    private static final String CHANNEL_TYPE = "java.nio.channels.FileChannel";
+    /** Die feste Kennung ('GAOH') am Anfang jeder Datei, welche von einem generierten Array eingeblendet wird. */
+    private static final int FILE_MAGIC = 0x47414F48;
+    /** Die Größe des Kopfes am Anfang jeder Datei in Bytes (Kennung, Größe eines Datensatzes und Hash des Layouts). */
+    private static final int HEADER_SIZE = 16;
+    /** Der Name der Methode, mit der die aktuelle Position einer Ansicht abgefragt wird. */
+    @NotNull
+    private static final String VIEW_INDEX_GETTER = "getIndex";
+    //</editor-fold>
+
+
+    //<editor-fold desc="implementation">
+    @Override
+    public void processAnnotation(
+        @NotNull final Set<? extends Element> annotatedElements,
+        @NotNull final ProcessingEnvironment processingEnvironment,
+        @NotNull final Trees trees,
+        @NotNull final TreeMaker treeMaker,
+        @NotNull final GenerationPipeline generationPipeline
+    ) {
+        final TypeElement classElement = (TypeElement) annotatedElements.iterator().next();
+
+        if (!classElement.getTypeParameters().isEmpty()) {
+            processingEnvironment.getMessager().printMessage(
+                Diagnostic.Kind.ERROR,
+                "@OffHeap cannot be applied to generic classes",
+                classElement
+            );
+            return;
+        }
+
+        final List<Slot> slots = new ArrayList<>();
+        boolean writable = ColumnarAnnotation.hasNoArgConstructor(classElement);
+
+        for (@NotNull final VariableElement field : ElementFilter.fieldsIn(classElement.getEnclosedElements())) {
+            if (field.getModifiers().contains(Modifier.STATIC)) continue;
+            if (field.getModifiers().contains(Modifier.TRANSIENT)) continue;
+
+            if (!field.asType().getKind().isPrimitive()) {
+                processingEnvironment.getMessager().printMessage(
+                    Diagnostic.Kind.ERROR,
+                    "@OffHeap supports only fields with a primitive type, mark other fields as transient",
+                    field
+                );
+                return;
+            }
+
+            final String reader = ColumnarAnnotation.getReader(classElement, field);
+
+            if (reader == null) {
+                processingEnvironment.getMessager().printMessage(
+                    Diagnostic.Kind.ERROR,
+                    "@OffHeap requires a getter for private fields",
+                    field
+                );
+                return;
+            }
+
+            final String writer = ColumnarAnnotation.getWriter(classElement, field);
+
+            if (writer == null) {
+                writable = false;
+            }
+
+            final Slot slot = new Slot(
+                JavaParameter.of(field.getSimpleName().toString(), field.asType()),
+                reader,
+                writer
+            );
+
+            if (slot.getGetterName().equals(VIEW_INDEX_GETTER)) {
+                processingEnvironment.getMessager().printMessage(
+                    Diagnostic.Kind.ERROR,
+                    "@OffHeap cannot generate the getter " + VIEW_INDEX_GETTER
+                        + "() of this field, because the view already uses it for its position",
+                    field
+                );
+                return;
+            }
+
+            slots.add(slot);
+        }
+
+        if (slots.isEmpty()) {
+            processingEnvironment.getMessager().printMessage(
+                Diagnostic.Kind.ERROR,
+                "@OffHeap requires at least one field that is neither static nor transient",
+                classElement
+            );
+            return;
+        }
+
+        // larger fields first, so that every field is aligned to its own size without padding between the fields
+        slots.sort(Comparator.comparingInt(Slot::getSize).reversed());
+
+        int offset = 0;
+
+        for (@NotNull final Slot slot : slots) {
+            slot.offset = offset;
+            offset += slot.getSize();
+        }
+
+        final int alignment = slots.get(0).getSize();
+        final int recordSize = (offset + alignment - 1) / alignment * alignment;
+        final String className = classElement.getQualifiedName().toString();
+        final boolean materializable = writable;
+        final long layoutHash = getLayoutHash(className, slots, recordSize);
+
+        generationPipeline.submit(
+            className,
+            className + "OffHeapArray",
+            generator -> generateArray(
+                generator,
+                className,
+                Collections.unmodifiableList(slots),
+                recordSize,
+                layoutHash,
+                materializable
+            ),
+            classElement
+        );
+    }
+
+    @NotNull
+    @Override
+    public Class<? extends Annotation> getAnnotytionType() {
+        return OffHeap.class;
+    }
+    //</editor-fold>
+
+    /**
+     * Ermittelt die Anzahl an Bits, um die der Index eines Datensatzes verschoben werden muss, um das Segment zu
+     * erhalten. Ein Segment enthält so viele Datensätze, wie als Zweierpotenz in einen einzelnen Puffer passen.
+     *
+     * @param recordSize Die Größe eines Datensatzes in Bytes.
+     *
+     * @return Die Anzahl an Bits, um die der Index verschoben werden muss.
+     */
+    private static int getSegmentShift(final int recordSize) {
+        int shift = 30;
+
+        while (shift > 0 && ((long) recordSize << shift) > Integer.MAX_VALUE) {
+            shift--;
+        }
+
+        return shift;
+    }
+
+    /**
+     * Berechnet den Hash des Layouts mithilfe des Hash-Verfahrens FNV-1a. Der Hash ändert sich, sobald sich der Name
+     * der Klasse oder der Name, der Typ oder die Position eines Feldes ändert.
+     *
+     * @param className  Der Name der Klasse.
+     * @param slots      Alle Felder eines Datensatzes in der Reihenfolge ihres Layouts.
+     * @param recordSize Die Größe eines Datensatzes in Bytes.
+     *
+     * @return Der Hash des Layouts.
+     */
+    private static long getLayoutHash(
+        @NotNull final String className,
+        @NotNull final List<Slot> slots,
+        final int recordSize
+    ) {
+        final StringBuilder layout = new StringBuilder(className);
+
+        for (@NotNull final Slot slot : slots) {
+            layout
+                .append(';').append(slot.property.getName())
+                .append(':').append(slot.property.getType())
+                .append('@').append(slot.offset);
+        }
+
+        return BinaryCodecAnnotation.getFnv1aHash(layout.append(';').append(recordSize));
+    }
+
+    /**
+     * Erzeugt den Inhalt des Arrays mithilfe eines {@link JavaGenerator}. Für jedes Feld werden eine Konstante mit
+     * seiner Position, typisierte Zugriffe über den Index und die Zugriffe der wiederverwendbaren Ansicht erzeugt.
+     *
+     * @param generator      Der {@link JavaGenerator}, mit dem der Inhalt des Arrays erzeugt wird.
+     * @param className      Der Name der Klasse, deren Datensätze im Array gespeichert werden.
+     * @param slots          Alle Felder eines Datensatzes in der Reihenfolge ihres Layouts.
+     * @param recordSize     Die Größe eines Datensatzes in Bytes.
+     * @param layoutHash     Der Hash des Layouts, welcher im Kopf jeder Datei steht.
+     * @param materializable Ob sich aus einem Datensatz wieder ein Objekt erzeugen lässt.
+     */
+    private static void generateArray(
+        @NotNull final JavaGenerator generator,
+        @NotNull final String className,
+        @NotNull final List<Slot> slots,
+        final int recordSize,
+        final long layoutHash,
+        final boolean materializable
+    ) {
+        final String arrayClassName = generator.getNewClassName();
+        final List<JavaParameter> indexParameter = Collections.singletonList(
+            new JavaParameter("index", "long", TypeKind.LONG)
+        );
+        final List<JavaParameter> capacityParameter = Collections.singletonList(
+            new JavaParameter("capacity", "long", TypeKind.LONG)
+        );
+        final List<JavaParameter> fileParameter = Collections.singletonList(
+            new JavaParameter("file", "java.nio.file.Path", TypeKind.DECLARED)
+        );
+        final List<JavaParameter> headerParameters = new ArrayList<>(fileParameter);
+        headerParameters.add(new JavaParameter("channel", CHANNEL_TYPE, TypeKind.DECLARED));
+        final List<JavaParameter> mapParameters = new ArrayList<>(fileParameter);
+        mapParameters.addAll(capacityParameter);
+        final List<JavaParameter> objectParameters = new ArrayList<>(indexParameter);
+        objectParameters.add(new JavaParameter("object", className, TypeKind.DECLARED));
+        final List<String> thrownTypes = Collections.singletonList("java.io.IOException");
+
+        final String segment = "final " + BUFFER_TYPE + " segment = this.segments[(int) (index >>> SEGMENT_SHIFT)];";
+        final String base = "final int base = (int) (index & SEGMENT_MASK) * RECORD_SIZE;";
+        final List<String> getBody = new ArrayList<>();
+        final List<String> setBody = new ArrayList<>();
+
+        getBody.add("checkIndex(index);");
+        getBody.add(segment);
+        getBody.add(base);
+        getBody.add("final " + className + " object = new " + className + "();");
+        setBody.add("checkIndex(index);");
+        setBody.add(segment);
+        setBody.add(base);
+
+        generator.addField("public static final", "int", "RECORD_SIZE", String.valueOf(recordSize));
+        generator.addField("public static final", "long", "LAYOUT_HASH", "0x" + Long.toHexString(layoutHash) + "L");
+        generator.addField("public static final", "int", "HEADER_SIZE", String.valueOf(HEADER_SIZE));
+        generator.addField("private static final", "int", "FILE_MAGIC", "0x" + Integer.toHexString(FILE_MAGIC));
+
+        for (@NotNull final Slot slot : slots) {
+            generator.addField("public static final", "int", slot.getOffsetName(), String.valueOf(slot.offset));
+
+            if (slot.writer != null) {
+                getBody.add(ColumnarAnnotation.write(slot.writer, slot.read("segment", "base")));
+            }
+
+            setBody.add(slot.write("segment", "base", slot.reader) + ";");
+        }
+
+        getBody.add("return object;");
+
+        final int segmentShift = getSegmentShift(recordSize);
+
+        generator.addField("private static final", "int", "SEGMENT_SHIFT", String.valueOf(segmentShift));
+        generator.addField("private static final", "long", "SEGMENT_MASK", "(1L << SEGMENT_SHIFT) - 1");
+        generator.addField("private final", BUFFER_TYPE + "[]", "segments", null);
+        generator.addField("private final", "long", "capacity", null);
+
+        final List<JavaParameter> constructorParameters = new ArrayList<>();
+        constructorParameters.add(new JavaParameter("segments", BUFFER_TYPE + "[]", TypeKind.ARRAY));
+        constructorParameters.addAll(capacityParameter);
+
+        generator.addConstructor(
+            "private",
+            constructorParameters,
+            new String[]{"this.segments = segments;", "this.capacity = capacity;"}
+        );
+
+        generator.addMethod(
+            "public static",
+            "allocate",
+            arrayClassName,
+            capacityParameter,
+            new String[]{
+                "final " + BUFFER_TYPE + "[] segments = new " + BUFFER_TYPE + "[countSegments(capacity)];",
+                "for (int i = 0; i < segments.length; i++) {",
+                "    segments[i] = " + BUFFER_TYPE + ".allocateDirect(countSegmentBytes(capacity, i))"
+                    + ".order(java.nio.ByteOrder.LITTLE_ENDIAN);",
+                "}",
+                "return new " + arrayClassName + "(segments, capacity);"
+            }
+        );
+        generator.addMethod(
+            "public static",
+            "map",
+            arrayClassName,
+            mapParameters,
+            thrownTypes,
+            new String[]{
+                "final " + BUFFER_TYPE + "[] segments = new " + BUFFER_TYPE + "[countSegments(capacity)];",
+                "try (final " + CHANNEL_TYPE + " channel = " + CHANNEL_TYPE + ".open(",
+                "    file,",
+                "    java.nio.file.StandardOpenOption.CREATE,",
+                "    java.nio.file.StandardOpenOption.READ,",
+                "    java.nio.file.StandardOpenOption.WRITE",
+                ")) {",
+                "    if (channel.size() == 0) {",
+                "        writeHeader(channel);",
+                "    } else {",
+                "        checkHeader(file, channel);",
+                "    }",
+                "    for (int i = 0; i < segments.length; i++) {",
+                "        segments[i] = channel.map(",
+                "            " + CHANNEL_TYPE + ".MapMode.READ_WRITE,",
+                "            HEADER_SIZE + ((long) i << SEGMENT_SHIFT) * RECORD_SIZE,",
+                "            countSegmentBytes(capacity, i)",
+                "        ).order(java.nio.ByteOrder.LITTLE_ENDIAN);",
+                "    }",
+                "}",
+                "return new " + arrayClassName + "(segments, capacity);"
+            }
+        );
+        generator.addMethod(
+            "public static",
+            "open",
+            arrayClassName,
+            fileParameter,
+            thrownTypes,
+            new String[]{
+                "try (final " + CHANNEL_TYPE + " channel = " + CHANNEL_TYPE + ".open(file)) {",
+                "    checkHeader(file, channel);",
+                "    return map(file, (channel.size() - HEADER_SIZE) / RECORD_SIZE);",
+                "}"
+            }
+        );
+        generator.addMethod(
+            "private static",
+            "writeHeader",
+            null,
+            Collections.singletonList(new JavaParameter("channel", CHANNEL_TYPE, TypeKind.DECLARED)),
+            thrownTypes,
+            new String[]{
+                "final " + BUFFER_TYPE + " header = " + BUFFER_TYPE + ".allocate(HEADER_SIZE)"
+                    + ".order(java.nio.ByteOrder.LITTLE_ENDIAN);",
+                "header.putInt(FILE_MAGIC).putInt(RECORD_SIZE).putLong(LAYOUT_HASH).flip();",
+                "while (header.hasRemaining()) {",
+                "    channel.write(header, header.position());",
+                "}"
+            }
+        );
+        generator.addMethod(
+            "private static",
+            "checkHeader",
+            null,
+            headerParameters,
+            thrownTypes,
+            new String[]{
+                "final " + BUFFER_TYPE + " header = " + BUFFER_TYPE + ".allocate(HEADER_SIZE)"
+                    + ".order(java.nio.ByteOrder.LITTLE_ENDIAN);",
+                "while (header.hasRemaining()) {",
+                "    if (channel.read(header, header.position()) < 0) break;",
+                "}",
+                "header.flip();",
+                "if (header.remaining() < HEADER_SIZE",
+                "    || header.getInt() != FILE_MAGIC",
+                "    || header.getInt() != RECORD_SIZE",
+                "    || header.getLong() != LAYOUT_HASH) {",
+                "    throw new java.io.IOException(",
+                "        file + \" does not contain records of " + className + " with the current layout\"",
+                "    );",
+                "}"
+            }
+        );
+
+        if (materializable) {
+            generator.addMethod("get", className, indexParameter, getBody.toArray(new String[0]));
+        }
+
+        generator.addMethod("set", null, objectParameters, setBody.toArray(new String[0]));
+
+        for (@NotNull final Slot slot : slots) {
+            final String capitalizedName = ColumnarAnnotation.capitalize(slot.property.getName());
+            final List<JavaParameter> setParameters = new ArrayList<>(indexParameter);
+            setParameters.add(slot.property.withName("value"));
+
+            generator.addMethod(
+                slot.getGetterName(),
+                slot.property.getType(),
+                indexParameter,
+                new String[]{
+                    "checkIndex(index);",
+                    "return " + slot.read(
+                        "this.segments[(int) (index >>> SEGMENT_SHIFT)]",
+                        "(int) (index & SEGMENT_MASK) * RECORD_SIZE"
+                    ) + ";"
+                }
+            );
+            generator.addMethod(
+                "set" + capitalizedName,
+                null,
+                setParameters,
+                new String[]{
+                    "checkIndex(index);",
+                    slot.write(
+                        "this.segments[(int) (index >>> SEGMENT_SHIFT)]",
+                        "(int) (index & SEGMENT_MASK) * RECORD_SIZE",
+                        "value"
+                    ) + ";"
+                }
+            );
+        }
+
+        generator.addMethod("capacity", "long", Collections.emptyList(), new String[]{"return this.capacity;"});
+        generator.addMethod(
+            "force",
+            null,
+            Collections.emptyList(),
+            new String[]{
+                "for (final " + BUFFER_TYPE + " segment : this.segments) {",
+                "    if (segment instanceof java.nio.MappedByteBuffer) {",
+                "        ((java.nio.MappedByteBuffer) segment).force();",
+                "    }",
+                "}"
+            }
+        );
+        generator.addMethod("view", "View", Collections.emptyList(), new String[]{"return new View();"});
+        generator.addMethod(
+            "private",
+            "checkIndex",
+            null,
+            indexParameter,
+            new String[]{
+                "if (index < 0 || index >= this.capacity) {",
+                "    throw new java.lang.IndexOutOfBoundsException(",
+                "        \"index: \" + index + \", capacity: \" + this.capacity",
+                "    );",
+                "}"
+            }
+        );
+        // the helpers do not start with get, is or set, so that they cannot clash with the accessors of a field
+        generator.addMethod(
+            "private static",
+            "countSegments",
+            "int",
+            capacityParameter,
+            new String[]{
+                "if (capacity < 0) {",
+                "    throw new java.lang.IllegalArgumentException(\"negative capacity: \" + capacity);",
+                "}",
+                "return (int) ((capacity + SEGMENT_MASK) >>> SEGMENT_SHIFT);"
+            }
+        );
+
+        final List<JavaParameter> segmentBytesParameters = new ArrayList<>(capacityParameter);
+        segmentBytesParameters.add(new JavaParameter("segment", "int", TypeKind.INT));
+
+        generator.addMethod(
+            "private static",
+            "countSegmentBytes",
+            "int",
+            segmentBytesParameters,
+            new String[]{
+                "return (int) (java.lang.Math.min(capacity - ((long) segment << SEGMENT_SHIFT), 1L << SEGMENT_SHIFT)"
+                    + " * RECORD_SIZE);"
+            }
+        );
+
+        generateView(generator, arrayClassName.substring(arrayClassName.lastIndexOf('.') + 1), slots);
+    }
+
+    /**
+     * Erzeugt die wiederverwendbare Ansicht des Arrays als innere Klasse. Eine Ansicht zeigt immer auf genau einen
+     * Datensatz und merkt sich dessen Segment und Position, sodass jeder Zugriff auf ein Feld nur noch aus einem
+     * einzelnen Lese- oder Schreibvorgang im Puffer besteht.
+     *
+     * @param generator            Der {@link JavaGenerator}, mit dem der Inhalt des Arrays erzeugt wird.
+     * @param simpleArrayClassName Der einfache Name des generierten Arrays.
+     * @param slots                Alle Felder eines Datensatzes in der Reihenfolge ihres Layouts.
+     */
+    private static void generateView(
+        @NotNull final JavaGenerator generator,
+        @NotNull final String simpleArrayClassName,
+        @NotNull final List<Slot> slots
+    ) {
+        final String outer = simpleArrayClassName + ".this";
+
+        generator.beginNestedClass("public final", "View");
+        generator.addField("private", BUFFER_TYPE, "segment", null);
+        generator.addField("private", "int", "base", null);
+        generator.addField("private", "long", "index", "-1");
+
+        generator.addMethod(
+            "moveTo",
+            "View",
+            Collections.singletonList(new JavaParameter("index", "long", TypeKind.LONG)),
+            new String[]{
+                outer + ".checkIndex(index);",
+                "this.segment = " + outer + ".segments[(int) (index >>> SEGMENT_SHIFT)];",
+                "this.base = (int) (index & SEGMENT_MASK) * RECORD_SIZE;",
+                "this.index = index;",
+                "return this;"
+            }
+        );
+        generator.addMethod(
+            "next",
+            "boolean",
+            Collections.emptyList(),
+            new String[]{
+                "if (this.index + 1 >= " + outer + ".capacity) return false;",
+                "moveTo(this.index + 1);",
+                "return true;"
+            }
+        );
+        generator.addMethod(VIEW_INDEX_GETTER, "long", Collections.emptyList(), new String[]{"return this.index;"});
+
+        for (@NotNull final Slot slot : slots) {
+            generator.addMethod(
+                slot.getGetterName(),
+                slot.property.getType(),
+                Collections.emptyList(),
+                new String[]{"return " + slot.read("this.segment", "this.base") + ";"}
+            );
+            generator.addMethod(
+                "set" + ColumnarAnnotation.capitalize(slot.property.getName()),
+                null,
+                Collections.singletonList(slot.property.withName("value")),
+                new String[]{slot.write("this.segment", "this.base", "value") + ";"}
+            );
+        }
+
+        generator.endNestedClass();
+    }
+
+    /**
+     * Ein {@link Slot} beschreibt ein einzelnes Feld innerhalb eines Datensatzes. Ein {@link Slot} greift nicht mehr
+     * auf die Elemente des Compilers zu, weshalb er auch beim parallelen Erzeugen von Quellcode genutzt werden kann.
+     * Die Position des Feldes wird nur beim Berechnen des Layouts gesetzt, bevor der {@link Slot} an die {@link
+     * GenerationPipeline} übergeben wird.
+     */
+    private static final class Slot {
+
+        //<editor-fold desc="LOCAL FIELDS">
+        /** Das Feld, welches in diesem {@link Slot} gespeichert wird. */
+        @NotNull
+        private final JavaParameter property;
+        /** Der Ausdruck, mit dem das Feld eines Objekts ausgelesen wird. */
+        @NotNull
+        private final String reader;
+        /** Der Beginn der Anweisung, mit der das Feld eines Objekts geschrieben wird oder null. */
+        @Nullable
+        private final String writer;
+        /** Die Position des Feldes innerhalb eines Datensatzes in Bytes. */
+        private int offset;
+        //</editor-fold>
+
+
+        //<editor-fold desc="CONSTRUCTORS">
+
+        /**
+         * Erzeugt einen neuen {@link Slot}.
+         *
+         * @param property Das Feld, welches in diesem {@link Slot} gespeichert wird.
+         * @param reader   Der Ausdruck, mit dem das Feld eines Objekts ausgelesen wird.
+         * @param writer   Der Beginn der Anweisung, mit der das Feld eines Objekts geschrieben wird oder null.
+         */
+        private Slot(
+            @NotNull final JavaParameter property,
+            @NotNull final String reader,
+            @Nullable final String writer
+        ) {
+            this.property = property;
+            this.reader = reader;
+            this.writer = writer;
+        }
+        //</editor-fold>
+
+
+        /**
+         * Gibt die Größe des Feldes in Bytes zurück. Der primitive Typ boolean wird als einzelnes Byte gespeichert.
+         *
+         * @return Die Größe des Feldes in Bytes.
+         */
+        private int getSize() {
+            switch (this.property.getKind()) {
+                case LONG:
+                case DOUBLE:
+                    return 8;
+                case INT:
+                case FLOAT:
+                    return 4;
+                case SHORT:
+                case CHAR:
+                    return 2;
+                default:
+                    return 1;
+            }
+        }
+
+        /**
+         * Gibt den Namen zurück, den die Methoden des Puffers für den Typ dieses Feldes tragen (Bsp: 'Long' für
+         * {@code getLong}). Für die Typen byte und boolean besitzen die Methoden keinen Namen.
+         *
+         * @return Der Name der Methoden des Puffers für den Typ dieses Feldes.
+         */
+        @NotNull
+        private String getBufferType() {
+            switch (this.property.getKind()) {
+                case BOOLEAN:
+                case BYTE:
+                    return "";
+                default:
+                    return ColumnarAnnotation.capitalize(this.property.getType());
+            }
+        }
+
+        /**
+         * Gibt den Namen der Konstanten zurück, welche die Position dieses Feldes enthält (Bsp: 'BID_PRICE_OFFSET').
+         *
+         * @return Der Name der Konstanten.
+         */
+        @NotNull
+        private String getOffsetName() {
+            return TimedAnnotation.toConstantName(this.property.getName()) + "_OFFSET";
+        }
+
+        /**
+         * Gibt den Namen der Getter dieses Feldes zurück, welcher für den primitiven Typ boolean mit 'is' und für alle
+         * anderen Typen mit 'get' beginnt.
+         *
+         * @return Der Name der Getter dieses Feldes.
+         */
+        @NotNull
+        private String getGetterName() {
+            final String prefix = this.property.getKind() == TypeKind.BOOLEAN ? "is" : "get";
+
+            return prefix + ColumnarAnnotation.capitalize(this.property.getName());
+        }
+
+        /**
+         * Erzeugt den Ausdruck, mit dem dieses Feld aus einem Puffer gelesen wird.
+         *
+         * @param buffer Der Ausdruck, welcher den Puffer angibt.
+         * @param base   Der Ausdruck, welcher die Position des Datensatzes im Puffer angibt.
+         *
+         * @return Der Ausdruck, mit dem dieses Feld gelesen wird.
+         */
+        @NotNull
+        private String read(
+            @NotNull final String buffer,
+            @NotNull final String base
+        ) {
+            final String value = buffer + ".get" + getBufferType() + "(" + base + " + " + getOffsetName() + ")";
+
+            return this.property.getKind() == TypeKind.BOOLEAN ? value + " != 0" : value;
+        }
+
+        /**
+         * Erzeugt den Ausdruck, mit dem ein Wert dieses Feldes in einen Puffer geschrieben wird.
+         *
+         * @param buffer Der Ausdruck, welcher den Puffer angibt.
+         * @param base   Der Ausdruck, welcher die Position des Datensatzes im Puffer angibt.
+         * @param value  Der Ausdruck, welcher den neuen Wert angibt.
+         *
+         * @return Der Ausdruck, mit dem der Wert geschrieben wird.
+         */
+        @NotNull
+        private String write(
+            @NotNull final String buffer,
+            @NotNull final String base,
+            @NotNull final String value
+        ) {
+            final String storedValue = this.property.getKind() == TypeKind.BOOLEAN
+                ? "(byte) (" + value + " ? 1 : 0)"
+                : value;
+
+            return buffer + ".put" + getBufferType() + "(" + base + " + " + getOffsetName() + ", " + storedValue + ")";
+        }
+
+    }
+
+}
@@ -0,0 +1,311 @@
+package de.jonas.gannotations.processor.annotation;
+
+import com.sun.source.util.Trees;
+import com.sun.tools.javac.tree.TreeMaker;
+import de.jonas.gannotations.annotation.BuilderProperty;
+import de.jonas.gannotations.annotation.Pooled;
+import de.jonas.gannotations.processor.AnnotationHandler;
+import de.jonas.gannotations.processor.GenerationPipeline;
+import de.jonas.gannotations.processor.JavaGenerator;
+import de.jonas.gannotations.processor.JavaParameter;
+import de.jonas.gannotations.processor.TreeEditor;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import javax.annotation.processing.ProcessingEnvironment;
+import javax.lang.model.element.Element;
+import javax.lang.model.element.ExecutableElement;
+import javax.lang.model.element.Modifier;
+import javax.lang.model.element.TypeElement;
+import javax.lang.model.element.VariableElement;
+import javax.lang.model.type.TypeKind;
+import javax.lang.model.util.ElementFilter;
+import javax.lang.model.util.Elements;
+import javax.tools.Diagnostic;
+
+import java.lang.annotation.Annotation;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Es wird ein Handler für die {@link Pooled} erzeugt, welcher für eine Klasse einen Pool generiert, in dem Objekte
+ * dieser Klasse wiederverwendet werden. Der Pool setzt jedes Objekt bei seiner Rückgabe zurück, wofür er entweder eine
+ * bestehende Methode {@code reset}, die Setter mit der {@link BuilderProperty} oder eine neu hinzugefügte Methode
+ * {@code reset} nutzt.
+ */
+@NotNull
+public final class PooledAnnotation implements AnnotationHandler {
+
+    //<editor-fold desc="CONSTANTS">
+    /** Der Name der Methode, mit der ein Objekt zurückgesetzt wird. */
+    @NotNull
+    private static final String RESET_METHOD = "reset";
+    //</editor-fold>
+
+
+    //<editor-fold desc="implementation">
+    @Override
+    public void processAnnotation(
+        @NotNull final Set<? extends Element> annotatedElements,
+        @NotNull final ProcessingEnvironment processingEnvironment,
+        @NotNull final Trees trees,
+        @NotNull final TreeMaker treeMaker,
+        @NotNull final GenerationPipeline generationPipeline
+    ) {
+        final TypeElement classElement = (TypeElement) annotatedElements.iterator().next();
+        final Pooled pooled = classElement.getAnnotation(Pooled.class);
+        final Elements elements = processingEnvironment.getElementUtils();
+        final String error = validate(elements, classElement, pooled);
+
+        if (error != null) {
+            processingEnvironment.getMessager().printMessage(Diagnostic.Kind.ERROR, error, classElement);
+            return;
+        }
+
+        final TreeEditor treeEditor = new TreeEditor(processingEnvironment, trees, treeMaker);
+        final List<String> resetBody = new ArrayList<>();
+
+        if (getResetMethod(elements, classElement) != null) {
+            resetBody.add("object." + RESET_METHOD + "();");
+        } else {
+            for (@NotNull final ExecutableElement method : ElementFilter.methodsIn(classElement.getEnclosedElements())) {
+                if (method.getAnnotation(BuilderProperty.class) == null) continue;
+                if (method.getParameters().size() != 1) continue;
+
+                final JavaParameter parameter = JavaParameter.of("value", method.getParameters().get(0).asType());
+                // a plain null would be ambiguous, if the setter is overloaded with another reference type
+                final String defaultValue = parameter.isPrimitive()
+                    ? parameter.getDefaultValue()
+                    : "(" + parameter.getType() + ") null";
+
+                resetBody.add("object." + method.getSimpleName() + "(" + defaultValue + ");");
+            }
+
+            if (resetBody.isEmpty() && addResetMethod(classElement, treeEditor)) {
+                resetBody.add("object." + RESET_METHOD + "();");
+            }
+        }
+
+        generateJavaCode(
+            classElement,
+            generationPipeline,
+            pooled.size(),
+            pooled.overflow().name(),
+            Collections.unmodifiableList(resetBody)
+        );
+    }
+
+    @NotNull
+    @Override
+    public Class<? extends Annotation> getAnnotytionType() {
+        return Pooled.class;
+    }
+    //</editor-fold>
+
+    /**
+     * Generiert die Java-Datei des Pools. Die Java-Datei wird mithilfe der {@link GenerationPipeline} erzeugt, weshalb
+     * die übergebenen Anweisungen nicht mehr verändert werden dürfen.
+     *
+     * @param classElement       Die Klasse, für die der Pool erzeugt wird.
+     * @param generationPipeline Die {@link GenerationPipeline}, mit der die Java-Datei generiert wird.
+     * @param size               Die maximale Anzahl an freien Objekten in der gemeinsamen Liste des Pools.
+     * @param overflow           Der Name des Verhaltens, wenn kein freies Objekt vorhanden ist.
+     * @param resetBody          Die Anweisungen, mit denen ein Objekt zurückgesetzt wird.
+     */
+    public void generateJavaCode(
+        @NotNull final TypeElement classElement,
+        @NotNull final GenerationPipeline generationPipeline,
+        final int size,
+        @NotNull final String overflow,
+        @NotNull final List<String> resetBody
+    ) {
+        final String className = classElement.getQualifiedName().toString();
+
+        generationPipeline.submit(
+            className,
+            className + "Pool",
+            generator -> generatePool(generator, className, size, overflow, resetBody),
+            classElement
+        );
+    }
+
+    /**
+     * Prüft, ob für eine Klasse ein Pool erzeugt werden kann.
+     *
+     * @param elements     Die {@link Elements}, mit denen auch die geerbte Methode {@code reset} gefunden wird.
+     * @param classElement Die Klasse, welche geprüft werden soll.
+     * @param pooled       Die Annotation der Klasse.
+     *
+     * @return Die Fehlermeldung oder null, wenn für die Klasse ein Pool erzeugt werden kann.
+     */
+    @Nullable
+    private static String validate(
+        @NotNull final Elements elements,
+        @NotNull final TypeElement classElement,
+        @NotNull final Pooled pooled
+    ) {
+        if (pooled.size() < 1) {
+            return "@Pooled requires a positive size";
+        }
+
+        if (classElement.getModifiers().contains(Modifier.ABSTRACT)) {
+            return "@Pooled cannot be applied to abstract classes or interfaces";
+        }
+
+        if (!classElement.getTypeParameters().isEmpty()) {
+            return "@Pooled cannot be applied to generic classes";
+        }
+
+        final ExecutableElement resetMethod = getResetMethod(elements, classElement);
+
+        if (resetMethod != null && (
+            resetMethod.getModifiers().contains(Modifier.PRIVATE)
+                || resetMethod.getModifiers().contains(Modifier.STATIC)
+        )) {
+            return "@Pooled requires the method " + RESET_METHOD + "() to be neither private nor static";
+        }
+
+        // the pool is generated into the package of the class, so it can only call public methods of other packages
+        if (resetMethod != null
+            && !resetMethod.getModifiers().contains(Modifier.PUBLIC)
+            && !elements.getPackageOf(resetMethod).equals(elements.getPackageOf(classElement))
+        ) {
+            return "@Pooled requires the inherited method " + RESET_METHOD + "() to be public";
+        }
+
+        for (@NotNull final ExecutableElement constructor : ElementFilter.constructorsIn(
+            classElement.getEnclosedElements()
+        )) {
+            if (!constructor.getParameters().isEmpty()) continue;
+            if (constructor.getModifiers().contains(Modifier.PRIVATE)) continue;
+
+            return null;
+        }
+
+        return "@Pooled requires a constructor without parameters that is not private";
+    }
+
+    /**
+     * Gibt die bestehende Methode {@code reset} ohne Parameter einer Klasse zurück. Dabei werden auch die Methoden
+     * berücksichtigt, welche die Klasse von ihren Oberklassen und Interfaces erbt.
+     *
+     * @param elements     Die {@link Elements}, mit denen alle Methoden der Klasse ermittelt werden.
+     * @param classElement Die Klasse, deren Methode zurückgegeben werden soll.
+     *
+     * @return Die Methode {@code reset} oder null, wenn die Klasse keine solche Methode besitzt.
+     */
+    @Nullable
+    private static ExecutableElement getResetMethod(
+        @NotNull final Elements elements,
+        @NotNull final TypeElement classElement
+    ) {
+        for (@NotNull final ExecutableElement method : ElementFilter.methodsIn(elements.getAllMembers(classElement))) {
+            if (!method.getSimpleName().contentEquals(RESET_METHOD)) continue;
+            if (!method.getParameters().isEmpty()) continue;
+
+            return method;
+        }
+
+        return null;
+    }
+
+    /**
+     * Fügt der Klasse eine Methode {@code reset} hinzu, welche alle nicht statischen und nicht finalen Felder auf ihren
+     * Standardwert zurücksetzt.
+     *
+     * @param classElement Die Klasse, der die Methode hinzugefügt wird.
+     * @param treeEditor   Der {@link TreeEditor}, mit dem die Methode hinzugefügt wird.
+     *
+     * @return Ob die Methode hinzugefügt wurde oder die Klasse keine Felder besitzt, die zurückgesetzt werden können.
+     */
+    private static boolean addResetMethod(
+        @NotNull final TypeElement classElement,
+        @NotNull final TreeEditor treeEditor
+    ) {
+        final StringBuilder method = new StringBuilder("public void " + RESET_METHOD + "() {");
+        boolean hasFields = false;
+
+        for (@NotNull final VariableElement field : ElementFilter.fieldsIn(classElement.getEnclosedElements())) {
+            if (field.getModifiers().contains(Modifier.STATIC)) continue;
+            if (field.getModifiers().contains(Modifier.FINAL)) continue;
+
+            final JavaParameter parameter = JavaParameter.of(field.getSimpleName().toString(), field.asType());
+
+            method
+                .append("this.").append(parameter.getName())
+                .append(" = ").append(parameter.getDefaultValue()).append(';');
+            hasFields = true;
+        }
+
+        if (!hasFields) {
+            return false;
+        }
+
+        treeEditor.addMembers(classElement, classElement, method.append('}').toString());
+        return true;
+    }
+
+    /**
+     * Erzeugt den Inhalt des Pools mithilfe eines {@link JavaGenerator}. Der Pool nutzt einen {@link
+     * de.jonas.gannotations.runtime.ObjectPool}, welcher neue Objekte über den Konstruktor ohne Parameter erzeugt.
+     *
+     * @param generator Der {@link JavaGenerator}, mit dem der Inhalt des Pools erzeugt wird.
+     * @param className Der Name der Klasse, für die der Pool erzeugt wird.
+     * @param size      Die maximale Anzahl an freien Objekten in der gemeinsamen Liste des Pools.
+     * @param overflow  Der Name des Verhaltens, wenn kein freies Objekt vorhanden ist.
+     * @param resetBody Die Anweisungen, mit denen ein Objekt zurückgesetzt wird.
+     */
+    private static void generatePool(
+        @NotNull final JavaGenerator generator,
+        @NotNull final String className,
+        final int size,
+        @NotNull final String overflow,
+        @NotNull final List<String> resetBody
+    ) {
+        final List<JavaParameter> objectParameter = Collections.singletonList(
+            new JavaParameter("object", className, TypeKind.DECLARED)
+        );
+
+        generator.addField(
+            "private final",
+            "de.jonas.gannotations.runtime.ObjectPool<" + className + ">",
+            "pool",
+            "new de.jonas.gannotations.runtime.ObjectPool<>(" + size
+                + ", de.jonas.gannotations.runtime.Overflow." + overflow
+                + ", " + className + "::new"
+                + ", " + generator.getNewClassName() + "::" + RESET_METHOD + ")"
+        );
+
+        generator.addMethod(
+            "acquire",
+            className,
+            Collections.emptyList(),
+            new String[]{"return this.pool.acquire();"}
+        );
+
+        generator.addMethod(
+            "release",
+            null,
+            objectParameter,
+            new String[]{"this.pool.release(object);"}
+        );
+
+        generator.addMethod(
+            "getIdleCount",
+            "int",
+            Collections.emptyList(),
+            new String[]{"return this.pool.getIdleCount();"}
+        );
+
+        generator.addMethod(
+            "public static",
+            RESET_METHOD,
+            null,
+            objectParameter,
+            resetBody.toArray(new String[0])
+        );
+    }
+
+}
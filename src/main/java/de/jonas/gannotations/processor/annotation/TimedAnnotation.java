@@ -0,0 +1,298 @@
+package de.jonas.gannotations.processor.annotation;
+
+import com.sun.source.util.Trees;
+import com.sun.tools.javac.tree.JCTree;
+import com.sun.tools.javac.tree.TreeMaker;
+import de.jonas.gannotations.annotation.Timed;
+import de.jonas.gannotations.processor.AnnotationHandler;
+import de.jonas.gannotations.processor.GenerationPipeline;
+import de.jonas.gannotations.processor.JavaGenerator;
+import de.jonas.gannotations.processor.TreeEditor;
+import org.jetbrains.annotations.NotNull;
+
+import javax.annotation.processing.ProcessingEnvironment;
+import javax.lang.model.element.Element;
+import javax.lang.model.element.ExecutableElement;
+import javax.lang.model.element.TypeElement;
+import javax.lang.model.element.VariableElement;
+import javax.tools.Diagnostic;
+
+import java.lang.annotation.Annotation;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Es wird ein Handler für den {@link Timed} erzeugt, welcher den Inhalt aller Methoden, die diese Annotation besitzen,
+ * direkt im AST tree mit einer Zeitmessung umschließt. Die Laufzeit wird in einem Histogramm gezählt, welches sich in
+ * einer generierten Klasse befindet, die für jede Klasse einmal erzeugt wird.
+ */
+@NotNull
+public final class TimedAnnotation implements AnnotationHandler {
+
+    //<editor-fold desc="CONSTANTS">
+    /** Der Name der lokalen Variable, in der der Startzeitpunkt einer Messung gespeichert wird. */
+    @NotNull
+    private static final String START_VARIABLE = "gannotations$timedStart";
+    /** Der vollständige Name der Klasse, in der die Laufzeiten gezählt werden. */
+    @NotNull
+    private static final String HISTOGRAM_CLASS = "de.jonas.gannotations.runtime.LatencyHistogram";
+    /** Der vollständige Name der Klasse, welche eine Momentaufnahme eines Histogramms darstellt. */
+    @NotNull
+    private static final String SNAPSHOT_CLASS = "de.jonas.gannotations.runtime.HistogramSnapshot";
+    //</editor-fold>
+
+
+    //<editor-fold desc="implementation">
+    @Override
+    public void processAnnotation(
+        @NotNull final Set<? extends Element> annotatedElements,
+        @NotNull final ProcessingEnvironment processingEnvironment,
+        @NotNull final Trees trees,
+        @NotNull final TreeMaker treeMaker,
+        @NotNull final GenerationPipeline generationPipeline
+    ) {
+        final TypeElement classElement = (TypeElement) annotatedElements.iterator().next().getEnclosingElement();
+        final String className = classElement.getQualifiedName().toString();
+        final String timingsClassName = className + "Timings";
+
+        final TreeEditor treeEditor = new TreeEditor(processingEnvironment, trees, treeMaker);
+        final Map<String, String> histogramMap = new LinkedHashMap<>();
+
+        for (@NotNull final Element annotatedElement : annotatedElements) {
+            final ExecutableElement method = (ExecutableElement) annotatedElement;
+            final JCTree.JCMethodDecl methodTree = treeEditor.getMethodTree(method);
+
+            if (methodTree.body == null) {
+                processingEnvironment.getMessager().printMessage(
+                    Diagnostic.Kind.ERROR,
+                    "@Timed must be applied to a method with a body",
+                    method
+                );
+                continue;
+            }
+
+            final String fieldName = getFieldName(method, histogramMap);
+            final String histogramName = method.getAnnotation(Timed.class).value();
+
+            histogramMap.put(fieldName, histogramName.isEmpty() ? getSignature(className, method) : histogramName);
+            weave(treeEditor, method, methodTree, timingsClassName + "." + fieldName);
+        }
+
+        if (histogramMap.isEmpty()) {
+            return;
+        }
+
+        generateJavaCode(classElement, generationPipeline, Collections.unmodifiableMap(histogramMap));
+    }
+
+    @NotNull
+    @Override
+    public Class<? extends Annotation> getAnnotytionType() {
+        return Timed.class;
+    }
+    //</editor-fold>
+
+    /**
+     * Generiert die Java-Datei, welche die Histogramme aller Methoden enthält. Die Java-Datei wird mithilfe der {@link
+     * GenerationPipeline} erzeugt, weshalb die übergebenen Histogramme nicht mehr verändert werden dürfen.
+     *
+     * @param classElement       Die Klasse, in der sich die Annotations befinden.
+     * @param generationPipeline Die {@link GenerationPipeline}, mit der die Java-Datei generiert wird.
+     * @param histogramMap       Alle Histogramme (Name des Feldes und Name des Histogramms).
+     */
+    public void generateJavaCode(
+        @NotNull final TypeElement classElement,
+        @NotNull final GenerationPipeline generationPipeline,
+        @NotNull final Map<String, String> histogramMap
+    ) {
+        final String className = classElement.getQualifiedName().toString();
+
+        generationPipeline.submit(
+            className,
+            className + "Timings",
+            generator -> generateTimings(generator, histogramMap),
+            classElement
+        );
+    }
+
+    /**
+     * Umschließt den Inhalt einer Methode mit einer Zeitmessung. Die Laufzeit wird in einem finally-Block gezählt,
+     * sodass auch Aufrufe gemessen werden, die eine Exception werfen.
+     *
+     * @param treeEditor Der {@link TreeEditor}, mit dem der Tree der Methode bearbeitet wird.
+     * @param method     Die Methode, deren Laufzeit gemessen werden soll.
+     * @param methodTree Der Tree der Methode.
+     * @param histogram  Der Ausdruck, mit dem auf das Histogramm der Methode zugegriffen wird.
+     */
+    private static void weave(
+        @NotNull final TreeEditor treeEditor,
+        @NotNull final ExecutableElement method,
+        @NotNull final JCTree.JCMethodDecl methodTree,
+        @NotNull final String histogram
+    ) {
+        final com.sun.tools.javac.util.List<JCTree.JCStatement> timedBody = treeEditor.parseStatements(
+            "final long " + START_VARIABLE + " = java.lang.System.nanoTime();"
+                + "try {} finally {"
+                + histogram + ".record(java.lang.System.nanoTime() - " + START_VARIABLE + ");"
+                + "}",
+            method
+        );
+
+        final JCTree.JCTry tryTree = (JCTree.JCTry) timedBody.last();
+        tryTree.body.stats = methodTree.body.stats;
+
+        methodTree.body.stats = timedBody;
+    }
+
+    /**
+     * Erzeugt den Inhalt der Klasse, welche die Histogramme aller Methoden enthält, mithilfe eines {@link
+     * JavaGenerator}. Die Histogramme werden beim Laden der Klasse in der {@link
+     * de.jonas.gannotations.runtime.TimingRegistry} registriert.
+     *
+     * @param generator    Der {@link JavaGenerator}, mit dem der Inhalt der Klasse erzeugt wird.
+     * @param histogramMap Alle Histogramme (Name des Feldes und Name des Histogramms).
+     */
+    private static void generateTimings(
+        @NotNull final JavaGenerator generator,
+        @NotNull final Map<String, String> histogramMap
+    ) {
+        final List<String> snapshotBody = new ArrayList<>();
+        final List<String> dumpBody = new ArrayList<>();
+        final List<String> resetBody = new ArrayList<>();
+
+        snapshotBody.add("final java.util.Map<java.lang.String, " + SNAPSHOT_CLASS + "> snapshots = "
+            + "new java.util.LinkedHashMap<>();");
+        dumpBody.add("final java.lang.StringBuilder dump = new java.lang.StringBuilder();");
+
+        histogramMap.forEach((fieldName, histogramName) -> {
+            final String quotedName = "\"" + histogramName.replace("\\", "\\\\").replace("\"", "\\\"") + "\"";
+
+            generator.addField(
+                "public static final",
+                HISTOGRAM_CLASS,
+                fieldName,
+                "de.jonas.gannotations.runtime.TimingRegistry.register(" + quotedName + ")"
+            );
+
+            snapshotBody.add("snapshots.put(" + quotedName + ", " + fieldName + ".snapshot());");
+            dumpBody.add("dump.append(" + fieldName + ".snapshot()).append(java.lang.System.lineSeparator());");
+            resetBody.add(fieldName + ".reset();");
+        });
+
+        snapshotBody.add("return java.util.Collections.unmodifiableMap(snapshots);");
+        dumpBody.add("return dump.toString();");
+
+        generator.addConstructor("private", Collections.emptyList(), new String[0]);
+
+        generator.addMethod(
+            "public static",
+            "snapshot",
+            "java.util.Map<java.lang.String, " + SNAPSHOT_CLASS + ">",
+            Collections.emptyList(),
+            snapshotBody.toArray(new String[0])
+        );
+
+        generator.addMethod(
+            "public static",
+            "dump",
+            "java.lang.String",
+            Collections.emptyList(),
+            dumpBody.toArray(new String[0])
+        );
+
+        generator.addMethod(
+            "public static",
+            "reset",
+            null,
+            Collections.emptyList(),
+            resetBody.toArray(new String[0])
+        );
+    }
+
+    /**
+     * Ermittelt den Namen des Feldes, in dem sich das Histogramm einer Methode befindet (Bsp: 'PRICE_ALL' für die
+     * Methode 'priceAll'). Überladene Methoden erhalten eine fortlaufende Nummer.
+     *
+     * @param method       Die Methode, deren Histogramm benannt werden soll.
+     * @param histogramMap Alle Histogramme, welche bereits benannt wurden.
+     *
+     * @return Der Name des Feldes.
+     */
+    @NotNull
+    private static String getFieldName(
+        @NotNull final ExecutableElement method,
+        @NotNull final Map<String, String> histogramMap
+    ) {
+        final String constantName = toConstantName(method.getSimpleName().toString());
+
+        String fieldName = constantName;
+
+        for (int i = 2; histogramMap.containsKey(fieldName); i++) {
+            fieldName = constantName + "_" + i;
+        }
+
+        return fieldName;
+    }
+
+    /**
+     * Wandelt einen Namen in der Schreibweise von Methoden und Feldern in die Schreibweise von Konstanten um (Bsp:
+     * 'PRICE_ALL' für 'priceAll').
+     *
+     * @param name Der Name, welcher umgewandelt werden soll.
+     *
+     * @return Der Name in der Schreibweise von Konstanten.
+     */
+    @NotNull
+    static String toConstantName(@NotNull final String name) {
+        final StringBuilder constantName = new StringBuilder(name.length() + 4);
+
+        for (int i = 0; i < name.length(); i++) {
+            final char character = name.charAt(i);
+
+            if (i > 0 && Character.isUpperCase(character)) {
+                constantName.append('_');
+            }
+
+            constantName.append(Character.toUpperCase(character));
+        }
+
+        return constantName.toString();
+    }
+
+    /**
+     * Ermittelt den Namen, unter dem das Histogramm einer Methode standardmäßig registriert wird (Bsp:
+     * 'demo.Pricing.price(java.lang.String, int)').
+     *
+     * @param className Der Name der Klasse, in der sich die Methode befindet.
+     * @param method    Die Methode, deren Histogramm benannt werden soll.
+     *
+     * @return Der Name, unter dem das Histogramm registriert wird.
+     */
+    @NotNull
+    private static String getSignature(
+        @NotNull final String className,
+        @NotNull final ExecutableElement method
+    ) {
+        final StringBuilder signature = new StringBuilder(className)
+            .append('.')
+            .append(method.getSimpleName())
+            .append('(');
+
+        for (int i = 0; i < method.getParameters().size(); i++) {
+            final VariableElement parameter = method.getParameters().get(i);
+
+            if (i > 0) {
+                signature.append(", ");
+            }
+
+            signature.append(parameter.asType());
+        }
+
+        return signature.append(')').toString();
+    }
+
+}
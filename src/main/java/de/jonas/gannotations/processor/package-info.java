@@ -2,7 +2,7 @@
  * In diesem Package befinden sich alle Klassen, welche für den Annotation-Prozessor nötig sind. Zudem befinden sich in
  * diesem Package ein {@link de.jonas.gannotations.processor.AnnotationHandler}, mit dem man die Aktion einer bestimmten
  * Annotation implementieren kann und ein {@link de.jonas.gannotations.processor.JavaGenerator}, mit dem sich neue
- * Java-Dateien generieren lassen. Alle Annotation-Handler kann man im {@link de.jonas.gannotations.processor.GemueseProcessor
- * Prozessor} registrieren.
+ * Java-Dateien generieren lassen. Alle Annotation-Handler kann man über einen {@link
+ * de.jonas.gannotations.processor.AnnotationHandlerProvider} in den Prozessoren registrieren.
  */
 package de.jonas.gannotations.processor;
@@ -0,0 +1,306 @@
+package de.jonas.gannotations.runtime;
+
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Mithilfe des {@link AsyncBatcher} werden einzelne Aufrufe einer Methode gesammelt und gemeinsam an eine Methode
+ * übergeben, welche alle Argumente auf einmal verarbeitet (Bsp: eine einzige Datenbank-Abfrage für viele IDs). Ein
+ * Stapel wird ausgeführt, sobald er die maximale Größe erreicht hat oder seit dem ersten Aufruf die angegebene Zeit
+ * vergangen ist. Die Methode für den Stapel erhält die Argumente in der Reihenfolge der Aufrufe und muss die Ergebnisse
+ * in derselben Reihenfolge zurückgeben. Wirft sie eine Exception, wird das Ergebnis aller Aufrufe des Stapels mit
+ * dieser Exception abgeschlossen.
+ *
+ * @param <K> Der Typ der Argumente.
+ * @param <V> Der Typ der Ergebnisse.
+ */
+@NotNull
+public final class AsyncBatcher<K, V> {
+
+    //<editor-fold desc="CONSTANTS">
+    /** Der gemeinsame Thread, auf dem alle Stapel nach Ablauf ihrer Zeit ausgeführt werden. */
+    @NotNull
+    private static final ScheduledExecutorService SCHEDULER = createScheduler();
+    //</editor-fold>
+
+
+    //<editor-fold desc="LOCAL FIELDS">
+    /** Der {@link Executor}, auf dem die Methode für den Stapel ausgeführt wird. */
+    @NotNull
+    private final Executor executor;
+    /** Die maximale Anzahl an Aufrufen in einem Stapel. */
+    private final int maxBatchSize;
+    /** Die Zeit in Millisekunden, nach der ein Stapel spätestens ausgeführt wird. */
+    private final long windowMillis;
+    /** Die Methode, welche alle Argumente eines Stapels auf einmal verarbeitet. */
+    @NotNull
+    private final BatchCall<K, V> call;
+    /** Das Objekt, mit dem der aktuelle Stapel gesperrt wird. */
+    @NotNull
+    private final Object lock = new Object();
+    /** Der Stapel, welcher gerade gesammelt wird oder null, wenn kein Aufruf wartet. */
+    @Nullable
+    private Batch<K, V> currentBatch;
+    //</editor-fold>
+
+
+    //<editor-fold desc="CONSTRUCTORS">
+
+    /**
+     * Erzeugt einen neuen {@link AsyncBatcher}, welcher einzelne Aufrufe sammelt und gemeinsam ausführt.
+     *
+     * @param executor     Der {@link Executor}, auf dem die Methode für den Stapel ausgeführt wird.
+     * @param maxBatchSize Die maximale Anzahl an Aufrufen in einem Stapel.
+     * @param windowMillis Die Zeit in Millisekunden, nach der ein Stapel spätestens ausgeführt wird.
+     * @param call         Die Methode, welche alle Argumente eines Stapels auf einmal verarbeitet.
+     */
+    public AsyncBatcher(
+        @NotNull final Executor executor,
+        final int maxBatchSize,
+        final long windowMillis,
+        @NotNull final BatchCall<K, V> call
+    ) {
+        if (maxBatchSize < 1) {
+            throw new IllegalArgumentException("maxBatchSize must be positive: " + maxBatchSize);
+        }
+
+        if (windowMillis < 1) {
+            throw new IllegalArgumentException("windowMillis must be positive: " + windowMillis);
+        }
+
+        this.executor = executor;
+        this.maxBatchSize = maxBatchSize;
+        this.windowMillis = windowMillis;
+        this.call = call;
+    }
+    //</editor-fold>
+
+
+    /**
+     * Fügt dem aktuellen Stapel einen Aufruf hinzu. Ist der Stapel danach voll, wird er sofort ausgeführt.
+     *
+     * @param key Das Argument des Aufrufs.
+     *
+     * @return Das Ergebnis des Aufrufs, welches abgeschlossen wird, sobald der Stapel ausgeführt wurde.
+     */
+    @NotNull
+    public CompletableFuture<V> submit(final K key) {
+        final CompletableFuture<V> future = new CompletableFuture<>();
+        final Batch<K, V> batch;
+        final boolean full;
+
+        synchronized (this.lock) {
+            if (this.currentBatch == null) {
+                this.currentBatch = new Batch<>(this.maxBatchSize);
+                batch = this.currentBatch;
+                full = batch.add(key, future, this.maxBatchSize);
+
+                if (!full) {
+                    SCHEDULER.schedule(() -> flush(batch), this.windowMillis, TimeUnit.MILLISECONDS);
+                }
+            } else {
+                batch = this.currentBatch;
+                full = batch.add(key, future, this.maxBatchSize);
+            }
+
+            if (full) {
+                this.currentBatch = null;
+            }
+        }
+
+        if (full) {
+            dispatch(batch);
+        }
+
+        return future;
+    }
+
+    /**
+     * Führt den aktuellen Stapel sofort aus, ohne auf das Ablaufen seiner Zeit zu warten.
+     */
+    public void flush() {
+        final Batch<K, V> batch;
+
+        synchronized (this.lock) {
+            batch = this.currentBatch;
+            this.currentBatch = null;
+        }
+
+        if (batch != null) {
+            dispatch(batch);
+        }
+    }
+
+    /**
+     * Führt einen bestimmten Stapel aus, sofern dieser noch gesammelt wird. Wurde der Stapel bereits ausgeführt, weil
+     * er voll war, passiert nichts.
+     *
+     * @param batch Der Stapel, dessen Zeit abgelaufen ist.
+     */
+    private void flush(@NotNull final Batch<K, V> batch) {
+        synchronized (this.lock) {
+            if (this.currentBatch != batch) return;
+
+            this.currentBatch = null;
+        }
+
+        dispatch(batch);
+    }
+
+    /**
+     * Übergibt einen Stapel dem {@link Executor}, auf dem die Methode für den Stapel ausgeführt wird.
+     *
+     * @param batch Der Stapel, welcher ausgeführt werden soll.
+     */
+    private void dispatch(@NotNull final Batch<K, V> batch) {
+        try {
+            this.executor.execute(() -> run(batch));
+        } catch (@NotNull final RejectedExecutionException e) {
+            batch.fail(e);
+        }
+    }
+
+    /**
+     * Führt die Methode für einen Stapel aus und schließt das Ergebnis jedes Aufrufs mit dem passenden Ergebnis ab.
+     *
+     * @param batch Der Stapel, welcher ausgeführt werden soll.
+     */
+    private void run(@NotNull final Batch<K, V> batch) {
+        final List<V> results;
+
+        try {
+            results = this.call.call(batch.keys);
+        } catch (@NotNull final Throwable e) {
+            batch.fail(e);
+            return;
+        }
+
+        if (results == null || results.size() != batch.keys.size()) {
+            batch.fail(new IllegalStateException(
+                "batch call returned " + (results == null ? "null" : results.size() + " results")
+                    + " for " + batch.keys.size() + " keys"
+            ));
+            return;
+        }
+
+        for (int i = 0; i < results.size(); i++) {
+            batch.futures.get(i).complete(results.get(i));
+        }
+    }
+
+    /**
+     * Erzeugt den gemeinsamen Thread, auf dem alle Stapel nach Ablauf ihrer Zeit ausgeführt werden. Der Thread ist ein
+     * Daemon-Thread, damit er das Beenden der JVM nicht verhindert.
+     *
+     * @return Der gemeinsame Thread, auf dem alle Stapel nach Ablauf ihrer Zeit ausgeführt werden.
+     */
+    @NotNull
+    private static ScheduledExecutorService createScheduler() {
+        final ScheduledThreadPoolExecutor scheduler = new ScheduledThreadPoolExecutor(1, runnable -> {
+            final Thread thread = new Thread(runnable, "gannotations-batcher");
+            thread.setDaemon(true);
+
+            return thread;
+        });
+        scheduler.setRemoveOnCancelPolicy(true);
+
+        return scheduler;
+    }
+
+    /**
+     * Ein {@link BatchCall} beschreibt die Methode, welche alle Argumente eines Stapels auf einmal verarbeitet.
+     *
+     * @param <K> Der Typ der Argumente.
+     * @param <V> Der Typ der Ergebnisse.
+     */
+    @FunctionalInterface
+    public interface BatchCall<K, V> {
+
+        /**
+         * Verarbeitet alle Argumente eines Stapels auf einmal.
+         *
+         * @param keys Alle Argumente des Stapels in der Reihenfolge der Aufrufe.
+         *
+         * @return Alle Ergebnisse in derselben Reihenfolge wie die Argumente.
+         *
+         * @throws Exception Wenn die Argumente nicht verarbeitet werden konnten.
+         */
+        @NotNull
+        List<V> call(@NotNull final List<K> keys) throws Exception;
+
+    }
+
+    /**
+     * Ein {@link Batch} beschreibt einen Stapel an Aufrufen, welche gemeinsam ausgeführt werden.
+     *
+     * @param <K> Der Typ der Argumente.
+     * @param <V> Der Typ der Ergebnisse.
+     */
+    private static final class Batch<K, V> {
+
+        //<editor-fold desc="LOCAL FIELDS">
+        /** Die Argumente aller Aufrufe in diesem Stapel. */
+        @NotNull
+        private final List<K> keys;
+        /** Die Ergebnisse aller Aufrufe in diesem Stapel. */
+        @NotNull
+        private final List<CompletableFuture<V>> futures;
+        //</editor-fold>
+
+
+        //<editor-fold desc="CONSTRUCTORS">
+
+        /**
+         * Erzeugt einen neuen und leeren {@link Batch}.
+         *
+         * @param capacity Die maximale Anzahl an Aufrufen in diesem Stapel.
+         */
+        private Batch(final int capacity) {
+            this.keys = new ArrayList<>(capacity);
+            this.futures = new ArrayList<>(capacity);
+        }
+        //</editor-fold>
+
+
+        /**
+         * Fügt diesem Stapel einen Aufruf hinzu.
+         *
+         * @param key          Das Argument des Aufrufs.
+         * @param future       Das Ergebnis des Aufrufs.
+         * @param maxBatchSize Die maximale Anzahl an Aufrufen in diesem Stapel.
+         *
+         * @return Ob dieser Stapel danach voll ist.
+         */
+        private boolean add(
+            final K key,
+            @NotNull final CompletableFuture<V> future,
+            final int maxBatchSize
+        ) {
+            this.keys.add(key);
+            this.futures.add(future);
+
+            return this.keys.size() >= maxBatchSize;
+        }
+
+        /**
+         * Schließt das Ergebnis aller Aufrufe in diesem Stapel mit einer Exception ab.
+         *
+         * @param error Die Exception, mit der alle Ergebnisse abgeschlossen werden.
+         */
+        private void fail(@NotNull final Throwable error) {
+            for (@NotNull final CompletableFuture<V> future : this.futures) {
+                future.completeExceptionally(error);
+            }
+        }
+    }
+
+}
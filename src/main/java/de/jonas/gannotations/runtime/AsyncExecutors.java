@@ -0,0 +1,161 @@
+package de.jonas.gannotations.runtime;
+
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.lang.reflect.Method;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * In den {@link AsyncExecutors} befinden sich alle Hilfsmethoden, mit denen die Wrapper, welche für die {@link
+ * de.jonas.gannotations.annotation.Async} generiert werden, blockierende Methoden auf einem {@link Executor} ausführen.
+ * Der Standard-Executor erzeugt für jede Aufgabe einen eigenen virtuellen Thread, sofern die Laufzeitumgebung virtuelle
+ * Threads unterstützt (ab Java 21). Ansonsten wird ein gemeinsamer Pool aus Daemon-Threads genutzt, welcher bei Bedarf
+ * wächst und ungenutzte Threads nach einer Minute wieder beendet, da die Methoden in der Regel auf I/O warten.
+ */
+@NotNull
+public final class AsyncExecutors {
+
+    //<editor-fold desc="CONSTRUCTORS">
+
+    /**
+     * Es können keine Instanzen der {@link AsyncExecutors} erzeugt werden.
+     */
+    private AsyncExecutors() {
+    }
+    //</editor-fold>
+
+
+    /**
+     * Gibt den gemeinsamen Standard-Executor zurück. Der Executor wird beim ersten Aufruf dieser Methode erzeugt und
+     * anschließend von allen Wrappern gemeinsam genutzt.
+     *
+     * @return Der gemeinsame Standard-Executor.
+     */
+    @NotNull
+    public static Executor defaultExecutor() {
+        return DefaultExecutorHolder.EXECUTOR;
+    }
+
+    /**
+     * Prüft, ob der Standard-Executor für jede Aufgabe einen eigenen virtuellen Thread erzeugt.
+     *
+     * @return Ob der Standard-Executor virtuelle Threads nutzt.
+     */
+    public static boolean usesVirtualThreads() {
+        return DefaultExecutorHolder.VIRTUAL_THREADS;
+    }
+
+    /**
+     * Führt einen blockierenden Aufruf auf einem {@link Executor} aus. Wirft der Aufruf eine Exception oder nimmt der
+     * Executor die Aufgabe nicht an, wird das Ergebnis mit genau dieser Exception abgeschlossen.
+     *
+     * @param executor Der {@link Executor}, auf dem der Aufruf ausgeführt wird.
+     * @param call     Der blockierende Aufruf.
+     * @param <V>      Der Typ des Ergebnisses.
+     *
+     * @return Das Ergebnis des Aufrufs, welches abgeschlossen wird, sobald der Aufruf beendet ist.
+     */
+    @NotNull
+    public static <V> CompletableFuture<V> supply(
+        @NotNull final Executor executor,
+        @NotNull final Callable<V> call
+    ) {
+        final CompletableFuture<V> future = new CompletableFuture<>();
+
+        try {
+            executor.execute(() -> {
+                try {
+                    future.complete(call.call());
+                } catch (@NotNull final Throwable e) {
+                    future.completeExceptionally(e);
+                }
+            });
+        } catch (@NotNull final RejectedExecutionException e) {
+            future.completeExceptionally(e);
+        }
+
+        return future;
+    }
+
+    /**
+     * Der {@link DefaultExecutorHolder} erzeugt den Standard-Executor erst beim ersten Zugriff, sodass weder ein Pool
+     * noch ein Executor für virtuelle Threads angelegt wird, solange kein Wrapper den Standard-Executor nutzt.
+     */
+    private static final class DefaultExecutorHolder {
+
+        //<editor-fold desc="CONSTANTS">
+        /** Der Executor für virtuelle Threads oder null, wenn die Laufzeitumgebung keine virtuellen Threads kennt. */
+        @Nullable
+        private static final ExecutorService VIRTUAL_THREAD_EXECUTOR = createVirtualThreadExecutor();
+        /** Ob der Standard-Executor virtuelle Threads nutzt. */
+        private static final boolean VIRTUAL_THREADS = VIRTUAL_THREAD_EXECUTOR != null;
+        /** Der gemeinsame Standard-Executor. */
+        @NotNull
+        private static final Executor EXECUTOR = VIRTUAL_THREADS
+            ? VIRTUAL_THREAD_EXECUTOR
+            : Executors.newCachedThreadPool(new DaemonThreadFactory());
+        //</editor-fold>
+
+
+        //<editor-fold desc="CONSTRUCTORS">
+
+        /**
+         * Es können keine Instanzen des {@link DefaultExecutorHolder} erzeugt werden.
+         */
+        private DefaultExecutorHolder() {
+        }
+        //</editor-fold>
+
+
+        /**
+         * Erzeugt mithilfe von Reflection einen Executor, welcher für jede Aufgabe einen eigenen virtuellen Thread
+         * erzeugt. Die Methode wird über Reflection aufgerufen, da diese Bibliothek auch unter Java 8 lauffähig ist.
+         *
+         * @return Der Executor für virtuelle Threads oder null, wenn die Laufzeitumgebung keine virtuellen Threads
+         *     kennt.
+         */
+        @Nullable
+        private static ExecutorService createVirtualThreadExecutor() {
+            try {
+                final Method factory = Executors.class.getMethod("newVirtualThreadPerTaskExecutor");
+                return (ExecutorService) factory.invoke(null);
+            } catch (@NotNull final ReflectiveOperationException | UnsupportedOperationException e) {
+                return null;
+            }
+        }
+    }
+
+    /**
+     * Die {@link DaemonThreadFactory} erzeugt die Threads des Pools, welcher genutzt wird, wenn die Laufzeitumgebung
+     * keine virtuellen Threads kennt. Die Threads sind Daemon-Threads, damit sie das Beenden der JVM nicht verhindern.
+     */
+    private static final class DaemonThreadFactory implements ThreadFactory {
+
+        //<editor-fold desc="LOCAL FIELDS">
+        /** Die Nummer des nächsten Threads, welche an seinen Namen angehängt wird. */
+        @NotNull
+        private final AtomicInteger nextNumber = new AtomicInteger(1);
+        //</editor-fold>
+
+
+        //<editor-fold desc="implementation">
+        @NotNull
+        @Override
+        public Thread newThread(@NotNull final Runnable runnable) {
+            final Thread thread = new Thread(runnable, "gannotations-async-" + this.nextNumber.getAndIncrement());
+            thread.setDaemon(true);
+
+            return thread;
+        }
+        //</editor-fold>
+    }
+
+}
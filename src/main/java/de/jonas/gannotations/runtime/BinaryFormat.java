@@ -0,0 +1,578 @@
+package de.jonas.gannotations.runtime;
+
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Das {@link BinaryFormat} enthält alle Kodierungen, welche von dem Quellcode genutzt werden, der für die {@link
+ * de.jonas.gannotations.annotation.BinaryCodec} generiert wird. Ganze Zahlen werden als Varint gespeichert, sodass
+ * kleine Werte nur ein einzelnes Byte benötigen. Vorzeichenbehaftete Zahlen werden vorher mit ZigZag kodiert, damit
+ * auch kleine negative Werte kurz bleiben. Zeichenketten und Arrays werden mit ihrer Länge plus eins gespeichert, wobei
+ * die Länge 0 für null steht. Beim Schreiben wird kein Objekt erzeugt. Beim Lesen wird jede Länge mit den verbleibenden
+ * Bytes abgeglichen, bevor Speicher für die Zeichenkette oder das Array angelegt wird.
+ */
+@NotNull
+public final class BinaryFormat {
+
+    //<editor-fold desc="CONSTRUCTORS">
+
+    /**
+     * Es können keine Instanzen des {@link BinaryFormat} erzeugt werden.
+     */
+    private BinaryFormat() {
+    }
+    //</editor-fold>
+
+
+    /**
+     * Kodiert eine vorzeichenbehaftete Zahl mit ZigZag, sodass Zahlen mit einem kleinen Betrag auch kleine
+     * vorzeichenlose Zahlen ergeben (0 wird zu 0, -1 zu 1, 1 zu 2 usw.).
+     *
+     * @param value Die Zahl, welche kodiert werden soll.
+     *
+     * @return Die kodierte Zahl.
+     */
+    public static int encodeZigZag(final int value) {
+        return (value << 1) ^ (value >> 31);
+    }
+
+    /**
+     * Dekodiert eine Zahl, welche mit ZigZag kodiert wurde.
+     *
+     * @param value Die kodierte Zahl.
+     *
+     * @return Die ursprüngliche vorzeichenbehaftete Zahl.
+     */
+    public static int decodeZigZag(final int value) {
+        return (value >>> 1) ^ -(value & 1);
+    }
+
+    /**
+     * Kodiert eine vorzeichenbehaftete Zahl mit ZigZag, sodass Zahlen mit einem kleinen Betrag auch kleine
+     * vorzeichenlose Zahlen ergeben.
+     *
+     * @param value Die Zahl, welche kodiert werden soll.
+     *
+     * @return Die kodierte Zahl.
+     */
+    public static long encodeZigZag(final long value) {
+        return (value << 1) ^ (value >> 63);
+    }
+
+    /**
+     * Dekodiert eine Zahl, welche mit ZigZag kodiert wurde.
+     *
+     * @param value Die kodierte Zahl.
+     *
+     * @return Die ursprüngliche vorzeichenbehaftete Zahl.
+     */
+    public static long decodeZigZag(final long value) {
+        return (value >>> 1) ^ -(value & 1);
+    }
+
+    /**
+     * Schreibt eine Zahl als Varint, wobei jedes Byte sieben Bits der Zahl enthält und das höchste Bit angibt, ob noch
+     * ein weiteres Byte folgt.
+     *
+     * @param buffer Der Puffer, in den die Zahl geschrieben wird.
+     * @param value  Die Zahl, welche als vorzeichenlos betrachtet wird.
+     */
+    public static void writeVarInt(
+        @NotNull final ByteBuffer buffer,
+        final int value
+    ) {
+        int remaining = value;
+
+        while ((remaining & ~0x7F) != 0) {
+            buffer.put((byte) ((remaining & 0x7F) | 0x80));
+            remaining >>>= 7;
+        }
+
+        buffer.put((byte) remaining);
+    }
+
+    /**
+     * Liest eine Zahl, welche als Varint geschrieben wurde.
+     *
+     * @param buffer Der Puffer, aus dem die Zahl gelesen wird.
+     *
+     * @return Die gelesene Zahl.
+     *
+     * @throws IllegalArgumentException Wenn der Varint aus mehr als fünf Bytes besteht.
+     */
+    public static int readVarInt(@NotNull final ByteBuffer buffer) {
+        int value = 0;
+
+        for (int shift = 0; shift < 32; shift += 7) {
+            final byte current = buffer.get();
+            value |= (current & 0x7F) << shift;
+
+            if (current >= 0) {
+                return value;
+            }
+        }
+
+        throw new IllegalArgumentException("malformed varint");
+    }
+
+    /**
+     * Gibt die Anzahl an Bytes zurück, welche eine Zahl als Varint benötigt.
+     *
+     * @param value Die Zahl, welche als vorzeichenlos betrachtet wird.
+     *
+     * @return Die Anzahl an Bytes.
+     */
+    public static int sizeOfVarInt(final int value) {
+        return (31 - Integer.numberOfLeadingZeros(value | 1)) / 7 + 1;
+    }
+
+    /**
+     * Schreibt eine Zahl als Varint, wobei jedes Byte sieben Bits der Zahl enthält und das höchste Bit angibt, ob noch
+     * ein weiteres Byte folgt.
+     *
+     * @param buffer Der Puffer, in den die Zahl geschrieben wird.
+     * @param value  Die Zahl, welche als vorzeichenlos betrachtet wird.
+     */
+    public static void writeVarLong(
+        @NotNull final ByteBuffer buffer,
+        final long value
+    ) {
+        long remaining = value;
+
+        while ((remaining & ~0x7FL) != 0) {
+            buffer.put((byte) ((remaining & 0x7F) | 0x80));
+            remaining >>>= 7;
+        }
+
+        buffer.put((byte) remaining);
+    }
+
+    /**
+     * Liest eine Zahl, welche als Varint geschrieben wurde.
+     *
+     * @param buffer Der Puffer, aus dem die Zahl gelesen wird.
+     *
+     * @return Die gelesene Zahl.
+     *
+     * @throws IllegalArgumentException Wenn der Varint aus mehr als zehn Bytes besteht.
+     */
+    public static long readVarLong(@NotNull final ByteBuffer buffer) {
+        long value = 0;
+
+        for (int shift = 0; shift < 64; shift += 7) {
+            final byte current = buffer.get();
+            value |= (long) (current & 0x7F) << shift;
+
+            if (current >= 0) {
+                return value;
+            }
+        }
+
+        throw new IllegalArgumentException("malformed varint");
+    }
+
+    /**
+     * Gibt die Anzahl an Bytes zurück, welche eine Zahl als Varint benötigt.
+     *
+     * @param value Die Zahl, welche als vorzeichenlos betrachtet wird.
+     *
+     * @return Die Anzahl an Bytes.
+     */
+    public static int sizeOfVarLong(final long value) {
+        return (63 - Long.numberOfLeadingZeros(value | 1)) / 7 + 1;
+    }
+
+    /**
+     * Schreibt eine Zeichenkette als UTF-8, ohne dafür ein Byte-Array zu erzeugen.
+     *
+     * @param buffer Der Puffer, in den die Zeichenkette geschrieben wird.
+     * @param value  Die Zeichenkette oder null.
+     */
+    public static void writeString(
+        @NotNull final ByteBuffer buffer,
+        @Nullable final String value
+    ) {
+        if (value == null) {
+            buffer.put((byte) 0);
+            return;
+        }
+
+        writeVarInt(buffer, getUtf8Length(value) + 1);
+
+        for (int i = 0; i < value.length(); i++) {
+            final char character = value.charAt(i);
+
+            if (character < 0x80) {
+                buffer.put((byte) character);
+            } else if (character < 0x800) {
+                buffer.put((byte) (0xC0 | (character >> 6)));
+                buffer.put((byte) (0x80 | (character & 0x3F)));
+            } else if (Character.isHighSurrogate(character) && i + 1 < value.length()
+                && Character.isLowSurrogate(value.charAt(i + 1))) {
+                final int codePoint = Character.toCodePoint(character, value.charAt(++i));
+
+                buffer.put((byte) (0xF0 | (codePoint >> 18)));
+                buffer.put((byte) (0x80 | ((codePoint >> 12) & 0x3F)));
+                buffer.put((byte) (0x80 | ((codePoint >> 6) & 0x3F)));
+                buffer.put((byte) (0x80 | (codePoint & 0x3F)));
+            } else {
+                buffer.put((byte) (0xE0 | (character >> 12)));
+                buffer.put((byte) (0x80 | ((character >> 6) & 0x3F)));
+                buffer.put((byte) (0x80 | (character & 0x3F)));
+            }
+        }
+    }
+
+    /**
+     * Liest eine Zeichenkette, welche als UTF-8 geschrieben wurde.
+     *
+     * @param buffer Der Puffer, aus dem die Zeichenkette gelesen wird.
+     *
+     * @return Die Zeichenkette oder null.
+     */
+    @Nullable
+    public static String readString(@NotNull final ByteBuffer buffer) {
+        final int length = readLength(buffer, 1);
+
+        if (length < 0) {
+            return null;
+        }
+
+        if (buffer.hasArray()) {
+            final int position = buffer.position();
+            final String value = new String(
+                buffer.array(),
+                buffer.arrayOffset() + position,
+                length,
+                StandardCharsets.UTF_8
+            );
+
+            buffer.position(position + length);
+            return value;
+        }
+
+        final byte[] bytes = new byte[length];
+        buffer.get(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    /**
+     * Gibt die Anzahl an Bytes zurück, welche eine Zeichenkette inklusive ihrer Länge benötigt.
+     *
+     * @param value Die Zeichenkette oder null.
+     *
+     * @return Die Anzahl an Bytes.
+     */
+    public static int sizeOfString(@Nullable final String value) {
+        if (value == null) {
+            return 1;
+        }
+
+        final int length = getUtf8Length(value);
+        return sizeOfVarInt(length + 1) + length;
+    }
+
+    /**
+     * Schreibt ein Byte-Array inklusive seiner Länge.
+     *
+     * @param buffer Der Puffer, in den das Array geschrieben wird.
+     * @param value  Das Array oder null.
+     */
+    public static void writeBytes(
+        @NotNull final ByteBuffer buffer,
+        @Nullable final byte[] value
+    ) {
+        if (value == null) {
+            buffer.put((byte) 0);
+            return;
+        }
+
+        writeVarInt(buffer, value.length + 1);
+        buffer.put(value);
+    }
+
+    /**
+     * Liest ein Byte-Array, welches inklusive seiner Länge geschrieben wurde.
+     *
+     * @param buffer Der Puffer, aus dem das Array gelesen wird.
+     *
+     * @return Das Array oder null.
+     */
+    @Nullable
+    public static byte[] readBytes(@NotNull final ByteBuffer buffer) {
+        final int length = readLength(buffer, 1);
+
+        if (length < 0) {
+            return null;
+        }
+
+        final byte[] value = new byte[length];
+        buffer.get(value);
+        return value;
+    }
+
+    /**
+     * Gibt die Anzahl an Bytes zurück, welche ein Byte-Array inklusive seiner Länge benötigt.
+     *
+     * @param value Das Array oder null.
+     *
+     * @return Die Anzahl an Bytes.
+     */
+    public static int sizeOfBytes(@Nullable final byte[] value) {
+        return value == null ? 1 : sizeOfVarInt(value.length + 1) + value.length;
+    }
+
+    /**
+     * Schreibt ein int-Array inklusive seiner Länge, wobei jedes Element mit ZigZag als Varint kodiert wird.
+     *
+     * @param buffer Der Puffer, in den das Array geschrieben wird.
+     * @param value  Das Array oder null.
+     */
+    public static void writeIntArray(
+        @NotNull final ByteBuffer buffer,
+        @Nullable final int[] value
+    ) {
+        if (value == null) {
+            buffer.put((byte) 0);
+            return;
+        }
+
+        writeVarInt(buffer, value.length + 1);
+
+        for (final int element : value) {
+            writeVarInt(buffer, encodeZigZag(element));
+        }
+    }
+
+    /**
+     * Liest ein int-Array, welches inklusive seiner Länge geschrieben wurde.
+     *
+     * @param buffer Der Puffer, aus dem das Array gelesen wird.
+     *
+     * @return Das Array oder null.
+     */
+    @Nullable
+    public static int[] readIntArray(@NotNull final ByteBuffer buffer) {
+        final int length = readLength(buffer, 1);
+
+        if (length < 0) {
+            return null;
+        }
+
+        final int[] value = new int[length];
+
+        for (int i = 0; i < length; i++) {
+            value[i] = decodeZigZag(readVarInt(buffer));
+        }
+
+        return value;
+    }
+
+    /**
+     * Gibt die Anzahl an Bytes zurück, welche ein int-Array inklusive seiner Länge benötigt.
+     *
+     * @param value Das Array oder null.
+     *
+     * @return Die Anzahl an Bytes.
+     */
+    public static int sizeOfIntArray(@Nullable final int[] value) {
+        if (value == null) {
+            return 1;
+        }
+
+        int size = sizeOfVarInt(value.length + 1);
+
+        for (final int element : value) {
+            size += sizeOfVarInt(encodeZigZag(element));
+        }
+
+        return size;
+    }
+
+    /**
+     * Schreibt ein long-Array inklusive seiner Länge, wobei jedes Element mit ZigZag als Varint kodiert wird.
+     *
+     * @param buffer Der Puffer, in den das Array geschrieben wird.
+     * @param value  Das Array oder null.
+     */
+    public static void writeLongArray(
+        @NotNull final ByteBuffer buffer,
+        @Nullable final long[] value
+    ) {
+        if (value == null) {
+            buffer.put((byte) 0);
+            return;
+        }
+
+        writeVarInt(buffer, value.length + 1);
+
+        for (final long element : value) {
+            writeVarLong(buffer, encodeZigZag(element));
+        }
+    }
+
+    /**
+     * Liest ein long-Array, welches inklusive seiner Länge geschrieben wurde.
+     *
+     * @param buffer Der Puffer, aus dem das Array gelesen wird.
+     *
+     * @return Das Array oder null.
+     */
+    @Nullable
+    public static long[] readLongArray(@NotNull final ByteBuffer buffer) {
+        final int length = readLength(buffer, 1);
+
+        if (length < 0) {
+            return null;
+        }
+
+        final long[] value = new long[length];
+
+        for (int i = 0; i < length; i++) {
+            value[i] = decodeZigZag(readVarLong(buffer));
+        }
+
+        return value;
+    }
+
+    /**
+     * Gibt die Anzahl an Bytes zurück, welche ein long-Array inklusive seiner Länge benötigt.
+     *
+     * @param value Das Array oder null.
+     *
+     * @return Die Anzahl an Bytes.
+     */
+    public static int sizeOfLongArray(@Nullable final long[] value) {
+        if (value == null) {
+            return 1;
+        }
+
+        int size = sizeOfVarInt(value.length + 1);
+
+        for (final long element : value) {
+            size += sizeOfVarLong(encodeZigZag(element));
+        }
+
+        return size;
+    }
+
+    /**
+     * Schreibt ein double-Array inklusive seiner Länge, wobei jedes Element mit acht Bytes gespeichert wird.
+     *
+     * @param buffer Der Puffer, in den das Array geschrieben wird.
+     * @param value  Das Array oder null.
+     */
+    public static void writeDoubleArray(
+        @NotNull final ByteBuffer buffer,
+        @Nullable final double[] value
+    ) {
+        if (value == null) {
+            buffer.put((byte) 0);
+            return;
+        }
+
+        writeVarInt(buffer, value.length + 1);
+
+        for (final double element : value) {
+            buffer.putDouble(element);
+        }
+    }
+
+    /**
+     * Liest ein double-Array, welches inklusive seiner Länge geschrieben wurde.
+     *
+     * @param buffer Der Puffer, aus dem das Array gelesen wird.
+     *
+     * @return Das Array oder null.
+     */
+    @Nullable
+    public static double[] readDoubleArray(@NotNull final ByteBuffer buffer) {
+        final int length = readLength(buffer, Double.BYTES);
+
+        if (length < 0) {
+            return null;
+        }
+
+        final double[] value = new double[length];
+
+        for (int i = 0; i < length; i++) {
+            value[i] = buffer.getDouble();
+        }
+
+        return value;
+    }
+
+    /**
+     * Gibt die Anzahl an Bytes zurück, welche ein double-Array inklusive seiner Länge benötigt.
+     *
+     * @param value Das Array oder null.
+     *
+     * @return Die Anzahl an Bytes.
+     */
+    public static int sizeOfDoubleArray(@Nullable final double[] value) {
+        return value == null ? 1 : sizeOfVarInt(value.length + 1) + value.length * Double.BYTES;
+    }
+
+    /**
+     * Liest die Länge einer Zeichenkette oder eines Arrays und prüft, ob im Puffer genug Bytes für alle Elemente
+     * verbleiben.
+     *
+     * @param buffer      Der Puffer, aus dem die Länge gelesen wird.
+     * @param elementSize Die minimale Anzahl an Bytes, welche ein einzelnes Element benötigt.
+     *
+     * @return Die Länge oder -1, wenn der Wert null ist.
+     *
+     * @throws IllegalArgumentException Wenn die Länge negativ ist.
+     * @throws BufferUnderflowException Wenn im Puffer nicht genug Bytes für alle Elemente verbleiben.
+     */
+    private static int readLength(
+        @NotNull final ByteBuffer buffer,
+        final int elementSize
+    ) {
+        final int length = readVarInt(buffer) - 1;
+
+        if (length < -1) {
+            throw new IllegalArgumentException("malformed length");
+        }
+
+        if ((long) length * elementSize > buffer.remaining()) {
+            throw new BufferUnderflowException();
+        }
+
+        return length;
+    }
+
+    /**
+     * Ermittelt die Anzahl an Bytes, welche eine Zeichenkette als UTF-8 benötigt, ohne sie dafür zu kodieren.
+     *
+     * @param value Die Zeichenkette.
+     *
+     * @return Die Anzahl an Bytes.
+     */
+    private static int getUtf8Length(@NotNull final String value) {
+        int length = 0;
+
+        for (int i = 0; i < value.length(); i++) {
+            final char character = value.charAt(i);
+
+            if (character < 0x80) {
+                length++;
+            } else if (character < 0x800) {
+                length += 2;
+            } else if (Character.isHighSurrogate(character) && i + 1 < value.length()
+                && Character.isLowSurrogate(value.charAt(i + 1))) {
+                length += 4;
+                i++;
+            } else {
+                length += 3;
+            }
+        }
+
+        return length;
+    }
+
+}
@@ -0,0 +1,100 @@
+package de.jonas.gannotations.runtime;
+
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * Die {@link CacheStats} sind eine unveränderliche Momentaufnahme der Zähler eines {@link MemoizeCache}. Die Zähler
+ * werden nicht aktualisiert, nachdem die Momentaufnahme erzeugt wurde.
+ */
+@NotNull
+public final class CacheStats {
+
+    //<editor-fold desc="LOCAL FIELDS">
+    /** Die Anzahl an Aufrufen, deren Ergebnis bereits im Cache vorhanden war oder gerade berechnet wurde. */
+    private final long hitCount;
+    /** Die Anzahl an Aufrufen, deren Ergebnis neu berechnet werden musste. */
+    private final long missCount;
+    /** Die Anzahl an Einträgen, welche aufgrund der maximalen Größe oder ihres Alters entfernt wurden. */
+    private final long evictionCount;
+    //</editor-fold>
+
+
+    //<editor-fold desc="CONSTRUCTORS">
+
+    /**
+     * Erzeugt eine neue Momentaufnahme der Zähler eines {@link MemoizeCache}.
+     *
+     * @param hitCount      Die Anzahl an Aufrufen, deren Ergebnis bereits im Cache vorhanden war.
+     * @param missCount     Die Anzahl an Aufrufen, deren Ergebnis neu berechnet werden musste.
+     * @param evictionCount Die Anzahl an Einträgen, welche entfernt wurden.
+     */
+    public CacheStats(
+        final long hitCount,
+        final long missCount,
+        final long evictionCount
+    ) {
+        this.hitCount = hitCount;
+        this.missCount = missCount;
+        this.evictionCount = evictionCount;
+    }
+    //</editor-fold>
+
+
+    /**
+     * Gibt die Anzahl an Aufrufen zurück, deren Ergebnis bereits im Cache vorhanden war oder gerade von einem anderen
+     * Thread berechnet wurde.
+     *
+     * @return Die Anzahl an Treffern.
+     */
+    public long getHitCount() {
+        return this.hitCount;
+    }
+
+    /**
+     * Gibt die Anzahl an Aufrufen zurück, deren Ergebnis neu berechnet werden musste.
+     *
+     * @return Die Anzahl an Fehlschlägen.
+     */
+    public long getMissCount() {
+        return this.missCount;
+    }
+
+    /**
+     * Gibt die Anzahl an Einträgen zurück, welche aufgrund der maximalen Größe oder ihres Alters entfernt wurden.
+     *
+     * @return Die Anzahl an entfernten Einträgen.
+     */
+    public long getEvictionCount() {
+        return this.evictionCount;
+    }
+
+    /**
+     * Gibt die Anzahl aller Aufrufe zurück.
+     *
+     * @return Die Anzahl aller Aufrufe.
+     */
+    public long getRequestCount() {
+        return this.hitCount + this.missCount;
+    }
+
+    /**
+     * Gibt den Anteil der Aufrufe zurück, deren Ergebnis bereits im Cache vorhanden war. Wurde der Cache noch nicht
+     * genutzt, wird 1 zurückgegeben.
+     *
+     * @return Der Anteil der Treffer an allen Aufrufen.
+     */
+    public double getHitRate() {
+        final long requestCount = getRequestCount();
+        return requestCount == 0 ? 1D : (double) this.hitCount / requestCount;
+    }
+
+    @NotNull
+    @Override
+    public String toString() {
+        return "CacheStats{hits=" + this.hitCount
+            + ", misses=" + this.missCount
+            + ", evictions=" + this.evictionCount
+            + "}";
+    }
+
+}
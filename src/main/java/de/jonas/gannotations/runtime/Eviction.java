@@ -0,0 +1,20 @@
+package de.jonas.gannotations.runtime;
+
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * Eine {@link Eviction} beschreibt die Strategie, nach der ein {@link MemoizeCache} Einträge entfernt, sobald seine
+ * maximale Größe erreicht wurde.
+ */
+@NotNull
+public enum Eviction {
+
+    /** Es wird der Eintrag entfernt, auf den am längsten nicht mehr zugegriffen wurde (least recently used). */
+    LRU,
+    /**
+     * Es wird der Eintrag entfernt, auf den am seltensten zugegriffen wurde (least frequently used). Dazu werden nur
+     * einige der ältesten Einträge verglichen und die Häufigkeit aller Einträge wird regelmäßig halbiert, sodass
+     * Einträge, welche nur vor langer Zeit häufig genutzt wurden, mit der Zeit ebenfalls entfernt werden.
+     */
+    LFU
+}
@@ -0,0 +1,165 @@
+package de.jonas.gannotations.runtime;
+
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.io.EOFException;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.ReadableByteChannel;
+
+/**
+ * Mithilfe eines {@link FrameReader} lassen sich viele Datensätze nacheinander aus einem Kanal lesen, welche jeweils mit
+ * ihrer Länge als Varint beginnen, so wie sie von dem Quellcode geschrieben werden, welcher für die {@link
+ * de.jonas.gannotations.annotation.BinaryCodec} generiert wird. Der Kanal wird in einen einzigen Puffer gelesen, welcher
+ * nur dann vergrößert wird, wenn ein einzelner Datensatz nicht hineinpasst. Ein {@link FrameReader} ist nicht
+ * threadsicher.
+ */
+@NotNull
+public final class FrameReader {
+
+    //<editor-fold desc="LOCAL FIELDS">
+    /** Der Kanal, aus dem die Datensätze gelesen werden. */
+    @NotNull
+    private final ReadableByteChannel channel;
+    /** Der Puffer, in den der Kanal gelesen wird und welcher sich immer im Lese-Modus befindet. */
+    @NotNull
+    private ByteBuffer buffer;
+    /** Das Ende aller gelesenen Daten im Puffer, während die Grenze des Puffers auf das Ende eines Datensatzes zeigt. */
+    private int dataLimit;
+    //</editor-fold>
+
+
+    //<editor-fold desc="CONSTRUCTORS">
+
+    /**
+     * Erzeugt einen neuen {@link FrameReader}, welcher Datensätze aus einem Kanal liest.
+     *
+     * @param channel    Der Kanal, aus dem die Datensätze gelesen werden.
+     * @param bufferSize Die Größe, mit der der Puffer angelegt wird.
+     */
+    public FrameReader(
+        @NotNull final ReadableByteChannel channel,
+        final int bufferSize
+    ) {
+        if (bufferSize < 16) {
+            throw new IllegalArgumentException("bufferSize must be at least 16: " + bufferSize);
+        }
+
+        this.channel = channel;
+        this.buffer = ByteBuffer.allocate(bufferSize);
+        this.buffer.flip();
+    }
+    //</editor-fold>
+
+
+    /**
+     * Gibt den nächsten Datensatz zurück. Der zurückgegebene Puffer steht am Anfang des Datensatzes (hinter seiner
+     * Länge) und seine Grenze am Ende des Datensatzes. Er bleibt nur bis zum nächsten Aufruf dieser Methode gültig.
+     *
+     * @return Der Puffer mit dem nächsten Datensatz oder null, wenn der Kanal vollständig gelesen wurde.
+     *
+     * @throws IOException  Wenn der Kanal nicht gelesen werden kann.
+     * @throws EOFException Wenn der Kanal inmitten eines Datensatzes endet.
+     */
+    @Nullable
+    public ByteBuffer nextFrame() throws IOException {
+        // the previous frame may not have been read completely, so continue behind its end
+        this.buffer.position(this.buffer.limit());
+        this.buffer.limit(this.dataLimit);
+
+        while (true) {
+            final int frameStart = this.buffer.position();
+            final int length = peekLength();
+
+            if (length >= 0) {
+                final int bodyStart = this.buffer.position();
+
+                if (this.buffer.remaining() >= length) {
+                    this.buffer.limit(bodyStart + length);
+                    return this.buffer;
+                }
+
+                this.buffer.position(frameStart);
+
+                if (BinaryFormat.sizeOfVarInt(length) + length > this.buffer.capacity()) {
+                    grow(BinaryFormat.sizeOfVarInt(length) + length);
+                }
+            }
+
+            if (!fill()) {
+                if (this.buffer.hasRemaining()) {
+                    throw new EOFException("channel ended within a frame");
+                }
+
+                return null;
+            }
+        }
+    }
+
+    /**
+     * Liest die Länge des nächsten Datensatzes, sofern sie bereits vollständig im Puffer liegt. Die Position des
+     * Puffers steht danach hinter der Länge.
+     *
+     * @return Die Länge des nächsten Datensatzes oder -1, wenn sie noch nicht vollständig im Puffer liegt.
+     */
+    private int peekLength() {
+        final int start = this.buffer.position();
+        final int end = Math.min(this.buffer.limit(), start + 5);
+
+        for (int i = start; i < end; i++) {
+            if (this.buffer.get(i) >= 0) {
+                final int length = BinaryFormat.readVarInt(this.buffer);
+
+                if (length < 0) break;
+
+                return length;
+            }
+        }
+
+        if (end - start == 5) {
+            throw new IllegalArgumentException("malformed frame length");
+        }
+
+        return -1;
+    }
+
+    /**
+     * Verschiebt die ungelesenen Daten an den Anfang des Puffers und liest weitere Daten aus dem Kanal.
+     *
+     * @return Ob weitere Daten gelesen wurden oder false, wenn der Kanal vollständig gelesen wurde.
+     *
+     * @throws IOException Wenn der Kanal nicht gelesen werden kann.
+     */
+    private boolean fill() throws IOException {
+        this.buffer.compact();
+
+        try {
+            int read;
+
+            do {
+                read = this.channel.read(this.buffer);
+            } while (read == 0 && this.buffer.hasRemaining());
+
+            return read > 0;
+        } finally {
+            this.buffer.flip();
+            this.dataLimit = this.buffer.limit();
+        }
+    }
+
+    /**
+     * Vergrößert den Puffer, sodass ein einzelner Datensatz vollständig hineinpasst.
+     *
+     * @param minCapacity Die Größe, welche der Puffer mindestens haben muss.
+     */
+    private void grow(final int minCapacity) {
+        final ByteBuffer grownBuffer = ByteBuffer.allocate(Math.max(minCapacity, this.buffer.capacity() << 1));
+
+        grownBuffer.put(this.buffer);
+        grownBuffer.flip();
+        this.buffer = grownBuffer;
+        this.dataLimit = grownBuffer.limit();
+    }
+
+}
@@ -0,0 +1,152 @@
+package de.jonas.gannotations.runtime;
+
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * Ein {@link HistogramSnapshot} ist eine unveränderliche Momentaufnahme eines {@link LatencyHistogram}. Perzentile
+ * werden anhand der Buckets ermittelt und geben jeweils die größte Laufzeit des Buckets zurück, in dem das Perzentil
+ * liegt, weshalb sie um bis zu 25% zu hoch sein können. Das Maximum wird dagegen exakt gemessen.
+ */
+@NotNull
+public final class HistogramSnapshot {
+
+    //<editor-fold desc="LOCAL FIELDS">
+    /** Der Name des Histogramms. */
+    @NotNull
+    private final String name;
+    /** Die Anzahl der Messungen in jedem Bucket. */
+    @NotNull
+    private final long[] counts;
+    /** Die Anzahl aller Messungen. */
+    private final long count;
+    /** Die Summe aller Laufzeiten in Nanosekunden. */
+    private final long sum;
+    /** Die maximale Laufzeit in Nanosekunden. */
+    private final long max;
+    //</editor-fold>
+
+
+    //<editor-fold desc="CONSTRUCTORS">
+
+    /**
+     * Erzeugt eine neue Momentaufnahme eines {@link LatencyHistogram}.
+     *
+     * @param name   Der Name des Histogramms.
+     * @param counts Die Anzahl der Messungen in jedem Bucket.
+     * @param sum    Die Summe aller Laufzeiten in Nanosekunden.
+     * @param max    Die maximale Laufzeit in Nanosekunden.
+     */
+    HistogramSnapshot(
+        @NotNull final String name,
+        @NotNull final long[] counts,
+        final long sum,
+        final long max
+    ) {
+        long count = 0;
+
+        for (final long bucketCount : counts) {
+            count += bucketCount;
+        }
+
+        this.name = name;
+        this.counts = counts;
+        this.count = count;
+        this.sum = sum;
+        this.max = max;
+    }
+    //</editor-fold>
+
+
+    /**
+     * Ermittelt die Laufzeit, unter der ein bestimmter Anteil aller Messungen liegt.
+     *
+     * @param percentile Das Perzentil zwischen 0 und 100 (Bsp: 99 für p99).
+     *
+     * @return Die Laufzeit in Nanosekunden, unter der der Anteil aller Messungen liegt oder 0, wenn noch keine Messung
+     *     aufgezeichnet wurde.
+     */
+    public long getPercentile(final double percentile) {
+        if (this.count == 0) {
+            return 0;
+        }
+
+        final long rank = Math.max(1, (long) Math.ceil(this.count * Math.min(100D, percentile) / 100D));
+        long seen = 0;
+
+        for (int i = 0; i < this.counts.length; i++) {
+            seen += this.counts[i];
+
+            if (seen >= rank) {
+                return Math.min(this.max, LatencyHistogram.getUpperBound(i));
+            }
+        }
+
+        return this.max;
+    }
+
+    /**
+     * Gibt den Namen des Histogramms zurück.
+     *
+     * @return Der Name des Histogramms.
+     */
+    @NotNull
+    public String getName() {
+        return this.name;
+    }
+
+    /**
+     * Gibt die Anzahl aller Messungen zurück.
+     *
+     * @return Die Anzahl aller Messungen.
+     */
+    public long getCount() {
+        return this.count;
+    }
+
+    /**
+     * Gibt die durchschnittliche Laufzeit aller Messungen zurück.
+     *
+     * @return Die durchschnittliche Laufzeit in Nanosekunden oder 0, wenn noch keine Messung aufgezeichnet wurde.
+     */
+    public double getMean() {
+        return this.count == 0 ? 0D : (double) this.sum / this.count;
+    }
+
+    /**
+     * Gibt den Median aller Laufzeiten zurück.
+     *
+     * @return Der Median in Nanosekunden.
+     */
+    public long getP50() {
+        return getPercentile(50);
+    }
+
+    /**
+     * Gibt das 99. Perzentil aller Laufzeiten zurück.
+     *
+     * @return Das 99. Perzentil in Nanosekunden.
+     */
+    public long getP99() {
+        return getPercentile(99);
+    }
+
+    /**
+     * Gibt die maximale Laufzeit zurück.
+     *
+     * @return Die maximale Laufzeit in Nanosekunden.
+     */
+    public long getMax() {
+        return this.max;
+    }
+
+    @NotNull
+    @Override
+    public String toString() {
+        return this.name
+            + " count=" + this.count
+            + " p50=" + getP50() + "ns"
+            + " p99=" + getP99() + "ns"
+            + " max=" + this.max + "ns";
+    }
+
+}
@@ -0,0 +1,102 @@
+package de.jonas.gannotations.runtime;
+
+import org.jetbrains.annotations.NotNull;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+/**
+ * Mithilfe der {@link InFlightCalls} werden gleiche Aufrufe einer Methode zusammengefasst, solange sie gleichzeitig
+ * laufen. Wird eine Methode mit denselben Argumenten aufgerufen, während ein vorheriger Aufruf noch nicht beendet ist,
+ * erhält der Aufrufer dasselbe Ergebnis, statt die Methode erneut auszuführen. Sobald ein Aufruf beendet ist, wird er
+ * entfernt, sodass spätere Aufrufe die Methode erneut ausführen. Die Argumente werden wie im {@link MemoizeCache}
+ * mithilfe von {@link MemoizeCache#key(Object)} bzw. {@link MemoizeCache#compositeKey(Object...)} verglichen. Jeder
+ * Aufrufer erhält ein eigenes {@link CompletableFuture}, welches vom gemeinsamen Ergebnis abhängt, sodass ein Aufrufer
+ * das Ergebnis der anderen Aufrufer weder abbrechen noch abschließen kann.
+ *
+ * @param <V> Der Typ des Ergebnisses.
+ */
+@NotNull
+public final class InFlightCalls<V> {
+
+    //<editor-fold desc="LOCAL FIELDS">
+    /** Alle laufenden Aufrufe anhand ihrer Argumente. */
+    @NotNull
+    private final ConcurrentMap<Object, CompletableFuture<V>> calls = new ConcurrentHashMap<>();
+    /** Die Anzahl an Aufrufen, welche mit einem laufenden Aufruf zusammengefasst wurden. */
+    @NotNull
+    private final LongAdder coalesced = new LongAdder();
+    //</editor-fold>
+
+
+    /**
+     * Gibt das Ergebnis eines laufenden Aufrufs mit denselben Argumenten zurück oder startet einen neuen Aufruf, wenn
+     * kein solcher Aufruf läuft.
+     *
+     * @param key     Die Argumente des Aufrufs.
+     * @param starter Startet einen neuen Aufruf und gibt dessen Ergebnis zurück.
+     *
+     * @return Ein eigenes Ergebnis für diesen Aufrufer, welches mit dem gemeinsamen Ergebnis abgeschlossen wird.
+     */
+    @NotNull
+    public CompletableFuture<V> call(
+        @NotNull final Object key,
+        @NotNull final Supplier<CompletableFuture<V>> starter
+    ) {
+        final CompletableFuture<V> created = new CompletableFuture<>();
+        final CompletableFuture<V> running = this.calls.putIfAbsent(key, created);
+
+        if (running != null) {
+            this.coalesced.increment();
+            return running.thenApply(Function.identity());
+        }
+
+        final CompletableFuture<V> started;
+
+        try {
+            started = starter.get();
+        } catch (@NotNull final Throwable e) {
+            this.calls.remove(key, created);
+            created.completeExceptionally(e);
+            return created.thenApply(Function.identity());
+        }
+
+        started.whenComplete((value, error) -> {
+            // remove the call before completing it, so that callers which observe the result start a new call
+            this.calls.remove(key, created);
+
+            if (error != null) {
+                created.completeExceptionally(error);
+            } else {
+                created.complete(value);
+            }
+        });
+
+        // the shared result stays private, so that no caller can complete it for the others
+        return created.thenApply(Function.identity());
+    }
+
+    /**
+     * Gibt die Anzahl an Aufrufen zurück, welche gerade laufen.
+     *
+     * @return Die Anzahl an Aufrufen, welche gerade laufen.
+     */
+    public int inFlight() {
+        return this.calls.size();
+    }
+
+    /**
+     * Gibt die Anzahl an Aufrufen zurück, welche mit einem laufenden Aufruf zusammengefasst wurden und die Methode
+     * deshalb nicht erneut ausgeführt haben.
+     *
+     * @return Die Anzahl an zusammengefassten Aufrufen.
+     */
+    public long coalesced() {
+        return this.coalesced.sum();
+    }
+
+}
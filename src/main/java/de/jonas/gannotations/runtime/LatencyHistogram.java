@@ -0,0 +1,173 @@
+package de.jonas.gannotations.runtime;
+
+import org.jetbrains.annotations.NotNull;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Ein {@link LatencyHistogram} zählt gemessene Laufzeiten in festen Buckets mit logarithmischer Skala und wird von dem
+ * Quellcode genutzt, welcher für den {@link de.jonas.gannotations.annotation.Timed} generiert wird. Laufzeiten unter 8
+ * Nanosekunden werden exakt gezählt, jede weitere Zweierpotenz wird in 4 gleich große Buckets aufgeteilt, sodass jeder
+ * Wert mit einer Genauigkeit von etwa 25% abgelegt wird. Die Zähler werden auf mehrere Streifen verteilt, welche anhand
+ * des aktuellen Threads ausgewählt werden, damit sich gleichzeitige Messungen möglichst wenig gegenseitig behindern.
+ * Beim Aufzeichnen einer Messung werden keine Objekte erzeugt.
+ */
+@NotNull
+public final class LatencyHistogram {
+
+    //<editor-fold desc="CONSTANTS">
+    /** Die Anzahl an Werten, welche exakt gezählt werden. */
+    private static final int EXACT_VALUES = 8;
+    /** Die Anzahl der Bits, um die eine Zweierpotenz in weitere Buckets aufgeteilt wird. */
+    private static final int SUB_BUCKET_BITS = 2;
+    /** Die Anzahl an Buckets, in die jede Zweierpotenz aufgeteilt wird. */
+    private static final int SUB_BUCKETS = 1 << SUB_BUCKET_BITS;
+    /** Die Anzahl aller Buckets, mit denen sich jeder positive long-Wert abbilden lässt. */
+    static final int BUCKETS = EXACT_VALUES + (63 - 3) * SUB_BUCKETS;
+    /** Die Position der Summe aller Laufzeiten innerhalb eines Streifens. */
+    private static final int SUM_INDEX = BUCKETS;
+    /** Die Position der maximalen Laufzeit innerhalb eines Streifens. */
+    private static final int MAX_INDEX = BUCKETS + 1;
+    /** Die maximale Anzahl an Streifen, auf die die Zähler verteilt werden. */
+    private static final int MAXIMUM_STRIPES = 64;
+    //</editor-fold>
+
+
+    //<editor-fold desc="LOCAL FIELDS">
+    /** Der Name dieses Histogramms. */
+    @NotNull
+    private final String name;
+    /** Alle Streifen, welche jeweils alle Buckets, die Summe und das Maximum enthalten. */
+    @NotNull
+    private final AtomicLongArray[] stripes;
+    /** Die Maske, mit der der Streifen eines Threads ermittelt wird. */
+    private final int stripeMask;
+    //</editor-fold>
+
+
+    //<editor-fold desc="CONSTRUCTORS">
+
+    /**
+     * Erzeugt ein neues und leeres {@link LatencyHistogram}. Die Anzahl der Streifen richtet sich nach der Anzahl der
+     * verfügbaren Prozessoren.
+     *
+     * @param name Der Name des Histogramms.
+     */
+    public LatencyHistogram(@NotNull final String name) {
+        final int processors = Runtime.getRuntime().availableProcessors();
+        final int stripeCount = Math.min(MAXIMUM_STRIPES, Integer.highestOneBit(processors * 2 - 1));
+
+        this.name = name;
+        this.stripes = new AtomicLongArray[stripeCount];
+        this.stripeMask = stripeCount - 1;
+
+        for (int i = 0; i < stripeCount; i++) {
+            this.stripes[i] = new AtomicLongArray(BUCKETS + 2);
+        }
+    }
+    //</editor-fold>
+
+
+    /**
+     * Zeichnet eine gemessene Laufzeit auf. Negative Laufzeiten werden als 0 gezählt.
+     *
+     * @param nanos Die gemessene Laufzeit in Nanosekunden.
+     */
+    public void record(final long nanos) {
+        final long value = Math.max(0, nanos);
+        final AtomicLongArray stripe = this.stripes[(int) Thread.currentThread().getId() & this.stripeMask];
+
+        stripe.incrementAndGet(getBucket(value));
+        stripe.addAndGet(SUM_INDEX, value);
+
+        long max = stripe.get(MAX_INDEX);
+
+        while (value > max && !stripe.compareAndSet(MAX_INDEX, max, value)) {
+            max = stripe.get(MAX_INDEX);
+        }
+    }
+
+    /**
+     * Erzeugt eine Momentaufnahme aller Zähler dieses Histogramms. Gleichzeitige Messungen werden möglicherweise nur
+     * teilweise berücksichtigt.
+     *
+     * @return Eine Momentaufnahme aller Zähler dieses Histogramms.
+     */
+    @NotNull
+    public HistogramSnapshot snapshot() {
+        final long[] counts = new long[BUCKETS];
+        long sum = 0;
+        long max = 0;
+
+        for (@NotNull final AtomicLongArray stripe : this.stripes) {
+            for (int i = 0; i < BUCKETS; i++) {
+                counts[i] += stripe.get(i);
+            }
+
+            sum += stripe.get(SUM_INDEX);
+            max = Math.max(max, stripe.get(MAX_INDEX));
+        }
+
+        return new HistogramSnapshot(this.name, counts, sum, max);
+    }
+
+    /**
+     * Setzt alle Zähler dieses Histogramms zurück. Gleichzeitige Messungen werden möglicherweise nur teilweise
+     * zurückgesetzt.
+     */
+    public void reset() {
+        for (@NotNull final AtomicLongArray stripe : this.stripes) {
+            for (int i = 0; i < stripe.length(); i++) {
+                stripe.set(i, 0);
+            }
+        }
+    }
+
+    /**
+     * Gibt den Namen dieses Histogramms zurück.
+     *
+     * @return Der Name dieses Histogramms.
+     */
+    @NotNull
+    public String getName() {
+        return this.name;
+    }
+
+    /**
+     * Ermittelt den Bucket, in dem eine Laufzeit gezählt wird.
+     *
+     * @param value Die Laufzeit in Nanosekunden, welche nicht negativ sein darf.
+     *
+     * @return Der Index des Buckets.
+     */
+    static int getBucket(final long value) {
+        if (value < EXACT_VALUES) {
+            return (int) value;
+        }
+
+        final int exponent = 63 - Long.numberOfLeadingZeros(value);
+        final int subBucket = (int) (value >>> (exponent - SUB_BUCKET_BITS)) & (SUB_BUCKETS - 1);
+
+        return EXACT_VALUES + (exponent - 3) * SUB_BUCKETS + subBucket;
+    }
+
+    /**
+     * Ermittelt die größte Laufzeit, welche in einem bestimmten Bucket gezählt wird.
+     *
+     * @param bucket Der Index des Buckets.
+     *
+     * @return Die größte Laufzeit in Nanosekunden, welche in dem Bucket gezählt wird.
+     */
+    static long getUpperBound(final int bucket) {
+        if (bucket < EXACT_VALUES) {
+            return bucket;
+        }
+
+        final int exponent = (bucket - EXACT_VALUES) / SUB_BUCKETS + 3;
+        final int subBucket = (bucket - EXACT_VALUES) % SUB_BUCKETS;
+        final int shift = exponent - SUB_BUCKET_BITS;
+
+        return ((long) (SUB_BUCKETS + subBucket) << shift) + (1L << shift) - 1;
+    }
+
+}
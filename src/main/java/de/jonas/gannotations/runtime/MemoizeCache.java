@@ -0,0 +1,552 @@
+package de.jonas.gannotations.runtime;
+
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Der {@link MemoizeCache} speichert die Ergebnisse einer Methode anhand ihrer Argumente und wird von dem Quellcode
+ * genutzt, welcher für die {@link de.jonas.gannotations.annotation.Memoize} generiert wird. Die Einträge werden anhand
+ * ihres Schlüssels auf mehrere Segmente verteilt, welche jeweils ein eigenes Lock besitzen, sodass sich gleichzeitige
+ * Zugriffe nur selten gegenseitig blockieren. Wird ein Ergebnis gerade von einem Thread berechnet, warten alle anderen
+ * Threads mit demselben Schlüssel auf dieses Ergebnis, anstatt es ein weiteres Mal zu berechnen. Wirft die Berechnung
+ * eine Exception, wird das Ergebnis nicht gespeichert und die Exception an alle wartenden Threads weitergegeben.
+ *
+ * @param <V> Der Typ der Ergebnisse, welche in diesem Cache gespeichert werden.
+ */
+@NotNull
+public final class MemoizeCache<V> {
+
+    //<editor-fold desc="CONSTANTS">
+    /** Der Schlüssel, welcher für Methoden ohne Argumente genutzt wird. */
+    @NotNull
+    public static final Object EMPTY_KEY = new Key(new Object[0]);
+    /** Der Schlüssel, welcher anstelle eines einzelnen Arguments mit dem Wert null genutzt wird. */
+    @NotNull
+    private static final Object NULL_KEY = new Object();
+    /** Der Wert, welcher anstelle eines Ergebnisses mit dem Wert null gespeichert wird. */
+    @NotNull
+    private static final Object NULL_VALUE = new Object();
+    /** Die maximale Anzahl an Segmenten, auf die die Einträge verteilt werden. */
+    private static final int MAXIMUM_SEGMENTS = 64;
+    /** Die minimale Anzahl an Einträgen, die jedes Segment aufnehmen können soll. */
+    private static final int MINIMUM_SEGMENT_SIZE = 8;
+    /** Die Anzahl der ältesten Einträge eines Segments, aus denen bei LFU der zu entfernende Eintrag gewählt wird. */
+    private static final int LFU_SAMPLE_SIZE = 8;
+    /**
+     * Die Anzahl an Zugriffen pro möglichem Eintrag eines Segments, nach denen bei LFU die Häufigkeit aller Einträge
+     * des Segments halbiert wird.
+     */
+    private static final int LFU_AGING_PERIOD = 16;
+    //</editor-fold>
+
+
+    //<editor-fold desc="LOCAL FIELDS">
+    /** Alle Segmente, auf die die Einträge anhand ihres Schlüssels verteilt werden. */
+    @NotNull
+    private final Segment[] segments;
+    /** Die Maske, mit der das Segment eines Schlüssels anhand seines Hash-Codes ermittelt wird. */
+    private final int segmentMask;
+    /** Die Strategie, nach der Einträge entfernt werden. */
+    @NotNull
+    private final Eviction eviction;
+    /** Die Zeit in Nanosekunden, nach der ein Eintrag abläuft oder 0, wenn Einträge nicht ablaufen. */
+    private final long expireAfterWriteNanos;
+    /** Die Anzahl an Treffern. */
+    @NotNull
+    private final LongAdder hits = new LongAdder();
+    /** Die Anzahl an Fehlschlägen. */
+    @NotNull
+    private final LongAdder misses = new LongAdder();
+    /** Die Anzahl an entfernten Einträgen. */
+    @NotNull
+    private final LongAdder evictions = new LongAdder();
+    //</editor-fold>
+
+
+    //<editor-fold desc="CONSTRUCTORS">
+
+    /**
+     * Erzeugt einen neuen und leeren {@link MemoizeCache}.
+     *
+     * @param maximumSize            Die maximale Anzahl an Einträgen, die dieser Cache enthalten kann.
+     * @param eviction               Die Strategie, nach der Einträge entfernt werden, sobald die maximale Größe
+     *                               erreicht wurde.
+     * @param expireAfterWriteMillis Die Zeit in Millisekunden, nach der ein Eintrag abläuft oder 0, wenn Einträge nicht
+     *                               ablaufen sollen.
+     */
+    public MemoizeCache(
+        final int maximumSize,
+        @NotNull final Eviction eviction,
+        final long expireAfterWriteMillis
+    ) {
+        if (maximumSize < 1) {
+            throw new IllegalArgumentException("maximumSize must be positive: " + maximumSize);
+        }
+
+        final int segmentCount = Integer.highestOneBit(
+            Math.max(1, Math.min(MAXIMUM_SEGMENTS, maximumSize / MINIMUM_SEGMENT_SIZE))
+        );
+
+        this.segments = new Segment[segmentCount];
+        this.segmentMask = segmentCount - 1;
+        this.eviction = eviction;
+        this.expireAfterWriteNanos = TimeUnit.MILLISECONDS.toNanos(Math.max(0, expireAfterWriteMillis));
+
+        for (int i = 0; i < segmentCount; i++) {
+            this.segments[i] = new Segment(maximumSize / segmentCount, eviction);
+        }
+    }
+    //</editor-fold>
+
+
+    /**
+     * Gibt das Ergebnis zu einem bestimmten Schlüssel zurück. Ist noch kein Ergebnis vorhanden, wird es mithilfe des
+     * {@link Loader} berechnet und gespeichert. Eine Exception, welche bei der Berechnung geworfen wird, wird
+     * unverändert weitergegeben, auch wenn es sich dabei um eine geprüfte Exception handelt.
+     *
+     * @param key    Der Schlüssel, welcher mit {@code key} oder {@code compositeKey} erzeugt wurde.
+     * @param loader Der {@link Loader}, mit dem das Ergebnis berechnet wird, falls es noch nicht vorhanden ist.
+     *
+     * @return Das Ergebnis zu dem Schlüssel.
+     */
+    @Nullable
+    public V get(
+        @NotNull final Object key,
+        @NotNull final Loader<? extends V> loader
+    ) {
+        final Segment segment = this.segments[spread(key.hashCode()) & this.segmentMask];
+        final Entry entry;
+        final boolean computing;
+
+        segment.lock.lock();
+        try {
+            final Entry existingEntry = segment.entries.get(key);
+
+            if (this.eviction == Eviction.LFU) {
+                age(segment);
+            }
+
+            if (existingEntry != null && !isExpired(existingEntry)) {
+                if (this.eviction == Eviction.LFU) {
+                    existingEntry.frequency = Math.min(getFrequency(segment, existingEntry), Integer.MAX_VALUE - 1) + 1;
+                    existingEntry.epoch = segment.epoch;
+                }
+
+                this.hits.increment();
+
+                entry = existingEntry;
+                computing = false;
+            } else {
+                if (existingEntry != null) {
+                    segment.entries.remove(key);
+                    this.evictions.increment();
+                } else if (segment.entries.size() >= segment.capacity) {
+                    evict(segment);
+                }
+
+                this.misses.increment();
+
+                entry = new Entry(segment.epoch);
+                segment.entries.put(key, entry);
+                computing = true;
+            }
+        } finally {
+            segment.lock.unlock();
+        }
+
+        if (computing) {
+            try {
+                final Object value = loader.load();
+
+                entry.writeTime = System.nanoTime();
+                entry.result.complete(value == null ? NULL_VALUE : value);
+            } catch (final Throwable throwable) {
+                segment.lock.lock();
+                try {
+                    segment.entries.remove(key, entry);
+                } finally {
+                    segment.lock.unlock();
+                }
+
+                entry.result.completeExceptionally(throwable);
+                throw MemoizeCache.<RuntimeException>sneakyThrow(throwable);
+            }
+        }
+
+        return unwrap(entry.result);
+    }
+
+    /**
+     * Entfernt alle Einträge aus diesem Cache. Die Zähler werden dabei nicht zurückgesetzt.
+     */
+    public void invalidateAll() {
+        for (@NotNull final Segment segment : this.segments) {
+            segment.lock.lock();
+            try {
+                segment.entries.clear();
+            } finally {
+                segment.lock.unlock();
+            }
+        }
+    }
+
+    /**
+     * Erzeugt eine Momentaufnahme der Zähler dieses Caches.
+     *
+     * @return Eine Momentaufnahme der Zähler dieses Caches.
+     */
+    @NotNull
+    public CacheStats stats() {
+        return new CacheStats(this.hits.sum(), this.misses.sum(), this.evictions.sum());
+    }
+
+    /**
+     * Erzeugt den Schlüssel für eine Methode mit genau einem Argument. Das Argument wird direkt als Schlüssel genutzt,
+     * solange es sich nicht um null oder ein Array handelt.
+     *
+     * @param argument Das Argument der Methode.
+     *
+     * @return Der Schlüssel für das Argument.
+     */
+    @NotNull
+    public static Object key(@Nullable final Object argument) {
+        if (argument == null) {
+            return NULL_KEY;
+        }
+
+        if (argument.getClass().isArray()) {
+            return new Key(new Object[]{argument});
+        }
+
+        return argument;
+    }
+
+    /**
+     * Erzeugt den Schlüssel für eine Methode mit mehreren Argumenten. Arrays werden anhand ihres Inhalts verglichen.
+     *
+     * @param arguments Die Argumente der Methode.
+     *
+     * @return Der Schlüssel für die Argumente.
+     */
+    @NotNull
+    public static Object compositeKey(@NotNull final Object... arguments) {
+        return new Key(arguments);
+    }
+
+    /**
+     * Prüft, ob ein Eintrag abgelaufen ist. Einträge, deren Ergebnis noch berechnet wird, laufen nicht ab.
+     *
+     * @param entry Der Eintrag, welcher geprüft werden soll.
+     *
+     * @return Ob der Eintrag abgelaufen ist.
+     */
+    private boolean isExpired(@NotNull final Entry entry) {
+        return this.expireAfterWriteNanos > 0
+            && entry.result.isDone()
+            && System.nanoTime() - entry.writeTime >= this.expireAfterWriteNanos;
+    }
+
+    /**
+     * Entfernt einen Eintrag aus einem Segment anhand der Strategie dieses Caches. Bei LFU werden nicht alle Einträge
+     * durchsucht, sondern nur die ältesten Einträge des Segments verglichen, sodass jeder Fehlschlag nur eine konstante
+     * Anzahl an Einträgen betrachtet. Die übrigen verglichenen Einträge werden an das Ende des Segments verschoben,
+     * damit beim nächsten Mal andere Einträge verglichen werden. Diese Methode darf nur aufgerufen werden, während das
+     * Lock des Segments gehalten wird.
+     *
+     * @param segment Das Segment, aus dem ein Eintrag entfernt werden soll.
+     */
+    private void evict(@NotNull final Segment segment) {
+        final Iterator<Map.Entry<Object, Entry>> iterator = segment.entries.entrySet().iterator();
+
+        if (!iterator.hasNext()) {
+            return;
+        }
+
+        if (this.eviction == Eviction.LRU) {
+            // the entries are sorted by their last access, so the first entry is the least recently used one
+            iterator.next();
+            iterator.remove();
+            this.evictions.increment();
+            return;
+        }
+
+        final Object[] sampleKeys = segment.sampleKeys;
+        final Entry[] sampleEntries = segment.sampleEntries;
+        int sampled = 0;
+        int victim = 0;
+        int victimFrequency = Integer.MAX_VALUE;
+
+        // the entries are sorted by their insertion, so the sample contains the entries that were not sampled longest
+        while (sampled < LFU_SAMPLE_SIZE && iterator.hasNext()) {
+            final Map.Entry<Object, Entry> candidate = iterator.next();
+            final int frequency = getFrequency(segment, candidate.getValue());
+
+            sampleKeys[sampled] = candidate.getKey();
+            sampleEntries[sampled] = candidate.getValue();
+
+            if (frequency < victimFrequency) {
+                victim = sampled;
+                victimFrequency = frequency;
+            }
+
+            sampled++;
+        }
+
+        for (int i = 0; i < sampled; i++) {
+            segment.entries.remove(sampleKeys[i]);
+
+            if (i != victim) {
+                segment.entries.put(sampleKeys[i], sampleEntries[i]);
+            }
+
+            sampleKeys[i] = null;
+            sampleEntries[i] = null;
+        }
+
+        this.evictions.increment();
+    }
+
+    /**
+     * Zählt einen Zugriff auf ein Segment und beginnt nach einer bestimmten Anzahl an Zugriffen eine neue Epoche. Mit
+     * jeder Epoche wird die Häufigkeit aller Einträge des Segments halbiert, ohne dass dafür alle Einträge durchlaufen
+     * werden müssen (siehe {@link #getFrequency(Segment, Entry)}). Diese Methode darf nur aufgerufen werden, während
+     * das Lock des Segments gehalten wird.
+     *
+     * @param segment Das Segment, auf welches zugegriffen wird.
+     */
+    private static void age(@NotNull final Segment segment) {
+        if (++segment.accesses < (long) segment.capacity * LFU_AGING_PERIOD) {
+            return;
+        }
+
+        segment.accesses = 0;
+        segment.epoch++;
+    }
+
+    /**
+     * Gibt die Häufigkeit eines Eintrags in der aktuellen Epoche seines Segments zurück. Für jede Epoche, welche seit
+     * dem letzten Zugriff auf den Eintrag begonnen hat, wird seine gespeicherte Häufigkeit halbiert, sodass Einträge,
+     * welche nur vor langer Zeit häufig genutzt wurden, wieder entfernt werden können. Diese Methode darf nur
+     * aufgerufen werden, während das Lock des Segments gehalten wird.
+     *
+     * @param segment Das Segment, in dem sich der Eintrag befindet.
+     * @param entry   Der Eintrag, dessen Häufigkeit ermittelt werden soll.
+     *
+     * @return Die Häufigkeit des Eintrags in der aktuellen Epoche.
+     */
+    private static int getFrequency(
+        @NotNull final Segment segment,
+        @NotNull final Entry entry
+    ) {
+        final int age = segment.epoch - entry.epoch;
+
+        return age >= Integer.SIZE ? 0 : entry.frequency >>> age;
+    }
+
+    /**
+     * Gibt das berechnete Ergebnis eines Eintrags zurück und wartet, falls es noch berechnet wird.
+     *
+     * @param result Das Ergebnis des Eintrags.
+     *
+     * @return Das berechnete Ergebnis.
+     */
+    @Nullable
+    @SuppressWarnings("unchecked")
+    private static <V> V unwrap(@NotNull final CompletableFuture<Object> result) {
+        final Object value;
+
+        try {
+            value = result.join();
+        } catch (final CompletionException exception) {
+            throw MemoizeCache.<RuntimeException>sneakyThrow(exception.getCause());
+        }
+
+        return value == NULL_VALUE ? null : (V) value;
+    }
+
+    /**
+     * Verteilt die Bits eines Hash-Codes, damit auch die unteren Bits zur Auswahl des Segments beitragen.
+     *
+     * @param hashCode Der Hash-Code eines Schlüssels.
+     *
+     * @return Der verteilte Hash-Code.
+     */
+    private static int spread(final int hashCode) {
+        return hashCode ^ (hashCode >>> 16);
+    }
+
+    /**
+     * Wirft eine beliebige Exception, ohne dass sie deklariert werden muss. Der generierte Quellcode deklariert
+     * dieselben Exceptions wie die ursprüngliche Methode, weshalb keine unerwarteten Exceptions weitergegeben werden.
+     *
+     * @param throwable Die Exception, welche geworfen werden soll.
+     * @param <X>       Der Typ, als der die Exception geworfen wird.
+     *
+     * @return Nie, da immer eine Exception geworfen wird.
+     *
+     * @throws X Die übergebene Exception.
+     */
+    @NotNull
+    @SuppressWarnings("unchecked")
+    private static <X extends Throwable> X sneakyThrow(@NotNull final Throwable throwable) throws X {
+        throw (X) throwable;
+    }
+
+    /**
+     * Ein {@link Loader} berechnet das Ergebnis einer Methode, wenn es sich noch nicht im Cache befindet.
+     *
+     * @param <V> Der Typ des Ergebnisses.
+     */
+    @FunctionalInterface
+    public interface Loader<V> {
+
+        /**
+         * Berechnet das Ergebnis der Methode.
+         *
+         * @return Das Ergebnis der Methode.
+         *
+         * @throws Throwable Jede Exception, welche von der Methode geworfen wird.
+         */
+        @Nullable
+        V load() throws Throwable;
+
+    }
+
+    /**
+     * Ein {@link Segment} enthält einen Teil der Einträge des Caches, welche durch ein eigenes Lock geschützt werden.
+     */
+    private static final class Segment {
+
+        //<editor-fold desc="LOCAL FIELDS">
+        /** Das Lock, welches alle Zugriffe auf dieses Segment schützt. */
+        @NotNull
+        private final ReentrantLock lock = new ReentrantLock();
+        /** Die maximale Anzahl an Einträgen in diesem Segment. */
+        private final int capacity;
+        /** Alle Einträge dieses Segments, bei LRU sortiert nach ihrem letzten Zugriff, ansonsten nach dem Einfügen. */
+        @NotNull
+        private final LinkedHashMap<Object, Entry> entries;
+        /** Die Schlüssel der Einträge, welche bei LFU miteinander verglichen werden oder null bei LRU. */
+        @Nullable
+        private final Object[] sampleKeys;
+        /** Die Einträge, welche bei LFU miteinander verglichen werden oder null bei LRU. */
+        @Nullable
+        private final Entry[] sampleEntries;
+        /** Die Anzahl an Zugriffen seit dem Beginn der aktuellen Epoche, welche bei LFU gezählt wird. */
+        private int accesses;
+        /** Die aktuelle Epoche, nach deren Beginn die Häufigkeit aller Einträge bei LFU halbiert wird. */
+        private int epoch;
+        //</editor-fold>
+
+
+        //<editor-fold desc="CONSTRUCTORS">
+
+        /**
+         * Erzeugt ein neues und leeres {@link Segment}.
+         *
+         * @param capacity Die maximale Anzahl an Einträgen in diesem Segment.
+         * @param eviction Die Strategie, nach der Einträge aus diesem Segment entfernt werden.
+         */
+        private Segment(
+            final int capacity,
+            @NotNull final Eviction eviction
+        ) {
+            final boolean lru = eviction == Eviction.LRU;
+
+            this.capacity = capacity;
+            this.entries = new LinkedHashMap<>(capacity * 4 / 3 + 1, 0.75F, lru);
+            this.sampleKeys = lru ? null : new Object[LFU_SAMPLE_SIZE];
+            this.sampleEntries = lru ? null : new Entry[LFU_SAMPLE_SIZE];
+        }
+        //</editor-fold>
+
+    }
+
+    /**
+     * Ein {@link Entry} enthält das (möglicherweise noch nicht berechnete) Ergebnis zu einem Schlüssel.
+     */
+    private static final class Entry {
+
+        //<editor-fold desc="LOCAL FIELDS">
+        /** Das Ergebnis, welches abgeschlossen wird, sobald die Berechnung beendet ist. */
+        @NotNull
+        private final CompletableFuture<Object> result = new CompletableFuture<>();
+        /** Der Zeitpunkt in Nanosekunden, an dem das Ergebnis berechnet wurde. */
+        private volatile long writeTime;
+        /** Die Anzahl an Zugriffen auf diesen Eintrag, welche nur unter dem Lock des Segments verändert wird. */
+        private int frequency;
+        /** Die Epoche des Segments, in der die Anzahl an Zugriffen zuletzt verändert wurde. */
+        private int epoch;
+        //</editor-fold>
+
+
+        //<editor-fold desc="CONSTRUCTORS">
+
+        /**
+         * Erzeugt einen neuen {@link Entry}, dessen Ergebnis noch berechnet wird.
+         *
+         * @param epoch Die aktuelle Epoche des Segments, in dem sich der Eintrag befindet.
+         */
+        private Entry(final int epoch) {
+            this.epoch = epoch;
+        }
+        //</editor-fold>
+
+    }
+
+    /**
+     * Ein {@link Key} fasst mehrere Argumente zu einem Schlüssel zusammen, welcher anhand des Inhalts aller Argumente
+     * (auch von Arrays) verglichen wird.
+     */
+    private static final class Key {
+
+        //<editor-fold desc="LOCAL FIELDS">
+        /** Die Argumente, aus denen dieser Schlüssel besteht. */
+        @NotNull
+        private final Object[] arguments;
+        /** Der vorberechnete Hash-Code dieses Schlüssels. */
+        private final int hashCode;
+        //</editor-fold>
+
+
+        //<editor-fold desc="CONSTRUCTORS">
+
+        /**
+         * Erzeugt einen neuen {@link Key} aus mehreren Argumenten.
+         *
+         * @param arguments Die Argumente, aus denen dieser Schlüssel besteht.
+         */
+        private Key(@NotNull final Object[] arguments) {
+            this.arguments = arguments;
+            this.hashCode = Arrays.deepHashCode(arguments);
+        }
+        //</editor-fold>
+
+
+        @Override
+        public boolean equals(@Nullable final Object other) {
+            if (this == other) return true;
+            if (!(other instanceof Key)) return false;
+
+            final Key otherKey = (Key) other;
+            return this.hashCode == otherKey.hashCode && Arrays.deepEquals(this.arguments, otherKey.arguments);
+        }
+
+        @Override
+        public int hashCode() {
+            return this.hashCode;
+        }
+
+    }
+
+}
@@ -0,0 +1,293 @@
+package de.jonas.gannotations.runtime;
+
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+
+/**
+ * Ein {@link ObjectPool} verwaltet wiederverwendbare Objekte und wird von dem Quellcode genutzt, welcher für die {@link
+ * de.jonas.gannotations.annotation.Pooled} generiert wird. Freie Objekte werden zunächst in einem kleinen
+ * Zwischenspeicher des aktuellen Threads abgelegt, welcher ohne jede Synchronisierung auskommt. Ist dieser voll, werden
+ * sie in einer gemeinsamen, begrenzten Liste abgelegt, welche ohne Locks auskommt (eine Ring-Queue mit Sequenznummern
+ * für beliebig viele Produzenten und Konsumenten). Weder beim Anfordern noch bei der Rückgabe eines Objekts werden neue
+ * Objekte erzeugt, solange der Pool nicht leer ist. Die Anzahl aller freien Objekte in den Zwischenspeichern und der
+ * gemeinsamen Liste übersteigt nie die konfigurierte Größe des Pools. Objekte im Zwischenspeicher eines beendeten
+ * Threads werden dabei weiterhin mitgezählt, weshalb der Pool vorrangig mit langlebigen Threads genutzt werden sollte.
+ *
+ * @param <T> Der Typ der Objekte, welche in diesem Pool verwaltet werden.
+ */
+@NotNull
+public final class ObjectPool<T> {
+
+    //<editor-fold desc="CONSTANTS">
+    /** Die maximale Anzahl an freien Objekten im Zwischenspeicher eines Threads. */
+    private static final int LOCAL_CAPACITY = 8;
+    //</editor-fold>
+
+
+    //<editor-fold desc="LOCAL FIELDS">
+    /** Die maximale Anzahl an freien Objekten in diesem Pool. */
+    private final int size;
+    /** Die Fabrik, mit der neue Objekte erzeugt werden. */
+    @NotNull
+    private final Supplier<? extends T> factory;
+    /** Die Aktion, mit der ein Objekt bei seiner Rückgabe zurückgesetzt wird. */
+    @NotNull
+    private final Consumer<? super T> reset;
+    /** Die Anzahl an Objekten, die genutzt werden dürfen, wenn Threads bei einem leeren Pool warten sollen. */
+    @Nullable
+    private final Semaphore permits;
+    /** Die Anzahl an Objekten, die gerade genutzt werden, oder null, wenn bei einem leeren Pool nicht gewartet wird. */
+    @Nullable
+    private final AtomicInteger borrowed;
+    /** Die Zwischenspeicher der einzelnen Threads oder null, wenn Threads bei einem leeren Pool warten sollen. */
+    @Nullable
+    private final ThreadLocal<LocalCache> localCache;
+    /** Die gemeinsame Liste aller freien Objekte. */
+    @NotNull
+    private final AtomicReferenceArray<T> slots;
+    /** Die Sequenznummern aller Plätze der gemeinsamen Liste. */
+    @NotNull
+    private final AtomicLongArray sequences;
+    /** Die Maske, mit der der Platz einer Position der gemeinsamen Liste ermittelt wird. */
+    private final int mask;
+    /** Die Anzahl an freien Objekten in den Zwischenspeichern und der gemeinsamen Liste. */
+    @NotNull
+    private final AtomicInteger idle = new AtomicInteger();
+    /** Die Position, an der das nächste freie Objekt entnommen wird. */
+    @NotNull
+    private final AtomicLong head = new AtomicLong();
+    /** Die Position, an der das nächste freie Objekt abgelegt wird. */
+    @NotNull
+    private final AtomicLong tail = new AtomicLong();
+    //</editor-fold>
+
+
+    //<editor-fold desc="CONSTRUCTORS">
+
+    /**
+     * Erzeugt einen neuen und leeren {@link ObjectPool}. Die Objekte werden erst erzeugt, wenn sie zum ersten Mal
+     * angefordert werden.
+     *
+     * @param size     Die maximale Anzahl an freien Objekten in diesem Pool. Im Modus {@link Overflow#BLOCK} ist dies
+     *                 gleichzeitig die maximale Anzahl an Objekten, die überhaupt existieren.
+     * @param overflow Das Verhalten, wenn alle Objekte bereits genutzt werden.
+     * @param factory  Die Fabrik, mit der neue Objekte erzeugt werden.
+     * @param reset    Die Aktion, mit der ein Objekt bei seiner Rückgabe zurückgesetzt wird.
+     */
+    public ObjectPool(
+        final int size,
+        @NotNull final Overflow overflow,
+        @NotNull final Supplier<? extends T> factory,
+        @NotNull final Consumer<? super T> reset
+    ) {
+        if (size < 1) {
+            throw new IllegalArgumentException("size must be positive: " + size);
+        }
+
+        final int capacity = Integer.highestOneBit(size * 2 - 1);
+
+        this.size = size;
+        this.factory = factory;
+        this.reset = reset;
+        this.permits = overflow == Overflow.BLOCK ? new Semaphore(size) : null;
+        this.borrowed = overflow == Overflow.BLOCK ? new AtomicInteger() : null;
+        this.localCache = overflow == Overflow.BLOCK ? null : ThreadLocal.withInitial(LocalCache::new);
+        this.slots = new AtomicReferenceArray<>(capacity);
+        this.sequences = new AtomicLongArray(capacity);
+        this.mask = capacity - 1;
+
+        for (int i = 0; i < capacity; i++) {
+            this.sequences.set(i, i);
+        }
+    }
+    //</editor-fold>
+
+
+    /**
+     * Fordert ein Objekt aus diesem Pool an. Ist kein freies Objekt vorhanden, wird entweder ein neues Objekt erzeugt
+     * oder gewartet, bis ein anderer Thread ein Objekt zurückgibt.
+     *
+     * @return Ein zurückgesetztes Objekt.
+     */
+    @NotNull
+    @SuppressWarnings("unchecked")
+    public T acquire() {
+        if (this.permits != null) {
+            this.permits.acquireUninterruptibly();
+            this.borrowed.incrementAndGet();
+        } else {
+            final LocalCache cache = this.localCache.get();
+
+            if (cache.size > 0) {
+                final Object object = cache.objects[--cache.size];
+                cache.objects[cache.size] = null;
+                this.idle.decrementAndGet();
+                return (T) object;
+            }
+        }
+
+        final T object = poll();
+        return object == null ? this.factory.get() : object;
+    }
+
+    /**
+     * Gibt ein Objekt an diesen Pool zurück. Das Objekt wird zurückgesetzt und darf danach nicht mehr genutzt werden.
+     * Ist der Pool bereits voll, wird das Objekt verworfen.
+     *
+     * @param object Das Objekt, welches zurückgegeben wird.
+     *
+     * @throws IllegalStateException Wenn im Modus {@link Overflow#BLOCK} mehr Objekte zurückgegeben werden, als zuvor
+     *                               angefordert wurden.
+     */
+    public void release(@NotNull final T object) {
+        if (this.permits != null) {
+            int count;
+
+            do {
+                count = this.borrowed.get();
+
+                if (count == 0) {
+                    throw new IllegalStateException("more objects released than acquired");
+                }
+            } while (!this.borrowed.compareAndSet(count, count - 1));
+
+            this.reset.accept(object);
+
+            if (reserve()) {
+                offer(object);
+            }
+
+            this.permits.release();
+            return;
+        }
+
+        this.reset.accept(object);
+
+        if (!reserve()) {
+            return;
+        }
+
+        final LocalCache cache = this.localCache.get();
+
+        if (cache.size < LOCAL_CAPACITY) {
+            cache.objects[cache.size++] = object;
+            return;
+        }
+
+        offer(object);
+    }
+
+    /**
+     * Gibt die ungefähre Anzahl an freien Objekten in diesem Pool zurück. Die Zwischenspeicher der einzelnen Threads
+     * werden dabei berücksichtigt.
+     *
+     * @return Die ungefähre Anzahl an freien Objekten in diesem Pool.
+     */
+    public int getIdleCount() {
+        return this.idle.get();
+    }
+
+    /**
+     * Reserviert einen Platz für ein freies Objekt, sofern dieser Pool noch nicht voll ist.
+     *
+     * @return Ob ein Platz reserviert wurde oder der Pool bereits voll ist.
+     */
+    private boolean reserve() {
+        int count;
+
+        do {
+            count = this.idle.get();
+
+            if (count >= this.size) {
+                return false;
+            }
+        } while (!this.idle.compareAndSet(count, count + 1));
+
+        return true;
+    }
+
+    /**
+     * Legt ein freies Objekt in der gemeinsamen Liste ab. Ist die Liste voll, wird das Objekt verworfen.
+     *
+     * @param object Das freie Objekt, für welches bereits ein Platz reserviert wurde.
+     */
+    private void offer(@NotNull final T object) {
+        long position = this.tail.get();
+
+        while (true) {
+            final int index = (int) position & this.mask;
+            final long difference = this.sequences.get(index) - position;
+
+            if (difference == 0) {
+                if (this.tail.compareAndSet(position, position + 1)) {
+                    this.slots.lazySet(index, object);
+                    this.sequences.set(index, position + 1);
+                    return;
+                }
+
+                position = this.tail.get();
+            } else if (difference < 0) {
+                this.idle.decrementAndGet();
+                return;
+            } else {
+                position = this.tail.get();
+            }
+        }
+    }
+
+    /**
+     * Entnimmt ein freies Objekt aus der gemeinsamen Liste.
+     *
+     * @return Das freie Objekt oder null, wenn die Liste leer ist.
+     */
+    @Nullable
+    private T poll() {
+        long position = this.head.get();
+
+        while (true) {
+            final int index = (int) position & this.mask;
+            final long difference = this.sequences.get(index) - (position + 1);
+
+            if (difference == 0) {
+                if (this.head.compareAndSet(position, position + 1)) {
+                    final T object = this.slots.get(index);
+
+                    this.slots.lazySet(index, null);
+                    this.sequences.set(index, position + this.mask + 1);
+                    this.idle.decrementAndGet();
+                    return object;
+                }
+
+                position = this.head.get();
+            } else if (difference < 0) {
+                return null;
+            } else {
+                position = this.head.get();
+            }
+        }
+    }
+
+    /**
+     * Ein {@link LocalCache} enthält die freien Objekte, welche nur von einem einzelnen Thread genutzt werden.
+     */
+    private static final class LocalCache {
+
+        //<editor-fold desc="LOCAL FIELDS">
+        /** Die freien Objekte dieses Zwischenspeichers. */
+        @NotNull
+        private final Object[] objects = new Object[LOCAL_CAPACITY];
+        /** Die Anzahl an freien Objekten in diesem Zwischenspeicher. */
+        private int size;
+        //</editor-fold>
+
+    }
+
+}
@@ -0,0 +1,22 @@
+package de.jonas.gannotations.runtime;
+
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * Ein {@link Overflow} beschreibt das Verhalten eines {@link ObjectPool}, wenn ein Objekt angefordert wird, obwohl alle
+ * Objekte des Pools bereits genutzt werden.
+ */
+@NotNull
+public enum Overflow {
+
+    /**
+     * Es wird ein neues Objekt erzeugt, welches bei der Rückgabe nur dann aufgenommen wird, wenn im Pool noch Platz
+     * ist.
+     */
+    ALLOCATE,
+    /**
+     * Der anfordernde Thread wartet, bis ein anderer Thread ein Objekt zurückgibt. Es existieren also nie mehr Objekte,
+     * als der Pool groß ist, weshalb in diesem Modus auf die Zwischenspeicher der einzelnen Threads verzichtet wird.
+     */
+    BLOCK
+}
@@ -0,0 +1,85 @@
+package de.jonas.gannotations.runtime;
+
+import org.jetbrains.annotations.NotNull;
+
+import java.util.Collections;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * In der {@link TimingRegistry} werden alle {@link LatencyHistogram Histogramme} abgelegt, welche für den {@link
+ * de.jonas.gannotations.annotation.Timed} generiert werden. Die Histogramme einer Klasse werden registriert, sobald die
+ * generierte Klasse geladen wird, also beim ersten Aufruf einer ihrer Methoden.
+ */
+@NotNull
+public final class TimingRegistry {
+
+    //<editor-fold desc="CONSTANTS">
+    /** Alle registrierten Histogramme anhand ihres Namens. */
+    @NotNull
+    private static final ConcurrentMap<String, LatencyHistogram> HISTOGRAMS = new ConcurrentHashMap<>();
+    //</editor-fold>
+
+
+    //<editor-fold desc="CONSTRUCTORS">
+
+    /**
+     * Es können keine Instanzen der {@link TimingRegistry} erzeugt werden.
+     */
+    private TimingRegistry() {
+    }
+    //</editor-fold>
+
+
+    /**
+     * Gibt das Histogramm mit einem bestimmten Namen zurück und erzeugt es, falls es noch nicht existiert.
+     *
+     * @param name Der Name des Histogramms.
+     *
+     * @return Das Histogramm mit dem Namen.
+     */
+    @NotNull
+    public static LatencyHistogram register(@NotNull final String name) {
+        return HISTOGRAMS.computeIfAbsent(name, LatencyHistogram::new);
+    }
+
+    /**
+     * Erzeugt eine Momentaufnahme aller registrierten Histogramme, sortiert nach ihrem Namen.
+     *
+     * @return Eine Momentaufnahme aller registrierten Histogramme.
+     */
+    @NotNull
+    public static Map<String, HistogramSnapshot> snapshot() {
+        final Map<String, HistogramSnapshot> snapshots = new TreeMap<>();
+
+        HISTOGRAMS.forEach((name, histogram) -> snapshots.put(name, histogram.snapshot()));
+        return Collections.unmodifiableMap(snapshots);
+    }
+
+    /**
+     * Gibt alle registrierten Histogramme mit ihren Perzentilen (p50, p99 und max) zurück, wobei jedes Histogramm in
+     * einer eigenen Zeile steht.
+     *
+     * @return Alle registrierten Histogramme als Text.
+     */
+    @NotNull
+    public static String dump() {
+        final StringBuilder dump = new StringBuilder();
+
+        for (@NotNull final HistogramSnapshot snapshot : snapshot().values()) {
+            dump.append(snapshot).append(System.lineSeparator());
+        }
+
+        return dump.toString();
+    }
+
+    /**
+     * Setzt die Zähler aller registrierten Histogramme zurück.
+     */
+    public static void reset() {
+        HISTOGRAMS.values().forEach(LatencyHistogram::reset);
+    }
+
+}
@@ -0,0 +1,184 @@
+package de.jonas.gannotations.runtime;
+
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.lang.ref.Reference;
+import java.lang.ref.ReferenceQueue;
+import java.lang.ref.WeakReference;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * Ein {@link WeakInterner} sorgt dafür, dass von gleichen Objekten nur eine einzige (kanonische) Instanz existiert und
+ * wird von dem Quellcode genutzt, welcher für die {@link de.jonas.gannotations.annotation.Interned} generiert wird.
+ * Die kanonischen Instanzen werden nur schwach referenziert, sodass sie vom Garbage Collector entfernt werden können,
+ * sobald sie an keiner anderen Stelle mehr genutzt werden. Die Tabelle ist threadsicher und blockiert beim Lesen nicht.
+ *
+ * @param <T> Der Typ der Objekte, welche in diesem Interner abgelegt werden.
+ */
+@NotNull
+public final class WeakInterner<T> {
+
+    //<editor-fold desc="LOCAL FIELDS">
+    /** Alle kanonischen Instanzen, welche anhand ihrer Gleichheit abgelegt werden. */
+    @NotNull
+    private final ConcurrentMap<Object, WeakEntry<T>> entries = new ConcurrentHashMap<>();
+    /** Die Queue, in der alle Einträge landen, deren Instanz vom Garbage Collector entfernt wurde. */
+    @NotNull
+    private final ReferenceQueue<T> queue = new ReferenceQueue<>();
+    //</editor-fold>
+
+
+    /**
+     * Gibt die kanonische Instanz eines Objekts zurück. Existiert noch keine gleiche Instanz, wird das übergebene
+     * Objekt zur kanonischen Instanz.
+     *
+     * @param object Das Objekt, dessen kanonische Instanz ermittelt werden soll.
+     *
+     * @return Die kanonische Instanz des Objekts.
+     */
+    @NotNull
+    public T intern(@NotNull final T object) {
+        expungeStaleEntries();
+
+        final WeakEntry<T> existingEntry = this.entries.get(new Lookup(object));
+
+        if (existingEntry != null) {
+            final T canonical = existingEntry.get();
+
+            if (canonical != null) {
+                return canonical;
+            }
+        }
+
+        final WeakEntry<T> newEntry = new WeakEntry<>(object, this.queue);
+
+        while (true) {
+            final WeakEntry<T> currentEntry = this.entries.putIfAbsent(newEntry, newEntry);
+
+            if (currentEntry == null) {
+                return object;
+            }
+
+            final T canonical = currentEntry.get();
+
+            if (canonical != null) {
+                return canonical;
+            }
+
+            // the canonical instance has just been collected, the map never swaps keys, so the dead entry has to be
+            // removed before the new object can take its place
+            this.entries.remove(currentEntry, currentEntry);
+        }
+    }
+
+    /**
+     * Gibt die Anzahl der kanonischen Instanzen zurück, welche sich momentan in diesem Interner befinden. Instanzen,
+     * welche gerade vom Garbage Collector entfernt wurden, werden möglicherweise noch mitgezählt.
+     *
+     * @return Die Anzahl der kanonischen Instanzen.
+     */
+    public int size() {
+        expungeStaleEntries();
+        return this.entries.size();
+    }
+
+    /**
+     * Entfernt alle Einträge, deren Instanz vom Garbage Collector entfernt wurde.
+     */
+    private void expungeStaleEntries() {
+        Reference<? extends T> reference;
+
+        while ((reference = this.queue.poll()) != null) {
+            this.entries.remove(reference, reference);
+        }
+    }
+
+    /**
+     * Ein {@link WeakEntry} referenziert eine kanonische Instanz schwach und vergleicht sich anhand der Gleichheit
+     * dieser Instanz. Wurde die Instanz bereits entfernt, ist ein Eintrag nur noch zu sich selbst gleich.
+     *
+     * @param <T> Der Typ der kanonischen Instanz.
+     */
+    private static final class WeakEntry<T> extends WeakReference<T> {
+
+        //<editor-fold desc="LOCAL FIELDS">
+        /** Der Hash-Code der kanonischen Instanz, welcher auch nach ihrer Entfernung erhalten bleibt. */
+        private final int hashCode;
+        //</editor-fold>
+
+
+        //<editor-fold desc="CONSTRUCTORS">
+
+        /**
+         * Erzeugt einen neuen {@link WeakEntry} für eine kanonische Instanz.
+         *
+         * @param referent Die kanonische Instanz.
+         * @param queue    Die Queue, in der der Eintrag landet, sobald die Instanz entfernt wurde.
+         */
+        private WeakEntry(
+            @NotNull final T referent,
+            @NotNull final ReferenceQueue<T> queue
+        ) {
+            super(referent, queue);
+            this.hashCode = referent.hashCode();
+        }
+        //</editor-fold>
+
+
+        @Override
+        public boolean equals(@Nullable final Object other) {
+            if (this == other) return true;
+            if (!(other instanceof WeakEntry)) return false;
+
+            final Object referent = get();
+            return referent != null && referent.equals(((WeakEntry<?>) other).get());
+        }
+
+        @Override
+        public int hashCode() {
+            return this.hashCode;
+        }
+
+    }
+
+    /**
+     * Ein {@link Lookup} wird genutzt, um eine kanonische Instanz anhand eines gleichen Objekts zu finden, ohne dafür
+     * einen {@link WeakEntry} erzeugen zu müssen.
+     */
+    private static final class Lookup {
+
+        //<editor-fold desc="LOCAL FIELDS">
+        /** Das Objekt, zu dem eine gleiche kanonische Instanz gesucht wird. */
+        @NotNull
+        private final Object object;
+        //</editor-fold>
+
+
+        //<editor-fold desc="CONSTRUCTORS">
+
+        /**
+         * Erzeugt einen neuen {@link Lookup} für ein Objekt.
+         *
+         * @param object Das Objekt, zu dem eine gleiche kanonische Instanz gesucht wird.
+         */
+        private Lookup(@NotNull final Object object) {
+            this.object = object;
+        }
+        //</editor-fold>
+
+
+        @Override
+        public boolean equals(@Nullable final Object other) {
+            return other instanceof WeakEntry && this.object.equals(((WeakEntry<?>) other).get());
+        }
+
+        @Override
+        public int hashCode() {
+            return this.object.hashCode();
+        }
+
+    }
+
+}
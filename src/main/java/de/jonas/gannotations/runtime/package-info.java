@@ -0,0 +1,6 @@
+/**
+ * In diesem Package befinden sich alle Klassen, welche von dem generierten Quellcode zur Laufzeit genutzt werden. Im
+ * Gegensatz zu den Annotations muss diese Bibliothek deshalb auch zur Laufzeit verfügbar sein, sobald eine Annotation
+ * genutzt wird, deren generierter Quellcode auf dieses Package zugreift.
+ */
+package de.jonas.gannotations.runtime;
@@ -0,0 +1,269 @@
+package de.jonas.gannotations.processor;
+
+import org.jetbrains.annotations.NotNull;
+
+import javax.tools.Diagnostic;
+import javax.tools.DiagnosticCollector;
+import javax.tools.JavaCompiler;
+import javax.tools.JavaFileObject;
+import javax.tools.StandardJavaFileManager;
+import javax.tools.ToolProvider;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.net.MalformedURLException;
+import java.net.URISyntaxException;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Locale;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.junit.jupiter.api.Assertions.fail;
+
+/**
+ * Eine {@link Compilation} kompiliert Quelldateien mithilfe des {@link JavaCompiler} der Laufzeitumgebung, wobei der
+ * {@link GemueseProcessor} und der {@link GemueseTreeProcessor} genauso wie in einem echten Build aufgerufen werden.
+ * Dadurch lässt sich prüfen, ob die Handler eine Klasse ablehnen oder ob ihr generierter Quellcode ohne Fehler
+ * kompiliert. Die kompilierten Klassen können anschließend geladen werden, um ihr Verhalten zu prüfen.
+ */
+@NotNull
+public final class Compilation {
+
+    //<editor-fold desc="CONSTANTS">
+    /** Das Muster, mit dem das Paket einer Quelldatei ermittelt wird. */
+    @NotNull
+    private static final Pattern PACKAGE_PATTERN = Pattern.compile("^package\\s+([\\w.]+)\\s*;", Pattern.MULTILINE);
+    /** Das Muster, mit dem der Name des ersten Typs einer Quelldatei ermittelt wird. */
+    @NotNull
+    private static final Pattern TYPE_PATTERN = Pattern.compile("\\b(?:class|interface|enum)\\s+(\\w+)");
+    /** Der Code der Warnung, dass die Prozessoren eine ältere Version des Quellcodes unterstützen als der Compiler. */
+    @NotNull
+    private static final String INCOMPATIBLE_VERSION = "compiler.warn.proc.processor.incompatible.source.version";
+    //</editor-fold>
+
+
+    //<editor-fold desc="LOCAL FIELDS">
+    /** Alle Diagnosen, welche der Compiler beim Kompilieren ausgegeben hat. */
+    @NotNull
+    private final List<Diagnostic<? extends JavaFileObject>> diagnostics;
+    /** Der Ordner, in den die kompilierten Klassen geschrieben wurden. */
+    @NotNull
+    private final Path classDirectory;
+    /** Der Ordner, in den die generierten Quelldateien geschrieben wurden. */
+    @NotNull
+    private final Path sourceDirectory;
+    //</editor-fold>
+
+
+    //<editor-fold desc="CONSTRUCTORS">
+
+    /**
+     * Erzeugt eine neue {@link Compilation} aus dem Ergebnis eines Aufrufs des Compilers.
+     *
+     * @param diagnostics     Alle Diagnosen, welche der Compiler beim Kompilieren ausgegeben hat.
+     * @param classDirectory  Der Ordner, in den die kompilierten Klassen geschrieben wurden.
+     * @param sourceDirectory Der Ordner, in den die generierten Quelldateien geschrieben wurden.
+     */
+    private Compilation(
+        @NotNull final List<Diagnostic<? extends JavaFileObject>> diagnostics,
+        @NotNull final Path classDirectory,
+        @NotNull final Path sourceDirectory
+    ) {
+        this.diagnostics = diagnostics;
+        this.classDirectory = classDirectory;
+        this.sourceDirectory = sourceDirectory;
+    }
+    //</editor-fold>
+
+
+    /**
+     * Kompiliert die übergebenen Quelldateien mit beiden Prozessoren. Jede Quelldatei wird anhand ihres Pakets und
+     * ihres ersten Typs in dem übergebenen Ordner abgelegt.
+     *
+     * @param directory Der Ordner, in dem die Quelldateien, die generierten Dateien und die Klassen abgelegt werden.
+     * @param sources   Der Inhalt aller Quelldateien, welche kompiliert werden sollen.
+     *
+     * @return Das Ergebnis des Aufrufs des Compilers.
+     */
+    @NotNull
+    public static Compilation compile(@NotNull final Path directory, @NotNull final String... sources) {
+        final JavaCompiler compiler = ToolProvider.getSystemJavaCompiler();
+        assertNotNull(compiler, "the tests must run on a JDK");
+
+        final DiagnosticCollector<JavaFileObject> collector = new DiagnosticCollector<>();
+
+        try (StandardJavaFileManager fileManager = compiler.getStandardFileManager(
+            collector,
+            Locale.ROOT,
+            StandardCharsets.UTF_8
+        )) {
+            final Path sourceDirectory = Files.createDirectories(directory.resolve("generated"));
+            final Path classDirectory = Files.createDirectories(directory.resolve("classes"));
+            final List<File> files = new ArrayList<>();
+
+            for (@NotNull final String source : sources) {
+                files.add(writeSource(directory.resolve("src"), source).toFile());
+            }
+
+            final JavaCompiler.CompilationTask task = compiler.getTask(
+                null,
+                fileManager,
+                collector,
+                Arrays.asList(
+                    "-classpath", getProcessorClasspath(),
+                    "-s", sourceDirectory.toString(),
+                    "-d", classDirectory.toString()
+                ),
+                null,
+                fileManager.getJavaFileObjectsFromFiles(files)
+            );
+            task.setProcessors(Arrays.asList(new GemueseProcessor(), new GemueseTreeProcessor()));
+            task.call();
+
+            return new Compilation(collector.getDiagnostics(), classDirectory, sourceDirectory);
+        } catch (@NotNull final IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * Prüft, dass der Compiler weder Fehler noch Warnungen ausgegeben hat. Hinweise des Compilers werden ignoriert.
+     * Die Warnung, dass die Prozessoren eine ältere Version des Quellcodes unterstützen, wird ebenfalls ignoriert.
+     *
+     * @return Diese {@link Compilation}, damit sich weitere Prüfungen anschließen lassen.
+     */
+    @NotNull
+    public Compilation assertSuccess() {
+        final List<Diagnostic<? extends JavaFileObject>> problems = this.diagnostics.stream()
+            .filter(diagnostic -> diagnostic.getKind() != Diagnostic.Kind.NOTE)
+            .filter(diagnostic -> !INCOMPATIBLE_VERSION.equals(diagnostic.getCode()))
+            .collect(Collectors.toList());
+
+        if (!problems.isEmpty()) {
+            fail("expected no errors or warnings but got:\n" + format(problems));
+        }
+
+        return this;
+    }
+
+    /**
+     * Prüft, dass der Compiler einen Fehler ausgegeben hat, welcher die übergebene Nachricht enthält.
+     *
+     * @param message Ein Teil der Nachricht, welche der Fehler enthalten muss.
+     */
+    public void assertError(@NotNull final String message) {
+        assertTrue(
+            this.diagnostics.stream().anyMatch(diagnostic -> diagnostic.getKind() == Diagnostic.Kind.ERROR
+                && diagnostic.getMessage(Locale.ROOT).contains(message)),
+            "expected an error containing '" + message + "' but got:\n" + format(this.diagnostics)
+        );
+    }
+
+    /**
+     * Gibt den Inhalt einer generierten Quelldatei zurück.
+     *
+     * @param className Der vollständige Name der generierten Klasse.
+     *
+     * @return Der Inhalt der generierten Quelldatei.
+     */
+    @NotNull
+    public String getGeneratedSource(@NotNull final String className) {
+        try {
+            final Path file = this.sourceDirectory.resolve(className.replace('.', '/') + ".java");
+            return new String(Files.readAllBytes(file), StandardCharsets.UTF_8);
+        } catch (@NotNull final IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * Erzeugt einen {@link ClassLoader}, mit dem sich die kompilierten Klassen laden lassen. Die Klassen der
+     * Bibliothek werden dabei von dem {@link ClassLoader} der Tests geladen.
+     *
+     * @return Der {@link ClassLoader} der kompilierten Klassen.
+     */
+    @NotNull
+    public ClassLoader createClassLoader() {
+        try {
+            return new URLClassLoader(
+                new URL[]{this.classDirectory.toUri().toURL()},
+                Compilation.class.getClassLoader()
+            );
+        } catch (@NotNull final MalformedURLException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    /**
+     * Legt eine Quelldatei anhand ihres Pakets und ihres ersten Typs in einem Ordner ab.
+     *
+     * @param directory Der Ordner, in dem die Quelldatei abgelegt wird.
+     * @param source    Der Inhalt der Quelldatei.
+     *
+     * @return Der Pfad der abgelegten Quelldatei.
+     *
+     * @throws IOException Wenn die Quelldatei nicht geschrieben werden kann.
+     */
+    @NotNull
+    private static Path writeSource(
+        @NotNull final Path directory,
+        @NotNull final String source
+    ) throws IOException {
+        final Matcher packageMatcher = PACKAGE_PATTERN.matcher(source);
+        final Matcher typeMatcher = TYPE_PATTERN.matcher(source);
+
+        if (!typeMatcher.find()) {
+            throw new IllegalArgumentException("the source does not declare a type:\n" + source);
+        }
+
+        final Path packageDirectory = packageMatcher.find()
+            ? directory.resolve(packageMatcher.group(1).replace('.', '/'))
+            : directory;
+        final Path file = Files.createDirectories(packageDirectory).resolve(typeMatcher.group(1) + ".java");
+
+        return Files.write(file, source.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * Gibt den Klassenpfad zurück, in dem sich die Annotations und die Laufzeit-Klassen der Bibliothek befinden.
+     *
+     * @return Der Klassenpfad der Bibliothek.
+     */
+    @NotNull
+    private static String getProcessorClasspath() {
+        try {
+            return Paths.get(GemueseProcessor.class.getProtectionDomain().getCodeSource().getLocation().toURI())
+                .toString();
+        } catch (@NotNull final URISyntaxException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    /**
+     * Formatiert Diagnosen des Compilers, sodass sie in der Nachricht eines fehlgeschlagenen Tests lesbar sind.
+     *
+     * @param diagnostics Die Diagnosen, welche formatiert werden sollen.
+     *
+     * @return Die formatierten Diagnosen, jeweils in einer eigenen Zeile.
+     */
+    @NotNull
+    private static String format(@NotNull final List<Diagnostic<? extends JavaFileObject>> diagnostics) {
+        return diagnostics.stream()
+            .map(diagnostic -> diagnostic.getKind() + " " + diagnostic.getSource() + ":"
+                + diagnostic.getLineNumber() + ": " + diagnostic.getMessage(Locale.ROOT))
+            .collect(Collectors.joining("\n"));
+    }
+
+}
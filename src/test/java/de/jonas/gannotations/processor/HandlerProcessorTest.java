@@ -0,0 +1,49 @@
+package de.jonas.gannotations.processor;
+
+import org.jetbrains.annotations.NotNull;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Path;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * Der {@link HandlerProcessorTest} prüft das Zusammenspiel des {@link GemueseProcessor} und des {@link
+ * GemueseTreeProcessor}, welche die generierenden und die verändernden Handler getrennt voneinander aufrufen.
+ */
+final class HandlerProcessorTest {
+
+    @Test
+    void generatingAndTreeRewritingHandlersRunTogether(@NotNull @TempDir final Path directory) throws Exception {
+        final Compilation compilation = Compilation.compile(
+            directory,
+            String.join("\n",
+                "package demo;",
+                "",
+                "import de.jonas.gannotations.annotation.BuilderProperty;",
+                "import de.jonas.gannotations.annotation.Getter;",
+                "",
+                "public class Person {",
+                "    @Getter",
+                "    private String name;",
+                "",
+                "    @BuilderProperty",
+                "    public void setName(String name) { this.name = name; }",
+                "}"
+            )
+        ).assertSuccess();
+
+        final ClassLoader classLoader = compilation.createClassLoader();
+        final Class<?> builderClass = classLoader.loadClass("demo.PersonBuilder");
+        final Object builder = builderClass.getConstructor().newInstance();
+
+        builderClass.getMethod("setName", String.class).invoke(builder, "Jonas");
+
+        final Object person = builderClass.getMethod("build").invoke(builder);
+
+        assertEquals("Jonas", person.getClass().getMethod("getName").invoke(person));
+        compilation.getGeneratedSource("demo.PersonAccessors");
+    }
+
+}
@@ -0,0 +1,111 @@
+package de.jonas.gannotations.processor.annotation;
+
+import de.jonas.gannotations.processor.Compilation;
+import org.jetbrains.annotations.NotNull;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Path;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * Der {@link AsyncAnnotationTest} prüft den Wrapper, welcher durch die {@link AsyncAnnotation} für eine Klasse erzeugt
+ * wird, insbesondere Stapel und die Methode {@code flush}, welche der Wrapper für diese Stapel besitzt.
+ */
+final class AsyncAnnotationTest {
+
+    @Test
+    void callsAreForwardedAndBatched(@NotNull @TempDir final Path directory) throws Exception {
+        final Class<?> probe = Compilation.compile(
+            directory,
+            String.join("\n",
+                "package demo;",
+                "",
+                "import de.jonas.gannotations.annotation.Async;",
+                "",
+                "import java.util.ArrayList;",
+                "import java.util.List;",
+                "",
+                "public class UserService {",
+                "    @Async(batchMethod = \"loadAll\", batchWindowMillis = 60000)",
+                "    public String load(int id) { return \"user\" + id; }",
+                "",
+                "    public List<String> loadAll(List<Integer> ids) {",
+                "        final List<String> users = new ArrayList<>();",
+                "        for (final Integer id : ids) users.add(\"batched\" + id);",
+                "        return users;",
+                "    }",
+                "",
+                "    @Async(coalesce = true)",
+                "    public int square(int value) { return value * value; }",
+                "",
+                "    @Async",
+                "    public void ping() { }",
+                "}"
+            ),
+            String.join("\n",
+                "package demo;",
+                "",
+                "import java.util.concurrent.CompletableFuture;",
+                "import java.util.concurrent.TimeUnit;",
+                "",
+                "public class Probe {",
+                "    public static String run() throws Exception {",
+                "        final UserServiceAsync service = new UserServiceAsync(new UserService(), Runnable::run);",
+                "        final CompletableFuture<String> first = service.load(1);",
+                "        final CompletableFuture<String> second = service.load(2);",
+                "        service.flush();",
+                "        service.ping().get(5, TimeUnit.SECONDS);",
+                "        return first.get(5, TimeUnit.SECONDS) + second.get(5, TimeUnit.SECONDS)",
+                "            + service.square(3).get(5, TimeUnit.SECONDS);",
+                "    }",
+                "}"
+            )
+        ).assertSuccess().createClassLoader().loadClass("demo.Probe");
+
+        assertEquals("batched1batched29", probe.getMethod("run").invoke(null));
+    }
+
+    @Test
+    void flushWithoutBatchesCompiles(@NotNull @TempDir final Path directory) {
+        Compilation.compile(
+            directory,
+            String.join("\n",
+                "package demo;",
+                "",
+                "import de.jonas.gannotations.annotation.Async;",
+                "",
+                "public class Cache {",
+                "    @Async",
+                "    public void flush() { }",
+                "}"
+            )
+        ).assertSuccess();
+    }
+
+    @Test
+    void flushWithBatchesIsRejected(@NotNull @TempDir final Path directory) {
+        Compilation.compile(
+            directory,
+            String.join("\n",
+                "package demo;",
+                "",
+                "import de.jonas.gannotations.annotation.Async;",
+                "",
+                "import java.util.List;",
+                "",
+                "public class Cache {",
+                "    @Async(batchMethod = \"loadAll\")",
+                "    public String load(int id) { return null; }",
+                "",
+                "    public List<String> loadAll(List<Integer> ids) { return null; }",
+                "",
+                "    @Async",
+                "    public void flush() { }",
+                "}"
+            )
+        ).assertError("@Async cannot wrap a method flush() in a class with batched methods");
+    }
+
+}
@@ -0,0 +1,102 @@
+package de.jonas.gannotations.processor.annotation;
+
+import de.jonas.gannotations.processor.Compilation;
+import org.jetbrains.annotations.NotNull;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Path;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * Der {@link BinaryCodecAnnotationTest} prüft den Codec, welcher durch die {@link BinaryCodecAnnotation} für eine
+ * Klasse erzeugt wird, insbesondere Eigenschaften, deren Namen denen der generierten Methoden ähneln.
+ */
+final class BinaryCodecAnnotationTest {
+
+    @Test
+    void objectIsWrittenAndReadAgain(@NotNull @TempDir final Path directory) throws Exception {
+        final Class<?> probe = Compilation.compile(
+            directory,
+            String.join("\n",
+                "package demo;",
+                "",
+                "public enum Side {",
+                "    BUY, SELL",
+                "}"
+            ),
+            String.join("\n",
+                "package demo;",
+                "",
+                "import de.jonas.gannotations.annotation.BinaryCodec;",
+                "import de.jonas.gannotations.annotation.BuilderProperty;",
+                "",
+                "@BinaryCodec",
+                "public class Order {",
+                "    private long id;",
+                "    private String symbol;",
+                "    private Side header;",
+                "",
+                "    public long getId() { return this.id; }",
+                "",
+                "    public String getSymbol() { return this.symbol; }",
+                "",
+                "    public Side getHeader() { return this.header; }",
+                "",
+                "    @BuilderProperty",
+                "    public void setId(long id) { this.id = id; }",
+                "",
+                "    @BuilderProperty",
+                "    public void setSymbol(String symbol) { this.symbol = symbol; }",
+                "",
+                "    @BuilderProperty",
+                "    public void setHeader(Side header) { this.header = header; }",
+                "}"
+            ),
+            String.join("\n",
+                "package demo;",
+                "",
+                "public class Probe {",
+                "    public static String run() throws java.io.IOException {",
+                "        final Order order = new Order();",
+                "        order.setId(-42);",
+                "        order.setSymbol(\"ABC\");",
+                "        order.setHeader(Side.SELL);",
+                "        final java.nio.ByteBuffer buffer = java.nio.ByteBuffer.allocate(64);",
+                "        OrderCodec.writeHeader(buffer);",
+                "        OrderCodec.write(order, buffer);",
+                "        buffer.flip();",
+                "        OrderCodec.readHeader(buffer);",
+                "        final Order copy = OrderCodec.read(buffer, new OrderBuilder()).build();",
+                "        return copy.getId() + copy.getSymbol() + copy.getHeader() + buffer.remaining();",
+                "    }",
+                "}"
+            )
+        ).assertSuccess().createClassLoader().loadClass("demo.Probe");
+
+        assertEquals("-42ABCSELL0", probe.getMethod("run").invoke(null));
+    }
+
+    @Test
+    void unsupportedTypeIsRejected(@NotNull @TempDir final Path directory) {
+        Compilation.compile(
+            directory,
+            String.join("\n",
+                "package demo;",
+                "",
+                "import de.jonas.gannotations.annotation.BinaryCodec;",
+                "import de.jonas.gannotations.annotation.BuilderProperty;",
+                "",
+                "@BinaryCodec",
+                "public class Basket {",
+                "    java.util.List<String> items;",
+                "",
+                "    @BuilderProperty",
+                "    public void setItems(java.util.List<String> items) { this.items = items; }",
+                "}"
+            )
+        ).assertError("@BinaryCodec does not support the type");
+    }
+
+}
@@ -0,0 +1,99 @@
+package de.jonas.gannotations.processor.annotation;
+
+import de.jonas.gannotations.processor.Compilation;
+import org.jetbrains.annotations.NotNull;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.lang.reflect.Method;
+import java.nio.file.Path;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * Der {@link BuilderAnnotationTest} prüft den Builder, welcher durch die {@link BuilderAnnotation} für eine Klasse mit
+ * finalen Feldern erzeugt wird, insbesondere Konstruktoren mit geprüften Exceptions und generische Klassen.
+ */
+final class BuilderAnnotationTest {
+
+    @Test
+    void buildCallsTheConstructor(@NotNull @TempDir final Path directory) throws Exception {
+        final Class<?> builderClass = Compilation.compile(
+            directory,
+            String.join("\n",
+                "package demo;",
+                "",
+                "import de.jonas.gannotations.annotation.Builder;",
+                "",
+                "@Builder",
+                "public class Point {",
+                "    public final int x;",
+                "    public final int y;",
+                "",
+                "    public Point(int x, int y) {",
+                "        this.x = x;",
+                "        this.y = y;",
+                "    }",
+                "}"
+            )
+        ).assertSuccess().createClassLoader().loadClass("demo.PointBuilder");
+        final Object builder = builderClass.getConstructor().newInstance();
+
+        builderClass.getMethod("setX", int.class).invoke(builder, 3);
+        builderClass.getMethod("setY", int.class).invoke(builder, 4);
+
+        final Object point = builderClass.getMethod("build").invoke(builder);
+
+        assertEquals(3, point.getClass().getField("x").get(point));
+        assertEquals(4, point.getClass().getField("y").get(point));
+    }
+
+    @Test
+    void buildDeclaresTheExceptionsOfTheConstructor(@NotNull @TempDir final Path directory) throws Exception {
+        final Class<?> builderClass = Compilation.compile(
+            directory,
+            String.join("\n",
+                "package demo;",
+                "",
+                "import de.jonas.gannotations.annotation.Builder;",
+                "",
+                "public class Config {",
+                "    private final String path;",
+                "",
+                "    @Builder",
+                "    public Config(String path) throws java.io.IOException {",
+                "        if (path.isEmpty()) throw new java.io.IOException(\"empty path\");",
+                "        this.path = path;",
+                "    }",
+                "}"
+            )
+        ).assertSuccess().createClassLoader().loadClass("demo.ConfigBuilder");
+        final Method build = builderClass.getMethod("build");
+
+        assertArrayEquals(new Class<?>[]{IOException.class}, build.getExceptionTypes());
+    }
+
+    @Test
+    void genericClassIsRejected(@NotNull @TempDir final Path directory) {
+        Compilation.compile(
+            directory,
+            String.join("\n",
+                "package demo;",
+                "",
+                "import de.jonas.gannotations.annotation.Builder;",
+                "",
+                "@Builder",
+                "public class Box<T> {",
+                "    private final T value;",
+                "",
+                "    public Box(T value) {",
+                "        this.value = value;",
+                "    }",
+                "}"
+            )
+        ).assertError("@Builder cannot be applied to generic classes");
+    }
+
+}
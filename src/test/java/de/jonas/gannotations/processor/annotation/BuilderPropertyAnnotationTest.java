@@ -0,0 +1,83 @@
+package de.jonas.gannotations.processor.annotation;
+
+import de.jonas.gannotations.processor.Compilation;
+import org.jetbrains.annotations.NotNull;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Path;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * Der {@link BuilderPropertyAnnotationTest} prüft die Builder, welche durch die {@link BuilderPropertyAnnotation} aus
+ * den Settern einer Klasse erzeugt werden, insbesondere primitive Arrays, Stapel und überladene Setter.
+ */
+final class BuilderPropertyAnnotationTest {
+
+    @Test
+    void buildersCallTheSetters(@NotNull @TempDir final Path directory) throws Exception {
+        final Class<?> probe = Compilation.compile(
+            directory,
+            String.join("\n",
+                "package demo;",
+                "",
+                "import de.jonas.gannotations.annotation.BatchBuilder;",
+                "import de.jonas.gannotations.annotation.BuilderProperty;",
+                "import de.jonas.gannotations.annotation.ReusableBuilder;",
+                "",
+                "@BatchBuilder",
+                "@ReusableBuilder",
+                "public class Player {",
+                "    String name;",
+                "    int[] scores;",
+                "",
+                "    @BuilderProperty",
+                "    public void setName(String name) { this.name = name; }",
+                "",
+                "    @BuilderProperty",
+                "    public void setScores(int[] scores) { this.scores = scores; }",
+                "}"
+            ),
+            String.join("\n",
+                "package demo;",
+                "",
+                "public class Probe {",
+                "    public static String run() {",
+                "        final PlayerBuilder builder = new PlayerBuilder();",
+                "        final Player first = builder.setName(\"a\").addScores(1).addScores(2).build();",
+                "        final Player second = builder.setName(\"b\").build();",
+                "        final Player[] batch = new PlayerBatchBuilder(2)",
+                "            .setName(new String[]{\"c\", \"d\"})",
+                "            .buildAll();",
+                "        return first.name + first.scores.length + second.name + second.scores",
+                "            + batch[0].name + batch[1].name;",
+                "    }",
+                "}"
+            )
+        ).assertSuccess().createClassLoader().loadClass("demo.Probe");
+
+        assertEquals("a2bnullcd", probe.getMethod("run").invoke(null));
+    }
+
+    @Test
+    void overloadedSettersAreRejected(@NotNull @TempDir final Path directory) {
+        Compilation.compile(
+            directory,
+            String.join("\n",
+                "package demo;",
+                "",
+                "import de.jonas.gannotations.annotation.BuilderProperty;",
+                "",
+                "public class Account {",
+                "    @BuilderProperty",
+                "    public void setOwner(String owner) { }",
+                "",
+                "    @BuilderProperty",
+                "    public void setOwner(long ownerId) { }",
+                "}"
+            )
+        ).assertError("@BuilderProperty cannot be applied to overloaded setters");
+    }
+
+}
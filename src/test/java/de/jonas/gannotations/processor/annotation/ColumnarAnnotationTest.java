@@ -0,0 +1,102 @@
+package de.jonas.gannotations.processor.annotation;
+
+import de.jonas.gannotations.processor.Compilation;
+import org.jetbrains.annotations.NotNull;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Path;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * Der {@link ColumnarAnnotationTest} prüft die Sammlung, welche durch die {@link ColumnarAnnotation} für eine
+ * Daten-Klasse erzeugt wird, insbesondere Felder, deren Namen denen der generierten Member ähneln.
+ */
+final class ColumnarAnnotationTest {
+
+    @Test
+    void objectsAreStoredInColumns(@NotNull @TempDir final Path directory) throws Exception {
+        final Class<?> probe = Compilation.compile(
+            directory,
+            String.join("\n",
+                "package demo;",
+                "",
+                "import de.jonas.gannotations.annotation.Columnar;",
+                "",
+                "@Columnar(initialCapacity = 1)",
+                "public class Trade {",
+                "    private long id;",
+                "    double price;",
+                "    String symbol;",
+                "",
+                "    public long getId() { return this.id; }",
+                "",
+                "    public void setId(long id) { this.id = id; }",
+                "}"
+            ),
+            String.join("\n",
+                "package demo;",
+                "",
+                "public class Probe {",
+                "    public static String run() {",
+                "        final TradeColumns columns = new TradeColumns();",
+                "        final Trade trade = new Trade();",
+                "        trade.setId(7);",
+                "        trade.price = 1.5;",
+                "        trade.symbol = \"ABC\";",
+                "        columns.add(trade);",
+                "        columns.add(8, 2.5, \"XYZ\");",
+                "        final TradeColumns.Cursor cursor = columns.cursor();",
+                "        final StringBuilder result = new StringBuilder();",
+                "        while (cursor.next()) {",
+                "            result.append(cursor.getIndex()).append(cursor.getId()).append(cursor.getSymbol());",
+                "        }",
+                "        final Trade copy = columns.get(1);",
+                "        return result + \"/\" + copy.getId() + copy.price + \"/\" + columns.getPriceColumn()[0];",
+                "    }",
+                "}"
+            )
+        ).assertSuccess().createClassLoader().loadClass("demo.Probe");
+
+        assertEquals("07ABC18XYZ/82.5/1.5", probe.getMethod("run").invoke(null));
+    }
+
+    @Test
+    void fieldsNamedLikeTheGeneratedMembersCompile(@NotNull @TempDir final Path directory) {
+        Compilation.compile(
+            directory,
+            String.join("\n",
+                "package demo;",
+                "",
+                "import de.jonas.gannotations.annotation.Columnar;",
+                "",
+                "@Columnar",
+                "public class Flags {",
+                "    boolean index;",
+                "    int size;",
+                "    int capacity;",
+                "}"
+            )
+        ).assertSuccess();
+    }
+
+    @Test
+    void indexFieldIsRejected(@NotNull @TempDir final Path directory) {
+        Compilation.compile(
+            directory,
+            String.join("\n",
+                "package demo;",
+                "",
+                "import de.jonas.gannotations.annotation.Columnar;",
+                "",
+                "@Columnar",
+                "public class Entry {",
+                "    int index;",
+                "    double value;",
+                "}"
+            )
+        ).assertError("@Columnar cannot generate the getter getIndex() of this field");
+    }
+
+}
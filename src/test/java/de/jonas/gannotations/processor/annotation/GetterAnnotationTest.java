@@ -0,0 +1,73 @@
+package de.jonas.gannotations.processor.annotation;
+
+import de.jonas.gannotations.processor.Compilation;
+import org.jetbrains.annotations.NotNull;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Path;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * Der {@link GetterAnnotationTest} prüft die Getter, welche durch die {@link GetterAnnotation} in eine Klasse eingefügt
+ * werden, und die Zugriffs-Tabelle, welche zusätzlich für die Klasse erzeugt wird.
+ */
+final class GetterAnnotationTest {
+
+    @Test
+    void gettersAndAccessorsReadTheFields(@NotNull @TempDir final Path directory) throws Exception {
+        final Class<?> probe = Compilation.compile(
+            directory,
+            String.join("\n",
+                "package demo;",
+                "",
+                "import de.jonas.gannotations.annotation.Getter;",
+                "",
+                "@Getter",
+                "public class Person {",
+                "    private String name = \"Jonas\";",
+                "    private boolean active = true;",
+                "    private int age = 30;",
+                "",
+                "    public int getAge() { return this.age + 1; }",
+                "}"
+            ),
+            String.join("\n",
+                "package demo;",
+                "",
+                "public class Probe {",
+                "    public static String run() {",
+                "        final Person person = new Person();",
+                "        final StringBuilder result = new StringBuilder();",
+                "        result.append(person.getName()).append(person.isActive()).append(person.getAge());",
+                "        result.append('/').append(PersonAccessors.get(person, \"age\"));",
+                "        result.append('/').append(PersonAccessors.PROPERTY_NAMES);",
+                "        PersonAccessors.forEach(person, (name, value) -> result.append(name.charAt(0)));",
+                "        return result.toString();",
+                "    }",
+                "}"
+            )
+        ).assertSuccess().createClassLoader().loadClass("demo.Probe");
+
+        assertEquals("Jonastrue31/31/[name, active, age]naa", probe.getMethod("run").invoke(null));
+    }
+
+    @Test
+    void staticFieldIsRejected(@NotNull @TempDir final Path directory) {
+        Compilation.compile(
+            directory,
+            String.join("\n",
+                "package demo;",
+                "",
+                "import de.jonas.gannotations.annotation.Getter;",
+                "",
+                "public class Settings {",
+                "    @Getter",
+                "    private static int version;",
+                "}"
+            )
+        ).assertError("@Getter cannot be applied to static fields");
+    }
+
+}
@@ -0,0 +1,98 @@
+package de.jonas.gannotations.processor.annotation;
+
+import de.jonas.gannotations.processor.Compilation;
+import org.jetbrains.annotations.NotNull;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Path;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * Der {@link InternedAnnotationTest} prüft die Methoden {@code equals} und {@code hashCode}, welche durch die {@link
+ * InternedAnnotation} in eine Klasse eingefügt werden, und die Klasse, welche die kanonischen Instanzen verwaltet.
+ */
+final class InternedAnnotationTest {
+
+    @Test
+    void equalObjectsShareOneInstance(@NotNull @TempDir final Path directory) throws Exception {
+        final Class<?> probe = Compilation.compile(
+            directory,
+            String.join("\n",
+                "package demo;",
+                "",
+                "import de.jonas.gannotations.annotation.Builder;",
+                "import de.jonas.gannotations.annotation.Interned;",
+                "",
+                "@Builder",
+                "@Interned",
+                "public class CurrencyPair {",
+                "    private final String base;",
+                "    private final String quote;",
+                "",
+                "    public CurrencyPair(String base, String quote) {",
+                "        this.base = base;",
+                "        this.quote = quote;",
+                "    }",
+                "}"
+            ),
+            String.join("\n",
+                "package demo;",
+                "",
+                "import de.jonas.gannotations.annotation.Interned;",
+                "",
+                "@Interned(maximumSize = 2)",
+                "public class Tenor {",
+                "    final int days;",
+                "",
+                "    public Tenor(int days) {",
+                "        this.days = days;",
+                "    }",
+                "}"
+            ),
+            String.join("\n",
+                "package demo;",
+                "",
+                "public class Probe {",
+                "    public static String run() {",
+                "        final CurrencyPair first = new CurrencyPair(\"EUR\", \"USD\");",
+                "        final CurrencyPair second = new CurrencyPair(\"EUR\", \"USD\");",
+                "        final CurrencyPair built = new CurrencyPairBuilder()",
+                "            .setBase(\"EUR\")",
+                "            .setQuote(\"USD\")",
+                "            .build();",
+                "        final Tenor week = TenorInterner.intern(new Tenor(7));",
+                "        return first.equals(second) + \"/\" + (first.hashCode() == second.hashCode())",
+                "            + \"/\" + (CurrencyPairInterner.intern(first) == CurrencyPairInterner.intern(second))",
+                "            + \"/\" + (CurrencyPairInterner.intern(first) == built)",
+                "            + \"/\" + (TenorInterner.intern(new Tenor(7)) == week);",
+                "    }",
+                "}"
+            )
+        ).assertSuccess().createClassLoader().loadClass("demo.Probe");
+
+        assertEquals("true/true/true/true/true", probe.getMethod("run").invoke(null));
+    }
+
+    @Test
+    void equalsWithoutHashCodeIsRejected(@NotNull @TempDir final Path directory) {
+        Compilation.compile(
+            directory,
+            String.join("\n",
+                "package demo;",
+                "",
+                "import de.jonas.gannotations.annotation.Interned;",
+                "",
+                "@Interned",
+                "public class Symbol {",
+                "    final String name = \"\";",
+                "",
+                "    @Override",
+                "    public boolean equals(Object other) { return other instanceof Symbol; }",
+                "}"
+            )
+        ).assertError("@Interned generates equals and hashCode only together");
+    }
+
+}
@@ -0,0 +1,84 @@
+package de.jonas.gannotations.processor.annotation;
+
+import de.jonas.gannotations.processor.Compilation;
+import org.jetbrains.annotations.NotNull;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Path;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * Der {@link MemoizeAnnotationTest} prüft den Wrapper, welcher durch die {@link MemoizeAnnotation} für eine Klasse
+ * erzeugt wird, insbesondere überladene Methoden und Methoden, welche geprüfte Exceptions deklarieren.
+ */
+final class MemoizeAnnotationTest {
+
+    @Test
+    void resultsAreCachedPerArguments(@NotNull @TempDir final Path directory) throws Exception {
+        final Class<?> probe = Compilation.compile(
+            directory,
+            String.join("\n",
+                "package demo;",
+                "",
+                "import de.jonas.gannotations.annotation.Memoize;",
+                "",
+                "public class PriceService {",
+                "    int calls;",
+                "",
+                "    @Memoize",
+                "    public long price(String symbol, int amount) throws java.io.IOException {",
+                "        this.calls++;",
+                "        return symbol.length() * (long) amount;",
+                "    }",
+                "",
+                "    @Memoize(maximumSize = 4)",
+                "    public long price(String symbol) {",
+                "        this.calls++;",
+                "        return symbol.length();",
+                "    }",
+                "",
+                "    @Memoize",
+                "    public static String version() {",
+                "        return \"1\";",
+                "    }",
+                "}"
+            ),
+            String.join("\n",
+                "package demo;",
+                "",
+                "public class Probe {",
+                "    public static String run() throws java.io.IOException {",
+                "        final PriceService service = new PriceService();",
+                "        final PriceServiceMemoized memoized = new PriceServiceMemoized(service);",
+                "        final long sum = memoized.price(\"ABC\", 2) + memoized.price(\"ABC\", 2)",
+                "            + memoized.price(\"ABC\") + memoized.price(\"ABC\");",
+                "        return sum + \"/\" + service.calls + \"/\" + memoized.version()",
+                "            + \"/\" + memoized.getStats().size();",
+                "    }",
+                "}"
+            )
+        ).assertSuccess().createClassLoader().loadClass("demo.Probe");
+
+        assertEquals("18/2/1/3", probe.getMethod("run").invoke(null));
+    }
+
+    @Test
+    void genericClassIsRejected(@NotNull @TempDir final Path directory) {
+        Compilation.compile(
+            directory,
+            String.join("\n",
+                "package demo;",
+                "",
+                "import de.jonas.gannotations.annotation.Memoize;",
+                "",
+                "public class Lookup<T> {",
+                "    @Memoize",
+                "    public String describe(String value) { return value; }",
+                "}"
+            )
+        ).assertError("@Memoize cannot be applied to methods of generic classes");
+    }
+
+}
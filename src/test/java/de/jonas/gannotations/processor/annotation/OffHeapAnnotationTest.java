@@ -0,0 +1,96 @@
+package de.jonas.gannotations.processor.annotation;
+
+import de.jonas.gannotations.processor.Compilation;
+import org.jetbrains.annotations.NotNull;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Path;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * Der {@link OffHeapAnnotationTest} prüft das Array, welches durch die {@link OffHeapAnnotation} für eine Klasse
+ * erzeugt wird, insbesondere Felder, deren Namen denen der generierten Methoden ähneln.
+ */
+final class OffHeapAnnotationTest {
+
+    @Test
+    void recordsAreWrittenAndReadThroughTheView(@NotNull @TempDir final Path directory) throws Exception {
+        final Class<?> probe = Compilation.compile(
+            directory,
+            String.join("\n",
+                "package demo;",
+                "",
+                "import de.jonas.gannotations.annotation.OffHeap;",
+                "",
+                "@OffHeap",
+                "public class Quote {",
+                "    long time;",
+                "    double price;",
+                "    boolean buy;",
+                "}"
+            ),
+            String.join("\n",
+                "package demo;",
+                "",
+                "public class Probe {",
+                "    public static double run() {",
+                "        final QuoteOffHeapArray array = QuoteOffHeapArray.allocate(3);",
+                "        array.setPrice(1, 2.5);",
+                "        array.setPrice(2, 4.0);",
+                "        array.setBuy(2, true);",
+                "        final QuoteOffHeapArray.View view = array.view();",
+                "        double sum = 0;",
+                "        while (view.next()) {",
+                "            if (view.isBuy()) sum += view.getIndex() * view.getPrice();",
+                "            else sum += view.getPrice();",
+                "        }",
+                "        return sum;",
+                "    }",
+                "}"
+            )
+        ).assertSuccess().createClassLoader().loadClass("demo.Probe");
+
+        assertEquals(10.5, probe.getMethod("run").invoke(null));
+    }
+
+    @Test
+    void fieldsNamedLikeTheSegmentHelpersCompile(@NotNull @TempDir final Path directory) {
+        Compilation.compile(
+            directory,
+            String.join("\n",
+                "package demo;",
+                "",
+                "import de.jonas.gannotations.annotation.OffHeap;",
+                "",
+                "@OffHeap",
+                "public class Block {",
+                "    int segmentCount;",
+                "    int segmentBytes;",
+                "    long segments;",
+                "    long capacity;",
+                "}"
+            )
+        ).assertSuccess();
+    }
+
+    @Test
+    void indexFieldIsRejected(@NotNull @TempDir final Path directory) {
+        Compilation.compile(
+            directory,
+            String.join("\n",
+                "package demo;",
+                "",
+                "import de.jonas.gannotations.annotation.OffHeap;",
+                "",
+                "@OffHeap",
+                "public class Entry {",
+                "    long index;",
+                "    double value;",
+                "}"
+            )
+        ).assertError("@OffHeap cannot generate the getter getIndex() of this field");
+    }
+
+}
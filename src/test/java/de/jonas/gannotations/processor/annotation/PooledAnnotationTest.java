@@ -0,0 +1,139 @@
+package de.jonas.gannotations.processor.annotation;
+
+import de.jonas.gannotations.processor.Compilation;
+import org.jetbrains.annotations.NotNull;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Path;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * Der {@link PooledAnnotationTest} prüft den Pool, welcher durch die {@link PooledAnnotation} für eine Klasse erzeugt
+ * wird, insbesondere die unterschiedlichen Wege, auf denen ein Objekt bei seiner Rückgabe zurückgesetzt wird.
+ */
+final class PooledAnnotationTest {
+
+    @Test
+    void releasedObjectsAreReset(@NotNull @TempDir final Path directory) throws Exception {
+        final Class<?> probe = Compilation.compile(
+            directory,
+            String.join("\n",
+                "package demo;",
+                "",
+                "import de.jonas.gannotations.annotation.BuilderProperty;",
+                "import de.jonas.gannotations.annotation.Pooled;",
+                "",
+                "@Pooled",
+                "public class Request {",
+                "    String path;",
+                "    int retries;",
+                "",
+                "    @BuilderProperty",
+                "    public void setPath(String path) { this.path = path; }",
+                "",
+                "    @BuilderProperty",
+                "    public void setRetries(int retries) { this.retries = retries; }",
+                "}"
+            ),
+            String.join("\n",
+                "package demo;",
+                "",
+                "import de.jonas.gannotations.annotation.Pooled;",
+                "",
+                "@Pooled(size = 2)",
+                "public class Buffer {",
+                "    final byte[] data = new byte[4];",
+                "    int length;",
+                "}"
+            ),
+            String.join("\n",
+                "package demo;",
+                "",
+                "public class Probe {",
+                "    public static String run() {",
+                "        final RequestPool requests = new RequestPool();",
+                "        final Request request = requests.acquire();",
+                "        request.setPath(\"/\");",
+                "        request.setRetries(3);",
+                "        requests.release(request);",
+                "        final BufferPool buffers = new BufferPool();",
+                "        final Buffer buffer = buffers.acquire();",
+                "        buffer.length = 4;",
+                "        buffers.release(buffer);",
+                "        return request.path + request.retries + buffer.length + buffer.data.length;",
+                "    }",
+                "}"
+            )
+        ).assertSuccess().createClassLoader().loadClass("demo.Probe");
+
+        assertEquals("null004", probe.getMethod("run").invoke(null));
+    }
+
+    @Test
+    void inheritedResetIsCalled(@NotNull @TempDir final Path directory) throws Exception {
+        final Class<?> probe = Compilation.compile(
+            directory,
+            String.join("\n",
+                "package base;",
+                "",
+                "public class Resettable {",
+                "    public int resets;",
+                "",
+                "    public void reset() { this.resets++; }",
+                "}"
+            ),
+            String.join("\n",
+                "package demo;",
+                "",
+                "import de.jonas.gannotations.annotation.Pooled;",
+                "",
+                "@Pooled",
+                "public class Session extends base.Resettable {",
+                "    int id;",
+                "}"
+            ),
+            String.join("\n",
+                "package demo;",
+                "",
+                "public class Probe {",
+                "    public static String run() {",
+                "        final SessionPool pool = new SessionPool();",
+                "        final Session session = pool.acquire();",
+                "        session.id = 5;",
+                "        pool.release(session);",
+                "        return session.resets + \"/\" + session.id;",
+                "    }",
+                "}"
+            )
+        ).assertSuccess().createClassLoader().loadClass("demo.Probe");
+
+        assertEquals("1/5", probe.getMethod("run").invoke(null));
+    }
+
+    @Test
+    void inaccessibleInheritedResetIsRejected(@NotNull @TempDir final Path directory) {
+        Compilation.compile(
+            directory,
+            String.join("\n",
+                "package base;",
+                "",
+                "public class Resettable {",
+                "    protected void reset() { }",
+                "}"
+            ),
+            String.join("\n",
+                "package demo;",
+                "",
+                "import de.jonas.gannotations.annotation.Pooled;",
+                "",
+                "@Pooled",
+                "public class Session extends base.Resettable {",
+                "    int id;",
+                "}"
+            )
+        ).assertError("@Pooled requires the inherited method reset() to be public");
+    }
+
+}
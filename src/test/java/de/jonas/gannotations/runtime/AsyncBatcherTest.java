@@ -0,0 +1,183 @@
+package de.jonas.gannotations.runtime;
+
+import org.jetbrains.annotations.NotNull;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Die {@link AsyncBatcherTest} prüft das Verhalten des {@link AsyncBatcher}, insbesondere wann ein Stapel ausgeführt
+ * wird, wie die Ergebnisse den einzelnen Aufrufen zugeordnet werden und wie Fehler weitergegeben werden.
+ */
+final class AsyncBatcherTest {
+
+    @Test
+    void fullBatchIsDispatchedImmediately() throws Exception {
+        final List<List<Integer>> batches = new CopyOnWriteArrayList<>();
+        final AsyncBatcher<Integer, String> batcher = new AsyncBatcher<>(Runnable::run, 3, 60_000, keys -> {
+            batches.add(new ArrayList<>(keys));
+            return keys.stream().map(key -> "v" + key).collect(Collectors.toList());
+        });
+
+        final CompletableFuture<String> first = batcher.submit(1);
+        final CompletableFuture<String> second = batcher.submit(2);
+
+        assertFalse(first.isDone());
+
+        final CompletableFuture<String> third = batcher.submit(3);
+
+        assertEquals(Collections.singletonList(Arrays.asList(1, 2, 3)), batches);
+        assertEquals("v1", first.get());
+        assertEquals("v2", second.get());
+        assertEquals("v3", third.get());
+    }
+
+    @Test
+    void partialBatchIsDispatchedAfterWindow() throws Exception {
+        final List<List<Integer>> batches = new CopyOnWriteArrayList<>();
+        final AsyncBatcher<Integer, Integer> batcher = new AsyncBatcher<>(Runnable::run, 100, 20, keys -> {
+            batches.add(new ArrayList<>(keys));
+            return keys;
+        });
+
+        final CompletableFuture<Integer> first = batcher.submit(1);
+        final CompletableFuture<Integer> second = batcher.submit(2);
+
+        assertEquals(1, first.get(5, TimeUnit.SECONDS));
+        assertEquals(2, second.get(5, TimeUnit.SECONDS));
+        assertEquals(Collections.singletonList(Arrays.asList(1, 2)), batches);
+    }
+
+    @Test
+    void flushDispatchesCurrentBatch() throws Exception {
+        final AsyncBatcher<Integer, Integer> batcher = new AsyncBatcher<>(Runnable::run, 100, 60_000, keys -> keys);
+        final CompletableFuture<Integer> future = batcher.submit(7);
+
+        batcher.flush();
+
+        assertTrue(future.isDone());
+        assertEquals(7, future.get());
+    }
+
+    @Test
+    void failingCallFailsEveryCaller() {
+        final AsyncBatcher<Integer, Integer> batcher = new AsyncBatcher<>(Runnable::run, 2, 60_000, keys -> {
+            throw new IllegalStateException("failed");
+        });
+        final CompletableFuture<Integer> first = batcher.submit(1);
+        final CompletableFuture<Integer> second = batcher.submit(2);
+
+        assertCause(IllegalStateException.class, first);
+        assertCause(IllegalStateException.class, second);
+    }
+
+    @Test
+    void wrongResultCountFailsEveryCaller() {
+        final AsyncBatcher<Integer, Integer> batcher = new AsyncBatcher<>(
+            Runnable::run,
+            2,
+            60_000,
+            keys -> Collections.singletonList(0)
+        );
+        final CompletableFuture<Integer> first = batcher.submit(1);
+        final CompletableFuture<Integer> second = batcher.submit(2);
+
+        assertCause(IllegalStateException.class, first);
+        assertCause(IllegalStateException.class, second);
+    }
+
+    @Test
+    void rejectedExecutionFailsEveryCaller() {
+        final AsyncBatcher<Integer, Integer> batcher = new AsyncBatcher<>(runnable -> {
+            throw new RejectedExecutionException("rejected");
+        }, 1, 60_000, keys -> keys);
+
+        assertCause(RejectedExecutionException.class, batcher.submit(1));
+    }
+
+    @Test
+    void concurrentCallersReceiveTheirOwnResults() throws Exception {
+        final int threads = 8;
+        final List<Integer> batchSizes = new CopyOnWriteArrayList<>();
+        final ExecutorService callExecutor = Executors.newFixedThreadPool(2);
+        final ExecutorService callers = Executors.newFixedThreadPool(threads);
+        final AsyncBatcher<Integer, Integer> batcher = new AsyncBatcher<>(callExecutor, 16, 5, keys -> {
+            batchSizes.add(keys.size());
+            return keys.stream().map(key -> key * 2).collect(Collectors.toList());
+        });
+        final List<Future<?>> futures = new ArrayList<>();
+
+        try {
+            for (int i = 0; i < threads; i++) {
+                final int offset = i * 1_000;
+
+                futures.add(callers.submit(() -> {
+                    final List<CompletableFuture<Integer>> results = new ArrayList<>();
+
+                    for (int j = 0; j < 1_000; j++) {
+                        results.add(batcher.submit(offset + j));
+                    }
+
+                    for (int j = 0; j < 1_000; j++) {
+                        assertEquals((offset + j) * 2, results.get(j).get(10, TimeUnit.SECONDS));
+                    }
+
+                    return null;
+                }));
+            }
+
+            for (@NotNull final Future<?> future : futures) {
+                future.get(30, TimeUnit.SECONDS);
+            }
+        } finally {
+            callers.shutdownNow();
+            callExecutor.shutdownNow();
+        }
+
+        assertEquals(threads * 1_000, batchSizes.stream().mapToInt(Integer::intValue).sum());
+        assertTrue(batchSizes.stream().allMatch(size -> size <= 16));
+    }
+
+    @Test
+    void rejectsInvalidConfiguration() {
+        assertThrows(IllegalArgumentException.class, () -> new AsyncBatcher<>(Runnable::run, 0, 10, keys -> keys));
+        assertThrows(IllegalArgumentException.class, () -> new AsyncBatcher<>(Runnable::run, 1, 0, keys -> keys));
+    }
+
+    /**
+     * Prüft, ob ein Ergebnis mit einer bestimmten Exception abgeschlossen wurde.
+     *
+     * @param type   Der Typ der erwarteten Exception.
+     * @param future Das Ergebnis, welches geprüft werden soll.
+     */
+    private static void assertCause(
+        @NotNull final Class<? extends Throwable> type,
+        @NotNull final CompletableFuture<?> future
+    ) {
+        final ExecutionException exception = assertThrows(
+            ExecutionException.class,
+            () -> future.get(5, TimeUnit.SECONDS)
+        );
+
+        assertInstanceOf(type, exception.getCause());
+    }
+
+}
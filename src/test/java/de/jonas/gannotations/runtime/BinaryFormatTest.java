@@ -0,0 +1,176 @@
+package de.jonas.gannotations.runtime;
+
+import org.junit.jupiter.api.Test;
+
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+/**
+ * Die {@link BinaryFormatTest} prüft die Kodierungen des {@link BinaryFormat}, insbesondere dass jeder geschriebene
+ * Wert unverändert gelesen wird, die berechneten Größen exakt stimmen und fehlerhafte Längen abgelehnt werden.
+ */
+final class BinaryFormatTest {
+
+    @Test
+    void zigZagMapsSmallMagnitudesToSmallNumbers() {
+        assertEquals(0, BinaryFormat.encodeZigZag(0));
+        assertEquals(1, BinaryFormat.encodeZigZag(-1));
+        assertEquals(2, BinaryFormat.encodeZigZag(1));
+        assertEquals(-1, BinaryFormat.encodeZigZag(Integer.MIN_VALUE));
+
+        for (final int value : new int[]{0, 1, -1, 63, -64, Integer.MAX_VALUE, Integer.MIN_VALUE}) {
+            assertEquals(value, BinaryFormat.decodeZigZag(BinaryFormat.encodeZigZag(value)));
+        }
+
+        for (final long value : new long[]{0, 1, -1, Long.MAX_VALUE, Long.MIN_VALUE}) {
+            assertEquals(value, BinaryFormat.decodeZigZag(BinaryFormat.encodeZigZag(value)));
+        }
+    }
+
+    @Test
+    void varIntsRoundTripWithExactSize() {
+        final int[] values = {0, 1, 127, 128, 16_383, 16_384, Integer.MAX_VALUE, -1, Integer.MIN_VALUE};
+
+        for (final int value : values) {
+            final ByteBuffer buffer = ByteBuffer.allocate(16);
+
+            BinaryFormat.writeVarInt(buffer, value);
+            assertEquals(BinaryFormat.sizeOfVarInt(value), buffer.position());
+
+            buffer.flip();
+            assertEquals(value, BinaryFormat.readVarInt(buffer));
+            assertFalse(buffer.hasRemaining());
+        }
+
+        final long[] longValues = {0, 127, 128, Long.MAX_VALUE, -1, Long.MIN_VALUE};
+
+        for (final long value : longValues) {
+            final ByteBuffer buffer = ByteBuffer.allocate(16);
+
+            BinaryFormat.writeVarLong(buffer, value);
+            assertEquals(BinaryFormat.sizeOfVarLong(value), buffer.position());
+
+            buffer.flip();
+            assertEquals(value, BinaryFormat.readVarLong(buffer));
+            assertFalse(buffer.hasRemaining());
+        }
+    }
+
+    @Test
+    void varIntWithTooManyBytesIsRejected() {
+        final ByteBuffer buffer = ByteBuffer.wrap(new byte[]{-1, -1, -1, -1, -1, 1});
+
+        assertThrows(IllegalArgumentException.class, () -> BinaryFormat.readVarInt(buffer));
+    }
+
+    @Test
+    void stringsRoundTripWithExactSize() {
+        final String[] values = {null, "", "abc", "äöü", "€", "😀"};
+
+        for (final String value : values) {
+            for (final ByteBuffer buffer : new ByteBuffer[]{ByteBuffer.allocate(32), ByteBuffer.allocateDirect(32)}) {
+                BinaryFormat.writeString(buffer, value);
+                assertEquals(BinaryFormat.sizeOfString(value), buffer.position());
+
+                buffer.flip();
+                assertEquals(value, BinaryFormat.readString(buffer));
+                assertFalse(buffer.hasRemaining());
+            }
+        }
+    }
+
+    @Test
+    void unpairedSurrogateKeepsExactSize() {
+        final String value = "a\uD83D";
+        final ByteBuffer buffer = ByteBuffer.allocate(16);
+
+        BinaryFormat.writeString(buffer, value);
+        assertEquals(BinaryFormat.sizeOfString(value), buffer.position());
+
+        buffer.flip();
+        BinaryFormat.readString(buffer);
+        assertFalse(buffer.hasRemaining());
+    }
+
+    @Test
+    void arraysRoundTripWithExactSize() {
+        final ByteBuffer buffer = ByteBuffer.allocate(256);
+        final byte[] bytes = {1, -2, 3};
+        final int[] ints = {0, -1, Integer.MAX_VALUE, Integer.MIN_VALUE};
+        final long[] longs = {0, -1, Long.MAX_VALUE, Long.MIN_VALUE};
+        final double[] doubles = {0, -1.5, Double.NaN, Double.MAX_VALUE};
+
+        BinaryFormat.writeBytes(buffer, bytes);
+        BinaryFormat.writeBytes(buffer, null);
+        BinaryFormat.writeIntArray(buffer, ints);
+        BinaryFormat.writeIntArray(buffer, null);
+        BinaryFormat.writeLongArray(buffer, longs);
+        BinaryFormat.writeLongArray(buffer, null);
+        BinaryFormat.writeDoubleArray(buffer, doubles);
+        BinaryFormat.writeDoubleArray(buffer, null);
+
+        assertEquals(
+            BinaryFormat.sizeOfBytes(bytes) + BinaryFormat.sizeOfBytes(null)
+                + BinaryFormat.sizeOfIntArray(ints) + BinaryFormat.sizeOfIntArray(null)
+                + BinaryFormat.sizeOfLongArray(longs) + BinaryFormat.sizeOfLongArray(null)
+                + BinaryFormat.sizeOfDoubleArray(doubles) + BinaryFormat.sizeOfDoubleArray(null),
+            buffer.position()
+        );
+
+        buffer.flip();
+
+        assertArrayEquals(bytes, BinaryFormat.readBytes(buffer));
+        assertNull(BinaryFormat.readBytes(buffer));
+        assertArrayEquals(ints, BinaryFormat.readIntArray(buffer));
+        assertNull(BinaryFormat.readIntArray(buffer));
+        assertArrayEquals(longs, BinaryFormat.readLongArray(buffer));
+        assertNull(BinaryFormat.readLongArray(buffer));
+        assertArrayEquals(doubles, BinaryFormat.readDoubleArray(buffer));
+        assertNull(BinaryFormat.readDoubleArray(buffer));
+        assertFalse(buffer.hasRemaining());
+    }
+
+    @Test
+    void lengthBeyondRemainingBytesIsRejected() {
+        final ByteBuffer buffer = ByteBuffer.allocate(16);
+
+        // eine Länge von fast 2^31 Elementen, hinter der nur wenige Bytes folgen
+        BinaryFormat.writeVarInt(buffer, Integer.MAX_VALUE);
+        buffer.put(new byte[]{1, 2, 3});
+        buffer.flip();
+
+        assertThrows(BufferUnderflowException.class, () -> BinaryFormat.readBytes(buffer.duplicate()));
+        assertThrows(BufferUnderflowException.class, () -> BinaryFormat.readString(buffer.duplicate()));
+        assertThrows(BufferUnderflowException.class, () -> BinaryFormat.readIntArray(buffer.duplicate()));
+        assertThrows(BufferUnderflowException.class, () -> BinaryFormat.readLongArray(buffer.duplicate()));
+        assertThrows(BufferUnderflowException.class, () -> BinaryFormat.readDoubleArray(buffer.duplicate()));
+    }
+
+    @Test
+    void doubleArrayLengthIsCheckedAgainstElementSize() {
+        final ByteBuffer buffer = ByteBuffer.allocate(16);
+
+        BinaryFormat.writeVarInt(buffer, 3);
+        buffer.putDouble(1);
+        buffer.flip();
+
+        assertThrows(BufferUnderflowException.class, () -> BinaryFormat.readDoubleArray(buffer));
+    }
+
+    @Test
+    void negativeLengthIsRejected() {
+        final ByteBuffer buffer = ByteBuffer.allocate(16);
+
+        BinaryFormat.writeVarInt(buffer, -1);
+        buffer.flip();
+
+        assertThrows(IllegalArgumentException.class, () -> BinaryFormat.readBytes(buffer));
+    }
+
+}
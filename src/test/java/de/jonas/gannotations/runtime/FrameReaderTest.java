@@ -0,0 +1,180 @@
+package de.jonas.gannotations.runtime;
+
+import org.jetbrains.annotations.NotNull;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.EOFException;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.ReadableByteChannel;
+import java.util.Arrays;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+/**
+ * Die {@link FrameReaderTest} prüft das Verhalten des {@link FrameReader}, insbesondere das Lesen von Datensätzen, die
+ * über mehrere Lesevorgänge verteilt sind, größer als der Puffer sind oder nicht vollständig gelesen werden.
+ */
+final class FrameReaderTest {
+
+    @Test
+    void readsFramesAcrossPartialReads() throws Exception {
+        final byte[] data = frames(300);
+        final FrameReader reader = new FrameReader(new TrickleChannel(data, 7), 64);
+
+        for (int i = 0; i < 300; i++) {
+            final ByteBuffer frame = reader.nextFrame();
+
+            assertEquals(i % 50, frame.remaining());
+
+            for (int j = 0; j < i % 50; j++) {
+                assertEquals((byte) i, frame.get());
+            }
+        }
+
+        assertNull(reader.nextFrame());
+    }
+
+    @Test
+    void growsForFramesLargerThanTheBuffer() throws Exception {
+        final ByteBuffer buffer = ByteBuffer.allocate(2_000);
+
+        BinaryFormat.writeVarInt(buffer, 1_000);
+        buffer.put(new byte[1_000]);
+        BinaryFormat.writeVarInt(buffer, 1);
+        buffer.put((byte) 42);
+
+        final FrameReader reader = new FrameReader(channel(Arrays.copyOf(buffer.array(), buffer.position())), 16);
+
+        assertEquals(1_000, reader.nextFrame().remaining());
+        assertEquals(42, reader.nextFrame().get());
+        assertNull(reader.nextFrame());
+    }
+
+    @Test
+    void skipsUnreadRestOfFrame() throws Exception {
+        final FrameReader reader = new FrameReader(channel(frames(3)), 16);
+
+        reader.nextFrame();
+        reader.nextFrame();
+
+        final ByteBuffer frame = reader.nextFrame();
+        assertEquals(2, frame.remaining());
+        assertEquals(2, frame.get());
+        assertNull(reader.nextFrame());
+    }
+
+    @Test
+    void channelEndingWithinFrameIsRejected() throws Exception {
+        final FrameReader reader = new FrameReader(channel(new byte[]{5, 1, 2}), 16);
+
+        assertThrows(EOFException.class, reader::nextFrame);
+    }
+
+    @Test
+    void malformedLengthIsRejected() {
+        final FrameReader reader = new FrameReader(channel(new byte[]{-1, -1, -1, -1, -1, -1}), 16);
+
+        assertThrows(IllegalArgumentException.class, reader::nextFrame);
+    }
+
+    /**
+     * Erzeugt mehrere Datensätze, wobei der i-te Datensatz aus {@code i % 50} Bytes mit dem Wert i besteht.
+     *
+     * @param count Die Anzahl an Datensätzen.
+     *
+     * @return Die Bytes aller Datensätze.
+     */
+    @NotNull
+    private static byte[] frames(final int count) {
+        final ByteBuffer buffer = ByteBuffer.allocate(count * 51);
+
+        for (int i = 0; i < count; i++) {
+            BinaryFormat.writeVarInt(buffer, i % 50);
+
+            for (int j = 0; j < i % 50; j++) {
+                buffer.put((byte) i);
+            }
+        }
+
+        return Arrays.copyOf(buffer.array(), buffer.position());
+    }
+
+    /**
+     * Erzeugt einen Kanal, welcher bestimmte Bytes liefert.
+     *
+     * @param data Die Bytes, welche der Kanal liefert.
+     *
+     * @return Der Kanal.
+     */
+    @NotNull
+    private static ReadableByteChannel channel(@NotNull final byte[] data) {
+        return Channels.newChannel(new ByteArrayInputStream(data));
+    }
+
+    /**
+     * Ein {@link TrickleChannel} liefert bei jedem Lesevorgang nur wenige Bytes, sodass Datensätze über mehrere
+     * Lesevorgänge verteilt werden.
+     */
+    private static final class TrickleChannel implements ReadableByteChannel {
+
+        //<editor-fold desc="LOCAL FIELDS">
+        /** Die Bytes, welche dieser Kanal liefert. */
+        @NotNull
+        private final byte[] data;
+        /** Die maximale Anzahl an Bytes pro Lesevorgang. */
+        private final int chunkSize;
+        /** Die Position des nächsten Bytes. */
+        private int position;
+        //</editor-fold>
+
+
+        //<editor-fold desc="CONSTRUCTORS">
+
+        /**
+         * Erzeugt einen neuen {@link TrickleChannel}.
+         *
+         * @param data      Die Bytes, welche dieser Kanal liefert.
+         * @param chunkSize Die maximale Anzahl an Bytes pro Lesevorgang.
+         */
+        private TrickleChannel(
+            @NotNull final byte[] data,
+            final int chunkSize
+        ) {
+            this.data = data;
+            this.chunkSize = chunkSize;
+        }
+        //</editor-fold>
+
+
+        @Override
+        public int read(@NotNull final ByteBuffer destination) {
+            if (this.position == this.data.length) {
+                return -1;
+            }
+
+            final int length = Math.min(
+                Math.min(this.chunkSize, destination.remaining()),
+                this.data.length - this.position
+            );
+
+            destination.put(this.data, this.position, length);
+            this.position += length;
+            return length;
+        }
+
+        @Override
+        public boolean isOpen() {
+            return true;
+        }
+
+        @Override
+        public void close() {
+        }
+
+    }
+
+}
@@ -0,0 +1,90 @@
+package de.jonas.gannotations.runtime;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Die {@link InFlightCallsTest} prüft das Verhalten der {@link InFlightCalls}, insbesondere das Zusammenfassen
+ * gleichzeitiger Aufrufe und dass jeder Aufrufer ein eigenes Ergebnis erhält.
+ */
+final class InFlightCallsTest {
+
+    @Test
+    void concurrentCallsAreCoalesced() throws Exception {
+        final InFlightCalls<String> calls = new InFlightCalls<>();
+        final CompletableFuture<String> shared = new CompletableFuture<>();
+        final AtomicInteger starts = new AtomicInteger();
+
+        final CompletableFuture<String> first = calls.call("key", () -> {
+            starts.incrementAndGet();
+            return shared;
+        });
+        final CompletableFuture<String> second = calls.call("key", () -> {
+            starts.incrementAndGet();
+            return CompletableFuture.completedFuture("other");
+        });
+
+        assertEquals(1, starts.get());
+        assertEquals(1, calls.inFlight());
+        assertEquals(1, calls.coalesced());
+
+        shared.complete("a");
+
+        assertEquals("a", first.get());
+        assertEquals("a", second.get());
+        assertEquals(0, calls.inFlight());
+    }
+
+    @Test
+    void finishedCallIsStartedAgain() throws Exception {
+        final InFlightCalls<Integer> calls = new InFlightCalls<>();
+        final AtomicInteger starts = new AtomicInteger();
+
+        calls.call("key", () -> CompletableFuture.completedFuture(starts.incrementAndGet())).get();
+
+        assertEquals(2, calls.call("key", () -> CompletableFuture.completedFuture(starts.incrementAndGet())).get());
+    }
+
+    @Test
+    void callerCannotCompleteOrCancelTheSharedResult() throws Exception {
+        final InFlightCalls<String> calls = new InFlightCalls<>();
+        final CompletableFuture<String> shared = new CompletableFuture<>();
+        final CompletableFuture<String> first = calls.call("key", () -> shared);
+        final CompletableFuture<String> second = calls.call("key", () -> shared);
+
+        first.cancel(true);
+        second.complete("forged");
+
+        final CompletableFuture<String> third = calls.call("key", () -> shared);
+
+        assertFalse(shared.isDone());
+        shared.complete("a");
+
+        assertTrue(first.isCancelled());
+        assertEquals("forged", second.get());
+        assertEquals("a", third.get());
+    }
+
+    @Test
+    void failingStarterFailsOnlyThisCall() {
+        final InFlightCalls<String> calls = new InFlightCalls<>();
+        final CompletableFuture<String> failed = calls.call("key", () -> {
+            throw new IllegalStateException("failed");
+        });
+
+        final ExecutionException exception = assertThrows(ExecutionException.class, failed::get);
+
+        assertInstanceOf(IllegalStateException.class, exception.getCause());
+        assertEquals(0, calls.inFlight());
+    }
+
+}
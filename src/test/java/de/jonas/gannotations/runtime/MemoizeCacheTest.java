@@ -0,0 +1,194 @@
+package de.jonas.gannotations.runtime;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+/**
+ * Die {@link MemoizeCacheTest} prüft das Verhalten des {@link MemoizeCache}, insbesondere die Schlüssel, die Zähler,
+ * den Ablauf von Einträgen und die Strategien, nach denen Einträge entfernt werden.
+ */
+final class MemoizeCacheTest {
+
+    @Test
+    void resultIsLoadedOnce() throws Exception {
+        final MemoizeCache<String> cache = new MemoizeCache<>(8, Eviction.LRU, 0);
+        final AtomicInteger loads = new AtomicInteger();
+
+        for (int i = 0; i < 3; i++) {
+            assertEquals("a", cache.get("key", () -> {
+                loads.incrementAndGet();
+                return "a";
+            }));
+        }
+
+        assertEquals(1, loads.get());
+        assertEquals(2, cache.stats().getHitCount());
+        assertEquals(1, cache.stats().getMissCount());
+    }
+
+    @Test
+    void nullResultIsCached() {
+        final MemoizeCache<String> cache = new MemoizeCache<>(8, Eviction.LRU, 0);
+        final AtomicInteger loads = new AtomicInteger();
+
+        assertNull(cache.get(MemoizeCache.key(null), () -> {
+            loads.incrementAndGet();
+            return null;
+        }));
+        assertNull(cache.get(MemoizeCache.key(null), () -> {
+            loads.incrementAndGet();
+            return null;
+        }));
+        assertEquals(1, loads.get());
+    }
+
+    @Test
+    void exceptionIsRethrownAndNotCached() {
+        final MemoizeCache<String> cache = new MemoizeCache<>(8, Eviction.LRU, 0);
+
+        assertThrows(IOException.class, () -> cache.get("key", () -> {
+            throw new IOException("failed");
+        }));
+        assertEquals("b", cache.get("key", () -> "b"));
+    }
+
+    @Test
+    void keysCompareArraysByContent() {
+        assertEquals(MemoizeCache.key(new int[]{1, 2}), MemoizeCache.key(new int[]{1, 2}));
+        assertEquals(MemoizeCache.compositeKey("a", new int[]{1}), MemoizeCache.compositeKey("a", new int[]{1}));
+        assertNotEquals(MemoizeCache.compositeKey("a", 1), MemoizeCache.compositeKey("a", 2));
+        assertEquals(MemoizeCache.key(null), MemoizeCache.key(null));
+    }
+
+    @Test
+    void expiredEntryIsReloaded() throws Exception {
+        final MemoizeCache<Integer> cache = new MemoizeCache<>(8, Eviction.LRU, 1);
+        final AtomicInteger loads = new AtomicInteger();
+
+        cache.get("key", loads::incrementAndGet);
+        Thread.sleep(20);
+
+        assertEquals(2, cache.get("key", loads::incrementAndGet));
+        assertEquals(1, cache.stats().getEvictionCount());
+    }
+
+    @Test
+    void concurrentCallersShareOneLoad() throws Exception {
+        final MemoizeCache<String> cache = new MemoizeCache<>(8, Eviction.LRU, 0);
+        final AtomicInteger loads = new AtomicInteger();
+        final CountDownLatch loading = new CountDownLatch(1);
+        final CountDownLatch release = new CountDownLatch(1);
+        final CompletableFuture<String> first = CompletableFuture.supplyAsync(() -> cache.get("key", () -> {
+            loads.incrementAndGet();
+            loading.countDown();
+            release.await();
+            return "a";
+        }));
+
+        loading.await(5, TimeUnit.SECONDS);
+
+        final CompletableFuture<String> second = CompletableFuture.supplyAsync(() -> cache.get("key", () -> {
+            loads.incrementAndGet();
+            return "b";
+        }));
+
+        release.countDown();
+
+        assertEquals("a", first.get(5, TimeUnit.SECONDS));
+        assertEquals("a", second.get(5, TimeUnit.SECONDS));
+        assertEquals(1, loads.get());
+    }
+
+    @Test
+    void lruEvictsLeastRecentlyUsedEntry() {
+        final MemoizeCache<Integer> cache = new MemoizeCache<>(8, Eviction.LRU, 0);
+        final AtomicInteger loads = new AtomicInteger();
+
+        for (int i = 0; i < 8; i++) {
+            cache.get(i, loads::incrementAndGet);
+        }
+
+        cache.get(0, loads::incrementAndGet);
+        cache.get(8, loads::incrementAndGet);
+        assertEquals(9, loads.get());
+
+        cache.get(0, loads::incrementAndGet);
+        assertEquals(9, loads.get());
+
+        cache.get(1, loads::incrementAndGet);
+        assertEquals(10, loads.get());
+    }
+
+    @Test
+    void lfuKeepsFrequentEntryDuringBurstOfMisses() {
+        final MemoizeCache<Integer> cache = new MemoizeCache<>(8, Eviction.LFU, 0);
+        final AtomicInteger loads = new AtomicInteger();
+
+        for (int i = 0; i < 50; i++) {
+            cache.get("hot", loads::incrementAndGet);
+        }
+
+        for (int i = 0; i < 100; i++) {
+            cache.get(i, loads::incrementAndGet);
+        }
+
+        final int before = loads.get();
+
+        cache.get("hot", loads::incrementAndGet);
+        assertEquals(before, loads.get());
+    }
+
+    @Test
+    void lfuEventuallyEvictsEntryThatIsNoLongerUsed() {
+        final MemoizeCache<Integer> cache = new MemoizeCache<>(8, Eviction.LFU, 0);
+        final AtomicInteger loads = new AtomicInteger();
+
+        for (int i = 0; i < 50; i++) {
+            cache.get("hot", loads::incrementAndGet);
+        }
+
+        for (int i = 0; i < 10_000; i++) {
+            cache.get(i, loads::incrementAndGet);
+        }
+
+        final int before = loads.get();
+
+        cache.get("hot", loads::incrementAndGet);
+        assertEquals(before + 1, loads.get());
+    }
+
+    @Test
+    void lfuAdmitsNewEntries() {
+        final MemoizeCache<Integer> cache = new MemoizeCache<>(8, Eviction.LFU, 0);
+        final AtomicInteger loads = new AtomicInteger();
+
+        for (int i = 0; i < 100; i++) {
+            cache.get(i, loads::incrementAndGet);
+            cache.get(i, loads::incrementAndGet);
+        }
+
+        assertEquals(100, loads.get());
+    }
+
+    @Test
+    void invalidateAllRemovesEntries() {
+        final MemoizeCache<Integer> cache = new MemoizeCache<>(8, Eviction.LRU, 0);
+        final AtomicInteger loads = new AtomicInteger();
+
+        cache.get("key", loads::incrementAndGet);
+        cache.invalidateAll();
+
+        assertEquals(2, cache.get("key", loads::incrementAndGet));
+    }
+
+}
@@ -0,0 +1,209 @@
+package de.jonas.gannotations.runtime;
+
+import org.jetbrains.annotations.NotNull;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Die {@link ObjectPoolTest} prüft das Verhalten des {@link ObjectPool}, insbesondere die Begrenzung der freien
+ * Objekte, die gemeinsame Ring-Queue zwischen mehreren Threads und die Rückgabe im Modus {@link Overflow#BLOCK}.
+ */
+final class ObjectPoolTest {
+
+    @Test
+    void releasedObjectIsResetAndReused() {
+        final AtomicInteger resets = new AtomicInteger();
+        final ObjectPool<Item> pool = new ObjectPool<>(
+            4,
+            Overflow.ALLOCATE,
+            Item::new,
+            item -> resets.incrementAndGet()
+        );
+        final Item item = pool.acquire();
+
+        pool.release(item);
+
+        assertEquals(1, resets.get());
+        assertEquals(1, pool.getIdleCount());
+        assertSame(item, pool.acquire());
+        assertEquals(0, pool.getIdleCount());
+    }
+
+    @Test
+    void idleObjectsNeverExceedSize() {
+        final AtomicInteger created = new AtomicInteger();
+        final ObjectPool<Item> pool = new ObjectPool<>(3, Overflow.ALLOCATE, () -> {
+            created.incrementAndGet();
+            return new Item();
+        }, item -> {});
+        final List<Item> items = new ArrayList<>();
+
+        for (int i = 0; i < 20; i++) {
+            items.add(pool.acquire());
+        }
+
+        items.forEach(pool::release);
+        assertEquals(3, pool.getIdleCount());
+
+        for (int i = 0; i < 20; i++) {
+            pool.acquire();
+        }
+
+        assertEquals(37, created.get());
+    }
+
+    @Test
+    void ringHandsObjectsToOtherThreads() throws Exception {
+        final AtomicInteger created = new AtomicInteger();
+        final ObjectPool<Item> pool = new ObjectPool<>(32, Overflow.ALLOCATE, () -> {
+            created.incrementAndGet();
+            return new Item();
+        }, item -> {});
+        final ExecutorService executor = Executors.newSingleThreadExecutor();
+
+        try {
+            executor.submit(() -> {
+                final List<Item> items = new ArrayList<>();
+
+                for (int i = 0; i < 32; i++) {
+                    items.add(pool.acquire());
+                }
+
+                items.forEach(pool::release);
+            }).get();
+        } finally {
+            executor.shutdown();
+        }
+
+        assertEquals(32, created.get());
+        assertEquals(32, pool.getIdleCount());
+
+        // nur die Objekte der gemeinsamen Liste sind für diesen Thread erreichbar
+        for (int i = 0; i < 24; i++) {
+            pool.acquire();
+        }
+
+        assertEquals(32, created.get());
+        pool.acquire();
+        assertEquals(33, created.get());
+    }
+
+    @Test
+    void concurrentUseNeverSharesAnObject() throws Exception {
+        final int threads = 8;
+        final ObjectPool<Item> pool = new ObjectPool<>(16, Overflow.ALLOCATE, Item::new, item -> {});
+        final ExecutorService executor = Executors.newFixedThreadPool(threads);
+        final CountDownLatch start = new CountDownLatch(1);
+        final List<Future<?>> futures = new ArrayList<>();
+
+        try {
+            for (int i = 0; i < threads; i++) {
+                futures.add(executor.submit(() -> {
+                    start.await();
+
+                    for (int j = 0; j < 100_000; j++) {
+                        final Item first = pool.acquire();
+                        final Item second = pool.acquire();
+
+                        assertTrue(first.inUse.compareAndSet(false, true));
+                        assertTrue(second.inUse.compareAndSet(false, true));
+                        first.inUse.set(false);
+                        second.inUse.set(false);
+                        pool.release(first);
+                        pool.release(second);
+                    }
+
+                    return null;
+                }));
+            }
+
+            start.countDown();
+
+            for (@NotNull final Future<?> future : futures) {
+                future.get(30, TimeUnit.SECONDS);
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+
+        assertTrue(pool.getIdleCount() <= 16);
+    }
+
+    @Test
+    void blockingPoolWaitsForRelease() throws Exception {
+        final ObjectPool<Item> pool = new ObjectPool<>(1, Overflow.BLOCK, Item::new, item -> {});
+        final Item item = pool.acquire();
+        final AtomicBoolean acquired = new AtomicBoolean();
+        final Thread waiter = new Thread(() -> {
+            pool.acquire();
+            acquired.set(true);
+        });
+
+        waiter.start();
+        waiter.join(100);
+        assertFalse(acquired.get());
+
+        pool.release(item);
+        waiter.join(5_000);
+        assertTrue(acquired.get());
+    }
+
+    @Test
+    void blockingPoolRejectsDoubleRelease() throws Exception {
+        final ObjectPool<Item> pool = new ObjectPool<>(1, Overflow.BLOCK, Item::new, item -> {});
+        final Item item = pool.acquire();
+
+        pool.release(item);
+        assertThrows(IllegalStateException.class, () -> pool.release(item));
+
+        // die Anzahl an nutzbaren Objekten darf durch die doppelte Rückgabe nicht gestiegen sein
+        assertSame(item, pool.acquire());
+
+        final AtomicBoolean acquired = new AtomicBoolean();
+        final Thread waiter = new Thread(() -> {
+            pool.acquire();
+            acquired.set(true);
+        });
+
+        waiter.setDaemon(true);
+        waiter.start();
+        waiter.join(100);
+        assertFalse(acquired.get());
+
+        pool.release(item);
+        waiter.join(5_000);
+        assertTrue(acquired.get());
+    }
+
+    @Test
+    void rejectsNonPositiveSize() {
+        assertThrows(IllegalArgumentException.class, () -> new ObjectPool<>(0, Overflow.ALLOCATE, Item::new, i -> {}));
+    }
+
+    /**
+     * Ein {@link Item} ist ein Objekt, welches in den Tests verwaltet wird und markiert, ob es gerade genutzt wird.
+     */
+    private static final class Item {
+
+        /** Ob dieses Objekt gerade von einem Thread genutzt wird. */
+        @NotNull
+        private final AtomicBoolean inUse = new AtomicBoolean();
+
+    }
+
+}
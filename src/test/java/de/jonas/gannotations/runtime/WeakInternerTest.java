@@ -0,0 +1,211 @@
+package de.jonas.gannotations.runtime;
+
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+import org.junit.jupiter.api.Test;
+
+import java.lang.ref.WeakReference;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+/**
+ * Die {@link WeakInternerTest} prüft das Verhalten des {@link WeakInterner}, insbesondere die Rückgabe der kanonischen
+ * Instanz, die Entfernung nicht mehr genutzter Instanzen und die Nutzung durch mehrere Threads.
+ */
+final class WeakInternerTest {
+
+    @Test
+    void equalObjectsShareCanonicalInstance() {
+        final WeakInterner<Value> interner = new WeakInterner<>();
+        final Value first = new Value("a");
+        final Value second = new Value("a");
+
+        assertNotSame(first, second);
+        assertSame(first, interner.intern(first));
+        assertSame(first, interner.intern(second));
+        assertSame(first, interner.intern(first));
+        assertEquals(1, interner.size());
+    }
+
+    @Test
+    void differentObjectsStaySeparate() {
+        final WeakInterner<Value> interner = new WeakInterner<>();
+        final Value first = interner.intern(new Value("a"));
+        final Value second = interner.intern(new Value("b"));
+
+        assertNotSame(first, second);
+        assertEquals(2, interner.size());
+    }
+
+    @Test
+    void unusedCanonicalInstanceIsCollected() throws Exception {
+        final WeakInterner<Value> interner = new WeakInterner<>();
+        final WeakReference<Value> reference = new WeakReference<>(interner.intern(new Value("a")));
+
+        for (int i = 0; i < 50 && (reference.get() != null || interner.size() > 0); i++) {
+            System.gc();
+            Thread.sleep(10);
+        }
+
+        assertNull(reference.get());
+        assertEquals(0, interner.size());
+
+        final Value replacement = new Value("a");
+        assertSame(replacement, interner.intern(replacement));
+    }
+
+    @Test
+    void collectedInstanceIsReplacedOnce() throws Exception {
+        final WeakInterner<Value> interner = new WeakInterner<>();
+        final WeakReference<Value> reference = new WeakReference<>(interner.intern(new Value("a")));
+
+        for (int i = 0; i < 50 && reference.get() != null; i++) {
+            System.gc();
+            Thread.sleep(10);
+        }
+
+        assertNull(reference.get());
+
+        final Value first = interner.intern(new Value("a"));
+        final Value second = interner.intern(new Value("a"));
+
+        // der entfernte Eintrag darf weder die neue kanonische Instanz verdecken noch in der Tabelle verbleiben
+        assertSame(first, second);
+
+        for (int i = 0; i < 50 && interner.size() > 1; i++) {
+            Thread.sleep(10);
+        }
+
+        assertEquals(1, interner.size());
+    }
+
+    @Test
+    void concurrentInternReturnsOneInstance() throws Exception {
+        final int threads = 8;
+        final WeakInterner<Value> interner = new WeakInterner<>();
+        final List<Value> strong = new ArrayList<>();
+        final ExecutorService executor = Executors.newFixedThreadPool(threads);
+        final CountDownLatch start = new CountDownLatch(1);
+        final List<Future<List<Value>>> futures = new ArrayList<>();
+
+        try {
+            for (int i = 0; i < threads; i++) {
+                futures.add(executor.submit(() -> {
+                    final List<Value> results = new ArrayList<>();
+
+                    start.await();
+
+                    for (int j = 0; j < 1_000; j++) {
+                        results.add(interner.intern(new Value("value" + j)));
+                    }
+
+                    return results;
+                }));
+            }
+
+            start.countDown();
+
+            for (@NotNull final Future<List<Value>> future : futures) {
+                strong.addAll(future.get(30, TimeUnit.SECONDS));
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+
+        final Set<Identity> identities = new HashSet<>();
+
+        for (@NotNull final Value value : strong) {
+            identities.add(new Identity(value));
+        }
+
+        // jeder der 1000 Werte darf nur eine einzige Instanz besitzen, egal in welchem Thread er angelegt wurde
+        assertEquals(1_000, identities.size());
+    }
+
+    /**
+     * Ein {@link Value} ist ein unveränderliches Objekt, welches anhand seines Namens verglichen wird.
+     */
+    private static final class Value {
+
+        //<editor-fold desc="LOCAL FIELDS">
+        /** Der Name dieses Objekts. */
+        @NotNull
+        private final String name;
+        //</editor-fold>
+
+
+        //<editor-fold desc="CONSTRUCTORS">
+
+        /**
+         * Erzeugt einen neuen {@link Value}.
+         *
+         * @param name Der Name dieses Objekts.
+         */
+        private Value(@NotNull final String name) {
+            this.name = name;
+        }
+        //</editor-fold>
+
+
+        @Override
+        public boolean equals(@Nullable final Object other) {
+            return other instanceof Value && this.name.equals(((Value) other).name);
+        }
+
+        @Override
+        public int hashCode() {
+            return this.name.hashCode();
+        }
+
+    }
+
+    /**
+     * Eine {@link Identity} vergleicht ein {@link Value} anhand seiner Identität anstatt seiner Gleichheit.
+     */
+    private static final class Identity {
+
+        //<editor-fold desc="LOCAL FIELDS">
+        /** Das Objekt, welches anhand seiner Identität verglichen wird. */
+        @NotNull
+        private final Value value;
+        //</editor-fold>
+
+
+        //<editor-fold desc="CONSTRUCTORS">
+
+        /**
+         * Erzeugt eine neue {@link Identity}.
+         *
+         * @param value Das Objekt, welches anhand seiner Identität verglichen wird.
+         */
+        private Identity(@NotNull final Value value) {
+            this.value = value;
+        }
+        //</editor-fold>
+
+
+        @Override
+        public boolean equals(@Nullable final Object other) {
+            return other instanceof Identity && this.value == ((Identity) other).value;
+        }
+
+        @Override
+        public int hashCode() {
+            return System.identityHashCode(this.value);
+        }
+
+    }
+
+}